@@ -0,0 +1,48 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+/**
+ * Benchmark entity, see {@link Book}.
+ */
+@Entity
+public class Author {
+	@Id
+	private Long id;
+	private String name;
+	private int rank;
+
+	protected Author() {
+	}
+
+	public Author(Long id, String name, int rank) {
+		this.id = id;
+		this.name = name;
+		this.rank = rank;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public int getRank() {
+		return rank;
+	}
+
+	public void setRank(int rank) {
+		this.rank = rank;
+	}
+}
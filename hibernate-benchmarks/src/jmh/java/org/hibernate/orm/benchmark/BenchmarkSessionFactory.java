@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Bootstraps the {@link SessionFactory} shared by the benchmarks, against a
+ * private in-memory H2 database.
+ */
+public final class BenchmarkSessionFactory {
+	private static final AtomicInteger DB_COUNTER = new AtomicInteger();
+
+	private BenchmarkSessionFactory() {
+	}
+
+	/**
+	 * Build a new {@link SessionFactory} against a fresh, private, in-memory database.
+	 *
+	 * @param additionalSettings Settings applied on top of the benchmark defaults
+	 */
+	public static SessionFactoryImplementor build(Map<String, Object> additionalSettings) {
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:bench" + DB_COUNTER.incrementAndGet() + ";DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, 50 )
+				.applySetting( AvailableSettings.SHOW_SQL, false )
+				.applySettings( additionalSettings )
+				.build();
+		try {
+			return (SessionFactoryImplementor) new MetadataSources( registry )
+					.addAnnotatedClass( Author.class )
+					.addAnnotatedClass( Book.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	public static SessionFactoryImplementor build() {
+		return build( Map.of() );
+	}
+
+	/**
+	 * Insert {@code numberOfBooks} books, spread over a tenth as many authors.
+	 */
+	public static void populate(SessionFactory sessionFactory, int numberOfBooks) {
+		final int numberOfAuthors = Math.max( 1, numberOfBooks / 10 );
+		sessionFactory.inStatelessTransaction( session -> {
+			final Author[] authors = new Author[numberOfAuthors];
+			for ( int i = 0; i < numberOfAuthors; i++ ) {
+				authors[i] = new Author( (long) i, "author-" + i, i );
+				session.insert( authors[i] );
+			}
+			for ( int i = 0; i < numberOfBooks; i++ ) {
+				session.insert( book( i, authors[i % numberOfAuthors] ) );
+			}
+		} );
+	}
+
+	public static Book book(long id, Author author) {
+		return new Book(
+				id,
+				"title-" + id,
+				"isbn-" + id,
+				id * 0.25d,
+				LocalDate.of( 2000, 1, 1 ).plusDays( id % 5000 ),
+				author
+		);
+	}
+}
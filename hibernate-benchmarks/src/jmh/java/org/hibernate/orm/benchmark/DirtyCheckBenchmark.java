@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.cfg.BytecodeSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures a {@code flush()} of a session holding {@code managedEntities} managed,
+ * non-enhanced entities, i.e. the snapshot comparison performed by
+ * {@code DefaultFlushEntityEventListener} for every entry of the persistence context.
+ * <p>
+ * With {@code dirtyEvery = 0} nothing is modified, so the flush is pure dirty checking;
+ * otherwise every n-th entity is modified before the flush and the resulting updates
+ * are executed (and rolled back at the end of the iteration).
+ * <p>
+ * {@code dirtyCheckingOptimizer} compares the generic {@code Type.isDirty()} loop with
+ * the {@linkplain BytecodeSettings#DIRTY_CHECKING_OPTIMIZER generated dirty checkers}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DirtyCheckBenchmark {
+	@Param({ "1000", "10000" })
+	public int managedEntities;
+
+	@Param({ "0", "100" })
+	public int dirtyEvery;
+
+	@Param({ "false", "true" })
+	public boolean dirtyCheckingOptimizer;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+	private List<Book> books;
+	private int round;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		sessionFactory = BenchmarkSessionFactory.build(
+				Map.<String, Object>of( BytecodeSettings.DIRTY_CHECKING_OPTIMIZER, dirtyCheckingOptimizer )
+		);
+		BenchmarkSessionFactory.populate( sessionFactory, managedEntities );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDownTrial() {
+		sessionFactory.close();
+	}
+
+	@Setup(Level.Iteration)
+	public void setUpIteration() {
+		session = sessionFactory.openSession();
+		session.setHibernateFlushMode( FlushMode.MANUAL );
+		session.getTransaction().begin();
+		books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDownIteration() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void flush() {
+		if ( dirtyEvery > 0 ) {
+			round++;
+			for ( int i = round % dirtyEvery; i < books.size(); i += dirtyEvery ) {
+				books.get( i ).setPrice( round );
+			}
+		}
+		session.flush();
+	}
+}
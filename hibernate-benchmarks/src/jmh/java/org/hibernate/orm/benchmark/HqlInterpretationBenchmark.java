@@ -0,0 +1,65 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryEngine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures HQL interpretation through the {@code QueryInterpretationCache}, both when the
+ * interpretation is already cached and when every query string is new, which forces a
+ * full parse and semantic analysis of the query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HqlInterpretationBenchmark {
+	private static final String HQL = "select b from Book b join fetch b.author a"
+			+ " where b.price > :price and a.name like :name order by b.published desc";
+
+	private SessionFactoryImplementor sessionFactory;
+	private QueryEngine queryEngine;
+
+	@State(Scope.Thread)
+	public static class Counter {
+		long value;
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		queryEngine = sessionFactory.getQueryEngine();
+		queryEngine.interpretHql( HQL, Book.class );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void cached(Blackhole blackhole) {
+		blackhole.consume( queryEngine.interpretHql( HQL, Book.class ) );
+	}
+
+	@Benchmark
+	public void uncached(Counter counter, Blackhole blackhole) {
+		// a distinct literal makes every query string a cache miss
+		blackhole.consume( queryEngine.interpretHql( HQL + ", b.id + " + counter.value++, Book.class ) );
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures {@code persist()} of a batch of new entities followed by a {@code flush()},
+ * i.e. {@code SessionImpl}, {@code StatefulPersistenceContext}, the {@code ActionQueue}
+ * and the insert coordinators.  The transaction is rolled back so that the table does
+ * not grow between invocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersistFlushBenchmark {
+	@Param({ "1", "100", "1000" })
+	public int batchSize;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Author author;
+	private long nextId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		author = new Author( 1L, "author", 1 );
+		sessionFactory.inStatelessTransaction( session -> session.insert( author ) );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void persistAndFlush() {
+		try ( Session session = sessionFactory.openSession() ) {
+			session.getTransaction().begin();
+			try {
+				final Author reference = session.getReference( Author.class, author.getId() );
+				for ( int i = 0; i < batchSize; i++ ) {
+					session.persist( BenchmarkSessionFactory.book( nextId++, reference ) );
+				}
+				session.flush();
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		}
+	}
+}
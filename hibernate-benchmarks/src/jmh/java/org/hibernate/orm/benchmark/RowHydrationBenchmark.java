@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures reading {@code rows} rows through {@code JdbcValuesResultSetImpl} and
+ * {@code StandardRowReader}, hydrating either managed entities, entities in a
+ * stateless session, scalar projections or DTOs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RowHydrationBenchmark {
+	public record BookSummary(Long id, String title, double price) {
+	}
+
+	@Param({ "100", "10000" })
+	public int rows;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		BenchmarkSessionFactory.populate( sessionFactory, rows );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void managedEntities(Blackhole blackhole) {
+		try ( Session session = sessionFactory.openSession() ) {
+			blackhole.consume( session.createSelectionQuery( "from Book", Book.class ).getResultList() );
+		}
+	}
+
+	@Benchmark
+	public void readOnlyEntities(Blackhole blackhole) {
+		try ( Session session = sessionFactory.openSession() ) {
+			blackhole.consume( session.createSelectionQuery( "from Book", Book.class )
+					.setReadOnly( true )
+					.getResultList() );
+		}
+	}
+
+	@Benchmark
+	public void statelessEntities(Blackhole blackhole) {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			blackhole.consume( session.createSelectionQuery( "from Book", Book.class ).getResultList() );
+		}
+	}
+
+	@Benchmark
+	public void scalarProjection(Blackhole blackhole) {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			blackhole.consume( session.createSelectionQuery( "select b.id, b.title, b.price from Book b", Object[].class )
+					.getResultList() );
+		}
+	}
+
+	@Benchmark
+	public void dtoProjection(Blackhole blackhole) {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			blackhole.consume( session.createSelectionQuery( "select b.id, b.title, b.price from Book b", BookSummary.class )
+					.getResultList() );
+		}
+	}
+}
@@ -176,6 +176,74 @@ public interface StatelessSession extends SharedSessionContract {
 	@Incubating
 	void upsert(String entityName, Object entity);
 
+	/**
+	 * Insert multiple records.
+	 * <p>
+	 * The records are inserted using JDBC batching, even if batching
+	 * was not enabled via {@value org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_SIZE}
+	 * or {@link #setJdbcBatchSize(Integer)}, in which case the list is
+	 * sent in batches of at most 100 statements. Each entity is still
+	 * inserted as if by {@link #insert(Object)}. If
+	 * {@value org.hibernate.cfg.AvailableSettings#ORDER_INSERTS} is
+	 * enabled, the entities are grouped by type, so that consecutive
+	 * rows of the same table share a batch, with each type after the
+	 * types it has a foreign key to.
+	 *
+	 * @param entities a list of transient instances to be inserted
+	 *
+	 * @see #insert(Object)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	void insertMultiple(List<?> entities);
+
+	/**
+	 * Update multiple records, using JDBC batching.
+	 * <p>
+	 * If {@value org.hibernate.cfg.AvailableSettings#ORDER_UPDATES}
+	 * is enabled, the entities are grouped by type, so that consecutive
+	 * rows of the same table share a batch, with each type after the
+	 * types it has a foreign key to.
+	 *
+	 * @param entities a list of detached instances to be updated
+	 *
+	 * @see #update(Object)
+	 * @see #insertMultiple(List)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	void updateMultiple(List<?> entities);
+
+	/**
+	 * Delete multiple records, using JDBC batching. The records
+	 * are deleted in the order of the given list.
+	 *
+	 * @param entities a list of detached instances to be deleted
+	 *
+	 * @see #delete(Object)
+	 * @see #insertMultiple(List)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	void deleteMultiple(List<?> entities);
+
+	/**
+	 * Perform an upsert of multiple records, in the order of the
+	 * given list.
+	 *
+	 * @param entities a list of detached instances, or new instances
+	 *                 with assigned identifiers
+	 *
+	 * @see #upsert(Object)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	void upsertMultiple(List<?> entities);
+
 	/**
 	 * Retrieve a record.
 	 *
@@ -61,4 +61,16 @@ public interface StatelessSessionBuilder {
 	 * @return {@code this}, for method chaining
 	 */
 	StatelessSessionBuilder statementInspector(StatementInspector statementInspector);
+
+	/**
+	 * Applies the given {@link Interceptor} to the stateless session,
+	 * instead of the interceptor configured for the session factory.
+	 *
+	 * @param interceptor The interceptor to use.
+	 *
+	 * @return {@code this}, for method chaining
+	 * @since 7.0
+	 */
+	@Incubating
+	StatelessSessionBuilder interceptor(Interceptor interceptor);
 }
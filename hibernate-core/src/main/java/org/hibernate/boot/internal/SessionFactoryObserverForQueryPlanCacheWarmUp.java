@@ -0,0 +1,236 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.internal;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.grammars.hql.HqlLexer;
+import org.hibernate.query.QueryLogging;
+import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.hql.internal.HqlParseTreeBuilder;
+import org.hibernate.query.internal.QueryInterpretationCacheStandardImpl;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.antlr.v4.runtime.Token;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jboss.logging.Logger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Responsible for warming up the {@linkplain QueryInterpretationCache query
+ * interpretation cache} when the {@link SessionFactory} is created, and for
+ * recording the HQL queries it holds when the {@code SessionFactory} is closed,
+ * so that they may be warmed up at the next start.
+ * <p>
+ * The queries are recorded in a text file, one per line, each preceded by the
+ * name of the expected result type, if any, and a tab. Line breaks, tabs, and
+ * backslashes occurring in the query are escaped by a backslash, as in Java.
+ * Queries containing literal values are not recorded, since the values might
+ * be data which must not end up in a file, and such queries are less likely
+ * to be executed again anyway.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_WARM_UP
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_WARM_UP_FILE
+ */
+class SessionFactoryObserverForQueryPlanCacheWarmUp implements SessionFactoryObserver {
+	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
+
+	private static final String HEADER = "# HQL queries recorded for query plan cache warm-up";
+
+	private record HqlQuery(String queryString, @Nullable Class<?> expectedResultType) {
+	}
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+		final SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+		if ( options.isQueryPlanCacheWarmUpEnabled() && queryEngine.getInterpretationCache().isEnabled() ) {
+			final Set<HqlQuery> queries = new LinkedHashSet<>();
+			if ( !options.isNamedQueryStartupCheckingEnabled() ) {
+				// otherwise they were already interpreted when they were checked
+				queryEngine.getNamedObjectRepository().visitSqmQueryMementos(
+						memento -> queries.add( new HqlQuery( memento.getHqlString(), null ) )
+				);
+			}
+			final String file = options.getQueryPlanCacheWarmUpFile();
+			if ( file != null ) {
+				readQueries( Path.of( file ), sessionFactory, queries );
+			}
+			warmUp( queries, queryEngine );
+		}
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+		final SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+		final String file = options.getQueryPlanCacheWarmUpFile();
+		if ( file != null && options.isQueryPlanCacheWarmUpEnabled()
+				&& sessionFactory.getQueryEngine().getInterpretationCache()
+						instanceof QueryInterpretationCacheStandardImpl interpretationCache ) {
+			writeQueries( Path.of( file ), interpretationCache );
+		}
+	}
+
+	private static void warmUp(Set<HqlQuery> queries, QueryEngine queryEngine) {
+		log.debugf( "Warming up query plan cache with %s HQL queries", queries.size() );
+		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+		final HqlTranslator translator = queryEngine.getHqlTranslator();
+		queries.parallelStream().forEach( query -> {
+			try {
+				interpretationCache.resolveHqlInterpretation(
+						query.queryString(),
+						query.expectedResultType(),
+						translator
+				);
+			}
+			catch (RuntimeException e) {
+				// the query fails again, and is reported, if it is ever executed
+				log.debugf( e, "Unable to interpret HQL query during warm-up: %s", query.queryString() );
+			}
+		} );
+	}
+
+	private static void readQueries(Path file, SessionFactoryImplementor sessionFactory, Set<HqlQuery> queries) {
+		if ( !Files.exists( file ) ) {
+			log.debugf( "Query plan cache warm-up file does not exist yet: %s", file );
+			return;
+		}
+		final ClassLoaderService classLoaderService =
+				sessionFactory.getServiceRegistry().requireService( ClassLoaderService.class );
+		try ( BufferedReader reader = Files.newBufferedReader( file, UTF_8 ) ) {
+			String line;
+			while ( ( line = reader.readLine() ) != null ) {
+				if ( !line.isBlank() && !line.startsWith( "#" ) ) {
+					final int separator = line.indexOf( '\t' );
+					final String resultTypeName = separator < 0 ? "" : line.substring( 0, separator );
+					final String queryString = unescape( line.substring( separator + 1 ) );
+					try {
+						queries.add( new HqlQuery(
+								queryString,
+								resultTypeName.isEmpty() ? null : classLoaderService.classForName( resultTypeName )
+						) );
+					}
+					catch (ClassLoadingException e) {
+						log.debugf( "Ignoring HQL query with unknown result type %s: %s", resultTypeName, queryString );
+					}
+				}
+			}
+		}
+		catch (IOException e) {
+			log.warnf( e, "Unable to read query plan cache warm-up file: %s", file );
+		}
+	}
+
+	private static void writeQueries(Path file, QueryInterpretationCacheStandardImpl interpretationCache) {
+		final Path tempFile = file.resolveSibling( file.getFileName() + ".tmp" );
+		try {
+			try ( BufferedWriter writer = Files.newBufferedWriter( tempFile, UTF_8 ) ) {
+				writer.write( HEADER );
+				writer.newLine();
+				interpretationCache.visitCachedHqlQueries( (queryString, expectedResultType) -> {
+					if ( hasLiterals( queryString ) ) {
+						log.tracef( "Not recording HQL query with literal values for warm-up: %s", queryString );
+						return;
+					}
+					try {
+						if ( expectedResultType != null ) {
+							writer.write( expectedResultType.getName() );
+						}
+						writer.write( '\t' );
+						writer.write( escape( queryString ) );
+						writer.newLine();
+					}
+					catch (IOException e) {
+						throw new WriteFailure( e );
+					}
+				} );
+			}
+			// replace the previous file only once the new one is complete
+			Files.move( tempFile, file, REPLACE_EXISTING );
+		}
+		catch (IOException | WriteFailure e) {
+			log.warnf( e, "Unable to write query plan cache warm-up file: %s", file );
+		}
+	}
+
+	private static boolean hasLiterals(String queryString) {
+		final HqlLexer lexer = HqlParseTreeBuilder.INSTANCE.buildHqlLexer( queryString );
+		lexer.removeErrorListeners();
+		for ( Token token = lexer.nextToken(); token.getType() != Token.EOF; token = lexer.nextToken() ) {
+			switch ( token.getType() ) {
+				case HqlLexer.STRING_LITERAL:
+				case HqlLexer.JAVA_STRING_LITERAL:
+				case HqlLexer.BINARY_LITERAL:
+				case HqlLexer.INTEGER_LITERAL:
+				case HqlLexer.LONG_LITERAL:
+				case HqlLexer.FLOAT_LITERAL:
+				case HqlLexer.DOUBLE_LITERAL:
+				case HqlLexer.BIG_INTEGER_LITERAL:
+				case HqlLexer.BIG_DECIMAL_LITERAL:
+				case HqlLexer.HEX_LITERAL:
+					return true;
+			}
+		}
+		return false;
+	}
+
+	private static String escape(String queryString) {
+		final StringBuilder escaped = new StringBuilder( queryString.length() );
+		for ( int i = 0; i < queryString.length(); i++ ) {
+			final char c = queryString.charAt( i );
+			switch ( c ) {
+				case '\\' -> escaped.append( "\\\\" );
+				case '\n' -> escaped.append( "\\n" );
+				case '\r' -> escaped.append( "\\r" );
+				case '\t' -> escaped.append( "\\t" );
+				default -> escaped.append( c );
+			}
+		}
+		return escaped.toString();
+	}
+
+	private static String unescape(String line) {
+		final StringBuilder unescaped = new StringBuilder( line.length() );
+		for ( int i = 0; i < line.length(); i++ ) {
+			final char c = line.charAt( i );
+			if ( c == '\\' && i + 1 < line.length() ) {
+				final char next = line.charAt( ++i );
+				switch ( next ) {
+					case 'n' -> unescaped.append( '\n' );
+					case 'r' -> unescaped.append( '\r' );
+					case 't' -> unescaped.append( '\t' );
+					default -> unescaped.append( next );
+				}
+			}
+			else {
+				unescaped.append( c );
+			}
+		}
+		return unescaped.toString();
+	}
+
+	private static class WriteFailure extends RuntimeException {
+		private WriteFailure(IOException cause) {
+			super( cause );
+		}
+	}
+}
@@ -74,6 +74,7 @@ import org.hibernate.type.format.jaxb.JaxbXmlFormatMapper;
 
 import jakarta.persistence.criteria.Nulls;
 
+import static org.hibernate.cfg.AvailableSettings.ADAPTIVE_BATCH_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_JTA_TRANSACTION_ACCESS;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
@@ -103,6 +104,7 @@ import static org.hibernate.cfg.AvailableSettings.JPA_CALLBACKS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
+import static org.hibernate.cfg.AvailableSettings.MULTI_ROW_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
@@ -114,6 +116,7 @@ import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_CACHE_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
@@ -126,11 +129,20 @@ import static org.hibernate.cfg.AvailableSettings.USE_SECOND_LEVEL_CACHE;
 import static org.hibernate.cfg.AvailableSettings.USE_SQL_COMMENTS;
 import static org.hibernate.cfg.AvailableSettings.USE_STRUCTURED_CACHE;
 import static org.hibernate.cfg.AvailableSettings.USE_SUBSELECT_FETCH;
+import static org.hibernate.cfg.BytecodeSettings.DIRTY_CHECKING_OPTIMIZER;
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_ASYNC_PUT_LIMIT;
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_COLUMNAR;
 import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_LAYOUT;
+import static org.hibernate.cfg.CacheSettings.USE_COMPACT_CACHE;
+import static org.hibernate.cfg.PersistenceSettings.PARALLEL_DIRTY_CHECKING_THRESHOLD;
+import static org.hibernate.cfg.PersistenceSettings.PERSISTENCE_CONTEXT_PRIMITIVE_KEYS;
 import static org.hibernate.cfg.PersistenceSettings.UNOWNED_ASSOCIATION_TRANSIENT_CHECK;
 import static org.hibernate.cfg.QuerySettings.DEFAULT_NULL_ORDERING;
 import static org.hibernate.cfg.QuerySettings.JSON_FUNCTIONS_ENABLED;
 import static org.hibernate.cfg.QuerySettings.PORTABLE_INTEGER_DIVISION;
+import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_WARM_UP;
+import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_WARM_UP_FILE;
+import static org.hibernate.cfg.QuerySettings.SCROLL_PREFETCH;
 import static org.hibernate.cfg.QuerySettings.XML_FUNCTIONS_ENABLED;
 import static org.hibernate.engine.config.spi.StandardConverters.BOOLEAN;
 import static org.hibernate.internal.CoreLogging.messageLogger;
@@ -199,6 +211,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private TempTableDdlTransactionHandling tempTableDdlTransactionHandling;
 	private boolean delayBatchFetchLoaderCreations;
 	private int defaultBatchFetchSize;
+	private final boolean adaptiveBatchFetchSizeEnabled;
 	private Integer maximumFetchDepth;
 	private boolean subselectFetchEnabled;
 	private Nulls defaultNullPrecedence;
@@ -208,6 +221,14 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private final boolean UnownedAssociationTransientCheck;
 	private final boolean passProcedureParameterNames;
 	private final boolean preferJdbcDatetimeTypes;
+	private final String queryPlanCacheWarmUpFile;
+	private final boolean queryPlanCacheWarmUpEnabled;
+	private final boolean scrollPrefetchEnabled;
+	private final int queryCacheAsyncPutLimit;
+	private final boolean queryCacheColumnar;
+	private final int parallelDirtyCheckingThreshold;
+	private final boolean dirtyCheckingOptimizerEnabled;
+	private final boolean persistenceContextPrimitiveKeysEnabled;
 
 	// JPA callbacks
 	private final boolean callbacksEnabled;
@@ -241,6 +262,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
+	private final boolean compactCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
 
@@ -251,7 +273,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean getGeneratedKeysEnabled;
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
+	private final boolean multiRowInsertEnabled;
 	private Integer jdbcFetchSize;
+	private final int statementCacheSize;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private PhysicalConnectionHandlingMode connectionHandlingMode;
@@ -374,6 +398,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 		this.delayBatchFetchLoaderCreations = configurationService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
 		this.defaultBatchFetchSize = getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, -1 );
+		this.adaptiveBatchFetchSizeEnabled = getBoolean( ADAPTIVE_BATCH_FETCH_SIZE, configurationSettings );
 		this.subselectFetchEnabled = getBoolean( USE_SUBSELECT_FETCH, configurationSettings );
 		this.maximumFetchDepth = getInteger( MAX_FETCH_DEPTH, configurationSettings );
 
@@ -477,6 +502,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					regionFactory.isMinimalPutsEnabledByDefault()
 			);
 			this.structuredCacheEntriesEnabled = configurationService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			this.compactCacheEntriesEnabled = configurationService.getSetting( USE_COMPACT_CACHE, BOOLEAN, false );
 			this.directReferenceCacheEntriesEnabled = configurationService.getSetting(
 					USE_DIRECT_REFERENCE_CACHE_ENTRIES,
 					BOOLEAN,
@@ -492,6 +518,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 			this.cacheRegionPrefix = null;
 			this.minimalPutsEnabled = false;
 			this.structuredCacheEntriesEnabled = false;
+			this.compactCacheEntriesEnabled = false;
 			this.directReferenceCacheEntriesEnabled = false;
 			this.autoEvictCollectionCache = false;
 		}
@@ -522,6 +549,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		}
 
 		this.jdbcBatchVersionedData = getBoolean( BATCH_VERSIONED_DATA, configurationSettings, true );
+		this.multiRowInsertEnabled = getBoolean( MULTI_ROW_INSERTS, configurationSettings );
 		this.scrollableResultSetsEnabled = getBoolean(
 				USE_SCROLLABLE_RESULTSET,
 				configurationSettings,
@@ -533,6 +561,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				meta.supportsGetGeneratedKeys()
 		);
 		this.jdbcFetchSize = getInteger( STATEMENT_FETCH_SIZE, configurationSettings );
+		this.statementCacheSize = getInt( STATEMENT_CACHE_SIZE, configurationSettings, 0 );
 
 		this.connectionHandlingMode = interpretConnectionHandlingMode( configurationSettings, serviceRegistry );
 		this.connectionProviderDisablesAutoCommit = getBoolean(
@@ -644,6 +673,30 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				configurationSettings,
 				false
 		);
+
+		this.queryPlanCacheWarmUpFile = extractPropertyValue( QUERY_PLAN_CACHE_WARM_UP_FILE, configurationSettings );
+
+		this.queryPlanCacheWarmUpEnabled = getBoolean( QUERY_PLAN_CACHE_WARM_UP, configurationSettings, false );
+
+		this.scrollPrefetchEnabled = getBoolean( SCROLL_PREFETCH, configurationSettings, false );
+
+		this.queryCacheAsyncPutLimit = getInt( QUERY_CACHE_ASYNC_PUT_LIMIT, configurationSettings, 0 );
+
+		this.queryCacheColumnar = getBoolean( QUERY_CACHE_COLUMNAR, configurationSettings, false );
+
+		this.parallelDirtyCheckingThreshold = getInt( PARALLEL_DIRTY_CHECKING_THRESHOLD, configurationSettings, 0 );
+
+		this.dirtyCheckingOptimizerEnabled = getBoolean(
+				DIRTY_CHECKING_OPTIMIZER,
+				configurationSettings,
+				false
+		);
+
+		this.persistenceContextPrimitiveKeysEnabled = getBoolean(
+				PERSISTENCE_CONTEXT_PRIMITIVE_KEYS,
+				configurationSettings,
+				false
+		);
 	}
 
 	private boolean disallowBatchUpdates(Dialect dialect, ExtractedDatabaseMetaData meta) {
@@ -1035,6 +1088,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return defaultBatchFetchSize;
 	}
 
+	@Override
+	public boolean isAdaptiveBatchFetchSizeEnabled() {
+		return adaptiveBatchFetchSizeEnabled;
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return maximumFetchDepth;
@@ -1115,6 +1173,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return structuredCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return compactCacheEntriesEnabled;
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
@@ -1140,6 +1203,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcBatchVersionedData;
 	}
 
+	@Override
+	public boolean isMultiRowInsertEnabled() {
+		return multiRowInsertEnabled;
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return scrollableResultSetsEnabled;
@@ -1155,6 +1223,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcFetchSize;
 	}
 
+	@Override
+	public int getStatementCacheSize() {
+		return statementCacheSize;
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return connectionHandlingMode;
@@ -1345,6 +1418,46 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return preferJdbcDatetimeTypes;
 	}
 
+	@Override
+	public String getQueryPlanCacheWarmUpFile() {
+		return queryPlanCacheWarmUpFile;
+	}
+
+	@Override
+	public boolean isQueryPlanCacheWarmUpEnabled() {
+		return queryPlanCacheWarmUpEnabled;
+	}
+
+	@Override
+	public boolean isScrollPrefetchEnabled() {
+		return scrollPrefetchEnabled;
+	}
+
+	@Override
+	public int getQueryCacheAsyncPutLimit() {
+		return queryCacheAsyncPutLimit;
+	}
+
+	@Override
+	public boolean isQueryCacheColumnarEnabled() {
+		return queryCacheColumnar;
+	}
+
+	@Override
+	public int getParallelDirtyCheckingThreshold() {
+		return parallelDirtyCheckingThreshold;
+	}
+
+	@Override
+	public boolean isDirtyCheckingOptimizerEnabled() {
+		return dirtyCheckingOptimizerEnabled;
+	}
+
+	@Override
+	public boolean isPersistenceContextPrimitiveKeysEnabled() {
+		return persistenceContextPrimitiveKeysEnabled;
+	}
+
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// In-flight mutation access
 
@@ -532,4 +532,64 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 	public boolean isPreferJdbcDatetimeTypesInNativeQueriesEnabled() {
 		return delegate.isPreferJdbcDatetimeTypesInNativeQueriesEnabled();
 	}
+
+	@Override
+	public boolean isPersistenceContextPrimitiveKeysEnabled() {
+		return delegate.isPersistenceContextPrimitiveKeysEnabled();
+	}
+
+	@Override
+	public boolean isDirtyCheckingOptimizerEnabled() {
+		return delegate.isDirtyCheckingOptimizerEnabled();
+	}
+
+	@Override
+	public int getParallelDirtyCheckingThreshold() {
+		return delegate.getParallelDirtyCheckingThreshold();
+	}
+
+	@Override
+	public boolean isQueryCacheColumnarEnabled() {
+		return delegate.isQueryCacheColumnarEnabled();
+	}
+
+	@Override
+	public int getQueryCacheAsyncPutLimit() {
+		return delegate.getQueryCacheAsyncPutLimit();
+	}
+
+	@Override
+	public boolean isQueryPlanCacheWarmUpEnabled() {
+		return delegate.isQueryPlanCacheWarmUpEnabled();
+	}
+
+	@Override
+	public String getQueryPlanCacheWarmUpFile() {
+		return delegate.getQueryPlanCacheWarmUpFile();
+	}
+
+	@Override
+	public boolean isMultiRowInsertEnabled() {
+		return delegate.isMultiRowInsertEnabled();
+	}
+
+	@Override
+	public boolean isAdaptiveBatchFetchSizeEnabled() {
+		return delegate.isAdaptiveBatchFetchSizeEnabled();
+	}
+
+	@Override
+	public boolean isScrollPrefetchEnabled() {
+		return delegate.isScrollPrefetchEnabled();
+	}
+
+	@Override
+	public int getStatementCacheSize() {
+		return delegate.getStatementCacheSize();
+	}
+
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return delegate.isCompactCacheEntriesEnabled();
+	}
 }
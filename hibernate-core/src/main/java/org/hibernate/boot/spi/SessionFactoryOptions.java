@@ -400,4 +400,155 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	 * @see org.hibernate.cfg.QuerySettings#NATIVE_PREFER_JDBC_DATETIME_TYPES
 	 */
 	boolean isPreferJdbcDatetimeTypesInNativeQueriesEnabled();
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_PRIMITIVE_KEYS
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isPersistenceContextPrimitiveKeysEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should a {@link org.hibernate.bytecode.spi.DirtyChecker} be generated for
+	 * entity classes which are not enhanced?
+	 *
+	 * @see org.hibernate.cfg.BytecodeSettings#DIRTY_CHECKING_OPTIMIZER
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isDirtyCheckingOptimizerEnabled() {
+		return false;
+	}
+
+	/**
+	 * The minimum number of entities in a persistence context for dirty checking
+	 * to be performed in parallel during flush, or {@code 0} if disabled.
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default int getParallelDirtyCheckingThreshold() {
+		return 0;
+	}
+
+	/**
+	 * Should the results put into the query cache be stored column by column?
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_COLUMNAR
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isQueryCacheColumnarEnabled() {
+		return false;
+	}
+
+	/**
+	 * The maximum number of query results waiting to be put into the query
+	 * cache in the background, or {@code 0} if puts are not asynchronous.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_ASYNC_PUT_LIMIT
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default int getQueryCacheAsyncPutLimit() {
+		return 0;
+	}
+
+	/**
+	 * Should the query interpretation cache be warmed up when the
+	 * {@link org.hibernate.SessionFactory} is created?
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_WARM_UP
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isQueryPlanCacheWarmUpEnabled() {
+		return false;
+	}
+
+	/**
+	 * The file in which the HQL queries held in the query interpretation
+	 * cache are recorded for the next warm-up, if any.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_WARM_UP_FILE
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default String getQueryPlanCacheWarmUpFile() {
+		return null;
+	}
+
+	/**
+	 * Should batched inserts be collapsed into multi-row insert statements,
+	 * when supported by the dialect?
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isMultiRowInsertEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should the number of keys fetched by each batch fetch be adapted to
+	 * the proportion of queued keys which are typically initialized?
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_SIZE
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isAdaptiveBatchFetchSizeEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should forward-only scrolls executed by a stateless session be read and
+	 * hydrated ahead of the client by a background thread?
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#SCROLL_PREFETCH
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isScrollPrefetchEnabled() {
+		return false;
+	}
+
+	/**
+	 * The maximum number of idle prepared statements cached by each session,
+	 * or {@code 0} if statements are not cached.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default int getStatementCacheSize() {
+		return 0;
+	}
+
+	/**
+	 * Whether entities are stored in the second-level cache as compact binary entries.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#USE_COMPACT_CACHE
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isCompactCacheEntriesEnabled() {
+		return false;
+	}
 }
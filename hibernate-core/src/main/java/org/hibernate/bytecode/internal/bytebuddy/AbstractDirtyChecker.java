@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.bytecode.spi.DirtyChecker;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.Type;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Superclass of the {@link DirtyChecker}s generated by {@link BytecodeProviderImpl},
+ * which the generated code calls back for attributes which are not handled inline.
+ * <p>
+ * Must be public, since the generated classes are defined in the package of the
+ * entity class.
+ */
+public abstract class AbstractDirtyChecker implements DirtyChecker {
+	private final @Nullable Type[] propertyTypes;
+	private final boolean[][] includeColumns;
+
+	protected AbstractDirtyChecker(@Nullable Type[] propertyTypes, boolean[][] includeColumns) {
+		this.propertyTypes = propertyTypes;
+		this.includeColumns = includeColumns;
+	}
+
+	/**
+	 * Same logic as {@code DirtyHelper.isDirty()}, for a single attribute.
+	 */
+	protected final boolean isDirty(
+			int index,
+			Object previousValue,
+			Object currentValue,
+			SharedSessionContractImplementor session) {
+		final Type propertyType = propertyTypes[index];
+		if ( currentValue == LazyPropertyInitializer.UNFETCHED_PROPERTY || propertyType == null ) {
+			return false;
+		}
+		else if ( previousValue == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			return true;
+		}
+		else {
+			return propertyType.isDirty( previousValue, currentValue, includeColumns[index], session );
+		}
+	}
+}
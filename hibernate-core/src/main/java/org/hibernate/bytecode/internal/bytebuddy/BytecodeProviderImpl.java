@@ -16,6 +16,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.Callable;
 
 import org.hibernate.HibernateException;
@@ -27,6 +28,7 @@ import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.bytecode.enhance.spi.interceptor.BytecodeLazyAttributeInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.DirtyChecker;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.engine.spi.CompositeOwner;
@@ -34,6 +36,7 @@ import org.hibernate.engine.spi.CompositeTracker;
 import org.hibernate.engine.spi.Managed;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.ReflectHelper;
@@ -46,6 +49,16 @@ import org.hibernate.property.access.spi.Setter;
 import org.hibernate.property.access.spi.SetterFieldImpl;
 import org.hibernate.property.access.spi.SetterMethodImpl;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.descriptor.java.BooleanJavaType;
+import org.hibernate.type.descriptor.java.ByteJavaType;
+import org.hibernate.type.descriptor.java.CharacterJavaType;
+import org.hibernate.type.descriptor.java.DoubleJavaType;
+import org.hibernate.type.descriptor.java.FloatJavaType;
+import org.hibernate.type.descriptor.java.IntegerJavaType;
+import org.hibernate.type.descriptor.java.LongJavaType;
+import org.hibernate.type.descriptor.java.ShortJavaType;
+import org.hibernate.type.descriptor.java.StringJavaType;
 
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.NamingStrategy;
@@ -53,6 +66,7 @@ import net.bytebuddy.description.NamedElement;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
@@ -73,6 +87,7 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 
 	private static final String INSTANTIATOR_PROXY_NAMING_SUFFIX = "HibernateInstantiator";
 	private static final String OPTIMIZER_PROXY_NAMING_SUFFIX = "HibernateAccessOptimizer";
+	private static final String DIRTY_CHECKER_NAMING_SUFFIX = "HibernateDirtyChecker";
 	private static final ElementMatcher.Junction<NamedElement> newInstanceMethodName = ElementMatchers.named(
 			"newInstance" );
 	private static final ElementMatcher.Junction<NamedElement> getPropertyValuesMethodName = ElementMatchers.named(
@@ -81,6 +96,8 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 			"setPropertyValues" );
 	private static final ElementMatcher.Junction<NamedElement> getPropertyNamesMethodName = ElementMatchers.named(
 			"getPropertyNames" );
+	private static final ElementMatcher.Junction<NamedElement> findDirtyMethodName = ElementMatchers.named(
+			"findDirty" );
 	private static final Member EMBEDDED_MEMBER = new Member() {
 		@Override
 		public Class<?> getDeclaringClass() {
@@ -264,6 +281,40 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	@Override
+	public @Nullable DirtyChecker getDirtyChecker(
+			Class<?> clazz,
+			org.hibernate.type.@Nullable Type[] propertyTypes,
+			boolean[][] includeColumns) {
+		if ( propertyTypes.length > DirtyChecker.MAX_ATTRIBUTES ) {
+			return null;
+		}
+
+		final DirtyCheckKind[] kinds = new DirtyCheckKind[propertyTypes.length];
+		for ( int i = 0; i < propertyTypes.length; i++ ) {
+			kinds[i] = DirtyCheckKind.determine( propertyTypes[i], includeColumns[i] );
+		}
+
+		final Class<?> dirtyChecker = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom(
+						DIRTY_CHECKER_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() )
+				) )
+				.subclass( AbstractDirtyChecker.class, ConstructorStrategy.Default.IMITATE_SUPER_CLASS_OPENING )
+				.method( findDirtyMethodName )
+				.intercept( new Implementation.Simple( new FindDirty( kinds ) ) )
+		);
+
+		try {
+			return (DirtyChecker) dirtyChecker
+					.getDeclaredConstructor( org.hibernate.type.Type[].class, boolean[][].class )
+					.newInstance( propertyTypes, includeColumns );
+		}
+		catch (Exception exception) {
+			throw new HibernateException( exception );
+		}
+	}
+
 	private static class ForeignPackageClassInfo {
 		final Class<?> clazz;
 		final List<Member> getters = new ArrayList<>();
@@ -1135,6 +1186,218 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	/**
+	 * How the generated {@link DirtyChecker} compares the values of an attribute.
+	 */
+	private enum DirtyCheckKind {
+		/**
+		 * The attribute is never dirty.
+		 */
+		SKIP( null, null ),
+		/**
+		 * Compare the unboxed values.
+		 */
+		LONG( Long.class, long.class ),
+		INTEGER( Integer.class, int.class ),
+		SHORT( Short.class, short.class ),
+		BYTE( Byte.class, byte.class ),
+		CHARACTER( Character.class, char.class ),
+		BOOLEAN( Boolean.class, boolean.class ),
+		/**
+		 * Compare using {@link java.util.Objects#equals}.
+		 */
+		EQUALS( null, null ),
+		/**
+		 * Call back {@link AbstractDirtyChecker#isDirty}, and so {@link org.hibernate.type.Type#isDirty}.
+		 */
+		DELEGATE( null, null );
+
+		private final @Nullable Class<?> wrapperType;
+		private final @Nullable Class<?> primitiveType;
+
+		DirtyCheckKind(@Nullable Class<?> wrapperType, @Nullable Class<?> primitiveType) {
+			this.wrapperType = wrapperType;
+			this.primitiveType = primitiveType;
+		}
+
+		static DirtyCheckKind determine(org.hibernate.type.@Nullable Type type, boolean[] includeColumns) {
+			if ( type == null ) {
+				// not dirty checkable
+				return SKIP;
+			}
+			// only the standard basic types of immutable Java types are compared inline,
+			// since for those Type.isDirty() is known to come down to Object.equals()
+			else if ( type instanceof AbstractStandardBasicType<?> basicType
+					&& !basicType.isMutable()
+					&& includeColumns.length == 1 ) {
+				if ( !includeColumns[0] ) {
+					return SKIP;
+				}
+				final Class<?> javaTypeClass = basicType.getJavaTypeDescriptor().getClass();
+				if ( javaTypeClass == LongJavaType.class ) {
+					return LONG;
+				}
+				else if ( javaTypeClass == IntegerJavaType.class ) {
+					return INTEGER;
+				}
+				else if ( javaTypeClass == ShortJavaType.class ) {
+					return SHORT;
+				}
+				else if ( javaTypeClass == ByteJavaType.class ) {
+					return BYTE;
+				}
+				else if ( javaTypeClass == CharacterJavaType.class ) {
+					return CHARACTER;
+				}
+				else if ( javaTypeClass == BooleanJavaType.class ) {
+					return BOOLEAN;
+				}
+				else if ( javaTypeClass == StringJavaType.class
+						|| javaTypeClass == DoubleJavaType.class
+						|| javaTypeClass == FloatJavaType.class ) {
+					return EQUALS;
+				}
+			}
+			return DELEGATE;
+		}
+	}
+
+	/**
+	 * Generates {@link DirtyChecker#findDirty}, with one unrolled comparison per attribute.
+	 */
+	private static class FindDirty implements ByteCodeAppender {
+		// local variable slots, after this, currentState, previousState and session
+		private static final int RESULT = 4;
+		private static final int CURRENT_VALUE = 6;
+		private static final int PREVIOUS_VALUE = 7;
+
+		private final DirtyCheckKind[] kinds;
+
+		public FindDirty(DirtyCheckKind[] kinds) {
+			this.kinds = kinds;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			final List<TypeDescription> locals = Arrays.asList(
+					implementationContext.getInstrumentedType(),
+					TypeDescription.ForLoadedType.of( Object[].class ),
+					TypeDescription.ForLoadedType.of( Object[].class ),
+					TypeDescription.ForLoadedType.of( SharedSessionContractImplementor.class ),
+					TypeDescription.ForLoadedType.of( long.class )
+			);
+
+			methodVisitor.visitInsn( Opcodes.LCONST_0 );
+			methodVisitor.visitVarInsn( Opcodes.LSTORE, RESULT );
+
+			for ( int index = 0; index < kinds.length; index++ ) {
+				final DirtyCheckKind kind = kinds[index];
+				if ( kind == DirtyCheckKind.SKIP ) {
+					continue;
+				}
+
+				final Label dirtyLabel = new Label();
+				final Label nextLabel = new Label();
+				switch ( kind ) {
+					case EQUALS:
+						loadValue( methodVisitor, 1, index );
+						loadValue( methodVisitor, 2, index );
+						methodVisitor.visitMethodInsn(
+								Opcodes.INVOKESTATIC,
+								Type.getInternalName( Objects.class ),
+								"equals",
+								Type.getMethodDescriptor( Type.BOOLEAN_TYPE, Type.getType( Object.class ), Type.getType( Object.class ) ),
+								false
+						);
+						methodVisitor.visitJumpInsn( Opcodes.IFNE, nextLabel );
+						break;
+					case DELEGATE:
+						methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+						methodVisitor.visitLdcInsn( index );
+						loadValue( methodVisitor, 2, index );
+						loadValue( methodVisitor, 1, index );
+						methodVisitor.visitVarInsn( Opcodes.ALOAD, 3 );
+						methodVisitor.visitMethodInsn(
+								Opcodes.INVOKEVIRTUAL,
+								Type.getInternalName( AbstractDirtyChecker.class ),
+								"isDirty",
+								Type.getMethodDescriptor(
+										Type.BOOLEAN_TYPE,
+										Type.INT_TYPE,
+										Type.getType( Object.class ),
+										Type.getType( Object.class ),
+										Type.getType( SharedSessionContractImplementor.class )
+								),
+								false
+						);
+						methodVisitor.visitJumpInsn( Opcodes.IFEQ, nextLabel );
+						break;
+					default:
+						loadValue( methodVisitor, 1, index );
+						methodVisitor.visitVarInsn( Opcodes.ASTORE, CURRENT_VALUE );
+						loadValue( methodVisitor, 2, index );
+						methodVisitor.visitVarInsn( Opcodes.ASTORE, PREVIOUS_VALUE );
+						// same instance, or both null
+						methodVisitor.visitVarInsn( Opcodes.ALOAD, CURRENT_VALUE );
+						methodVisitor.visitVarInsn( Opcodes.ALOAD, PREVIOUS_VALUE );
+						methodVisitor.visitJumpInsn( Opcodes.IF_ACMPEQ, nextLabel );
+						// only one of them null
+						methodVisitor.visitVarInsn( Opcodes.ALOAD, CURRENT_VALUE );
+						methodVisitor.visitJumpInsn( Opcodes.IFNULL, dirtyLabel );
+						methodVisitor.visitVarInsn( Opcodes.ALOAD, PREVIOUS_VALUE );
+						methodVisitor.visitJumpInsn( Opcodes.IFNULL, dirtyLabel );
+						// compare the primitive values
+						unbox( methodVisitor, CURRENT_VALUE, kind );
+						unbox( methodVisitor, PREVIOUS_VALUE, kind );
+						if ( kind == DirtyCheckKind.LONG ) {
+							methodVisitor.visitInsn( Opcodes.LCMP );
+							methodVisitor.visitJumpInsn( Opcodes.IFEQ, nextLabel );
+						}
+						else {
+							methodVisitor.visitJumpInsn( Opcodes.IF_ICMPEQ, nextLabel );
+						}
+				}
+
+				// result |= 1L << index
+				methodVisitor.visitLabel( dirtyLabel );
+				implementationContext.getFrameGeneration().full( methodVisitor, Collections.emptyList(), locals );
+				methodVisitor.visitVarInsn( Opcodes.LLOAD, RESULT );
+				methodVisitor.visitLdcInsn( 1L << index );
+				methodVisitor.visitInsn( Opcodes.LOR );
+				methodVisitor.visitVarInsn( Opcodes.LSTORE, RESULT );
+
+				methodVisitor.visitLabel( nextLabel );
+				implementationContext.getFrameGeneration().full( methodVisitor, Collections.emptyList(), locals );
+			}
+
+			methodVisitor.visitVarInsn( Opcodes.LLOAD, RESULT );
+			methodVisitor.visitInsn( Opcodes.LRETURN );
+			return new Size( 5, PREVIOUS_VALUE + 1 );
+		}
+
+		private static void loadValue(MethodVisitor methodVisitor, int stateArgument, int index) {
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, stateArgument );
+			methodVisitor.visitLdcInsn( index );
+			methodVisitor.visitInsn( Opcodes.AALOAD );
+		}
+
+		private static void unbox(MethodVisitor methodVisitor, int variable, DirtyCheckKind kind) {
+			final String wrapperName = Type.getInternalName( kind.wrapperType );
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, variable );
+			methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, wrapperName );
+			methodVisitor.visitMethodInsn(
+					Opcodes.INVOKEVIRTUAL,
+					wrapperName,
+					kind.primitiveType.getName() + "Value",
+					Type.getMethodDescriptor( Type.getType( kind.primitiveType ) ),
+					false
+			);
+		}
+	}
+
 	private static void findAccessors(
 			Class<?> clazz,
 			String[] getterNames,
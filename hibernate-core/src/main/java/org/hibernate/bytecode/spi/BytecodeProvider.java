@@ -6,11 +6,13 @@ package org.hibernate.bytecode.spi;
 
 import java.util.Map;
 
+import org.hibernate.Incubating;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.property.access.spi.PropertyAccess;
 import org.hibernate.service.JavaServiceLoadable;
 import org.hibernate.service.Service;
+import org.hibernate.type.Type;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -20,6 +22,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * Bytecode requirements break down into the following areas<ol>
  *     <li>proxy generation (both for runtime-lazy-loading and basic proxy generation) {@link #getProxyFactoryFactory()}</li>
  *     <li>bean reflection optimization {@link #getReflectionOptimizer}</li>
+ *     <li>dirty checking of entities which are not enhanced {@link #getDirtyChecker}</li>
  * </ol>
  *
  * @author Steve Ebersole
@@ -67,6 +70,27 @@ public interface BytecodeProvider extends Service {
 	 */
 	@Nullable Enhancer getEnhancer(EnhancementContext enhancementContext);
 
+	/**
+	 * Retrieve a {@link DirtyChecker} specialized for the attributes of the given
+	 * entity class, which must not be enhanced for lazy loading or dirty tracking.
+	 *
+	 * @param clazz The entity class.
+	 * @param propertyTypes The types of the attributes of the entity, in the order
+	 * of the state array, with {@code null} for attributes which are not dirty checkable.
+	 * @param includeColumns Which columns of each attribute are included in dirty checking.
+	 * @return The dirty checker, or {@code null} if this provider does not support
+	 * generating dirty checkers for the given entity.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable DirtyChecker getDirtyChecker(
+			Class<?> clazz,
+			@Nullable Type[] propertyTypes,
+			boolean[][] includeColumns) {
+		return null;
+	}
+
 	/**
 	 * Some BytecodeProvider implementations will have classloader specific caching.
 	 * These caches are useful at runtime but need to be reset at least on SessionFactory shutdown
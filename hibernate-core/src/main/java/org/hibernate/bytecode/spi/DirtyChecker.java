@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.spi;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Dirty checking specialized for the attributes of a particular entity class,
+ * used in place of {@link org.hibernate.type.Type#isDirty} when the entity
+ * class is not enhanced for dirty tracking.
+ * <p>
+ * Implementations are usually generated at runtime by the {@link BytecodeProvider},
+ * comparing the attributes one by one with code specific to the type of each
+ * attribute, for example comparing primitive values instead of calling
+ * {@link Object#equals} on wrappers.
+ *
+ * @see BytecodeProvider#getDirtyChecker
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface DirtyChecker {
+	/**
+	 * The maximum number of attributes of an entity supported by a {@code DirtyChecker}.
+	 */
+	int MAX_ATTRIBUTES = Long.SIZE;
+
+	/**
+	 * Compare the current state of an entity to its previous state.
+	 *
+	 * @param currentState The current state of the entity
+	 * @param previousState The previous state of the entity, usually the loaded state
+	 * @param session The session in which the check is occurring
+	 *
+	 * @return a bitmask in which the bit {@code 1L << i} is set if the attribute at
+	 * position {@code i} of the state arrays is dirty, or {@code 0} if no attribute
+	 * is dirty
+	 */
+	long findDirty(Object[] currentState, Object[] previousState, SharedSessionContractImplementor session);
+}
@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsRegion;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
+/**
+ * Puts query results into their {@link QueryResultsRegion} on a background
+ * thread, so that a query which missed the cache does not wait for the put,
+ * when {@value org.hibernate.cfg.CacheSettings#QUERY_CACHE_ASYNC_PUT_LIMIT}
+ * is set.
+ * <p>
+ * Results waiting to be put are held by key, so that puts of the same query
+ * results are coalesced, keeping only the results read last. Waiting results
+ * are {@linkplain #getPending visible} to queries executed in the meantime.
+ * When the limit of waiting results is reached, new results are simply not
+ * cached.
+ * <p>
+ * Since the {@linkplain QueryResultsCacheImpl.CacheItem cached item} carries
+ * the timestamp obtained when the query was executed, results which are put
+ * late are still checked against any invalidation which happened after that
+ * point in time by the {@link org.hibernate.cache.spi.TimestampsCache}, exactly
+ * as if they had been put right away.
+ * <p>
+ * The puts are done {@linkplain QueryResultsRegion#putIntoCacheWithoutSession
+ * without a session}, since the session executing the query can't be used by
+ * another thread, so only regions which {@linkplain QueryResultsRegion#supportsPutWithoutSession
+ * support that} are written in the background.
+ */
+class AsyncQueryResultsCachePuts {
+	private final int limit;
+	private final ConcurrentHashMap<PendingKey, PendingPut> pendingPuts = new ConcurrentHashMap<>();
+	private final ThreadPoolExecutor executor;
+	// held while putting, so that a put can't complete after the region was cleared
+	private final ReentrantLock putLock = new ReentrantLock();
+
+	private record PendingKey(QueryResultsRegion region, QueryKey key) {
+	}
+
+	private record PendingPut(QueryResultsCacheImpl.CacheItem cacheItem, long timestamp) {
+	}
+
+	AsyncQueryResultsCachePuts(int limit) {
+		this.limit = limit;
+		this.executor = new ThreadPoolExecutor(
+				1,
+				1,
+				60,
+				TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(),
+				runnable -> {
+					final Thread thread = new Thread( runnable, "Hibernate query cache puts" );
+					thread.setDaemon( true );
+					return thread;
+				}
+		);
+		this.executor.allowCoreThreadTimeOut( true );
+	}
+
+	/**
+	 * Schedule putting the given item into the region.
+	 *
+	 * @return {@code false} if too many puts are already waiting
+	 */
+	boolean schedule(
+			QueryResultsRegion region,
+			QueryKey key,
+			QueryResultsCacheImpl.CacheItem cacheItem,
+			long timestamp) {
+		final PendingKey pendingKey = new PendingKey( region, key );
+		final PendingPut put = new PendingPut( cacheItem, timestamp );
+		final boolean[] scheduled = new boolean[1];
+		final PendingPut result = pendingPuts.compute( pendingKey, (k, existing) -> {
+			if ( existing != null ) {
+				// coalesce with the put which is already waiting
+				return existing.timestamp() > timestamp ? existing : put;
+			}
+			else if ( pendingPuts.size() >= limit ) {
+				return null;
+			}
+			else {
+				scheduled[0] = true;
+				return put;
+			}
+		} );
+		if ( scheduled[0] && !execute( pendingKey ) ) {
+			pendingPuts.remove( pendingKey, put );
+			return false;
+		}
+		return result != null;
+	}
+
+	private boolean execute(PendingKey pendingKey) {
+		try {
+			executor.execute( () -> publish( pendingKey ) );
+			return true;
+		}
+		catch (RejectedExecutionException e) {
+			// shut down
+			return false;
+		}
+	}
+
+	private void publish(PendingKey pendingKey) {
+		final PendingPut put = pendingPuts.get( pendingKey );
+		if ( put != null ) {
+			putLock.lock();
+			try {
+				// unless cancelled in the meantime
+				if ( pendingPuts.get( pendingKey ) == put ) {
+					pendingKey.region().putIntoCacheWithoutSession( pendingKey.key(), put.cacheItem() );
+				}
+			}
+			catch (RuntimeException e) {
+				L2CACHE_LOGGER.debugf( e, "Unable to put query results into region: %s", pendingKey.region().getName() );
+			}
+			finally {
+				putLock.unlock();
+				// only after the put, so that the results stay visible in the meantime
+				if ( !pendingPuts.remove( pendingKey, put ) && pendingPuts.containsKey( pendingKey ) ) {
+					// newer results were coalesced while putting these
+					if ( !execute( pendingKey ) ) {
+						pendingPuts.remove( pendingKey );
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * The item waiting to be put into the region for the given key, if any.
+	 */
+	QueryResultsCacheImpl.@Nullable CacheItem getPending(QueryResultsRegion region, QueryKey key) {
+		final PendingPut put = pendingPuts.get( new PendingKey( region, key ) );
+		return put == null ? null : put.cacheItem();
+	}
+
+	/**
+	 * Forget the items waiting to be put into the given region, and clear it.
+	 */
+	void clear(QueryResultsRegion region) {
+		putLock.lock();
+		try {
+			pendingPuts.keySet().removeIf( pendingKey -> pendingKey.region() == region );
+			region.clear();
+		}
+		finally {
+			putLock.unlock();
+		}
+	}
+
+	void shutdown() {
+		pendingPuts.clear();
+		executor.shutdownNow();
+	}
+}
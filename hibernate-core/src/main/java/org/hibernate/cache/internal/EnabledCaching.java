@@ -68,6 +68,7 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 	private final TimestampsCache timestampsCache;
 
 	private final QueryResultsCache defaultQueryResultsCache;
+	private final AsyncQueryResultsCachePuts asyncQueryResultsCachePuts;
 	private final Map<String, QueryResultsCache> namedQueryResultsCacheMap = new ConcurrentHashMap<>();
 
 
@@ -97,14 +98,18 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 					sessionFactory
 			);
 			regionsByName.put( queryResultsRegion.getName(), queryResultsRegion );
+			final int asyncPutLimit = sessionFactory.getSessionFactoryOptions().getQueryCacheAsyncPutLimit();
+			asyncQueryResultsCachePuts = asyncPutLimit > 0 ? new AsyncQueryResultsCachePuts( asyncPutLimit ) : null;
 			defaultQueryResultsCache = new QueryResultsCacheImpl(
 					queryResultsRegion,
-					timestampsCache
+					timestampsCache,
+					asyncQueryResultsCachePuts
 			);
 		}
 		else {
 			timestampsCache = new TimestampsCacheDisabledImpl();
 			defaultQueryResultsCache = null;
+			asyncQueryResultsCachePuts = null;
 		}
 	}
 
@@ -548,7 +553,8 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 		}
 		final QueryResultsCacheImpl regionAccess = new QueryResultsCacheImpl(
 				queryResultsRegion,
-				timestampsCache
+				timestampsCache,
+				asyncQueryResultsCachePuts
 		);
 		namedQueryResultsCacheMap.put( regionName, regionAccess );
 		legacySecondLevelCacheNames.add( regionName );
@@ -566,10 +572,26 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 
 	@Override
 	public void evictRegion(String regionName) {
-		getRegion( regionName ).clear();
+		final Region region = getRegion( regionName );
+		if ( region instanceof QueryResultsRegion queryResultsRegion ) {
+			clearQueryResultsRegion( queryResultsRegion );
+		}
+		else {
+			region.clear();
+		}
 		final QueryResultsRegion queryResultsRegionWithDuplicateName = queryResultsRegionsByDuplicateName.get( regionName );
 		if ( queryResultsRegionWithDuplicateName != null ) {
-			queryResultsRegionWithDuplicateName.clear();
+			clearQueryResultsRegion( queryResultsRegionWithDuplicateName );
+		}
+	}
+
+	private void clearQueryResultsRegion(QueryResultsRegion region) {
+		// query results waiting to be put must not be put after the region is cleared
+		if ( asyncQueryResultsCachePuts != null ) {
+			asyncQueryResultsCachePuts.clear( region );
+		}
+		else {
+			region.clear();
 		}
 	}
 
@@ -589,6 +611,9 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 
 	@Override
 	public void close() {
+		if ( asyncQueryResultsCachePuts != null ) {
+			asyncQueryResultsCachePuts.shutdown();
+		}
 		for ( Region region : regionsByName.values() ) {
 			region.destroy();
 		}
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
@@ -17,6 +18,9 @@ import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.sql.results.caching.internal.ColumnarQueryResults;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
@@ -32,12 +36,15 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 
 	private final QueryResultsRegion cacheRegion;
 	private final TimestampsCache timestampsCache;
+	private final @Nullable AsyncQueryResultsCachePuts asyncPuts;
 
 	QueryResultsCacheImpl(
 			QueryResultsRegion cacheRegion,
-			TimestampsCache timestampsCache) {
+			TimestampsCache timestampsCache,
+			@Nullable AsyncQueryResultsCachePuts asyncPuts) {
 		this.cacheRegion = cacheRegion;
 		this.timestampsCache = timestampsCache;
+		this.asyncPuts = asyncPuts;
 	}
 
 	@Override
@@ -56,16 +63,27 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 					session.getCacheTransactionSynchronization().getCachingTimestamp() );
 		}
 
-		final CacheItem cacheItem = new CacheItem(
-				session.getCacheTransactionSynchronization().getCachingTimestamp(),
-				deepCopy( results )
-		);
+		// the timestamp must be obtained now, even if the put happens later,
+		// so that later invalidations are taken into account when reading
+		final long timestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+		final CacheItem cacheItem = new CacheItem( timestamp, deepCopy( results ) );
 
 		final EventManager eventManager = session.getEventManager();
 		final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
 		try {
 			session.getEventListenerManager().cachePutStart();
-			cacheRegion.putIntoCache( key, cacheItem, session );
+			if ( asyncPuts != null && cacheRegion.supportsPutWithoutSession() ) {
+				if ( !asyncPuts.schedule( cacheRegion, key, cacheItem, timestamp ) ) {
+					if ( L2CACHE_LOGGER.isDebugEnabled() ) {
+						L2CACHE_LOGGER.debugf( "Too many pending puts, not caching query results in region: %s",
+								cacheRegion.getName() );
+					}
+					return false;
+				}
+			}
+			else {
+				cacheRegion.putIntoCache( key, cacheItem, session );
+			}
 		}
 		finally {
 			eventManager.completeCachePutEvent(
@@ -82,7 +100,8 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 	}
 
 	private static <T> List<T> deepCopy(List<T> results) {
-		return new ArrayList<>( results );
+		// columnar results are immutable, and copying them would turn them back into rows
+		return results instanceof ColumnarQueryResults ? results : new ArrayList<>( results );
 	}
 
 	@Override
@@ -156,7 +175,13 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
 		try {
 			session.getEventListenerManager().cacheGetStart();
-			cachedItem = (CacheItem) cacheRegion.getFromCache( key, session );
+			if ( asyncPuts != null ) {
+				// results waiting to be put are served as if they were in the region already
+				cachedItem = asyncPuts.getPending( cacheRegion, key );
+			}
+			if ( cachedItem == null ) {
+				cachedItem = (CacheItem) cacheRegion.getFromCache( key, session );
+			}
 		}
 		finally {
 			eventManager.completeCacheGetEvent(
@@ -170,6 +195,16 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return cachedItem;
 	}
 
+	@Override
+	public void clear() throws CacheException {
+		if ( asyncPuts != null ) {
+			asyncPuts.clear( cacheRegion );
+		}
+		else {
+			cacheRegion.clear();
+		}
+	}
+
 	@Override
 	public String toString() {
 		return "QueryResultsCache(" + cacheRegion.getName() + ')';
@@ -4,6 +4,7 @@
  */
 package org.hibernate.cache.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -25,4 +26,27 @@ public interface DirectAccessRegion extends Region {
 	 * Put a value by key
 	 */
 	void putIntoCache(Object key, Object value, SharedSessionContractImplementor session);
+
+	/**
+	 * Whether {@link #putIntoCacheWithoutSession} is supported.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean supportsPutWithoutSession() {
+		return false;
+	}
+
+	/**
+	 * Put a value by key outside the scope of a session, for example
+	 * from a background thread.
+	 *
+	 * @throws UnsupportedOperationException if not {@linkplain #supportsPutWithoutSession supported}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void putIntoCacheWithoutSession(Object key, Object value) {
+		throw new UnsupportedOperationException( "Region does not support puts without a session: " + getName() );
+	}
 }
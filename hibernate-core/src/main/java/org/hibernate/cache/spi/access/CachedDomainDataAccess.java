@@ -4,8 +4,15 @@
  */
 package org.hibernate.cache.spi.access;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
 import jakarta.persistence.Cache;
 
+import org.hibernate.Incubating;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -94,6 +101,94 @@ public interface CachedDomainDataAccess {
 			Object version,
 			boolean minimalPutOverride);
 
+	/**
+	 * Attempt to retrieve several objects from the cache, ideally in a single
+	 * round trip to the underlying cache. Mainly used in attempting to resolve
+	 * a batch of entities/collections from the second level cache.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return the cached data which was found, keyed by cache key
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implNote the method default is to call {@link #get} for each key
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		final Map<Object, Object> cached = new HashMap<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = get( session, key );
+			if ( value != null ) {
+				cached.put( key, value );
+			}
+		}
+		return cached;
+	}
+
+	/**
+	 * Determine which of the given keys have data in the cache, ideally in
+	 * a single round trip to the underlying cache. Items which could not be
+	 * {@linkplain #get read} by the given session, for example because they
+	 * are locked, are not considered to be in the cache.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to check.
+	 *
+	 * @return the given keys which have data in the cache
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implNote the method default is to call {@link #contains} for each key
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default Set<Object> getContainedKeys(SharedSessionContractImplementor session, Collection<?> keys) {
+		final Set<Object> contained = new HashSet<>();
+		for ( Object key : keys ) {
+			if ( contains( key ) ) {
+				contained.add( key );
+			}
+		}
+		return contained;
+	}
+
+	/**
+	 * Attempt to cache several objects, after loading them from the database,
+	 * ideally in a single round trip to the underlying cache.
+	 *
+	 * @param session Current session.
+	 * @param keys The item keys
+	 * @param values The items, in the order of the keys
+	 * @param versions The item version numbers, in the order of the keys
+	 *
+	 * @return the number of objects which were successfully cached
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implNote the method default is to call {@link #putFromLoad} for each item
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default int putAllFromLoad(
+			SharedSessionContractImplementor session,
+			Object[] keys,
+			Object[] values,
+			Object[] versions) {
+		int count = 0;
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( putFromLoad( session, keys[i], values[i], versions[i] ) ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
 	/**
 	 * We are going to attempt to update/delete the keyed object. This
 	 * method is used by "asynchronous" concurrency strategies.
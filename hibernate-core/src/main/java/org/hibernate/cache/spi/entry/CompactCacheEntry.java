@@ -0,0 +1,446 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.Incubating;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.Type;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Compact binary CacheEntry format for entities. Used to store the entry into the second-level
+ * cache as a {@code byte[]}, which is much smaller than the serialized form of a
+ * {@link StandardCacheEntryImpl} when the cache provider serializes its entries.
+ * <p>
+ * The entity subclass is identified by its {@linkplain EntityMappingType#getSubclassId() id}
+ * within the hierarchy instead of by name, a bitmap records which attributes are null, and
+ * values of common basic types are written in a primitive encoding, falling back to Java
+ * serialization for any other value. Each entry carries a hash of the subclass mapping, and
+ * an entry written for a different version of the mapping, for example, by another node of
+ * a cluster during a rolling upgrade, is {@linkplain #destructure destructured} to {@code null},
+ * and treated as a cache miss.
+ *
+ * @see org.hibernate.cfg.CacheSettings#USE_COMPACT_CACHE
+ *
+ * @since 7.0
+ */
+@Incubating
+public class CompactCacheEntry implements CacheEntryStructure {
+	private static final Logger log = Logger.getLogger( CompactCacheEntry.class );
+
+	private static final byte FORMAT_VERSION = 1;
+
+	private static final byte NULL = 0;
+	private static final byte UNFETCHED = 1;
+	private static final byte UNKNOWN = 2;
+	private static final byte TRUE = 3;
+	private static final byte FALSE = 4;
+	private static final byte INTEGER = 5;
+	private static final byte LONG = 6;
+	private static final byte SHORT = 7;
+	private static final byte BYTE = 8;
+	private static final byte CHARACTER = 9;
+	private static final byte FLOAT = 10;
+	private static final byte DOUBLE = 11;
+	private static final byte STRING = 12;
+	private static final byte BYTES = 13;
+	private static final byte BIG_DECIMAL = 14;
+	private static final byte BIG_INTEGER = 15;
+	private static final byte UUID_VALUE = 16;
+	private static final byte LOCAL_DATE = 17;
+	private static final byte LOCAL_TIME = 18;
+	private static final byte LOCAL_DATE_TIME = 19;
+	private static final byte INSTANT = 20;
+	private static final byte DATE = 21;
+	private static final byte SQL_DATE = 22;
+	private static final byte SQL_TIME = 23;
+	private static final byte SQL_TIMESTAMP = 24;
+	private static final byte ENUM = 25;
+	private static final byte ARRAY = 26;
+	private static final byte SERIALIZED = 27;
+
+	private final EntityPersister persister;
+	private volatile Hierarchy hierarchy;
+
+	/**
+	 * Constructs a CompactCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public CompactCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final Schema schema = hierarchy().bySubclass.get( entry.getSubclass() );
+		final Serializable[] state = entry.getDisassembledState();
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 16 + state.length * 8 );
+		try ( DataOutputStream output = new DataOutputStream( bytes ) ) {
+			output.writeByte( FORMAT_VERSION );
+			output.writeInt( schema.hash );
+			writeVarInt( output, schema.subclassId );
+			writeValue( output, entry.getVersion(), null );
+			final byte[] nulls = new byte[( state.length + 7 ) >>> 3];
+			for ( int i = 0; i < state.length; i++ ) {
+				if ( state[i] == null ) {
+					nulls[i >>> 3] |= (byte) ( 1 << ( i & 7 ) );
+				}
+			}
+			output.write( nulls );
+			for ( int i = 0; i < state.length; i++ ) {
+				if ( state[i] != null ) {
+					writeValue( output, state[i], schema.enumTypes[i] );
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new CacheException( "Unable to encode cache entry for entity " + entry.getSubclass(), e );
+		}
+		return bytes.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		if ( !( structured instanceof byte[] bytes ) ) {
+			// an entry cached before compact entries were enabled
+			return structured;
+		}
+		try ( DataInputStream input = new DataInputStream( new ByteArrayInputStream( bytes ) ) ) {
+			final byte formatVersion = input.readByte();
+			final int hash = input.readInt();
+			final Schema schema = hierarchy().bySubclassId.get( readVarInt( input ) );
+			if ( formatVersion != FORMAT_VERSION || schema == null || schema.hash != hash ) {
+				log.debugf( "Ignoring cache entry written for a different mapping of entity %s", persister.getEntityName() );
+				return null;
+			}
+			final Object version = readValue( input, null );
+			final Serializable[] state = new Serializable[schema.enumTypes.length];
+			final byte[] nulls = new byte[( state.length + 7 ) >>> 3];
+			input.readFully( nulls );
+			for ( int i = 0; i < state.length; i++ ) {
+				if ( ( nulls[i >>> 3] & ( 1 << ( i & 7 ) ) ) == 0 ) {
+					state[i] = (Serializable) readValue( input, schema.enumTypes[i] );
+				}
+			}
+			return new StandardCacheEntryImpl( state, schema.entityName, version );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Unable to decode cache entry for entity " + persister.getEntityName(), e );
+		}
+	}
+
+	private Hierarchy hierarchy() {
+		Hierarchy result = hierarchy;
+		if ( result == null ) {
+			// the mapping model is not linked yet when the persister is created
+			result = new Hierarchy( persister.getRootEntityDescriptor() );
+			hierarchy = result;
+		}
+		return result;
+	}
+
+	private static void writeValue(DataOutputStream output, Object value, Class<?> enumType) throws IOException {
+		if ( value == null ) {
+			output.writeByte( NULL );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			output.writeByte( UNFETCHED );
+		}
+		else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+			output.writeByte( UNKNOWN );
+		}
+		else if ( value instanceof Boolean bool ) {
+			output.writeByte( bool ? TRUE : FALSE );
+		}
+		else if ( value instanceof Integer integer ) {
+			output.writeByte( INTEGER );
+			writeVarLong( output, integer );
+		}
+		else if ( value instanceof Long longValue ) {
+			output.writeByte( LONG );
+			writeVarLong( output, longValue );
+		}
+		else if ( value instanceof Short shortValue ) {
+			output.writeByte( SHORT );
+			output.writeShort( shortValue );
+		}
+		else if ( value instanceof Byte byteValue ) {
+			output.writeByte( BYTE );
+			output.writeByte( byteValue );
+		}
+		else if ( value instanceof Character character ) {
+			output.writeByte( CHARACTER );
+			output.writeChar( character );
+		}
+		else if ( value instanceof Float floatValue ) {
+			output.writeByte( FLOAT );
+			output.writeFloat( floatValue );
+		}
+		else if ( value instanceof Double doubleValue ) {
+			output.writeByte( DOUBLE );
+			output.writeDouble( doubleValue );
+		}
+		else if ( value instanceof String string ) {
+			output.writeByte( STRING );
+			writeBytes( output, string.getBytes( StandardCharsets.UTF_8 ) );
+		}
+		else if ( value instanceof byte[] byteArray ) {
+			output.writeByte( BYTES );
+			writeBytes( output, byteArray );
+		}
+		else if ( value.getClass() == BigDecimal.class ) {
+			final BigDecimal decimal = (BigDecimal) value;
+			output.writeByte( BIG_DECIMAL );
+			writeVarLong( output, decimal.scale() );
+			writeBytes( output, decimal.unscaledValue().toByteArray() );
+		}
+		else if ( value.getClass() == BigInteger.class ) {
+			output.writeByte( BIG_INTEGER );
+			writeBytes( output, ( (BigInteger) value ).toByteArray() );
+		}
+		else if ( value instanceof UUID uuid ) {
+			output.writeByte( UUID_VALUE );
+			output.writeLong( uuid.getMostSignificantBits() );
+			output.writeLong( uuid.getLeastSignificantBits() );
+		}
+		else if ( value instanceof LocalDate date ) {
+			output.writeByte( LOCAL_DATE );
+			writeVarLong( output, date.toEpochDay() );
+		}
+		else if ( value instanceof LocalTime time ) {
+			output.writeByte( LOCAL_TIME );
+			writeVarLong( output, time.toNanoOfDay() );
+		}
+		else if ( value instanceof LocalDateTime dateTime ) {
+			output.writeByte( LOCAL_DATE_TIME );
+			writeVarLong( output, dateTime.toLocalDate().toEpochDay() );
+			writeVarLong( output, dateTime.toLocalTime().toNanoOfDay() );
+		}
+		else if ( value instanceof Instant instant ) {
+			output.writeByte( INSTANT );
+			writeVarLong( output, instant.getEpochSecond() );
+			writeVarLong( output, instant.getNano() );
+		}
+		else if ( value.getClass() == Date.class ) {
+			output.writeByte( DATE );
+			writeVarLong( output, ( (Date) value ).getTime() );
+		}
+		else if ( value.getClass() == java.sql.Date.class ) {
+			output.writeByte( SQL_DATE );
+			writeVarLong( output, ( (Date) value ).getTime() );
+		}
+		else if ( value.getClass() == java.sql.Time.class ) {
+			output.writeByte( SQL_TIME );
+			writeVarLong( output, ( (Date) value ).getTime() );
+		}
+		else if ( value.getClass() == java.sql.Timestamp.class ) {
+			final java.sql.Timestamp timestamp = (java.sql.Timestamp) value;
+			output.writeByte( SQL_TIMESTAMP );
+			writeVarLong( output, timestamp.getTime() );
+			writeVarLong( output, timestamp.getNanos() );
+		}
+		else if ( enumType != null && value instanceof Enum<?> enumValue && enumValue.getDeclaringClass() == enumType ) {
+			output.writeByte( ENUM );
+			writeVarInt( output, enumValue.ordinal() );
+		}
+		else if ( value.getClass() == Serializable[].class ) {
+			// the disassembled state of an embeddable
+			final Serializable[] array = (Serializable[]) value;
+			output.writeByte( ARRAY );
+			writeVarInt( output, array.length );
+			for ( Serializable element : array ) {
+				writeValue( output, element, null );
+			}
+		}
+		else {
+			output.writeByte( SERIALIZED );
+			writeBytes( output, SerializationHelper.serialize( (Serializable) value ) );
+		}
+	}
+
+	private static Object readValue(DataInputStream input, Class<?> enumType) throws IOException {
+		final byte tag = input.readByte();
+		return switch ( tag ) {
+			case NULL -> null;
+			case UNFETCHED -> LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case UNKNOWN -> PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			case TRUE -> Boolean.TRUE;
+			case FALSE -> Boolean.FALSE;
+			case INTEGER -> (int) readVarLong( input );
+			case LONG -> readVarLong( input );
+			case SHORT -> input.readShort();
+			case BYTE -> input.readByte();
+			case CHARACTER -> input.readChar();
+			case FLOAT -> input.readFloat();
+			case DOUBLE -> input.readDouble();
+			case STRING -> new String( readBytes( input ), StandardCharsets.UTF_8 );
+			case BYTES -> readBytes( input );
+			case BIG_DECIMAL -> {
+				final int scale = (int) readVarLong( input );
+				yield new BigDecimal( new BigInteger( readBytes( input ) ), scale );
+			}
+			case BIG_INTEGER -> new BigInteger( readBytes( input ) );
+			case UUID_VALUE -> new UUID( input.readLong(), input.readLong() );
+			case LOCAL_DATE -> LocalDate.ofEpochDay( readVarLong( input ) );
+			case LOCAL_TIME -> LocalTime.ofNanoOfDay( readVarLong( input ) );
+			case LOCAL_DATE_TIME -> LocalDateTime.of(
+					LocalDate.ofEpochDay( readVarLong( input ) ),
+					LocalTime.ofNanoOfDay( readVarLong( input ) )
+			);
+			case INSTANT -> Instant.ofEpochSecond( readVarLong( input ), readVarLong( input ) );
+			case DATE -> new Date( readVarLong( input ) );
+			case SQL_DATE -> new java.sql.Date( readVarLong( input ) );
+			case SQL_TIME -> new java.sql.Time( readVarLong( input ) );
+			case SQL_TIMESTAMP -> {
+				final java.sql.Timestamp timestamp = new java.sql.Timestamp( readVarLong( input ) );
+				timestamp.setNanos( (int) readVarLong( input ) );
+				yield timestamp;
+			}
+			case ENUM -> enumType.getEnumConstants()[readVarInt( input )];
+			case ARRAY -> {
+				final Serializable[] array = new Serializable[readVarInt( input )];
+				for ( int i = 0; i < array.length; i++ ) {
+					array[i] = (Serializable) readValue( input, null );
+				}
+				yield array;
+			}
+			case SERIALIZED -> SerializationHelper.deserialize( readBytes( input ) );
+			default -> throw new CacheException( "Unknown value tag in compact cache entry: " + tag );
+		};
+	}
+
+	private static void writeBytes(DataOutputStream output, byte[] bytes) throws IOException {
+		writeVarInt( output, bytes.length );
+		output.write( bytes );
+	}
+
+	private static byte[] readBytes(DataInputStream input) throws IOException {
+		final byte[] bytes = new byte[readVarInt( input )];
+		input.readFully( bytes );
+		return bytes;
+	}
+
+	private static void writeVarInt(DataOutputStream output, int value) throws IOException {
+		while ( ( value & ~0x7F ) != 0 ) {
+			output.writeByte( ( value & 0x7F ) | 0x80 );
+			value >>>= 7;
+		}
+		output.writeByte( value );
+	}
+
+	private static int readVarInt(DataInputStream input) throws IOException {
+		int value = 0;
+		for ( int shift = 0; ; shift += 7 ) {
+			final byte b = input.readByte();
+			value |= ( b & 0x7F ) << shift;
+			if ( b >= 0 ) {
+				return value;
+			}
+		}
+	}
+
+	/**
+	 * Writes a zigzag-encoded variable-length long, so that small negative values are short too.
+	 */
+	private static void writeVarLong(DataOutputStream output, long value) throws IOException {
+		long zigzag = ( value << 1 ) ^ ( value >> 63 );
+		while ( ( zigzag & ~0x7FL ) != 0 ) {
+			output.writeByte( (int) ( ( zigzag & 0x7F ) | 0x80 ) );
+			zigzag >>>= 7;
+		}
+		output.writeByte( (int) zigzag );
+	}
+
+	private static long readVarLong(DataInputStream input) throws IOException {
+		long zigzag = 0;
+		for ( int shift = 0; ; shift += 7 ) {
+			final byte b = input.readByte();
+			zigzag |= (long) ( b & 0x7F ) << shift;
+			if ( b >= 0 ) {
+				return ( zigzag >>> 1 ) ^ -( zigzag & 1 );
+			}
+		}
+	}
+
+	/**
+	 * The schemas of the entity classes of a hierarchy, by name and by subclass id.
+	 */
+	private static final class Hierarchy {
+		private final Map<String, Schema> bySubclass = new HashMap<>();
+		private final Map<Integer, Schema> bySubclassId = new HashMap<>();
+
+		private Hierarchy(EntityMappingType root) {
+			add( new Schema( root.getEntityPersister() ) );
+			for ( EntityMappingType subMappingType : root.getSubMappingTypes() ) {
+				add( new Schema( subMappingType.getEntityPersister() ) );
+			}
+		}
+
+		private void add(Schema schema) {
+			bySubclass.put( schema.entityName, schema );
+			bySubclassId.put( schema.subclassId, schema );
+		}
+	}
+
+	/**
+	 * The layout of the cached state of an entity class.
+	 */
+	private static final class Schema {
+		private final String entityName;
+		private final int subclassId;
+		private final int hash;
+		private final Class<?>[] enumTypes;
+
+		private Schema(EntityPersister persister) {
+			entityName = persister.getEntityName();
+			subclassId = persister.getSubclassId();
+			final String[] names = persister.getPropertyNames();
+			final Type[] types = persister.getPropertyTypes();
+			enumTypes = new Class<?>[names.length];
+			int hash = entityName.hashCode();
+			for ( int i = 0; i < names.length; i++ ) {
+				final Class<?> returnedClass = types[i].getReturnedClass();
+				hash = 31 * hash + names[i].hashCode();
+				hash = 31 * hash + returnedClass.getName().hashCode();
+				hash = 31 * hash + ( persister.getPropertyLaziness()[i] ? 1 : 0 );
+				if ( returnedClass.isEnum() ) {
+					// values are stored by ordinal
+					for ( Object constant : returnedClass.getEnumConstants() ) {
+						hash = 31 * hash + ( (Enum<?>) constant ).name().hashCode();
+					}
+					enumTypes[i] = returnedClass;
+				}
+			}
+			this.hash = hash;
+		}
+	}
+}
@@ -4,6 +4,11 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
 import org.hibernate.Internal;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
@@ -73,6 +78,30 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 		return putFromLoad( session, key, value, version );
 	}
 
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		return getStorageAccess().getAllFromCache( keys, session );
+	}
+
+	@Override
+	public Set<Object> getContainedKeys(SharedSessionContractImplementor session, Collection<?> keys) {
+		return getStorageAccess().getContainedKeys( keys );
+	}
+
+	@Override
+	public int putAllFromLoad(
+			SharedSessionContractImplementor session,
+			Object[] keys,
+			Object[] values,
+			Object[] versions) {
+		final Map<Object, Object> items = new HashMap<>( keys.length );
+		for ( int i = 0; i < keys.length; i++ ) {
+			items.put( keys[i], values[i] );
+		}
+		getStorageAccess().putAllFromLoad( items, session );
+		return keys.length;
+	}
+
 	private static final SoftLock REGION_LOCK = new SoftLock() {
 	};
 
@@ -5,12 +5,22 @@
 package org.hibernate.cache.spi.support;
 
 import java.io.Serializable;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntFunction;
 
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.RegionFactory;
@@ -22,21 +32,33 @@ import org.jboss.logging.Logger;
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
 /**
+ * Base support for the {@link org.hibernate.cache.spi.access.AccessType#READ_WRITE read-write}
+ * access strategy.
+ * <p>
+ * Access to a cached item is guarded by a {@link ReentrantReadWriteLock} chosen by the hash of
+ * its key among a fixed number of lock stripes, so that operations on different keys of the
+ * same region do not contend with each other. Bulk operations acquire each stripe they need
+ * once, in ascending stripe order.
+ *
  * @author Steve Ebersole
  */
 public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAccess {
 	private static final Logger log = Logger.getLogger( AbstractReadWriteAccess.class );
 
+	private static final int LOCK_STRIPES =
+			Integer.highestOneBit( Math.min( 256, Math.max( 16, Runtime.getRuntime().availableProcessors() * 4 ) ) );
+
 	private final UUID uuid = UUID.randomUUID();
 	private final AtomicLong nextLockId = new AtomicLong();
-	private final ReentrantReadWriteLock reentrantReadWriteLock = new ReentrantReadWriteLock();
-	private final Lock readLock = reentrantReadWriteLock.readLock();
-	private final Lock writeLock = reentrantReadWriteLock.writeLock();
+	private final ReentrantReadWriteLock[] lockStripes = new ReentrantReadWriteLock[LOCK_STRIPES];
 
 	protected AbstractReadWriteAccess(
 			DomainDataRegion domainDataRegion,
 			DomainDataStorageAccess storageAccess) {
 		super( domainDataRegion, storageAccess );
+		for ( int i = 0; i < lockStripes.length; i++ ) {
+			lockStripes[i] = new ReentrantReadWriteLock();
+		}
 	}
 
 	protected abstract Comparator getVersionComparator();
@@ -49,12 +71,65 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		return nextLockId.getAndIncrement();
 	}
 
+	/**
+	 * The read lock guarding the cached item with the given key.
+	 */
+	protected Lock readLock(Object key) {
+		return lockStripes[stripe( key )].readLock();
+	}
+
+	/**
+	 * The write lock guarding the cached item with the given key.
+	 */
+	protected Lock writeLock(Object key) {
+		return lockStripes[stripe( key )].writeLock();
+	}
+
+	/**
+	 * A read lock over every key of the region.
+	 *
+	 * @deprecated Use {@link #readLock(Object)}, which only blocks writes of the given key
+	 */
+	@Deprecated(since = "7.0")
 	protected Lock readLock() {
-		return readLock;
+		return stripedLock( allStripes(), i -> lockStripes[i].readLock() );
 	}
 
+	/**
+	 * A write lock over every key of the region.
+	 *
+	 * @deprecated Use {@link #writeLock(Object)}, which only blocks access to the given key
+	 */
+	@Deprecated(since = "7.0")
 	protected Lock writeLock() {
-		return writeLock;
+		return stripedLock( allStripes(), i -> lockStripes[i].writeLock() );
+	}
+
+	private int stripe(Object key) {
+		final int hash = key.hashCode();
+		return ( hash ^ ( hash >>> 16 ) ) & ( lockStripes.length - 1 );
+	}
+
+	private BitSet allStripes() {
+		final BitSet stripes = new BitSet( lockStripes.length );
+		stripes.set( 0, lockStripes.length );
+		return stripes;
+	}
+
+	private BitSet stripes(Collection<?> keys) {
+		final BitSet stripes = new BitSet( lockStripes.length );
+		for ( Object key : keys ) {
+			stripes.set( stripe( key ) );
+		}
+		return stripes;
+	}
+
+	private static Lock stripedLock(BitSet stripes, IntFunction<Lock> lockForStripe) {
+		final Lock[] locks = new Lock[stripes.cardinality()];
+		for ( int i = stripes.nextSetBit( 0 ), j = 0; i >= 0; i = stripes.nextSetBit( i + 1 ) ) {
+			locks[j++] = lockForStripe.apply( i );
+		}
+		return locks.length == 1 ? locks[0] : new StripedLock( locks );
 	}
 
 	/**
@@ -67,8 +142,9 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		if ( debugEnabled ) {
 			log.debugf( "Getting cached data from region [`%s` (%s)] by key [%s]", getRegion().getName(), getAccessType(), key );
 		}
+		final Lock readLock = readLock( key );
+		readLock.lock();
 		try {
-			readLock.lock();
 			final Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			if ( item == null ) {
@@ -103,12 +179,13 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			Object key,
 			Object value,
 			Object version) {
+		final boolean debugEnabled = log.isDebugEnabled();
+		if ( debugEnabled ) {
+			log.debugf( "Caching data from load [region=`%s` (%s)] : key[%s] -> value[%s]", getRegion().getName(), getAccessType(), key, value );
+		}
+		final Lock writeLock = writeLock( key );
+		writeLock.lock();
 		try {
-			final boolean debugEnabled = log.isDebugEnabled();
-			if ( debugEnabled ) {
-				log.debugf( "Caching data from load [region=`%s` (%s)] : key[%s] -> value[%s]", getRegion().getName(), getAccessType(), key, value );
-			}
-			writeLock.lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			boolean writable = item == null || item.isWriteable( session.getCacheTransactionSynchronization().getCachingTimestamp(), version, getVersionComparator() );
@@ -138,6 +215,110 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 	}
 
+	/**
+	 * Retrieves several items under a single acquisition of the read locks
+	 * of their stripes, returning only those which are readable.
+	 */
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		final boolean debugEnabled = log.isDebugEnabled();
+		if ( debugEnabled ) {
+			log.debugf( "Getting cached data from region [`%s` (%s)] by keys %s", getRegion().getName(), getAccessType(), keys );
+		}
+		final Lock readLock = stripedLock( stripes( keys ), i -> lockStripes[i].readLock() );
+		readLock.lock();
+		try {
+			final Map<Object, Object> items = getStorageAccess().getAllFromCache( keys, session );
+			final long timestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+			final Map<Object, Object> values = new HashMap<>( items.size() );
+			items.forEach( (key, item) -> {
+				final Lockable lockable = (Lockable) item;
+				if ( lockable.isReadable( timestamp ) ) {
+					values.put( key, lockable.getValue() );
+				}
+				else if ( debugEnabled ) {
+					log.debugf( "Cache hit, but item is unreadable/invalid : region = `%s`, key = `%s`", getRegion().getName(), key );
+				}
+			} );
+			if ( debugEnabled ) {
+				log.debugf( "Cache hits : region = `%s`, %s of %s keys", getRegion().getName(), values.size(), keys.size() );
+			}
+			return values;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * Determines which of several items are readable under a single acquisition
+	 * of the read locks of their stripes, so that locked items are not counted.
+	 */
+	@Override
+	public Set<Object> getContainedKeys(SharedSessionContractImplementor session, Collection<?> keys) {
+		final Lock readLock = stripedLock( stripes( keys ), i -> lockStripes[i].readLock() );
+		readLock.lock();
+		try {
+			final Map<Object, Object> items = getStorageAccess().getAllFromCache( keys, session );
+			final long timestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+			final Set<Object> contained = new HashSet<>( items.size() );
+			items.forEach( (key, item) -> {
+				if ( ( (Lockable) item ).isReadable( timestamp ) ) {
+					contained.add( key );
+				}
+			} );
+			return contained;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * Caches several items under a single acquisition of the write locks
+	 * of their stripes, skipping those which are not writable.
+	 */
+	@Override
+	public int putAllFromLoad(
+			SharedSessionContractImplementor session,
+			Object[] keys,
+			Object[] values,
+			Object[] versions) {
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Caching data from load [region=`%s` (%s)] : %s items", getRegion().getName(), getAccessType(), keys.length );
+		}
+		final List<Object> keyList = List.of( keys );
+		final Lock writeLock = stripedLock( stripes( keyList ), i -> lockStripes[i].writeLock() );
+		writeLock.lock();
+		try {
+			final Map<Object, Object> existing = getStorageAccess().getAllFromCache( keyList, session );
+			final long timestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+			final Map<Object, Object> items = new HashMap<>( keys.length );
+			for ( int i = 0; i < keys.length; i++ ) {
+				final Lockable item = (Lockable) existing.get( keys[i] );
+				if ( item == null || item.isWriteable( timestamp, versions[i], getVersionComparator() ) ) {
+					items.put( keys[i], new Item( values[i], versions[i], timestamp ) );
+				}
+				else if ( log.isDebugEnabled() ) {
+					log.debugf(
+							"Cache put-from-load [region=`%s` (%s), key=`%s`, value=`%s`] failed due to being non-writable",
+							getRegion().getName(),
+							getAccessType(),
+							keys[i],
+							values[i]
+					);
+				}
+			}
+			if ( !items.isEmpty() ) {
+				getStorageAccess().putAllIntoCache( items, session );
+			}
+			return items.size();
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
 	protected abstract AccessedDataClassification getAccessedDataClassification();
 
 	@Override
@@ -152,9 +333,9 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 
 	@Override
 	public SoftLock lockItem(SharedSessionContractImplementor session, Object key, Object version) {
+		final Lock writeLock = writeLock( key );
+		writeLock.lock();
 		try {
-			writeLock.lock();
-
 			long timeout = getRegion().getRegionFactory().nextTimestamp() + getRegion().getRegionFactory().getTimeout();
 			if ( log.isDebugEnabled() ) {
 				log.debugf( "Locking cache item [region=`%s` (%s)] : `%s` (timeout=%s, version=%s)", getRegion().getName(), getAccessType(), key, timeout, version );
@@ -174,16 +355,17 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 
 	@Override
 	public void unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
+		if ( log.isDebugEnabled() ) {
+			log.debugf(
+					"Unlocking cache item [region=`%s` (%s)] : %s",
+					getRegion().getName(),
+					getAccessType(),
+					key
+			);
+		}
+		final Lock writeLock = writeLock( key );
+		writeLock.lock();
 		try {
-			if ( log.isDebugEnabled() ) {
-				log.debugf(
-						"Unlocking cache item [region=`%s` (%s)] : %s",
-						getRegion().getName(),
-						getAccessType(),
-						key
-				);
-			}
-			writeLock.lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			if ( ( item != null ) && item.isUnlockable( lock ) ) {
@@ -232,6 +414,86 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		// A no-op
 	}
 
+	/**
+	 * A lock over several stripes, acquired in ascending stripe order, so
+	 * that concurrent bulk operations cannot deadlock each other.
+	 */
+	private static final class StripedLock implements Lock {
+		private final Lock[] locks;
+
+		private StripedLock(Lock[] locks) {
+			this.locks = locks;
+		}
+
+		@Override
+		public void lock() {
+			for ( Lock lock : locks ) {
+				lock.lock();
+			}
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			int acquired = 0;
+			try {
+				for ( ; acquired < locks.length; acquired++ ) {
+					locks[acquired].lockInterruptibly();
+				}
+			}
+			finally {
+				if ( acquired < locks.length ) {
+					unlock( acquired );
+				}
+			}
+		}
+
+		@Override
+		public boolean tryLock() {
+			for ( int i = 0; i < locks.length; i++ ) {
+				if ( !locks[i].tryLock() ) {
+					unlock( i );
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			final long deadline = System.nanoTime() + unit.toNanos( time );
+			int acquired = 0;
+			try {
+				for ( ; acquired < locks.length; acquired++ ) {
+					if ( !locks[acquired].tryLock( deadline - System.nanoTime(), TimeUnit.NANOSECONDS ) ) {
+						return false;
+					}
+				}
+				return true;
+			}
+			finally {
+				if ( acquired < locks.length ) {
+					unlock( acquired );
+				}
+			}
+		}
+
+		@Override
+		public void unlock() {
+			unlock( locks.length );
+		}
+
+		private void unlock(int count) {
+			for ( int i = count - 1; i >= 0; i-- ) {
+				locks[i].unlock();
+			}
+		}
+
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException( "Conditions are not supported by striped cache locks" );
+		}
+	}
+
 	/**
 	 * Interface type implemented by all wrapper objects in the cache.
 	 */
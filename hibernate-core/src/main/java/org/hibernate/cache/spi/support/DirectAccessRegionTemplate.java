@@ -42,6 +42,16 @@ public abstract class DirectAccessRegionTemplate extends AbstractRegion implemen
 		getStorageAccess().putIntoCache( key, value, session );
 	}
 
+	@Override
+	public boolean supportsPutWithoutSession() {
+		return getStorageAccess().supportsPutWithoutSession();
+	}
+
+	@Override
+	public void putIntoCacheWithoutSession(Object key, Object value) {
+		getStorageAccess().putIntoCacheWithoutSession( key, value );
+	}
+
 	@Override
 	public void clear() {
 		getStorageAccess().evictData();
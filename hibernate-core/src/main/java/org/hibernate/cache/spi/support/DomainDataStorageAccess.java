@@ -4,6 +4,13 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -22,4 +29,73 @@ public interface DomainDataStorageAccess extends StorageAccess {
 	default void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
 		putIntoCache( key, value, session );
 	}
+
+	/**
+	 * Get several items from the cache, ideally in a single round trip
+	 * to the underlying cache.
+	 *
+	 * @return the items which were found in the cache, keyed by cache key
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for each key
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = new HashMap<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object item = getFromCache( key, session );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Put several items into the cache, ideally in a single round trip
+	 * to the underlying cache.
+	 *
+	 * @implNote the method default is to call {@link #putIntoCache} for each item
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void putAllIntoCache(Map<?, ?> items, SharedSessionContractImplementor session) {
+		items.forEach( (key, value) -> putIntoCache( key, value, session ) );
+	}
+
+	/**
+	 * Specialized form of putting several items into the cache
+	 * in cases where the put is coming from a load (read) from
+	 * the database
+	 *
+	 * @implNote the method default is to call {@link #putAllIntoCache}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void putAllFromLoad(Map<?, ?> items, SharedSessionContractImplementor session) {
+		putAllIntoCache( items, session );
+	}
+
+	/**
+	 * Determine which of the given keys have an item in the cache, ideally in
+	 * a single round trip to the underlying cache, and without retrieving the
+	 * items themselves.
+	 *
+	 * @implNote the method default is to call {@link #contains} for each key
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default Set<Object> getContainedKeys(Collection<?> keys) {
+		final Set<Object> contained = new HashSet<>();
+		for ( Object key : keys ) {
+			if ( contains( key ) ) {
+				contained.add( key );
+			}
+		}
+		return contained;
+	}
 }
@@ -5,6 +5,7 @@
 package org.hibernate.cache.spi.support;
 
 import java.util.Comparator;
+import java.util.concurrent.locks.Lock;
 
 import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
 import org.hibernate.cache.spi.CacheKeysFactory;
@@ -78,8 +79,9 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 
 	@Override
 	public boolean afterInsert(SharedSessionContractImplementor session, Object key, Object value, Object version) {
+		final Lock writeLock = writeLock( key );
+		writeLock.lock();
 		try {
-			writeLock().lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 			if ( item == null ) {
 				getStorageAccess().putIntoCache(
@@ -94,7 +96,7 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 			}
 		}
 		finally {
-			writeLock().unlock();
+			writeLock.unlock();
 		}
 	}
 
@@ -116,8 +118,9 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 			Object currentVersion,
 			Object previousVersion,
 			SoftLock lock) {
+		final Lock writeLock = writeLock( key );
+		writeLock.lock();
 		try {
-			writeLock().lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			if ( item != null && item.isUnlockable( lock ) ) {
@@ -141,7 +144,7 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 			}
 		}
 		finally {
-			writeLock().unlock();
+			writeLock.unlock();
 		}
 	}
 
@@ -5,6 +5,7 @@
 package org.hibernate.cache.spi.support;
 
 import java.util.Comparator;
+import java.util.concurrent.locks.Lock;
 
 import org.hibernate.cache.cfg.spi.NaturalIdDataCachingConfig;
 import org.hibernate.cache.spi.CacheKeysFactory;
@@ -69,8 +70,9 @@ public class NaturalIdReadWriteAccess extends AbstractReadWriteAccess implements
 
 	@Override
 	public boolean afterInsert(SharedSessionContractImplementor session, Object key, Object value) {
+		final Lock writeLock = writeLock( key );
+		writeLock.lock();
 		try {
-			writeLock().lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 			if ( item == null ) {
 				getStorageAccess().putIntoCache(
@@ -85,7 +87,7 @@ public class NaturalIdReadWriteAccess extends AbstractReadWriteAccess implements
 			}
 		}
 		finally {
-			writeLock().unlock();
+			writeLock.unlock();
 		}
 	}
 
@@ -96,8 +98,9 @@ public class NaturalIdReadWriteAccess extends AbstractReadWriteAccess implements
 
 	@Override
 	public boolean afterUpdate(SharedSessionContractImplementor session, Object key, Object value, SoftLock lock) {
+		final Lock writeLock = writeLock( key );
+		writeLock.lock();
 		try {
-			writeLock().lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			if ( item != null && item.isUnlockable( lock ) ) {
@@ -121,7 +124,7 @@ public class NaturalIdReadWriteAccess extends AbstractReadWriteAccess implements
 			}
 		}
 		finally {
-			writeLock().unlock();
+			writeLock.unlock();
 		}
 	}
 }
@@ -4,6 +4,7 @@
  */
 package org.hibernate.cache.spi.support;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -26,6 +27,28 @@ public interface StorageAccess {
 	 */
 	void putIntoCache(Object key, Object value, SharedSessionContractImplementor session);
 
+	/**
+	 * Whether {@link #putIntoCacheWithoutSession} is supported.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean supportsPutWithoutSession() {
+		return false;
+	}
+
+	/**
+	 * Put an item into the cache outside the scope of a session
+	 *
+	 * @throws UnsupportedOperationException if not {@linkplain #supportsPutWithoutSession supported}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void putIntoCacheWithoutSession(Object key, Object value) {
+		throw new UnsupportedOperationException( "Storage does not support puts without a session" );
+	}
+
 	/**
 	 * Remove an item from the cache by key
 	 */
@@ -6,6 +6,7 @@ package org.hibernate.cfg;
 
 import java.sql.PreparedStatement;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 
 /**
@@ -63,6 +64,23 @@ public interface BatchSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, specifies that batched inserts into the same table should be
+	 * collapsed into a single {@code insert ... values (...), (...)} statement,
+	 * if the {@linkplain org.hibernate.dialect.Dialect#supportsMultiRowInsert
+	 * dialect supports it}, instead of being executed as a JDBC batch of single
+	 * row inserts.
+	 * <p>
+	 * This setting has no effect unless {@linkplain #STATEMENT_BATCH_SIZE batching}
+	 * is enabled.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String MULTI_ROW_INSERTS = "hibernate.jdbc.multi_row_inserts";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
@@ -46,4 +46,21 @@ public interface BytecodeSettings {
 	@SuppressWarnings("DeprecatedIsStillUsed")
 	@Deprecated(forRemoval = true)
 	String ENHANCER_ENABLE_LAZY_INITIALIZATION = "hibernate.enhancer.enableLazyInitialization";
+
+	/**
+	 * When enabled, a {@link org.hibernate.bytecode.spi.DirtyChecker} is generated
+	 * at runtime for each entity class which is not enhanced, and is used to find
+	 * the dirty attributes of its instances during flush, instead of calling
+	 * {@link org.hibernate.type.Type#isDirty} for each attribute.
+	 * <p>
+	 * The generated code compares attributes of basic immutable types inline,
+	 * unboxing the values of primitive wrapper types.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.bytecode.spi.BytecodeProvider#getDirtyChecker
+	 *
+	 * @since 7.0
+	 */
+	String DIRTY_CHECKING_OPTIMIZER = "hibernate.bytecode.dirty_checking_optimizer";
 }
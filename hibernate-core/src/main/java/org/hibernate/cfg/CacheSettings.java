@@ -88,6 +88,45 @@ public interface CacheSettings {
 	@Incubating
 	String QUERY_CACHE_LAYOUT = "hibernate.cache.query_cache_layout";
 
+	/**
+	 * When enabled, the results put into the query cache are stored column by
+	 * column instead of row by row: columns of numeric and boolean values are
+	 * stored in primitive arrays, and columns of strings with few distinct values
+	 * are dictionary-encoded. This reduces the memory needed by cached query
+	 * results, at the cost of some work when putting results into the cache.
+	 * <p>
+	 * Results cached in either form can always be read, whatever the value of
+	 * this setting.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_CACHE_COLUMNAR = "hibernate.cache.query_cache_columnar";
+
+	/**
+	 * When set to a positive number, query results are put into the query cache
+	 * on a background thread instead of by the thread executing the query, and
+	 * this is the maximum number of query results waiting to be put. When the
+	 * limit is reached, further query results are not cached until puts complete.
+	 * <p>
+	 * Waiting results of the same query, with the same arguments, are coalesced,
+	 * and are visible to other executions of the query in the meantime. The
+	 * query results are checked for staleness using the time at which the query
+	 * was executed, so that late puts never make stale results visible.
+	 * <p>
+	 * The puts happen without a session, so regions which do not
+	 * {@linkplain org.hibernate.cache.spi.DirectAccessRegion#supportsPutWithoutSession
+	 * support that} are still written by the thread executing the query.
+	 *
+	 * @settingDefault {@code 0}, puts happen on the thread executing the query
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_CACHE_ASYNC_PUT_LIMIT = "hibernate.cache.query_cache_async_put_limit";
+
 	/**
 	 * The {@link RegionFactory} implementation, either:
 	 * <ul>
@@ -159,6 +198,24 @@ public interface CacheSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enables the use of compact binary second-level cache entries for entities. This
+	 * makes the cache entries much smaller when the cache provider serializes them,
+	 * at the cost of encoding each entry when it is put into the cache, and decoding
+	 * it on every cache hit.
+	 * <p>
+	 * Has no effect if {@linkplain #USE_STRUCTURED_CACHE structured entries} or
+	 * {@linkplain #USE_DIRECT_REFERENCE_CACHE_ENTRIES direct reference entries} are used.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.entry.CompactCacheEntry
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String USE_COMPACT_CACHE = "hibernate.cache.use_compact_entries";
+
 	/**
 	 * Enables the automatic eviction of a bidirectional association's collection
 	 * cache when an element in the {@link jakarta.persistence.ManyToOne} collection
@@ -4,6 +4,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.annotations.BatchSize;
 
 /**
@@ -31,6 +32,27 @@ public interface FetchSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * When enabled, the number of keys fetched by each batch fetch is adapted,
+	 * for each entity and collection role, to the proportion of the keys queued
+	 * for batch fetching which are typically used before the queue is cleared,
+	 * that is, before the session is flushed, cleared, or closed. The
+	 * {@linkplain BatchSize#size() configured batch size} becomes an upper limit.
+	 * <p/>
+	 * This avoids fetching many entities or collections which are never used
+	 * when only a few of those queued for batch fetching are accessed, and still
+	 * fetches in large batches when most of them are.
+	 *
+	 * @see org.hibernate.stat.EntityStatistics#getBatchFetchInitializedCount
+	 * @see org.hibernate.stat.CollectionStatistics#getBatchFetchInitializedCount
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String ADAPTIVE_BATCH_FETCH_SIZE = "hibernate.adaptive_batch_fetch_size";
+
 	/**
 	 * When enabled, Hibernate will use subselect fetching, when possible, to
 	 * fetch any collection.  Subselect fetching involves fetching the collection
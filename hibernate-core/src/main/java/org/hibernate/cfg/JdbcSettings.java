@@ -360,6 +360,25 @@ public interface JdbcSettings extends C3p0Settings, ProxoolSettings, AgroalSetti
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * The maximum number of idle {@link java.sql.PreparedStatement}s cached by each
+	 * session, for reuse while it holds the same JDBC connection. Instead of being
+	 * closed, a statement is reset and kept for the next execution of the same SQL,
+	 * until the connection is released, usually at the end of the transaction.
+	 * If {@code 0}, statements are not cached.
+	 * <p>
+	 * Only useful when neither the connection pool nor the JDBC driver caches
+	 * prepared statements, for example, with the built-in connection pool.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @see org.hibernate.stat.Statistics#getPreparedStatementCacheHitCount()
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Controls how Hibernate should handle scrollable results - <ul>
 	 * 	 <li>
@@ -204,4 +204,43 @@ public interface PersistenceSettings {
 	 * @settingDefault {@code false}
 	 */
 	String UNOWNED_ASSOCIATION_TRANSIENT_CHECK = "hibernate.unowned_association_transient_check";
+
+	/**
+	 * When enabled, the persistence context stores managed entities of hierarchies
+	 * with a basic integral identifier ({@code long}, {@code int}, {@code short})
+	 * in open-addressing hash tables keyed by the primitive identifier value,
+	 * instead of in a {@code HashMap} keyed by {@link org.hibernate.engine.spi.EntityKey}.
+	 * <p>
+	 * This reduces the memory footprint and garbage produced by sessions holding
+	 * very large numbers of entities, and allows identifier lookups which do not
+	 * allocate an {@code EntityKey}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.engine.spi.PersistenceContext#getEntityHolder(Object, org.hibernate.persister.entity.EntityPersister)
+	 *
+	 * @since 7.0
+	 */
+	String PERSISTENCE_CONTEXT_PRIMITIVE_KEYS = "hibernate.persistence_context.primitive_keys";
+
+	/**
+	 * The minimum number of entities held by a persistence context for the dirty
+	 * checking performed during {@linkplain org.hibernate.Session#flush flush} to
+	 * be split across the threads of the {@linkplain java.util.concurrent.ForkJoinPool#commonPool
+	 * common pool}, or {@code 0} to always perform dirty checking on the flushing thread.
+	 * <p>
+	 * Only the comparison of the current state of entities with their loaded state
+	 * is parallelized. Scheduling of updates, interceptor and listener callbacks are
+	 * still performed on the flushing thread, in the usual order. Parallel dirty
+	 * checking is not used when the session has an {@link org.hibernate.Interceptor},
+	 * when custom {@link org.hibernate.event.spi.FlushEntityEventListener}s or a
+	 * custom {@link org.hibernate.CustomEntityDirtinessStrategy} are registered, and
+	 * is limited to entity classes which are not enhanced, and which do not have
+	 * collections.
+	 *
+	 * @settingDefault {@code 0}, parallel dirty checking is disabled
+	 *
+	 * @since 7.0
+	 */
+	String PARALLEL_DIRTY_CHECKING_THRESHOLD = "hibernate.flush.parallel_dirty_checking_threshold";
 }
@@ -280,6 +280,65 @@ public interface QuerySettings {
 	@Deprecated(since="6.0")
 	String QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE = "hibernate.query.plan_parameter_metadata_max_size";
 
+	/**
+	 * When enabled, specifies that the {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache} be warmed up when the {@link org.hibernate.SessionFactory}
+	 * is created, by interpreting, in parallel, every named HQL query, along with the HQL
+	 * queries recorded in the file specified by {@value #QUERY_PLAN_CACHE_WARM_UP_FILE}.
+	 * <p>
+	 * Has no effect if the query plan cache is disabled.
+	 *
+	 * @settingDefault {@code false} (disabled) - HQL queries are interpreted on first use.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isQueryPlanCacheWarmUpEnabled()
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_WARM_UP = "hibernate.query.plan_cache_warm_up";
+
+	/**
+	 * The path of a file to which the HQL queries held in the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query interpretation cache}
+	 * are written when the {@link org.hibernate.SessionFactory} is closed, and from which
+	 * they are read back to {@linkplain #QUERY_PLAN_CACHE_WARM_UP warm up} the cache
+	 * when the next {@code SessionFactory} is created.
+	 * <p>
+	 * The file is a text file with one query per line, and may be edited by hand.
+	 * Queries from the file which can no longer be interpreted are ignored.
+	 * <p>
+	 * The file is only written when warm-up is enabled. Queries which contain
+	 * literal values, rather than parameters, are not written to the file.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getQueryPlanCacheWarmUpFile()
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_WARM_UP_FILE = "hibernate.query.plan_cache_warm_up_file";
+
+	/**
+	 * When enabled, the results of a {@linkplain org.hibernate.ScrollMode#FORWARD_ONLY
+	 * forward-only} {@linkplain org.hibernate.query.SelectionQuery#scroll scroll} or
+	 * {@linkplain org.hibernate.query.SelectionQuery#getResultStream stream} executed by a
+	 * {@link org.hibernate.StatelessSession} are read from JDBC and hydrated by a background
+	 * thread, one window of {@linkplain org.hibernate.query.SelectionQuery#setFetchSize fetch
+	 * size} rows at a time, while the previous window is being processed by the client.
+	 * A virtual thread is used when the JVM supports them.
+	 * <p>
+	 * Since the session is used by the background thread, it must not be used by the client
+	 * until the results have been fully consumed or closed. Queries which fetch collections
+	 * are never prefetched, nor are queries executed by a stateful session.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isScrollPrefetchEnabled()
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String SCROLL_PREFETCH = "hibernate.query.scroll_prefetch";
+
 	/**
 	 * For database supporting name parameters this setting allows to use named parameter is the procedure call.
 	 * <p>
@@ -563,6 +563,17 @@ public class CockroachDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getMultiRowInsertParameterCountLimit() {
+		// the number of bind parameters is a 16-bit value in the wire protocol
+		return Short.MAX_VALUE;
+	}
+
 	@Override
 	public boolean supportsPartitionBy() {
 		return true;
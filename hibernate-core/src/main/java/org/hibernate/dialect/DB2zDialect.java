@@ -116,6 +116,12 @@ public class DB2zDialect extends DB2Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		// DB2 z/OS only supports multi-row insert with 'for n rows'
+		return false;
+	}
+
 	@Override
 	public TimeZoneSupport getTimeZoneSupport() {
 		return getVersion().isAfter(10) ? TimeZoneSupport.NATIVE : TimeZoneSupport.NONE;
@@ -4666,6 +4666,53 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return true;
 	}
 
+	/**
+	 * Does this dialect support inserting multiple rows using a single
+	 * {@code insert into ... values (?, ?), (?, ?), ...} statement with
+	 * JDBC parameters, and report the total number of inserted rows as
+	 * the update count of the statement?
+	 *
+	 * @return {@code true} if multi-row inserts are supported
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+	 *
+	 * @since 7.0
+	 */
+	public boolean supportsMultiRowInsert() {
+		return false;
+	}
+
+	/**
+	 * Return the limit that the underlying database places on the number of
+	 * rows in the {@code values} clause of a multi-row insert statement. If
+	 * the database defines no such limit, simply return zero or a number
+	 * smaller than zero.
+	 *
+	 * @return The limit, or a non-positive integer to indicate no limit.
+	 *
+	 * @see #supportsMultiRowInsert()
+	 *
+	 * @since 7.0
+	 */
+	public int getMultiRowInsertRowCountLimit() {
+		return 0;
+	}
+
+	/**
+	 * Return the limit that the underlying database, or its JDBC driver, places
+	 * on the number of JDBC parameters of a multi-row insert statement. By default,
+	 * Dialect returns the same value as {@link #getParameterCountLimit()}.
+	 *
+	 * @return The limit, or a non-positive integer to indicate no limit.
+	 *
+	 * @see #supportsMultiRowInsert()
+	 *
+	 * @since 7.0
+	 */
+	public int getMultiRowInsertParameterCountLimit() {
+		return getParameterCountLimit();
+	}
+
 	/**
 	 * Does this dialect support the {@code from} clause for update statements?
 	 *
@@ -1334,6 +1334,21 @@ public class DialectDelegateWrapper extends Dialect {
 		return wrapped.supportsValuesListForInsert();
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return wrapped.supportsMultiRowInsert();
+	}
+
+	@Override
+	public int getMultiRowInsertRowCountLimit() {
+		return wrapped.getMultiRowInsertRowCountLimit();
+	}
+
+	@Override
+	public int getMultiRowInsertParameterCountLimit() {
+		return wrapped.getMultiRowInsertParameterCountLimit();
+	}
+
 	@Override
 	public boolean supportsSkipLocked() {
 		return wrapped.supportsSkipLocked();
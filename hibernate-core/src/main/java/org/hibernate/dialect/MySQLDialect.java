@@ -1526,6 +1526,17 @@ public class MySQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getMultiRowInsertParameterCountLimit() {
+		// the maximum number of placeholders in a prepared statement
+		return 65_535;
+	}
+
 	@Override
 	public String appendCheckConstraintOptions(CheckConstraint checkConstraint, String sqlCheckConstraint) {
 		return isNotEmpty( checkConstraint.getOptions() )
@@ -1077,6 +1077,11 @@ public class OracleDialect extends Dialect {
 		return getVersion().isSameOrAfter( 23 );
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return getVersion().isSameOrAfter( 23 );
+	}
+
 	// features which remain constant across 8i, 9i, and 10g ~~~~~~~~~~~~~~~~~~
 
 	@Override
@@ -551,6 +551,17 @@ public class SQLServerDialect extends AbstractTransactSQLDialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getMultiRowInsertRowCountLimit() {
+		// the maximum number of row value expressions in a table value constructor
+		return 1000;
+	}
+
 	@Override
 	public boolean supportsDistinctFromPredicate() {
 		return getVersion().isSameOrAfter( 16 );
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.engine.spi.BatchFetchQueue;
+
+/**
+ * Adapts the number of keys fetched by each batch fetch of an entity or
+ * collection role to the way the application uses the entities and
+ * collections of that role, when
+ * {@value org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_SIZE}
+ * is enabled.
+ * <p>
+ * Each time the {@link BatchFetchQueue} of a session is cleared, it reports,
+ * for each role, how many keys were queued, how many of them were initialized
+ * in the meantime, and the size of the last batch fetched. Since a batch fetch
+ * is triggered by the access to the first key of the batch, the application
+ * used all the keys initialized by the previous batches, and, on average, half
+ * of the last batch. A moving average of the ratio of used keys to queued keys
+ * is kept for each role. The size of the next batch is the number of keys
+ * currently queued for the role, scaled by this average, and limited by the
+ * configured batch size.
+ * <p>
+ * When all the entities or collections of a role are typically accessed, the
+ * ratio is close to one, and batches are as large as allowed. When only a few
+ * are accessed, the batches shrink, and fewer entities or collections which
+ * are never used are fetched. When the application starts accessing more of
+ * them, more batches are fetched, and the ratio grows back.
+ */
+public class AdaptiveBatchFetchSizing {
+	// the weight of the latest observation in the moving average
+	private static final double SMOOTHING = 0.25;
+
+	private final ConcurrentHashMap<String, Double> usedRatios = new ConcurrentHashMap<>();
+
+	/**
+	 * The number of keys to fetch at once for the given role.
+	 *
+	 * @param role The entity name or collection role
+	 * @param maxBatchSize The configured batch size
+	 * @param queuedCount The number of keys currently queued for the role
+	 */
+	public int getBatchSize(String role, int maxBatchSize, int queuedCount) {
+		final Double ratio = usedRatios.get( role );
+		if ( ratio == null ) {
+			// nothing observed yet
+			return maxBatchSize;
+		}
+		else {
+			final int batchSize = (int) Math.ceil( ratio * queuedCount );
+			return Math.max( 1, Math.min( maxBatchSize, batchSize ) );
+		}
+	}
+
+	/**
+	 * Record the keys of the given role which were queued for batch fetching
+	 * by a session, before its batch fetch queue was cleared.
+	 *
+	 * @param role The entity name or collection role
+	 * @param queuedCount The number of keys which were queued
+	 * @param initializedCount The number of them which were initialized
+	 * @param lastBatchSize The number of keys fetched by the last batch fetch,
+	 *                      or zero if there was no batch fetch
+	 */
+	public void recordUsage(String role, int queuedCount, int initializedCount, int lastBatchSize) {
+		if ( queuedCount > 0 ) {
+			final double usedCount = Math.max( 0, initializedCount - lastBatchSize / 2.0 );
+			final double ratio = Math.min( 1.0, usedCount / queuedCount );
+			usedRatios.merge(
+					role,
+					ratio,
+					(average, latest) -> average + SMOOTHING * ( latest - average )
+			);
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Collects the second-level cache entries of the entities loaded from the
+ * database by one execution, so that they are put into each cache region
+ * with a single {@linkplain EntityDataAccess#putAllFromLoad bulk put} once
+ * the results are processed, instead of one put per entity.
+ *
+ * @since 7.0
+ */
+public final class EntityCachePuts {
+	private final Map<EntityDataAccess, Puts> putsByCacheAccess = new IdentityHashMap<>();
+
+	private static final class Puts {
+		private final EntityPersister rootEntityDescriptor;
+		private final List<Object> keys = new ArrayList<>();
+		private final List<Object> values = new ArrayList<>();
+		private final List<Object> versions = new ArrayList<>();
+
+		private Puts(EntityPersister rootEntityDescriptor) {
+			this.rootEntityDescriptor = rootEntityDescriptor;
+		}
+	}
+
+	public void add(
+			EntityDataAccess cacheAccess,
+			EntityPersister rootEntityDescriptor,
+			Object cacheKey,
+			Object cacheEntry,
+			Object version) {
+		final Puts puts = putsByCacheAccess.computeIfAbsent( cacheAccess, access -> new Puts( rootEntityDescriptor ) );
+		puts.keys.add( cacheKey );
+		puts.values.add( cacheEntry );
+		puts.versions.add( version );
+	}
+
+	/**
+	 * Put the collected entries into the cache, one bulk put per cache region.
+	 */
+	public void execute(SharedSessionContractImplementor session) {
+		for ( Map.Entry<EntityDataAccess, Puts> entry : putsByCacheAccess.entrySet() ) {
+			put( session, entry.getKey(), entry.getValue() );
+		}
+		putsByCacheAccess.clear();
+	}
+
+	private static void put(SharedSessionContractImplementor session, EntityDataAccess cacheAccess, Puts puts) {
+		final EventManager eventManager = session.getEventManager();
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		int count = 0;
+		final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
+		try {
+			eventListenerManager.cachePutStart();
+			count = cacheAccess.putAllFromLoad(
+					session,
+					puts.keys.toArray(),
+					puts.values.toArray(),
+					puts.versions.toArray()
+			);
+		}
+		finally {
+			eventManager.completeCachePutEvent(
+					cachePutEvent,
+					session,
+					cacheAccess,
+					puts.rootEntityDescriptor,
+					count > 0,
+					EventManager.CacheActionDescription.ENTITY_LOAD
+			);
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				final String regionName = cacheAccess.getRegion().getName();
+				for ( int i = 0; i < count; i++ ) {
+					statistics.entityCachePut( puts.rootEntityDescriptor.getNavigableRole(), regionName );
+				}
+			}
+			eventListenerManager.cachePutEnd();
+		}
+	}
+}
@@ -0,0 +1,543 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.hibernate.action.internal.AbstractEntityInsertAction;
+import org.hibernate.engine.spi.ExecutableList;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.EntityCollectionPart;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.ForeignKeyDirection;
+import org.hibernate.type.Type;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Sorts the insert actions of a flush, when {@value org.hibernate.cfg.AvailableSettings#ORDER_INSERTS}
+ * is enabled, so that the inserts into the same table are grouped together and can be batched, while
+ * still respecting the order required by the foreign key constraints.
+ * <p>
+ * The dependencies between entity types are determined once, from the mapping model, and are kept
+ * by this sorter, which lives as long as the {@link org.hibernate.SessionFactory}. A type depends on
+ * the types it has a to-one association to, and the types it is the parent of in a one-to-many or
+ * inverse one-to-one association. The insert actions are grouped by entity name, and the groups
+ * are scheduled in the order of first appearance, as long as the groups of the types they depend on
+ * have already been scheduled. This is linear in the number of insert actions, and does not look at
+ * the state of the entities at all.
+ * <p>
+ * The state of the entities is only inspected for self-referencing types, in order to insert the
+ * instances of such types after the instances they refer to, and for the types which are part of
+ * a cycle of dependencies among the types inserted by the flush. For these, the dependencies are
+ * determined between the instances, and the groups are scheduled as long as the instances they
+ * depend on have already been scheduled. The inserts of the groups which still cannot be scheduled
+ * are then executed in their original order.
+ */
+public final class InsertActionSorter implements ExecutableList.Sorter<AbstractEntityInsertAction> {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( InsertActionSorter.class );
+
+	private final SessionFactoryImplementor factory;
+	// built on first use, when the mapping model is complete
+	private volatile @Nullable Map<String, TypeNode> typeNodes;
+
+	public InsertActionSorter(SessionFactoryImplementor factory) {
+		this.factory = factory;
+	}
+
+	/**
+	 * An entity type, along with the types which must be inserted after it.
+	 */
+	private static final class TypeNode {
+		private final EntityPersister persister;
+		private TypeNode[] successors;
+		// whether instances of this type may depend on other instances of this type
+		private boolean selfReferencing;
+		// the properties which may hold a reference to another entity
+		private int[] dependencyPropertyIndexes;
+
+		private TypeNode(EntityPersister persister) {
+			this.persister = persister;
+		}
+	}
+
+	/**
+	 * The insert actions of a flush for an entity type.
+	 */
+	private static final class Group {
+		private final TypeNode type;
+		// the order of first appearance
+		private final int position;
+		private final List<InsertInfo> insertInfos = new ArrayList<>();
+		private final Set<Group> successors = new LinkedHashSet<>();
+		private int pendingPredecessors;
+		private boolean resolved;
+
+		private Group(TypeNode type, int position) {
+			this.type = type;
+			this.position = position;
+		}
+	}
+
+	private static final class InsertInfo {
+		private final AbstractEntityInsertAction insertAction;
+		private final int index;
+		private final Group group;
+		// Inserts in this list must be executed before this insert
+		private @Nullable List<InsertInfo> dependencies;
+		private int nextDependency;
+		private int visitState;
+
+		private InsertInfo(AbstractEntityInsertAction insertAction, int index, Group group) {
+			this.insertAction = insertAction;
+			this.index = index;
+			this.group = group;
+		}
+
+		private void addDependency(InsertInfo dependency) {
+			if ( dependency != this ) {
+				if ( dependencies == null ) {
+					dependencies = new ArrayList<>();
+				}
+				dependencies.add( dependency );
+			}
+		}
+
+		// the next insert of the same group this insert depends on, which is not yet visited
+		private @Nullable InsertInfo nextUnvisitedDependency() {
+			if ( dependencies != null ) {
+				while ( nextDependency < dependencies.size() ) {
+					final InsertInfo dependency = dependencies.get( nextDependency++ );
+					if ( dependency.group == group && dependency.visitState == UNVISITED ) {
+						return dependency;
+					}
+				}
+			}
+			return null;
+		}
+	}
+
+	private static final int UNVISITED = 0;
+	private static final int VISITING = 1;
+	private static final int VISITED = 2;
+
+	/**
+	 * Sort the insert actions.
+	 */
+	@Override
+	public void sort(List<AbstractEntityInsertAction> insertions) {
+		final Map<String, TypeNode> typeNodes = getTypeNodes();
+		final int insertInfoCount = insertions.size();
+		final InsertInfo[] insertInfos = new InsertInfo[insertInfoCount];
+		final Map<String, Group> groupsByEntityName = new LinkedHashMap<>();
+		for ( int i = 0; i < insertInfoCount; i++ ) {
+			final AbstractEntityInsertAction insertAction = insertions.get( i );
+			final EntityPersister persister = insertAction.getPersister();
+			final Group group = groupsByEntityName.computeIfAbsent(
+					persister.getEntityName(),
+					entityName -> new Group( getTypeNode( typeNodes, persister ), groupsByEntityName.size() )
+			);
+			final InsertInfo insertInfo = new InsertInfo( insertAction, i, group );
+			group.insertInfos.add( insertInfo );
+			insertInfos[i] = insertInfo;
+		}
+
+		// First, schedule the groups using the dependencies between the types
+		final Collection<Group> groups = groupsByEntityName.values();
+		final IdentityHashMap<TypeNode, Group> groupsByType = new IdentityHashMap<>( groups.size() );
+		for ( Group group : groups ) {
+			groupsByType.put( group.type, group );
+		}
+		for ( Group group : groups ) {
+			for ( TypeNode successorType : group.type.successors ) {
+				final Group successor = groupsByType.get( successorType );
+				if ( successor != null ) {
+					addEdge( group, successor );
+				}
+			}
+		}
+		final List<Group> scheduledGroups = schedule( groups );
+
+		// Then, the groups of types which depend on each other are scheduled
+		// using the dependencies between the instances
+		final List<Group> remainingGroups = new ArrayList<>();
+		final List<InsertInfo> remainingInsertInfos = new ArrayList<>();
+		for ( InsertInfo insertInfo : insertInfos ) {
+			if ( insertInfo.group.pendingPredecessors > 0 ) {
+				remainingInsertInfos.add( insertInfo );
+			}
+		}
+		if ( !remainingInsertInfos.isEmpty() ) {
+			for ( Group group : groups ) {
+				if ( group.pendingPredecessors > 0 ) {
+					group.successors.clear();
+					group.pendingPredecessors = 0;
+					group.resolved = true;
+					remainingGroups.add( group );
+				}
+			}
+			resolveDependencies( remainingInsertInfos );
+			for ( InsertInfo insertInfo : remainingInsertInfos ) {
+				if ( insertInfo.dependencies != null ) {
+					for ( InsertInfo dependency : insertInfo.dependencies ) {
+						if ( dependency.group != insertInfo.group ) {
+							addEdge( dependency.group, insertInfo.group );
+						}
+					}
+				}
+			}
+			scheduledGroups.addAll( schedule( remainingGroups ) );
+		}
+
+		insertions.clear();
+		for ( Group group : scheduledGroups ) {
+			if ( group.type.selfReferencing ) {
+				if ( !group.resolved ) {
+					resolveDependencies( group.insertInfos );
+				}
+				addInDependencyOrder( group.insertInfos, insertions );
+			}
+			else {
+				for ( InsertInfo insertInfo : group.insertInfos ) {
+					insertions.add( insertInfo.insertAction );
+				}
+			}
+		}
+		if ( insertions.size() < insertInfoCount ) {
+			LOG.warn( "The batch containing " + insertInfoCount + " statements could not be sorted. " +
+					"This might indicate a circular entity relationship." );
+			// The inserts of the groups which could not be scheduled keep their original order
+			for ( InsertInfo insertInfo : remainingInsertInfos ) {
+				if ( insertInfo.group.pendingPredecessors > 0 ) {
+					insertions.add( insertInfo.insertAction );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sort the given entity types so that each type comes after the types it depends on,
+	 * and otherwise in the given order, for inserting entities which are not in a flush.
+	 *
+	 * @return the sorted entity types, or {@code null} if the types depend on each other
+	 */
+	public @Nullable List<EntityPersister> sortEntityTypes(List<EntityPersister> persisters) {
+		final Map<String, TypeNode> typeNodes = getTypeNodes();
+		final List<Group> groups = new ArrayList<>( persisters.size() );
+		final IdentityHashMap<TypeNode, Group> groupsByType = new IdentityHashMap<>( persisters.size() );
+		for ( EntityPersister persister : persisters ) {
+			final Group group = new Group( getTypeNode( typeNodes, persister ), groups.size() );
+			groups.add( group );
+			groupsByType.put( group.type, group );
+		}
+		for ( Group group : groups ) {
+			for ( TypeNode successorType : group.type.successors ) {
+				final Group successor = groupsByType.get( successorType );
+				if ( successor != null ) {
+					addEdge( group, successor );
+				}
+			}
+		}
+		final List<Group> scheduledGroups = schedule( groups );
+		if ( scheduledGroups.size() < groups.size() ) {
+			return null;
+		}
+		final List<EntityPersister> sorted = new ArrayList<>( scheduledGroups.size() );
+		for ( Group group : scheduledGroups ) {
+			sorted.add( group.type.persister );
+		}
+		return sorted;
+	}
+
+	private static void addEdge(Group predecessor, Group successor) {
+		if ( predecessor.successors.add( successor ) ) {
+			successor.pendingPredecessors++;
+		}
+	}
+
+	/**
+	 * Schedule the groups with no pending predecessors, in the order of first appearance,
+	 * in as many passes as needed. A group which becomes ready is scheduled in the same pass
+	 * if it appears after the group it was waiting for, and in the next pass otherwise.
+	 *
+	 * @return the scheduled groups, the other groups have pending predecessors left
+	 */
+	private static List<Group> schedule(Collection<Group> groups) {
+		final List<Group> scheduled = new ArrayList<>( groups.size() );
+		final Comparator<Group> byPosition = Comparator.comparingInt( group -> group.position );
+		PriorityQueue<Group> currentPass = new PriorityQueue<>( byPosition );
+		PriorityQueue<Group> nextPass = new PriorityQueue<>( byPosition );
+		for ( Group group : groups ) {
+			if ( group.pendingPredecessors == 0 ) {
+				currentPass.add( group );
+			}
+		}
+		while ( !currentPass.isEmpty() ) {
+			final Group group = currentPass.poll();
+			scheduled.add( group );
+			for ( Group successor : group.successors ) {
+				if ( --successor.pendingPredecessors == 0 ) {
+					( successor.position > group.position ? currentPass : nextPass ).add( successor );
+				}
+			}
+			if ( currentPass.isEmpty() ) {
+				final PriorityQueue<Group> pass = currentPass;
+				currentPass = nextPass;
+				nextPass = pass;
+			}
+		}
+		return scheduled;
+	}
+
+	/**
+	 * Add the inserts of a group in their original order, except that each insert
+	 * is moved after the inserts of the same group it depends on.
+	 */
+	private static void addInDependencyOrder(List<InsertInfo> insertInfos, List<AbstractEntityInsertAction> insertions) {
+		final ArrayDeque<InsertInfo> stack = new ArrayDeque<>();
+		for ( InsertInfo insertInfo : insertInfos ) {
+			if ( insertInfo.visitState == UNVISITED ) {
+				insertInfo.visitState = VISITING;
+				stack.push( insertInfo );
+				while ( !stack.isEmpty() ) {
+					final InsertInfo current = stack.peek();
+					final InsertInfo dependency = current.nextUnvisitedDependency();
+					if ( dependency != null ) {
+						dependency.visitState = VISITING;
+						stack.push( dependency );
+					}
+					else {
+						stack.pop();
+						current.visitState = VISITED;
+						insertions.add( current.insertAction );
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Discover the dependencies between the given inserts, from the state of the entities.
+	 */
+	private void resolveDependencies(List<InsertInfo> insertInfos) {
+		// This is needed to discover insert infos for direct dependencies
+		final IdentityHashMap<Object, InsertInfo> insertInfosByEntity = new IdentityHashMap<>( insertInfos.size() );
+		for ( InsertInfo insertInfo : insertInfos ) {
+			insertInfosByEntity.put( insertInfo.insertAction.getInstance(), insertInfo );
+		}
+		for ( InsertInfo insertInfo : insertInfos ) {
+			final AbstractEntityInsertAction insertAction = insertInfo.insertAction;
+			final Object[] propertyValues = insertAction.getState();
+			final Type[] propertyTypes = insertAction.getPersister().getPropertyTypes();
+			for ( int i : insertInfo.group.type.dependencyPropertyIndexes ) {
+				addDirectDependency( insertInfo, propertyTypes[i], propertyValues[i], insertInfosByEntity );
+			}
+		}
+	}
+
+	private void addDirectDependency(
+			InsertInfo insertInfo,
+			Type type,
+			@Nullable Object value,
+			IdentityHashMap<Object, InsertInfo> insertInfosByEntity) {
+		if ( value == null ) {
+			return;
+		}
+		if ( type instanceof EntityType entityType ) {
+			final InsertInfo other = insertInfosByEntity.get( value );
+			if ( other != null ) {
+				if ( isInverseOneToOne( entityType ) ) {
+					if ( !entityType.isReferenceToPrimaryKey() ) {
+						other.addDependency( insertInfo );
+					}
+				}
+				else {
+					insertInfo.addDependency( other );
+				}
+			}
+		}
+		else if ( type instanceof CollectionType collectionType ) {
+			// We only care about one-to-many associations, because for these,
+			// the elements depend on the collection owner
+			if ( getOneToManyElementType( collectionType ) != null ) {
+				final Iterator<?> elementsIterator = collectionType.getElementsIterator( value );
+				while ( elementsIterator.hasNext() ) {
+					final InsertInfo other = insertInfosByEntity.get( elementsIterator.next() );
+					if ( other != null ) {
+						other.addDependency( insertInfo );
+					}
+				}
+			}
+		}
+		else if ( type instanceof ComponentType compositeType ) {
+			// Support recursive checks of composite type properties for associations and collections.
+			final SharedSessionContractImplementor session = insertInfo.insertAction.getSession();
+			final Object[] componentValues = compositeType.getPropertyValues( value, session );
+			final Type[] componentValueTypes = compositeType.getSubtypes();
+			for ( int j = 0; j < componentValues.length; ++j ) {
+				addDirectDependency( insertInfo, componentValueTypes[j], componentValues[j], insertInfosByEntity );
+			}
+		}
+	}
+
+	private static boolean isInverseOneToOne(EntityType entityType) {
+		return entityType.isOneToOne()
+			&& entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT;
+	}
+
+	private @Nullable String getOneToManyElementType(CollectionType collectionType) {
+		final PluralAttributeMapping pluralAttributeMapping =
+				factory.getMappingMetamodel()
+						.getCollectionDescriptor( collectionType.getRole() )
+						.getAttributeMapping();
+		return pluralAttributeMapping.getCollectionDescriptor().isOneToMany()
+				&& pluralAttributeMapping.getElementDescriptor() instanceof EntityCollectionPart elementDescriptor
+				? elementDescriptor.getAssociatedEntityMappingType().getEntityName()
+				: null;
+	}
+
+	private TypeNode getTypeNode(Map<String, TypeNode> typeNodes, EntityPersister persister) {
+		final TypeNode typeNode = typeNodes.get( persister.getEntityName() );
+		if ( typeNode == null ) {
+			// not a type of the mapping model, assume it depends on itself
+			final TypeNode unknownTypeNode = new TypeNode( persister );
+			unknownTypeNode.successors = new TypeNode[0];
+			unknownTypeNode.selfReferencing = true;
+			unknownTypeNode.dependencyPropertyIndexes = allPropertyIndexes( persister );
+			return unknownTypeNode;
+		}
+		return typeNode;
+	}
+
+	private static int[] allPropertyIndexes(EntityPersister persister) {
+		final int[] indexes = new int[persister.getPropertyTypes().length];
+		for ( int i = 0; i < indexes.length; i++ ) {
+			indexes[i] = i;
+		}
+		return indexes;
+	}
+
+	private Map<String, TypeNode> getTypeNodes() {
+		Map<String, TypeNode> typeNodes = this.typeNodes;
+		if ( typeNodes == null ) {
+			typeNodes = buildTypeNodes();
+			this.typeNodes = typeNodes;
+		}
+		return typeNodes;
+	}
+
+	/**
+	 * Determine the dependencies between the entity types from the mapping model.
+	 */
+	private Map<String, TypeNode> buildTypeNodes() {
+		final Map<String, TypeNode> typeNodes = new HashMap<>();
+		factory.getMappingMetamodel().forEachEntityDescriptor(
+				persister -> typeNodes.put( persister.getEntityName(), new TypeNode( persister ) )
+		);
+		final Map<TypeNode, Set<TypeNode>> successors = new HashMap<>();
+		for ( TypeNode typeNode : typeNodes.values() ) {
+			final Type[] propertyTypes = typeNode.persister.getPropertyTypes();
+			final List<Integer> dependencyPropertyIndexes = new ArrayList<>();
+			for ( int i = 0; i < propertyTypes.length; i++ ) {
+				if ( addTypeDependencies( typeNode, propertyTypes[i], typeNodes, successors ) ) {
+					dependencyPropertyIndexes.add( i );
+				}
+			}
+			typeNode.dependencyPropertyIndexes =
+					dependencyPropertyIndexes.stream().mapToInt( Integer::intValue ).toArray();
+		}
+		for ( TypeNode typeNode : typeNodes.values() ) {
+			final Set<TypeNode> typeSuccessors = successors.getOrDefault( typeNode, Set.of() );
+			typeNode.selfReferencing = typeSuccessors.contains( typeNode );
+			typeNode.successors = typeSuccessors.stream()
+					.filter( successor -> successor != typeNode )
+					.toArray( TypeNode[]::new );
+		}
+		return typeNodes;
+	}
+
+	/**
+	 * @return whether the given property type may hold a reference to another entity
+	 */
+	private boolean addTypeDependencies(
+			TypeNode typeNode,
+			Type type,
+			Map<String, TypeNode> typeNodes,
+			Map<TypeNode, Set<TypeNode>> successors) {
+		if ( type instanceof EntityType entityType ) {
+			if ( isInverseOneToOne( entityType ) ) {
+				if ( entityType.isReferenceToPrimaryKey() ) {
+					return false;
+				}
+				// the associated entity is inserted after this one
+				for ( TypeNode other : subtypeNodes( entityType.getAssociatedEntityName(), typeNodes ) ) {
+					successors.computeIfAbsent( typeNode, node -> new LinkedHashSet<>() ).add( other );
+				}
+			}
+			else {
+				// the associated entity is inserted before this one
+				for ( TypeNode other : subtypeNodes( entityType.getAssociatedEntityName(), typeNodes ) ) {
+					successors.computeIfAbsent( other, node -> new LinkedHashSet<>() ).add( typeNode );
+				}
+			}
+			return true;
+		}
+		else if ( type instanceof CollectionType collectionType ) {
+			final String elementEntityName = getOneToManyElementType( collectionType );
+			if ( elementEntityName == null ) {
+				return false;
+			}
+			// the elements are inserted after the owner
+			for ( TypeNode other : subtypeNodes( elementEntityName, typeNodes ) ) {
+				successors.computeIfAbsent( typeNode, node -> new LinkedHashSet<>() ).add( other );
+			}
+			return true;
+		}
+		else if ( type instanceof ComponentType compositeType ) {
+			boolean dependent = false;
+			for ( Type subtype : compositeType.getSubtypes() ) {
+				dependent |= addTypeDependencies( typeNode, subtype, typeNodes, successors );
+			}
+			return dependent;
+		}
+		else {
+			return false;
+		}
+	}
+
+	private static List<TypeNode> subtypeNodes(String entityName, Map<String, TypeNode> typeNodes) {
+		final TypeNode typeNode = typeNodes.get( entityName );
+		if ( typeNode == null ) {
+			return List.of();
+		}
+		final List<TypeNode> subtypeNodes = new ArrayList<>();
+		for ( String subclassEntityName : typeNode.persister.getSubclassEntityNames() ) {
+			final TypeNode subtypeNode = typeNodes.get( subclassEntityName );
+			if ( subtypeNode != null ) {
+				subtypeNodes.add( subtypeNode );
+			}
+		}
+		return subtypeNodes;
+	}
+}
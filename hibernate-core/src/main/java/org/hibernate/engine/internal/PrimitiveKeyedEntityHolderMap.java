@@ -0,0 +1,290 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.internal.util.collections.LongKeyedHashMap;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Storage for the {@link EntityHolder}s of a {@link StatefulPersistenceContext},
+ * used instead of a {@code HashMap<EntityKey,EntityHolder>} when
+ * {@value org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_PRIMITIVE_KEYS}
+ * is enabled.
+ * <p>
+ * The holders are partitioned by entity hierarchy. Within a hierarchy whose
+ * identifier is a basic integral type ({@code long}, {@code int}, {@code short}
+ * or {@code byte}), holders are stored in a {@link LongKeyedHashMap} keyed by the
+ * primitive value of the identifier, so that {@link #get(Object, EntityPersister)}
+ * does not need to allocate an {@link EntityKey}, and lookups do not go through
+ * {@link org.hibernate.type.Type#isEqual}. Other identifiers, for example
+ * composite ones, are stored by {@link EntityKey} as usual.
+ * <p>
+ * Since every holder knows its own {@link EntityKey}, this map can still be
+ * exposed as a {@link Map}; its views are read-only, and must not be iterated
+ * while the map is modified.
+ *
+ * @param <H> the concrete type of the entity holders
+ */
+final class PrimitiveKeyedEntityHolderMap<H extends EntityHolder> extends AbstractMap<EntityKey, H> {
+
+	private final HashMap<String, Partition<H>> partitions = new HashMap<>();
+	// the partition used last, since sessions usually deal with one entity type at a time
+	private @Nullable Partition<H> lastPartition;
+	private int size;
+
+	private static final class Partition<H> {
+		private final String rootEntityName;
+		private final @Nullable LongKeyedHashMap<H> byIntegralId;
+		private @Nullable HashMap<EntityKey, H> byEntityKey;
+
+		private Partition(String rootEntityName, boolean integralId) {
+			this.rootEntityName = rootEntityName;
+			this.byIntegralId = integralId ? new LongKeyedHashMap<>() : null;
+		}
+
+		private int size() {
+			return ( byIntegralId == null ? 0 : byIntegralId.size() )
+					+ ( byEntityKey == null ? 0 : byEntityKey.size() );
+		}
+	}
+
+	private static boolean hasIntegralIdentifier(EntityPersister persister) {
+		final EntityIdentifierMapping identifierMapping = persister.getIdentifierMapping();
+		if ( identifierMapping instanceof BasicEntityIdentifierMapping ) {
+			final Class<?> idClass = identifierMapping.getJavaType().getJavaTypeClass();
+			return idClass == Long.class || idClass == Integer.class
+				|| idClass == Short.class || idClass == Byte.class
+				|| idClass == long.class || idClass == int.class
+				|| idClass == short.class || idClass == byte.class;
+		}
+		return false;
+	}
+
+	private static boolean isIntegral(Object id) {
+		return id instanceof Long || id instanceof Integer || id instanceof Short || id instanceof Byte;
+	}
+
+	private @Nullable Partition<H> partition(EntityPersister persister) {
+		final String rootEntityName = persister.getRootEntityName();
+		final Partition<H> last = lastPartition;
+		if ( last != null && last.rootEntityName == rootEntityName ) {
+			return last;
+		}
+		final Partition<H> partition = partitions.get( rootEntityName );
+		if ( partition != null ) {
+			lastPartition = partition;
+		}
+		return partition;
+	}
+
+	private Partition<H> partitionForPut(EntityPersister persister) {
+		final Partition<H> existing = partition( persister );
+		if ( existing != null ) {
+			return existing;
+		}
+		final String rootEntityName = persister.getRootEntityName();
+		final Partition<H> partition = new Partition<>( rootEntityName, hasIntegralIdentifier( persister ) );
+		partitions.put( rootEntityName, partition );
+		lastPartition = partition;
+		return partition;
+	}
+
+	/**
+	 * Lookup the holder for the given identifier, without creating an {@link EntityKey}
+	 * if the identifier is of integral type.
+	 */
+	public @Nullable H get(Object id, EntityPersister persister) {
+		final Partition<H> partition = partition( persister );
+		if ( partition == null ) {
+			return null;
+		}
+		else if ( partition.byIntegralId != null && isIntegral( id ) ) {
+			return partition.byIntegralId.get( ( (Number) id ).longValue() );
+		}
+		else {
+			return partition.byEntityKey == null ? null : partition.byEntityKey.get( new EntityKey( id, persister ) );
+		}
+	}
+
+	@Override
+	public @Nullable H get(Object key) {
+		if ( key instanceof EntityKey ) {
+			final EntityKey entityKey = (EntityKey) key;
+			final Partition<H> partition = partition( entityKey.getPersister() );
+			if ( partition == null ) {
+				return null;
+			}
+			final Object id = entityKey.getIdentifier();
+			if ( partition.byIntegralId != null && isIntegral( id ) ) {
+				return partition.byIntegralId.get( ( (Number) id ).longValue() );
+			}
+			else {
+				return partition.byEntityKey == null ? null : partition.byEntityKey.get( entityKey );
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get( key ) != null;
+	}
+
+	@Override
+	public @Nullable H put(EntityKey key, H holder) {
+		final Partition<H> partition = partitionForPut( key.getPersister() );
+		final Object id = key.getIdentifier();
+		final H previous;
+		if ( partition.byIntegralId != null && isIntegral( id ) ) {
+			previous = partition.byIntegralId.put( ( (Number) id ).longValue(), holder );
+		}
+		else {
+			if ( partition.byEntityKey == null ) {
+				partition.byEntityKey = new HashMap<>();
+			}
+			previous = partition.byEntityKey.put( key, holder );
+		}
+		if ( previous == null ) {
+			size++;
+		}
+		return previous;
+	}
+
+	@Override
+	public @Nullable H remove(Object key) {
+		if ( key instanceof EntityKey ) {
+			final EntityKey entityKey = (EntityKey) key;
+			final Partition<H> partition = partition( entityKey.getPersister() );
+			if ( partition != null ) {
+				final Object id = entityKey.getIdentifier();
+				final H removed;
+				if ( partition.byIntegralId != null && isIntegral( id ) ) {
+					removed = partition.byIntegralId.remove( ( (Number) id ).longValue() );
+				}
+				else {
+					removed = partition.byEntityKey == null ? null : partition.byEntityKey.remove( entityKey );
+				}
+				if ( removed != null ) {
+					size--;
+				}
+				return removed;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public void clear() {
+		partitions.clear();
+		lastPartition = null;
+		size = 0;
+	}
+
+	@Override
+	public Set<Entry<EntityKey, H>> entrySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<EntityKey, H>> iterator() {
+				final Iterator<H> holders = holderIterator();
+				return new Iterator<>() {
+					@Override
+					public boolean hasNext() {
+						return holders.hasNext();
+					}
+
+					@Override
+					public Entry<EntityKey, H> next() {
+						final H holder = holders.next();
+						return new SimpleImmutableEntry<>( holder.getEntityKey(), holder );
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	@Override
+	public Collection<H> values() {
+		return new AbstractCollection<>() {
+			@Override
+			public Iterator<H> iterator() {
+				return holderIterator();
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	private Iterator<H> holderIterator() {
+		final List<Iterator<H>> iterators = new ArrayList<>( partitions.size() * 2 );
+		for ( Partition<H> partition : partitions.values() ) {
+			if ( partition.size() > 0 ) {
+				if ( partition.byIntegralId != null ) {
+					iterators.add( partition.byIntegralId.values() );
+				}
+				if ( partition.byEntityKey != null ) {
+					iterators.add( partition.byEntityKey.values().iterator() );
+				}
+			}
+		}
+		return new Iterator<>() {
+			private int current;
+
+			@Override
+			public boolean hasNext() {
+				while ( current < iterators.size() ) {
+					if ( iterators.get( current ).hasNext() ) {
+						return true;
+					}
+					current++;
+				}
+				return false;
+			}
+
+			@Override
+			public H next() {
+				if ( !hasNext() ) {
+					throw new NoSuchElementException();
+				}
+				return iterators.get( current ).next();
+			}
+		};
+	}
+}
@@ -114,7 +114,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, EntityHolderImpl> entitiesByKey;
+	private Map<EntityKey, EntityHolderImpl> entitiesByKey;
 
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
@@ -177,11 +177,17 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	private Map<EntityKey, EntityHolderImpl> getOrInitializeEntitiesByKey() {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = newEntitiesByKey( session, INIT_COLL_SIZE );
 		}
 		return entitiesByKey;
 	}
 
+	private static Map<EntityKey, EntityHolderImpl> newEntitiesByKey(SharedSessionContractImplementor session, int size) {
+		return session.getFactory().getSessionFactoryOptions().isPersistenceContextPrimitiveKeysEnabled()
+				? new PrimitiveKeyedEntityHolderMap<>()
+				: CollectionHelper.mapOfSize( size );
+	}
+
 	@Override
 	public boolean isStateless() {
 		return false;
@@ -418,6 +424,19 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entitiesByKey == null ? null : entitiesByKey.get( key );
 	}
 
+	@Override
+	public @Nullable EntityHolderImpl getEntityHolder(Object id, EntityPersister persister) {
+		if ( entitiesByKey == null ) {
+			return null;
+		}
+		else if ( entitiesByKey instanceof PrimitiveKeyedEntityHolderMap ) {
+			return ( (PrimitiveKeyedEntityHolderMap<EntityHolderImpl>) entitiesByKey ).get( id, persister );
+		}
+		else {
+			return entitiesByKey.get( session.generateEntityKey( id, persister ) );
+		}
+	}
+
 	@Override
 	public boolean containsEntityHolder(EntityKey key) {
 		return entitiesByKey != null && entitiesByKey.get( key ) != null;
@@ -513,6 +532,12 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return holder == null || holder.state == EntityHolderState.UNINITIALIZED ? null : holder.entity;
 	}
 
+	@Override
+	public Object getEntity(Object id, EntityPersister persister) {
+		final EntityHolderImpl holder = getEntityHolder( id, persister );
+		return holder == null || holder.state == EntityHolderState.UNINITIALIZED ? null : holder.entity;
+	}
+
 	@Override
 	public boolean containsEntity(EntityKey key) {
 		final EntityHolderImpl holder = entitiesByKey == null ? null : entitiesByKey.get( key );
@@ -1947,7 +1972,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitiesByKey = newEntitiesByKey( session, Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				final EntityKey ek = EntityKey.deserialize( ois, sfi );
 				final EntityPersister persister = sfi.getMappingMetamodel().getEntityDescriptor( (String) ois.readObject() );
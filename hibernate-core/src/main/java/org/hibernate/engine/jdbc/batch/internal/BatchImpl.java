@@ -6,10 +6,15 @@ package org.hibernate.engine.jdbc.batch.internal;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 
 import org.hibernate.HibernateException;
 import org.hibernate.StaleStateException;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
@@ -17,14 +22,22 @@ import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.internal.JdbcValueBindingsImpl;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
+import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
 import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
@@ -37,6 +50,8 @@ import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER
  * @author Steve Ebersole
  */
 public class BatchImpl implements Batch {
+	private static final Binding[] NO_BINDINGS = new Binding[0];
+
 	private final BatchKey key;
 	private final int batchSizeToUse;
 	private final PreparedStatementGroup statementGroup;
@@ -51,6 +66,10 @@ public class BatchImpl implements Batch {
 	private boolean batchExecuted;
 	private StaleStateMapper[] staleStateMappers;
 
+	// the values bound for each row of the multi-row inserts, by table
+	private Map<String, List<Binding[]>> multiRowInsertRows;
+	private SharedSessionContractImplementor multiRowInsertSession;
+
 	public BatchImpl(
 			BatchKey key,
 			PreparedStatementGroup statementGroup,
@@ -134,6 +153,12 @@ public class BatchImpl implements Batch {
 					return;
 				}
 
+				if ( isMultiRowInsert( statementDetails )
+						&& jdbcValueBindings instanceof JdbcValueBindingsImpl multiRowInsertBindings ) {
+					addMultiRowInsertRow( statementDetails, multiRowInsertBindings );
+					return;
+				}
+
 				//noinspection resource
 				final PreparedStatement statement = statementDetails.resolveStatement();
 				sqlStatementLogger.logStatement( statementDetails.getSqlString() );
@@ -169,7 +194,33 @@ public class BatchImpl implements Batch {
 		}
 	}
 
+	private static boolean isMultiRowInsert(PreparedStatementDetails statementDetails) {
+		return statementDetails.getMutation() instanceof JdbcInsertMutation insert
+			&& insert.isMultiRowInsertSupported();
+	}
+
+	/**
+	 * Instead of adding a row to the JDBC batch, keep the values bound for
+	 * it, and insert it later, along with the other rows, by a multi-row
+	 * insert statement.
+	 */
+	private void addMultiRowInsertRow(PreparedStatementDetails statementDetails, JdbcValueBindingsImpl jdbcValueBindings) {
+		final TableMapping mutatingTable = statementDetails.getMutatingTableDetails();
+		final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( mutatingTable.getTableName() );
+		final Binding[] row = bindingGroup == null ? NO_BINDINGS : bindingGroup.getBindings().toArray( NO_BINDINGS );
+		if ( multiRowInsertRows == null ) {
+			multiRowInsertRows = new HashMap<>();
+		}
+		multiRowInsertRows.computeIfAbsent( mutatingTable.getTableName(), tableName -> new ArrayList<>( batchSizeToUse ) )
+				.add( row );
+		multiRowInsertSession = jdbcValueBindings.getSession();
+		jdbcValueBindings.afterStatement( mutatingTable );
+	}
+
 	protected void releaseStatements() {
+		if ( multiRowInsertRows != null ) {
+			multiRowInsertRows.clear();
+		}
 		statementGroup.forEachStatement( (tableName, statementDetails) -> {
 			if ( statementDetails.getStatement() == null ) {
 				BATCH_LOGGER.debugf(
@@ -274,6 +325,20 @@ public class BatchImpl implements Batch {
 		final JdbcEventHandler eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
 		try {
 			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+				final List<Binding[]> rows = multiRowInsertRows == null
+						? null
+						: multiRowInsertRows.remove( statementDetails.getMutatingTableDetails().getTableName() );
+				if ( rows != null ) {
+					try {
+						executeMultiRowInsert( statementDetails, rows );
+					}
+					catch (RuntimeException re) {
+						abortBatch( re );
+						throw re;
+					}
+					return;
+				}
+
 				final String sql = statementDetails.getSqlString();
 				final PreparedStatement statement = statementDetails.getStatement();
 
@@ -315,6 +380,110 @@ public class BatchImpl implements Batch {
 		}
 	}
 
+	private void executeMultiRowInsert(PreparedStatementDetails statementDetails, List<Binding[]> rows) {
+		final JdbcInsertMutation insert = (JdbcInsertMutation) statementDetails.getMutation();
+		final int parametersPerRow = insert.getParameterBinders().size();
+		final int maxRowsPerStatement = maxRowsPerStatement( parametersPerRow );
+		int start = 0;
+		while ( start < rows.size() ) {
+			// only use numbers of rows which are powers of two,
+			// to limit the number of distinct statements
+			final int rowCount = Integer.highestOneBit( Math.min( rows.size() - start, maxRowsPerStatement ) );
+			executeMultiRowInsert( statementDetails, insert, rows.subList( start, start + rowCount ), parametersPerRow );
+			start += rowCount;
+		}
+	}
+
+	private int maxRowsPerStatement(int parametersPerRow) {
+		final Dialect dialect = multiRowInsertSession.getJdbcServices().getDialect();
+		int maxRows = batchSizeToUse;
+		final int rowCountLimit = dialect.getMultiRowInsertRowCountLimit();
+		if ( rowCountLimit > 0 ) {
+			maxRows = Math.min( maxRows, rowCountLimit );
+		}
+		final int parameterCountLimit = dialect.getMultiRowInsertParameterCountLimit();
+		if ( parameterCountLimit > 0 && parametersPerRow > 0 ) {
+			maxRows = Math.min( maxRows, parameterCountLimit / parametersPerRow );
+		}
+		return Math.max( 1, maxRows );
+	}
+
+	private void executeMultiRowInsert(
+			PreparedStatementDetails statementDetails,
+			JdbcInsertMutation insert,
+			List<Binding[]> rows,
+			int parametersPerRow) {
+		final String sql = insert.getMultiRowSqlString( rows.size() );
+		sqlStatementLogger.logStatement( sql );
+		final ResourceRegistry resourceRegistry = jdbcCoordinator.getLogicalConnection().getResourceRegistry();
+		//noinspection resource
+		final PreparedStatement statement = rows.size() == 1
+				? statementDetails.resolveStatement()
+				: jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+		try {
+			for ( int row = 0; row < rows.size(); row++ ) {
+				final int offset = row * parametersPerRow;
+				for ( Binding binding : rows.get( row ) ) {
+					try {
+						binding.getValueBinder().bind(
+								statement,
+								binding.getValue(),
+								offset + binding.getPosition(),
+								multiRowInsertSession
+						);
+					}
+					catch (SQLException e) {
+						throw sqlExceptionHelper.convert( e, "Unable to bind parameter #" + binding.getPosition(), sql );
+					}
+				}
+			}
+			if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+				// the statement takes the place of an executeBatch() of the rows
+				final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+				final JdbcEventHandler eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+				final EventManager eventManager = jdbcSessionOwner.getEventManager();
+				final int rowCount;
+				final HibernateMonitoringEvent jdbcBatchExecutionEvent = eventManager.beginJdbcBatchExecutionEvent();
+				try {
+					eventHandler.jdbcExecuteBatchStart();
+					rowCount = statement.executeUpdate();
+				}
+				finally {
+					eventManager.completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, sql );
+					eventHandler.jdbcExecuteBatchEnd();
+				}
+				new MultiRowCount( rows.size() ).verifyOutcome( rowCount, statement, -1, sql );
+			}
+			else {
+				statement.executeUpdate();
+			}
+		}
+		catch (SQLException e) {
+			throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+		}
+		finally {
+			if ( statement != statementDetails.getStatement() ) {
+				resourceRegistry.release( statement );
+			}
+		}
+	}
+
+	/**
+	 * The expected outcome of a multi-row insert
+	 */
+	private static class MultiRowCount extends Expectation.RowCount {
+		private final int rowCount;
+
+		private MultiRowCount(int rowCount) {
+			this.rowCount = rowCount;
+		}
+
+		@Override
+		protected int expectedRowCount() {
+			return rowCount;
+		}
+	}
+
 	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails)
 			throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -35,11 +36,14 @@ import org.hibernate.jdbc.WorkExecutorVisitable;
 import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionProvidedImpl;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.resource.transaction.backend.jdbc.spi.JdbcResourceTransaction;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import static org.hibernate.ConnectionReleaseMode.AFTER_STATEMENT;
 
 /**
@@ -57,6 +61,8 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	private transient final JdbcServices jdbcServices;
 
+	private transient final @Nullable PreparedStatementCache statementCache;
+
 	private transient Batch currentBatch;
 
 	private transient long transactionTimeOutInstant = -1;
@@ -80,7 +86,15 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			JdbcServices jdbcServices) {
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
 
-		final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl( owner.getJdbcSessionContext().getEventHandler() );
+		// statements are only cached while we hold a connection we obtained,
+		// since they must be closed before the connection is released
+		final int statementCacheSize = owner.getJdbcSessionContext().getStatementCacheSize();
+		this.statementCache = !isUserSuppliedConnection && statementCacheSize > 0
+				? new PreparedStatementCache( statementCacheSize, owner.getJdbcSessionContext().getEventHandler() )
+				: null;
+
+		final ResourceRegistry resourceRegistry =
+				new ResourceRegistryStandardImpl( owner.getJdbcSessionContext().getEventHandler(), statementCache );
 		if ( isUserSuppliedConnection ) {
 			this.logicalConnection = new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
 		}
@@ -104,6 +118,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		this.isUserSuppliedConnection = isUserSuppliedConnection;
 		this.owner = owner;
 		this.jdbcServices = owner.getJdbcSessionContext().getJdbcServices();
+		this.statementCache = null;
 	}
 
 	@Override
@@ -111,6 +126,25 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		return logicalConnection;
 	}
 
+	/**
+	 * Take an idle statement for the given SQL from the statement cache, if any.
+	 */
+	@Nullable PreparedStatement takeCachedStatement(String sql, int resultSetType) {
+		return statementCache == null ? null : statementCache.take( sql, resultSetType );
+	}
+
+	/**
+	 * Mark the newly prepared statement as one to be returned to the
+	 * statement cache, if any, when it is released.
+	 */
+	PreparedStatement trackCachedStatement(PreparedStatement statement, String sql, int resultSetType)
+			throws SQLException {
+		if ( statementCache != null ) {
+			statementCache.track( statement, sql, resultSetType );
+		}
+		return statement;
+	}
+
 	/**
 	 * Access to the {@link SqlExceptionHelper}
 	 *
@@ -6,6 +6,7 @@ package org.hibernate.engine.jdbc.internal;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 
 import org.hibernate.AssertionFailure;
@@ -19,6 +20,8 @@ import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * @author Steve Ebersole
  */
@@ -38,12 +41,17 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 
 	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
 		return new StatementPreparationTemplate( sql ) {
+			@Override
+			protected @Nullable PreparedStatement takeCachedStatement() {
+				return isCallable ? null : jdbcCoordinator.takeCachedStatement( sql, ResultSet.TYPE_FORWARD_ONLY );
+			}
+
 			@Override
 			protected PreparedStatement doPrepare() throws SQLException {
 				//noinspection resource
 				return isCallable
 						? connection().prepareCall( sql )
-						: connection().prepareStatement( sql );
+						: jdbcCoordinator.trackCachedStatement( connection().prepareStatement( sql ), sql, ResultSet.TYPE_FORWARD_ONLY );
 			}
 		};
 	}
@@ -91,19 +99,26 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 
 		public PreparedStatement prepareStatement() {
 			try {
+				final PreparedStatement cachedStatement = takeCachedStatement();
 				final PreparedStatement preparedStatement;
-				final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
-				final JdbcEventHandler jdbcEventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
-				final EventManager eventManager = jdbcSessionOwner.getEventManager();
-				final HibernateMonitoringEvent jdbcPreparedStatementCreation = eventManager.beginJdbcPreparedStatementCreationEvent();
-				try {
-					jdbcEventHandler.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
+				if ( cachedStatement != null ) {
+					preparedStatement = cachedStatement;
 					setStatementTimeout( preparedStatement );
 				}
-				finally {
-					eventManager.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
-					jdbcEventHandler.jdbcPrepareStatementEnd();
+				else {
+					final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+					final JdbcEventHandler jdbcEventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+					final EventManager eventManager = jdbcSessionOwner.getEventManager();
+					final HibernateMonitoringEvent jdbcPreparedStatementCreation = eventManager.beginJdbcPreparedStatementCreationEvent();
+					try {
+						jdbcEventHandler.jdbcPrepareStatementStart();
+						preparedStatement = doPrepare();
+						setStatementTimeout( preparedStatement );
+					}
+					finally {
+						eventManager.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
+						jdbcEventHandler.jdbcPrepareStatementEnd();
+					}
 				}
 				postProcess( preparedStatement );
 				return preparedStatement;
@@ -113,6 +128,14 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 			}
 		}
 
+		/**
+		 * An idle statement for the SQL from the statement cache, if the
+		 * statement may be cached.
+		 */
+		protected @Nullable PreparedStatement takeCachedStatement() {
+			return null;
+		}
+
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
@@ -87,11 +87,16 @@ class StatementPreparerImpl implements StatementPreparer {
 
 	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
 		return new StatementPreparationTemplate( sql ) {
+			@Override
+			protected @Nullable PreparedStatement takeCachedStatement() {
+				return isCallable ? null : jdbcCoordinator.takeCachedStatement( sql, ResultSet.TYPE_FORWARD_ONLY );
+			}
+
 			@Override
 			protected PreparedStatement doPrepare() throws SQLException {
 				return isCallable
 						? connection().prepareCall( sql )
-						: connection().prepareStatement( sql );
+						: jdbcCoordinator.trackCachedStatement( connection().prepareStatement( sql ), sql, ResultSet.TYPE_FORWARD_ONLY );
 			}
 		};
 	}
@@ -143,10 +148,19 @@ class StatementPreparerImpl implements StatementPreparer {
 		}
 
 		final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+			@Override
+			protected @Nullable PreparedStatement takeCachedStatement() {
+				return isCallable ? null : jdbcCoordinator.takeCachedStatement( sql, resultSetType );
+			}
+
 			public PreparedStatement doPrepare() throws SQLException {
 					return isCallable
 							? connection().prepareCall( sql, resultSetType, ResultSet.CONCUR_READ_ONLY )
-							: connection().prepareStatement( sql, resultSetType, ResultSet.CONCUR_READ_ONLY );
+							: jdbcCoordinator.trackCachedStatement(
+									connection().prepareStatement( sql, resultSetType, ResultSet.CONCUR_READ_ONLY ),
+									sql,
+									resultSetType
+							);
 			}
 		}.prepareStatement();
 		jdbcCoordinator.registerLastQuery( ps );
@@ -168,19 +182,26 @@ class StatementPreparerImpl implements StatementPreparer {
 			try {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 
+				final PreparedStatement cachedStatement = takeCachedStatement();
 				final PreparedStatement preparedStatement;
-				final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
-				final JdbcEventHandler observer = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
-				final EventManager eventManager = jdbcSessionOwner.getEventManager();
-				final HibernateMonitoringEvent jdbcPreparedStatementCreation = eventManager.beginJdbcPreparedStatementCreationEvent();
-				try {
-					observer.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
+				if ( cachedStatement != null ) {
+					preparedStatement = cachedStatement;
 					setStatementTimeout( preparedStatement );
 				}
-				finally {
-					eventManager.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
-					observer.jdbcPrepareStatementEnd();
+				else {
+					final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+					final JdbcEventHandler observer = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+					final EventManager eventManager = jdbcSessionOwner.getEventManager();
+					final HibernateMonitoringEvent jdbcPreparedStatementCreation = eventManager.beginJdbcPreparedStatementCreationEvent();
+					try {
+						observer.jdbcPrepareStatementStart();
+						preparedStatement = doPrepare();
+						setStatementTimeout( preparedStatement );
+					}
+					finally {
+						eventManager.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
+						observer.jdbcPrepareStatementEnd();
+					}
 				}
 				postProcess( preparedStatement );
 				return preparedStatement;
@@ -190,6 +211,14 @@ class StatementPreparerImpl implements StatementPreparer {
 			}
 		}
 
+		/**
+		 * An idle statement for the SQL from the statement cache, if the
+		 * statement may be cached.
+		 */
+		protected @Nullable PreparedStatement takeCachedStatement() {
+			return null;
+		}
+
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
@@ -10,6 +10,7 @@ import java.sql.PreparedStatement;
 import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.jdbc.Expectation;
+import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.TableMapping;
 
 /**
@@ -48,6 +49,15 @@ public interface PreparedStatementDetails {
 	 */
 	Expectation getExpectation();
 
+	/**
+	 * The mutation from which the statement is prepared.  May return null.
+	 *
+	 * @since 7.0
+	 */
+	default PreparableMutationOperation getMutation() {
+		return null;
+	}
+
 	/**
 	 * Whether the statement is callable
 	 */
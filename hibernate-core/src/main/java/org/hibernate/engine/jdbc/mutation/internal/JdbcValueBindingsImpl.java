@@ -42,6 +42,13 @@ public class JdbcValueBindingsImpl implements JdbcValueBindings {
 		this.session = session;
 	}
 
+	/**
+	 * The session for which the values are bound
+	 */
+	public SharedSessionContractImplementor getSession() {
+		return session;
+	}
+
 	@Override
 	public BindingGroup getBindingGroup(String tableName) {
 		return bindingGroupMap.get( tableName );
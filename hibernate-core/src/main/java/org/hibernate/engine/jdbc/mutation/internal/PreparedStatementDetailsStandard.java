@@ -22,6 +22,7 @@ import org.hibernate.sql.model.TableMapping;
  * @author Steve Ebersole
  */
 public class PreparedStatementDetailsStandard implements PreparedStatementDetails {
+	private final PreparableMutationOperation mutation;
 	private final TableMapping mutatingTableDetails;
 	private final String sql;
 	private final Supplier<PreparedStatement> jdbcStatementCreator;
@@ -49,6 +50,7 @@ public class PreparedStatementDetailsStandard implements PreparedStatementDetail
 			Supplier<PreparedStatement> jdbcStatementCreator,
 			Expectation expectation,
 			JdbcServices jdbcServices) {
+		this.mutation = tableMutation;
 		this.mutatingTableDetails = tableMutation.getTableDetails();
 		this.sql = sql;
 		this.jdbcStatementCreator = jdbcStatementCreator;
@@ -61,6 +63,11 @@ public class PreparedStatementDetailsStandard implements PreparedStatementDetail
 		return mutatingTableDetails;
 	}
 
+	@Override
+	public PreparableMutationOperation getMutation() {
+		return mutation;
+	}
+
 	@Override
 	public void releaseStatement(SharedSessionContractImplementor session) {
 		if ( statement != null ) {
@@ -4,15 +4,22 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Function;
 
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
-import org.hibernate.engine.internal.CacheHelper;
+import org.hibernate.engine.internal.AdaptiveBatchFetchSizing;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.util.IndexedConsumer;
 import org.hibernate.internal.util.collections.CollectionHelper;
@@ -21,6 +28,7 @@ import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.Type;
 
 import org.jboss.logging.Logger;
@@ -28,6 +36,8 @@ import org.jboss.logging.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static java.util.Collections.emptyIterator;
+
 /**
  * Keeps track of:<ul>
  *     <li>entity and collection keys that are available for batch fetching</li>
@@ -64,6 +74,25 @@ public class BatchFetchQueue {
 	 */
 	private @Nullable Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
 
+	/**
+	 * The number of keys queued for batch fetching, by entity name, and how many of them were
+	 * initialized since, when batch fetching is {@linkplain AdaptiveBatchFetchSizing adaptive}
+	 * or statistics are enabled.
+	 */
+	private @Nullable Map<String, Usage> entityUsage;
+
+	/**
+	 * The number of keys queued for batch fetching, by collection role, and how many of them
+	 * were initialized since.
+	 */
+	private @Nullable Map<String, Usage> collectionUsage;
+
+	private static class Usage {
+		private int queuedCount;
+		private int initializedCount;
+		private int lastBatchSize;
+	}
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -79,12 +108,85 @@ public class BatchFetchQueue {
 	 * Called after flushing or clearing the session.
 	 */
 	public void clear() {
+		reportUsage();
 		batchLoadableEntityKeys = null;
 		batchLoadableCollections = null;
 		subselectsByEntityKey = null;
 	}
 
 
+	private void reportUsage() {
+		if ( entityUsage != null || collectionUsage != null ) {
+			final SessionFactoryImplementor factory = context.getSession().getFactory();
+			final AdaptiveBatchFetchSizing sizing = factory.getFastSessionServices().adaptiveBatchFetchSizing;
+			final StatisticsImplementor statistics = factory.getStatistics();
+			final boolean statisticsEnabled = statistics.isStatisticsEnabled();
+			if ( entityUsage != null ) {
+				entityUsage.forEach( (entityName, usage) -> {
+					if ( sizing != null ) {
+						sizing.recordUsage( entityName, usage.queuedCount, usage.initializedCount, usage.lastBatchSize );
+					}
+					if ( statisticsEnabled ) {
+						statistics.entityBatchFetchQueueCleared( entityName, usage.queuedCount, usage.initializedCount );
+					}
+				} );
+				entityUsage = null;
+			}
+			if ( collectionUsage != null ) {
+				collectionUsage.forEach( (role, usage) -> {
+					if ( sizing != null ) {
+						sizing.recordUsage( role, usage.queuedCount, usage.initializedCount, usage.lastBatchSize );
+					}
+					if ( statisticsEnabled ) {
+						statistics.collectionBatchFetchQueueCleared( role, usage.queuedCount, usage.initializedCount );
+					}
+				} );
+				collectionUsage = null;
+			}
+		}
+	}
+
+	private boolean isTrackingUsage() {
+		final SessionFactoryImplementor factory = context.getSession().getFactory();
+		return factory.getFastSessionServices().adaptiveBatchFetchSizing != null
+			|| factory.getStatistics().isStatisticsEnabled();
+	}
+
+	private static void recordQueued(Map<String, Usage> usageByRole, String role) {
+		usageByRole.computeIfAbsent( role, r -> new Usage() ).queuedCount++;
+	}
+
+	private static void recordInitialized(@Nullable Map<String, Usage> usageByRole, String role) {
+		if ( usageByRole != null ) {
+			final Usage usage = usageByRole.get( role );
+			if ( usage != null ) {
+				usage.initializedCount++;
+			}
+		}
+	}
+
+	/**
+	 * The number of keys to fetch at once, which is the given batch size,
+	 * unless batch fetching is {@linkplain AdaptiveBatchFetchSizing adaptive}.
+	 */
+	private int effectiveBatchSize(
+			@Nullable Map<String, Usage> usageByRole,
+			String role,
+			int maxBatchSize,
+			int queuedCount) {
+		final AdaptiveBatchFetchSizing sizing =
+				context.getSession().getFactory().getFastSessionServices().adaptiveBatchFetchSizing;
+		final int batchSize = sizing == null ? maxBatchSize : sizing.getBatchSize( role, maxBatchSize, queuedCount );
+		if ( usageByRole != null ) {
+			final Usage usage = usageByRole.get( role );
+			if ( usage != null ) {
+				usage.lastBatchSize = Math.min( batchSize, queuedCount );
+			}
+		}
+		return batchSize;
+	}
+
+
 	// sub-select support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
@@ -156,7 +258,12 @@ public class BatchFetchQueue {
 					k -> CollectionHelper.linkedSetOfSize( 8 )
 			);
 
-			keysForEntity.add( key );
+			if ( keysForEntity.add( key ) && isTrackingUsage() ) {
+				if ( entityUsage == null ) {
+					entityUsage = CollectionHelper.mapOfSize( 12 );
+				}
+				recordQueued( entityUsage, key.getEntityName() );
+			}
 		}
 	}
 
@@ -170,8 +277,8 @@ public class BatchFetchQueue {
 		if ( key.isBatchLoadable( context.getSession().getLoadQueryInfluencers() )
 				&& batchLoadableEntityKeys != null ) {
 			final LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( key.getEntityName() );
-			if ( set != null ) {
-				set.remove( key );
+			if ( set != null && set.remove( key ) ) {
+				recordInitialized( entityUsage, key.getEntityName() );
 			}
 		}
 	}
@@ -212,7 +319,13 @@ public class BatchFetchQueue {
 			return;
 		}
 
+		final int batchSize = effectiveBatchSize( entityUsage, entityDescriptor.getEntityName(), domainBatchSize, set.size() );
+		if ( batchSize < 2 ) {
+			return;
+		}
+
 		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
+		final CachedKeys<EntityKey> cachedKeys = cachedEntityKeys( set, entityDescriptor.getEntityPersister(), batchSize );
 
 		int batchPosition = 1;
 		int end = -1;
@@ -228,13 +341,13 @@ public class BatchFetchQueue {
 				end = batchPosition;
 			}
 			else {
-				if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+				if ( !cachedKeys.contains( key ) ) {
 					//noinspection unchecked
 					collector.accept( batchPosition++, (T) key.getIdentifier() );
 				}
 			}
 
-			if ( batchPosition == domainBatchSize ) {
+			if ( batchPosition == batchSize ) {
 				// end of array, start filling again from start
 				batchPosition = 1;
 				if ( end != -1 ) {
@@ -273,6 +386,11 @@ public class BatchFetchQueue {
 		final EntityPersister entityPersister = entityDescriptor.getEntityPersister();
 		final Type identifierType = entityPersister.getIdentifierType();
 		if ( set != null ) {
+			final int batchSize = effectiveBatchSize( entityUsage, entityDescriptor.getEntityName(), maxBatchSize, set.size() );
+			if ( batchSize < 2 ) {
+				return ids;
+			}
+			final CachedKeys<EntityKey> cachedKeys = cachedEntityKeys( set, entityPersister, batchSize );
 			for ( EntityKey key : set ) {
 				if ( checkForEnd && i == end ) {
 					// the first id found after the given id
@@ -283,12 +401,12 @@ public class BatchFetchQueue {
 					end = i;
 				}
 				else {
-					if ( !isCached( key, entityPersister ) ) {
+					if ( !cachedKeys.contains( key ) ) {
 						ids[i++] = key.getIdentifier();
 					}
 				}
 
-				if ( i == maxBatchSize ) {
+				if ( i == batchSize ) {
 					i = 1; // end of array, start filling again from start
 					if ( end != -1 ) {
 						checkForEnd = true;
@@ -301,22 +419,32 @@ public class BatchFetchQueue {
 		return ids;
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	/**
+	 * Determine which of the given entity keys have data in the second-level cache.
+	 */
+	private CachedKeys<EntityKey> cachedEntityKeys(
+			Collection<EntityKey> entityKeys,
+			EntityPersister persister,
+			int batchSize) {
 		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
+		if ( session.getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
+			return new CachedKeys<>(
+					session,
+					cache,
+					entityKeys.iterator(),
+					entityKey -> cache.generateCacheKey(
+							entityKey.getIdentifier(),
+							persister,
+							session.getFactory(),
+							session.getTenantIdentifier()
+					),
+					batchSize
 			);
-			return CacheHelper.fromSharedCache( session, key, persister, cache ) != null;
 		}
-		return false;
+		return new CachedKeys<>( session, null, emptyIterator(), null, batchSize );
 	}
 
-
 	// collection batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
@@ -337,7 +465,12 @@ public class BatchFetchQueue {
 						k -> CollectionHelper.linkedMapOfSize( 16 )
 				);
 
-		map.put( ce, collection );
+		if ( map.put( ce, collection ) == null && isTrackingUsage() ) {
+			if ( collectionUsage == null ) {
+				collectionUsage = CollectionHelper.mapOfSize( 12 );
+			}
+			recordQueued( collectionUsage, persister.getRole() );
+		}
 	}
 
 	/**
@@ -353,8 +486,8 @@ public class BatchFetchQueue {
 		assert persister != null : "@AssumeAssertion(nullness)";
 		LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
 				batchLoadableCollections.get( persister.getRole() );
-		if ( map != null ) {
-			map.remove( ce );
+		if ( map != null && map.remove( ce ) != null ) {
+			recordInitialized( collectionUsage, persister.getRole() );
 		}
 	}
 
@@ -382,6 +515,18 @@ public class BatchFetchQueue {
 			return;
 		}
 
+		final int effectiveBatchSize = effectiveBatchSize(
+				collectionUsage,
+				pluralAttributeMapping.getNavigableRole().getFullPath(),
+				batchSize,
+				map.size()
+		);
+		if ( effectiveBatchSize < 2 ) {
+			return;
+		}
+		final CachedKeys<Object> cachedKeys =
+				cachedCollectionKeys( map, pluralAttributeMapping.getCollectionDescriptor(), effectiveBatchSize );
+
 		int i = 1;
 		int end = -1;
 		boolean checkForEnd = false;
@@ -425,12 +570,12 @@ public class BatchFetchQueue {
 			if ( isEqual ) {
 				end = i;
 			}
-			else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor() ) ) {
+			else if ( !cachedKeys.contains( loadedKey ) ) {
 				//noinspection unchecked
 				collector.accept( i++, (T) loadedKey );
 			}
 
-			if ( i == batchSize ) {
+			if ( i == effectiveBatchSize ) {
 				//end of array, start filling again from start
 				i = 1;
 				if ( end != -1 ) {
@@ -469,6 +614,16 @@ public class BatchFetchQueue {
 		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
 				batchLoadableCollections.get( collectionPersister.getRole() );
 		if ( map != null ) {
+			final int effectiveBatchSize = effectiveBatchSize(
+					collectionUsage,
+					collectionPersister.getRole(),
+					batchSize,
+					map.size()
+			);
+			if ( effectiveBatchSize < 2 ) {
+				return keys;
+			}
+			final CachedKeys<Object> cachedKeys = cachedCollectionKeys( map, collectionPersister, effectiveBatchSize );
 			for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
 				final CollectionEntry ce = me.getKey();
 				final Object loadedKey = ce.getLoadedKey();
@@ -503,12 +658,12 @@ public class BatchFetchQueue {
 					end = i;
 					//checkForEnd = false;
 				}
-				else if ( !isCached( loadedKey, collectionPersister ) ) {
+				else if ( !cachedKeys.contains( loadedKey ) ) {
 					keys[i++] = loadedKey;
 					//count++;
 				}
 
-				if ( i == batchSize ) {
+				if ( i == effectiveBatchSize ) {
 					i = 1; //end of array, start filling again from start
 					if ( end != -1 ) {
 						checkForEnd = true;
@@ -519,19 +674,86 @@ public class BatchFetchQueue {
 		return keys; //we ran out of keys to try
 	}
 
-	private boolean isCached(Object collectionKey, CollectionPersister persister) {
-		SharedSessionContractImplementor session = context.getSession();
+	/**
+	 * Determine which of the keys of the given uninitialized collections have
+	 * data in the second-level cache.
+	 */
+	private CachedKeys<Object> cachedCollectionKeys(
+			Map<CollectionEntry, PersistentCollection<?>> collections,
+			CollectionPersister persister,
+			int batchSize) {
+		final SharedSessionContractImplementor session = context.getSession();
 		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			CollectionDataAccess cache = persister.getCacheAccessStrategy();
-			Object cacheKey = cache.generateCacheKey(
-					collectionKey,
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
+			final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+			final Iterator<Object> loadedKeys = collections.entrySet().stream()
+					.filter( me -> me.getKey().getLoadedKey() != null && !me.getValue().wasInitialized() )
+					.map( me -> me.getKey().getLoadedKey() )
+					.iterator();
+			return new CachedKeys<>(
+					session,
+					cache,
+					loadedKeys,
+					loadedKey -> cache.generateCacheKey(
+							loadedKey,
+							persister,
+							session.getFactory(),
+							session.getTenantIdentifier()
+					),
+					batchSize
 			);
-			return CacheHelper.fromSharedCache( session, cacheKey, persister, cache ) != null;
 		}
-		return false;
+		return new CachedKeys<>( session, null, emptyIterator(), null, batchSize );
+	}
+
+	/**
+	 * Determines which of the queued keys have data in the second-level cache.
+	 * The keys are checked in queue order, one chunk of about the batch size at
+	 * a time, and only once the batch being filled reaches them. So building a
+	 * batch only checks about as many keys as it visits, even for a long queue.
+	 * Data the session could not read from the cache, like a soft-locked item,
+	 * does not count as cached, so that the key is still batch fetched.
+	 *
+	 * @param <K> the type of the queued keys, which are compared by identity
+	 */
+	private static final class CachedKeys<K> {
+		private final SharedSessionContractImplementor session;
+		private final @Nullable CachedDomainDataAccess cache;
+		private final Iterator<K> candidates;
+		private final @Nullable Function<K, Object> cacheKeyGenerator;
+		private final int chunkSize;
+		private final Set<K> checked = Collections.newSetFromMap( new IdentityHashMap<>() );
+		private final Set<K> cached = Collections.newSetFromMap( new IdentityHashMap<>() );
+
+		private CachedKeys(
+				SharedSessionContractImplementor session,
+				@Nullable CachedDomainDataAccess cache,
+				Iterator<K> candidates,
+				@Nullable Function<K, Object> cacheKeyGenerator,
+				int chunkSize) {
+			this.session = session;
+			this.cache = cache;
+			this.candidates = candidates;
+			this.cacheKeyGenerator = cacheKeyGenerator;
+			this.chunkSize = Math.max( chunkSize, 1 );
+		}
+
+		boolean contains(K key) {
+			if ( cache == null || cacheKeyGenerator == null ) {
+				return false;
+			}
+			while ( !checked.contains( key ) && candidates.hasNext() ) {
+				final Map<Object, K> keysByCacheKey = CollectionHelper.mapOfSize( chunkSize );
+				for ( int i = 0; i < chunkSize && candidates.hasNext(); i++ ) {
+					final K candidate = candidates.next();
+					checked.add( candidate );
+					keysByCacheKey.put( cacheKeyGenerator.apply( candidate ), candidate );
+				}
+				for ( Object cacheKey : cache.getContainedKeys( session, keysByCacheKey.keySet() ) ) {
+					cached.add( keysByCacheKey.get( cacheKey ) );
+				}
+			}
+			return cached.contains( key );
+		}
 	}
 
 	public SharedSessionContractImplementor getSession() {
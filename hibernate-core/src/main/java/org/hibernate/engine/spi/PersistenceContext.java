@@ -170,6 +170,23 @@ public interface PersistenceContext {
 	 */
 	Object getEntity(EntityKey key);
 
+	/**
+	 * Get the entity instance with the given identifier. Equivalent to
+	 * {@link #getEntity(EntityKey)}, but allows implementations to avoid
+	 * allocating an {@link EntityKey} just for the lookup.
+	 *
+	 * @param id The identifier of the entity
+	 * @param persister The persister for the entity
+	 *
+	 * @return The matching entity, or {@code null}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default Object getEntity(Object id, EntityPersister persister) {
+		return getEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
 	/**
 	 * Is there an entity with the given key in the persistence context
 	 *
@@ -510,6 +527,18 @@ public interface PersistenceContext {
 
 	@Nullable EntityHolder getEntityHolder(EntityKey key);
 
+	/**
+	 * Get the {@link EntityHolder} for the entity with the given identifier.
+	 * Equivalent to {@link #getEntityHolder(EntityKey)}, but allows implementations
+	 * to avoid allocating an {@link EntityKey} just for the lookup.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable EntityHolder getEntityHolder(Object id, EntityPersister persister) {
+		return getEntityHolder( getSession().generateEntityKey( id, persister ) );
+	}
+
 	boolean containsEntityHolder(EntityKey key);
 
 	@Nullable EntityHolder removeEntityHolder(EntityKey key);
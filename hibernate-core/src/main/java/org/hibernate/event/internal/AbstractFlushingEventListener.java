@@ -237,12 +237,17 @@ public abstract class AbstractFlushingEventListener {
 		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
 		final int count = entityEntries.length;
 
+		// for very large persistence contexts, compare the state of the
+		// entities using multiple threads before firing the events
+		final ParallelDirtyCheck parallelDirtyCheck = ParallelDirtyCheck.perform( entityEntries, flushListeners, source );
+
 		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
 		int eventGenerationId = 0; //Used to double-check the instance reuse won't cause problems
 
-		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+		for ( int i = 0; i < count; i++ ) {
 			// Update the status of the object and if necessary, schedule an update
 
+			final Map.Entry<Object,EntityEntry> me = entityEntries[i];
 			final EntityEntry entry = me.getValue();
 			final Status status = entry.getStatus();
 
@@ -250,6 +255,9 @@ public abstract class AbstractFlushingEventListener {
 				entityEvent = createOrReuseEventInstance( entityEvent, source, me.getKey(), entry );
 
 				entityEvent.setInstanceGenerationId( ++eventGenerationId );
+				if ( parallelDirtyCheck != null ) {
+					parallelDirtyCheck.apply( i, entityEvent );
+				}
 
 				flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
 				entityEvent.setAllowedToReuse( true );
@@ -33,6 +33,7 @@ import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jpa.event.spi.CallbackRegistry;
 import org.hibernate.jpa.event.spi.CallbackRegistryConsumer;
+import org.hibernate.jpa.event.spi.CallbackType;
 import org.hibernate.metamodel.mapping.NaturalIdMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
@@ -66,6 +67,14 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		this.callbackRegistry = callbackRegistry;
 	}
 
+	/**
+	 * Does the given entity have callbacks which are called before it is updated,
+	 * and which could modify the state of any managed entity?
+	 */
+	boolean hasPreUpdateCallbacks(EntityPersister persister) {
+		return callbackRegistry.hasRegisteredCallbacks( persister.getMappedClass(), CallbackType.PRE_UPDATE );
+	}
+
 	/**
 	 * make sure user didn't mangle the id
 	 */
@@ -136,7 +145,7 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, session );
+		final Object[] values = getValues( event, mightBeDirty );
 
 		event.setPropertyValues( values );
 
@@ -165,7 +174,10 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 	}
 
-	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+	private Object[] getValues(FlushEntityEvent event, boolean mightBeDirty) {
+		final Object entity = event.getEntity();
+		final EntityEntry entry = event.getEntityEntry();
+		final SessionImplementor session = event.getSession();
 		final Object[] loadedState = entry.getLoadedState();
 
 		if ( entry.getStatus() == Status.DELETED ) {
@@ -178,8 +190,10 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		else {
 			final EntityPersister persister = entry.getPersister();
 			checkId( entity, persister, entry.getId(), session );
-			// grab its current state
-			Object[] values = persister.getValues( entity );
+			// grab its current state, unless it was already captured by a parallel dirty check
+			final Object[] values = event.hasPreparedDirtyCheck()
+					? event.getPreparedPropertyValues()
+					: persister.getValues( entity );
 			checkNaturalId( persister, entity, entry, values, loadedState, session );
 			return values;
 		}
@@ -500,8 +514,11 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			final Object[] loadedState = entry.getLoadedState();
 			final Object entity = event.getEntity();
 			if ( loadedState != null ) {
-				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				// dirty check against the usual snapshot of the entity,
+				// unless it was already done by a parallel dirty check
+				dirtyProperties = event.hasPreparedDirtyCheck() && values == event.getPreparedPropertyValues()
+						? event.getPreparedDirtyProperties()
+						: persister.findDirty( values, loadedState, entity, session );
 				dirtyCheckPossible = true;
 			}
 			else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
@@ -22,6 +22,7 @@ import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.sql.results.internal.ResultsHelper;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.hibernate.pretty.MessageHelper.collectionInfoString;
 
 /**
@@ -64,15 +65,20 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 				if ( LOG.isTraceEnabled() ) {
 					LOG.trace( "Collection not cached" );
 				}
+				final StatisticsImplementor statistics = source.getFactory().getStatistics();
+				final boolean stats = statistics.isStatisticsEnabled();
+				final long startTime = stats ? System.nanoTime() : 0;
 				loadedPersister.initialize( loadedKey, source );
 				handlePotentiallyEmptyCollection( collection, persistenceContext, loadedKey, loadedPersister );
 				if ( LOG.isTraceEnabled() ) {
 					LOG.trace( "Collection initialized" );
 				}
 
-				final StatisticsImplementor statistics = source.getFactory().getStatistics();
-				if ( statistics.isStatisticsEnabled() ) {
-					statistics.fetchCollection( loadedPersister.getRole() );
+				if ( stats ) {
+					statistics.fetchCollection(
+							loadedPersister.getRole(),
+							NANOSECONDS.toMicros( System.nanoTime() - startTime )
+					);
 				}
 			}
 		}
@@ -4,6 +4,7 @@
  */
 package org.hibernate.event.internal;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
 import org.hibernate.NonUniqueObjectException;
@@ -38,6 +39,7 @@ import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.pretty.MessageHelper.infoString;
@@ -96,7 +98,12 @@ public class DefaultLoadEventListener implements LoadEventListener {
 
 	private void doOnLoad(EntityPersister persister, LoadEvent event, LoadType loadType) {
 		try {
-			final EntityKey keyToLoad = event.getSession().generateEntityKey( event.getEntityId(), persister );
+			// a persistence context keyed by primitive identifiers can be searched
+			// without an EntityKey, so then we only generate it when it's needed
+			final EntityKey keyToLoad =
+					event.getFactory().getSessionFactoryOptions().isPersistenceContextPrimitiveKeysEnabled()
+							? null
+							: entityKey( event, persister, null );
 			if ( loadType.isNakedEntityReturned() ) {
 				//do not return a proxy!
 				//(this option indicates we are initializing a proxy)
@@ -183,12 +190,12 @@ public class DefaultLoadEventListener implements LoadEventListener {
 	 *
 	 * @param event The initiating load request event
 	 * @param persister The persister corresponding to the entity to be loaded
-	 * @param keyToLoad The key of the entity to be loaded
+	 * @param keyToLoad The key of the entity to be loaded, if already generated
 	 * @param options The defined load options
 	 *
 	 * @return The loaded entity.
 	 */
-	private Object load(LoadEvent event, EntityPersister persister, EntityKey keyToLoad, LoadType options) {
+	private Object load(LoadEvent event, EntityPersister persister, @Nullable EntityKey keyToLoad, LoadType options) {
 		if ( event.getInstanceToLoad() != null ) {
 			final EventSource session = event.getSession();
 			if ( session.getPersistenceContextInternal().getEntry( event.getInstanceToLoad() ) != null ) {
@@ -219,12 +226,12 @@ public class DefaultLoadEventListener implements LoadEventListener {
 	 *
 	 * @param event The initiating load request event
 	 * @param persister The persister corresponding to the entity to be loaded
-	 * @param keyToLoad The key of the entity to be loaded
+	 * @param keyToLoad The key of the entity to be loaded, if already generated
 	 * @param options The defined load options
 	 *
 	 * @return The result of the proxy/load operation.
 	 */
-	private Object proxyOrLoad(LoadEvent event, EntityPersister persister, EntityKey keyToLoad, LoadType options) {
+	private Object proxyOrLoad(LoadEvent event, EntityPersister persister, @Nullable EntityKey keyToLoad, LoadType options) {
 		if ( LOG.isTraceEnabled() ) {
 			LOG.tracev(
 					"Loading entity: {0}",
@@ -243,19 +250,23 @@ public class DefaultLoadEventListener implements LoadEventListener {
 		}
 	}
 
-	private Object loadWithBytecodeProxy(LoadEvent event, EntityPersister persister, EntityKey keyToLoad, LoadType options) {
+	private Object loadWithBytecodeProxy(
+			LoadEvent event,
+			EntityPersister persister,
+			@Nullable EntityKey keyToLoad,
+			LoadType options) {
 		// This is the case where we can use the entity itself as a proxy:
 		// if there is already a managed entity instance associated with the PC, return it
 		final EventSource session = event.getSession();
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-		final EntityHolder holder = persistenceContext.getEntityHolder( keyToLoad );
+		final EntityHolder holder = entityHolder( persistenceContext, event, persister, keyToLoad );
 		final Object managed = holder == null ? null : holder.getEntity();
 		if ( managed != null ) {
 			return options.isCheckDeleted() && wasDeleted( persistenceContext, managed ) ? null : managed;
 		}
 		else if ( persister.getRepresentationStrategy().getProxyFactory() != null ) {
 			// we have a HibernateProxy factory, this case is more complicated
-			return loadWithProxyFactory( event, persister, keyToLoad, holder );
+			return loadWithProxyFactory( event, persister, entityKey( event, persister, keyToLoad ), holder );
 		}
 		else if ( persister.hasSubclasses() ) {
 			// the entity class has subclasses and there is no HibernateProxy factory
@@ -263,19 +274,23 @@ public class DefaultLoadEventListener implements LoadEventListener {
 		}
 		else {
 			// no HibernateProxy factory, and no subclasses
-			return createBatchLoadableEnhancedProxy( persister, keyToLoad, session );
+			return createBatchLoadableEnhancedProxy( persister, entityKey( event, persister, keyToLoad ), session );
 		}
 	}
 
-	private Object loadWithRegularProxy(LoadEvent event, EntityPersister persister, EntityKey keyToLoad, LoadType options) {
+	private Object loadWithRegularProxy(
+			LoadEvent event,
+			EntityPersister persister,
+			@Nullable EntityKey keyToLoad,
+			LoadType options) {
 		// This is the case where the proxy is a separate object:
 		// look for a proxy
 		final PersistenceContext persistenceContext = event.getSession().getPersistenceContextInternal();
-		final EntityHolder holder = persistenceContext.getEntityHolder( keyToLoad );
+		final EntityHolder holder = entityHolder( persistenceContext, event, persister, keyToLoad );
 		final Object proxy = holder == null ? null : holder.getProxy();
 		if ( proxy != null ) {
 			// narrow the existing proxy to the type we're looking for
-			return narrowedProxy( event, persister, keyToLoad, options, proxy );
+			return narrowedProxy( event, persister, entityKey( event, persister, keyToLoad ), options, proxy );
 		}
 		else if ( options.isAllowProxyCreation() ) {
 			// return a new proxy
@@ -410,7 +425,7 @@ public class DefaultLoadEventListener implements LoadEventListener {
 	 *
 	 * @param event The initiating load request event
 	 * @param persister The persister corresponding to the entity to be loaded
-	 * @param keyToLoad The key of the entity to be loaded
+	 * @param keyToLoad The key of the entity to be loaded, if already generated
 	 * @param options The defined load options
 	 * @param holder an {@link EntityHolder} for the key
 	 *
@@ -419,7 +434,7 @@ public class DefaultLoadEventListener implements LoadEventListener {
 	private static Object createProxyIfNecessary(
 			LoadEvent event,
 			EntityPersister persister,
-			EntityKey keyToLoad,
+			@Nullable EntityKey keyToLoad,
 			LoadType options,
 			EntityHolder holder) {
 		final Object existing = holder == null ? null : holder.getEntity();
@@ -434,7 +449,7 @@ public class DefaultLoadEventListener implements LoadEventListener {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Creating new proxy for entity" );
 			}
-			return createProxy( event, persister, keyToLoad );
+			return createProxy( event, persister, entityKey( event, persister, keyToLoad ) );
 		}
 	}
 
@@ -458,12 +473,12 @@ public class DefaultLoadEventListener implements LoadEventListener {
 	 *
 	 * @param event The initiating load request event
 	 * @param persister The persister corresponding to the entity to be loaded
-	 * @param keyToLoad The key of the entity to be loaded
+	 * @param keyToLoad The key of the entity to be loaded, if already generated
 	 * @param options The defined load options
 	 *
 	 * @return The loaded entity
 	 */
-	private Object lockAndLoad(LoadEvent event, EntityPersister persister, EntityKey keyToLoad, LoadType options) {
+	private Object lockAndLoad(LoadEvent event, EntityPersister persister, @Nullable EntityKey keyToLoad, LoadType options) {
 		final SessionImplementor source = event.getSession();
 		final EntityDataAccess cache = persister.getCacheAccessStrategy();
 
@@ -494,7 +509,8 @@ public class DefaultLoadEventListener implements LoadEventListener {
 			}
 		}
 
-		return source.getPersistenceContextInternal().proxyFor( persister, keyToLoad, entity );
+		return source.getPersistenceContextInternal()
+				.proxyFor( persister, entityKey( event, persister, keyToLoad ), entity );
 	}
 
 
@@ -506,12 +522,12 @@ public class DefaultLoadEventListener implements LoadEventListener {
 	 *
 	 * @param event The load event
 	 * @param persister The persister for the entity being requested for load
-	 * @param keyToLoad The EntityKey representing the entity to be loaded.
+	 * @param keyToLoad The EntityKey representing the entity to be loaded, if already generated
 	 * @param options The load options.
 	 *
 	 * @return The loaded entity, or null.
 	 */
-	private Object doLoad(LoadEvent event, EntityPersister persister, EntityKey keyToLoad, LoadType options) {
+	private Object doLoad(LoadEvent event, EntityPersister persister, @Nullable EntityKey keyToLoad, LoadType options) {
 		final EventSource session = event.getSession();
 
 		if ( LOG.isTraceEnabled() ) {
@@ -521,12 +537,15 @@ public class DefaultLoadEventListener implements LoadEventListener {
 			);
 		}
 
-		if ( session.getPersistenceContextInternal().containsDeletedUnloadedEntityKey( keyToLoad ) ) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		if ( persistenceContext.containsDeletedUnloadedEntityKeys()
+				&& persistenceContext.containsDeletedUnloadedEntityKey( entityKey( event, persister, keyToLoad ) ) ) {
 			return null;
 		}
 		else {
-			final PersistenceContextEntry persistenceContextEntry
-					= CacheEntityLoaderHelper.INSTANCE.loadFromSessionCache( event, keyToLoad, options );
+			final PersistenceContextEntry persistenceContextEntry = keyToLoad == null
+					? CacheEntityLoaderHelper.INSTANCE.loadFromSessionCache( event, persister, options )
+					: CacheEntityLoaderHelper.INSTANCE.loadFromSessionCache( event, keyToLoad, options );
 			final Object entity = persistenceContextEntry.getEntity();
 			if ( entity != null ) {
 				if ( persistenceContextEntry.isManaged() ) {
@@ -538,11 +557,27 @@ public class DefaultLoadEventListener implements LoadEventListener {
 				}
 			}
 			else {
-				return load( event, persister, keyToLoad );
+				return load( event, persister, entityKey( event, persister, keyToLoad ) );
 			}
 		}
 	}
 
+	private static EntityKey entityKey(LoadEvent event, EntityPersister persister, @Nullable EntityKey keyToLoad) {
+		return keyToLoad == null
+				? event.getSession().generateEntityKey( event.getEntityId(), persister )
+				: keyToLoad;
+	}
+
+	private static @Nullable EntityHolder entityHolder(
+			PersistenceContext persistenceContext,
+			LoadEvent event,
+			EntityPersister persister,
+			@Nullable EntityKey keyToLoad) {
+		return keyToLoad == null
+				? persistenceContext.getEntityHolder( event.getEntityId(), persister )
+				: persistenceContext.getEntityHolder( keyToLoad );
+	}
+
 	private static void initializeIfNecessary(Object entity) {
 		if ( isPersistentAttributeInterceptable( entity ) ) {
 			final PersistentAttributeInterceptable interceptable = asPersistentAttributeInterceptable( entity );
@@ -598,6 +633,9 @@ public class DefaultLoadEventListener implements LoadEventListener {
 	 * @return The object loaded from the datasource, or null if not found.
 	 */
 	protected Object loadFromDatasource(final LoadEvent event, final EntityPersister persister) {
+		final StatisticsImplementor statistics = event.getFactory().getStatistics();
+		final boolean stats = event.isAssociationFetch() && statistics.isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0;
 		Object entity = persister.load(
 				event.getEntityId(),
 				event.getInstanceToLoad(),
@@ -617,9 +655,11 @@ public class DefaultLoadEventListener implements LoadEventListener {
 			entity = lazyInitializer.getImplementation();
 		}
 
-		final StatisticsImplementor statistics = event.getFactory().getStatistics();
-		if ( event.isAssociationFetch() && statistics.isStatisticsEnabled() ) {
-			statistics.fetchEntity( event.getEntityClassName() );
+		if ( stats ) {
+			statistics.fetchEntity(
+					event.getEntityClassName(),
+					NANOSECONDS.toMicros( System.nanoTime() - startTime )
+			);
 		}
 
 		return entity;
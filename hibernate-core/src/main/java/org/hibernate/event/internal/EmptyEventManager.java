@@ -234,4 +234,46 @@ public final class EmptyEventManager implements EventManager {
 			SharedSessionContractImplementor session) {
 
 	}
+
+	@Override
+	public HibernateMonitoringEvent beginQueryInterpretationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeQueryInterpretationEvent(
+			HibernateMonitoringEvent queryInterpretationEvent,
+			SharedSessionContractImplementor session,
+			String hql) {
+
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginQueryTranslationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeQueryTranslationEvent(
+			HibernateMonitoringEvent queryTranslationEvent,
+			SharedSessionContractImplementor session,
+			String sql) {
+
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginResultHydrationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeResultHydrationEvent(
+			HibernateMonitoringEvent resultHydrationEvent,
+			SharedSessionContractImplementor session,
+			String sql,
+			int rowCount,
+			int entityCount,
+			int collectionCount) {
+
+	}
 }
@@ -0,0 +1,221 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.internal;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.hibernate.boot.internal.DefaultCustomEntityDirtinessStrategy;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.internal.EmptyInterceptor;
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+
+/**
+ * Compares the current state of the entities of a persistence context with
+ * their loaded state using the threads of the common {@code ForkJoinPool},
+ * before the {@link FlushEntityEvent}s are fired one by one on the flushing
+ * thread.
+ * <p>
+ * The result for each entity is handed to the {@link DefaultFlushEntityEventListener}
+ * via {@link FlushEntityEvent#setPreparedDirtyCheck}, so that everything else,
+ * including the scheduling of updates, happens on the flushing thread, in the
+ * same order as without parallel dirty checking.
+ * <p>
+ * Parallel dirty checking is not used when any of the entities has a
+ * {@link jakarta.persistence.PreUpdate} callback, since the callback could
+ * modify the state of other entities after it was read.
+ * <p>
+ * Only the work which is side-effect free is done in parallel: extracting the
+ * current state, and comparing it with the loaded state of the entities whose
+ * attributes are all basic values, embeddables of basic values, or to-one
+ * associations which still refer to the same instance. Anything else is left
+ * to the flushing thread.
+ *
+ * @see org.hibernate.cfg.PersistenceSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD
+ */
+final class ParallelDirtyCheck {
+	// marks persisters whose entities must be dirty checked on the flushing thread
+	private static final int[] NOT_ELIGIBLE = new int[0];
+
+	private final Object[][] propertyValues;
+	private final int[][] dirtyProperties;
+
+	private ParallelDirtyCheck(int size) {
+		propertyValues = new Object[size][];
+		dirtyProperties = new int[size][];
+	}
+
+	/**
+	 * Perform the dirty check of the given entities in parallel, if enabled and
+	 * possible for this session.
+	 *
+	 * @return the results, or {@code null} if parallel dirty checking was not performed
+	 */
+	static @Nullable ParallelDirtyCheck perform(
+			Map.Entry<Object, EntityEntry>[] entityEntries,
+			EventListenerGroup<FlushEntityEventListener> flushListeners,
+			EventSource session) {
+		if ( !isApplicable( entityEntries.length, flushListeners, session ) ) {
+			return null;
+		}
+
+		// a PreUpdate callback might modify any other managed entity,
+		// so its state must not be read before the callback was called
+		final DefaultFlushEntityEventListener listener =
+				(DefaultFlushEntityEventListener) flushListeners.listeners().iterator().next();
+		final Map<EntityPersister, Boolean> callbacks = new IdentityHashMap<>();
+		for ( Map.Entry<Object, EntityEntry> entityEntry : entityEntries ) {
+			if ( callbacks.computeIfAbsent( entityEntry.getValue().getPersister(), listener::hasPreUpdateCallbacks ) ) {
+				return null;
+			}
+		}
+
+		// decide which entities can be checked in parallel, on this thread,
+		// along with the positions of their to-one associations
+		final int[][] associationPositions = new int[entityEntries.length][];
+		final Map<EntityPersister, int[]> eligibility = new IdentityHashMap<>();
+		for ( int i = 0; i < entityEntries.length; i++ ) {
+			final EntityEntry entry = entityEntries[i].getValue();
+			if ( entry.getStatus() == Status.MANAGED
+					&& entry.getLoadedState() != null
+					&& entry.isModifiableEntity()
+					&& !isPersistentAttributeInterceptable( entityEntries[i].getKey() ) ) {
+				final int[] positions =
+						eligibility.computeIfAbsent( entry.getPersister(), ParallelDirtyCheck::associationPositions );
+				if ( positions != NOT_ELIGIBLE ) {
+					associationPositions[i] = positions;
+				}
+			}
+		}
+
+		final ParallelDirtyCheck result = new ParallelDirtyCheck( entityEntries.length );
+		IntStream.range( 0, entityEntries.length ).parallel().forEach( i -> {
+			final int[] positions = associationPositions[i];
+			if ( positions != null ) {
+				result.prepare( i, entityEntries[i].getKey(), entityEntries[i].getValue(), positions, session );
+			}
+		} );
+		return result;
+	}
+
+	private static boolean isApplicable(
+			int numberOfEntities,
+			EventListenerGroup<FlushEntityEventListener> flushListeners,
+			EventSource session) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final int threshold = factory.getSessionFactoryOptions().getParallelDirtyCheckingThreshold();
+		if ( threshold <= 0 || numberOfEntities < threshold ) {
+			return false;
+		}
+		// only when no user code could observe that the state of
+		// the entities was read ahead of their FlushEntityEvent
+		else if ( session.getInterceptor() != EmptyInterceptor.INSTANCE
+				|| factory.getCustomEntityDirtinessStrategy() != DefaultCustomEntityDirtinessStrategy.INSTANCE
+				|| flushListeners.count() != 1 ) {
+			return false;
+		}
+		else {
+			for ( FlushEntityEventListener listener : flushListeners.listeners() ) {
+				if ( listener.getClass() != DefaultFlushEntityEventListener.class ) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * @return the positions of the to-one associations of the entity, or
+	 * {@link #NOT_ELIGIBLE} if the entity must be checked on the flushing thread
+	 */
+	private static int[] associationPositions(EntityPersister persister) {
+		if ( persister.hasCollections() ) {
+			// collections need to be wrapped before dirty checking
+			return NOT_ELIGIBLE;
+		}
+		final Type[] propertyTypes = persister.getPropertyTypes();
+		final int[] positions = new int[propertyTypes.length];
+		int count = 0;
+		for ( int i = 0; i < propertyTypes.length; i++ ) {
+			final Type type = propertyTypes[i];
+			if ( type instanceof EntityType ) {
+				positions[count++] = i;
+			}
+			else if ( !isValueType( type ) ) {
+				return NOT_ELIGIBLE;
+			}
+		}
+		return ArrayHelper.trim( positions, count );
+	}
+
+	private static boolean isValueType(Type type) {
+		if ( type instanceof BasicType ) {
+			return true;
+		}
+		else if ( type instanceof ComponentType componentType ) {
+			for ( Type subtype : componentType.getSubtypes() ) {
+				if ( !isValueType( subtype ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	private void prepare(
+			int index,
+			Object entity,
+			EntityEntry entry,
+			int[] associationPositions,
+			EventSource session) {
+		final EntityPersister persister = entry.getPersister();
+		final Object[] loadedState = entry.getLoadedState();
+		try {
+			final Object[] values = persister.getValues( entity );
+			for ( int position : associationPositions ) {
+				if ( values[position] != loadedState[position] ) {
+					// comparing associations might need to look at the
+					// persistence context, leave it to the flushing thread
+					return;
+				}
+			}
+			dirtyProperties[index] = persister.findDirty( values, loadedState, entity, session );
+			propertyValues[index] = values;
+		}
+		catch (RuntimeException e) {
+			// the dirty check of this entity will be done again on the flushing
+			// thread, which will report the problem at the usual point in time
+		}
+	}
+
+	/**
+	 * Attach the result of the dirty check of the entity at the given position to the event.
+	 */
+	void apply(int index, FlushEntityEvent event) {
+		final Object[] values = propertyValues[index];
+		if ( values != null ) {
+			event.setPreparedDirtyCheck( values, dirtyProperties[index] );
+		}
+	}
+}
@@ -157,6 +157,48 @@ public interface EventManager {
 			SharedSessionContractImplementor session
 	);
 
+	/**
+	 * Begin the interpretation of an HQL query which was not found in the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+	 * interpretation cache}.
+	 *
+	 * @since 7.0
+	 */
+	HibernateMonitoringEvent beginQueryInterpretationEvent();
+
+	void completeQueryInterpretationEvent(
+			HibernateMonitoringEvent queryInterpretationEvent,
+			SharedSessionContractImplementor session,
+			String hql);
+
+	/**
+	 * Begin the translation of a query from SQM to a SQL AST, and from the SQL
+	 * AST to the SQL sent to the database.
+	 *
+	 * @since 7.0
+	 */
+	HibernateMonitoringEvent beginQueryTranslationEvent();
+
+	void completeQueryTranslationEvent(
+			HibernateMonitoringEvent queryTranslationEvent,
+			SharedSessionContractImplementor session,
+			String sql);
+
+	/**
+	 * Begin the processing of the results of a query.
+	 *
+	 * @since 7.0
+	 */
+	HibernateMonitoringEvent beginResultHydrationEvent();
+
+	void completeResultHydrationEvent(
+			HibernateMonitoringEvent resultHydrationEvent,
+			SharedSessionContractImplementor session,
+			String sql,
+			int rowCount,
+			int entityCount,
+			int collectionCount);
+
 	enum CacheActionDescription {
 		ENTITY_INSERT( "Entity Insert" ),
 		ENTITY_AFTER_INSERT( "Entity After Insert" ),
@@ -4,6 +4,7 @@
  */
 package org.hibernate.event.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.EntityEntry;
 
 /**
@@ -21,6 +22,8 @@ public class FlushEntityEvent extends AbstractEvent {
 	private EntityEntry entityEntry;
 	private boolean allowedToReuse;//allows this event instance to be reused for multiple events: special case to GC
 	private int instanceGenerationId;//in support of event instance reuse: to double check no recursive/nested use is happening
+	private Object[] preparedPropertyValues;
+	private int[] preparedDirtyProperties;
 
 	public FlushEntityEvent(EventSource source, Object entity, EntityEntry entry) {
 		super(source);
@@ -77,6 +80,59 @@ public class FlushEntityEvent extends AbstractEvent {
 		return entity;
 	}
 
+	/**
+	 * Supply the current state of the entity, along with the result of its comparison
+	 * with the loaded state, when they were already determined before this event was
+	 * fired, for example by a parallel dirty check of the whole persistence context.
+	 *
+	 * @param preparedPropertyValues The current state of the entity
+	 * @param preparedDirtyProperties The dirty properties, or {@code null} if none
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	public void setPreparedDirtyCheck(Object[] preparedPropertyValues, int[] preparedDirtyProperties) {
+		this.preparedPropertyValues = preparedPropertyValues;
+		this.preparedDirtyProperties = preparedDirtyProperties;
+	}
+
+	/**
+	 * Were the current state of the entity and its dirty properties determined
+	 * before this event was fired?
+	 *
+	 * @see #setPreparedDirtyCheck(Object[], int[])
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	public boolean hasPreparedDirtyCheck() {
+		return preparedPropertyValues != null;
+	}
+
+	/**
+	 * The current state of the entity, if it was determined before this event was fired.
+	 *
+	 * @see #setPreparedDirtyCheck(Object[], int[])
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	public Object[] getPreparedPropertyValues() {
+		return preparedPropertyValues;
+	}
+
+	/**
+	 * The dirty properties of the entity, if they were determined before this event was fired.
+	 *
+	 * @see #setPreparedDirtyCheck(Object[], int[])
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	public int[] getPreparedDirtyProperties() {
+		return preparedDirtyProperties;
+	}
+
 	/**
 	 * This is a terrible anti-pattern, but particular circumstances call for being
 	 * able to reuse the same event instance: this is otherwise allocated in hot loops
@@ -100,6 +156,8 @@ public class FlushEntityEvent extends AbstractEvent {
 		this.hasDirtyCollection = false;
 		this.dirtyCheckPossible = false;
 		this.dirtyCheckHandledByInterceptor = false;
+		this.preparedPropertyValues = null;
+		this.preparedDirtyProperties = null;
 	}
 
 	public boolean isAllowedToReuse() {
@@ -0,0 +1,233 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledLoOptimizer} designed for high rates of concurrent
+ * inserts.
+ * <ul>
+ * <li>Values are handed out from the current block using a CAS on an
+ *     {@link AtomicLong}, so {@link #generate} never blocks while the current
+ *     block has values left.
+ * <li>The generation state is striped: each stripe reserves its own blocks
+ *     from the database, and threads are spread over the stripes, so that the
+ *     counter of a single block is not contended by every core.
+ * <li>Once half of the current block of a stripe has been consumed, the next
+ *     block is fetched ahead of time by the thread which crossed that mark,
+ *     while all other threads keep consuming the current block. The database
+ *     round trip is therefore only in the latency path of a single insert,
+ *     instead of stalling every thread waiting on the optimizer lock.
+ * </ul>
+ * <p>
+ * As with {@link PooledLoThreadLocalOptimizer}, identifiers are unique, but are
+ * not monotonically increasing across threads, and up to two blocks per stripe
+ * may be left unused when the {@code SessionFactory} is closed.
+ * <p>
+ * The next block is fetched using the {@link AccessCallback} of the session
+ * which requested a value, since the callback is bound to that session's JDBC
+ * connection; it is never accessed from a background thread.
+ *
+ * @see PooledLoOptimizer
+ * @see PooledLoThreadLocalOptimizer
+ */
+public class PooledLoStripedOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			MethodHandles.lookup(),
+			CoreMessageLogger.class,
+			PooledLoStripedOptimizer.class.getName()
+	);
+
+	private static final int MAX_STRIPES = 64;
+
+	private final GenerationState[] noTenantStates;
+	private final Map<String, GenerationState[]> tenantSpecificStates = new ConcurrentHashMap<>();
+	private final int stripeMask;
+
+	private volatile IntegralDataTypeHolder lastSourceValue;
+
+	/**
+	 * Constructs a {@code PooledLoStripedOptimizer}.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoStripedOptimizer(Class<?> returnClass, int incrementSize) {
+		this( returnClass, incrementSize, Runtime.getRuntime().availableProcessors() );
+	}
+
+	/**
+	 * Constructs a {@code PooledLoStripedOptimizer}.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 * @param concurrencyLevel The expected number of concurrently inserting threads,
+	 * rounded up to a power of two to obtain the number of stripes
+	 */
+	public PooledLoStripedOptimizer(Class<?> returnClass, int incrementSize, int concurrencyLevel) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		final int stripes = stripes( concurrencyLevel );
+		this.stripeMask = stripes - 1;
+		this.noTenantStates = newStates( stripes );
+		LOG.creatingPooledLoOptimizer( incrementSize, returnClass.getName() );
+	}
+
+	private static int stripes(int concurrencyLevel) {
+		final int level = Math.max( 1, Math.min( concurrencyLevel, MAX_STRIPES ) );
+		return Integer.highestOneBit( level ) == level ? level : Integer.highestOneBit( level ) << 1;
+	}
+
+	private GenerationState[] newStates(int stripes) {
+		final GenerationState[] states = new GenerationState[stripes];
+		for ( int i = 0; i < stripes; i++ ) {
+			states[i] = new GenerationState();
+		}
+		return states;
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final GenerationState[] states = locateGenerationStates( callback.getTenantIdentifier() );
+		return makeValue( states[stripe()].generate( callback ) );
+	}
+
+	private int stripe() {
+		final long threadId = Thread.currentThread().getId();
+		// spread the bits, thread ids are mostly small and sequential
+		final int hash = (int) ( threadId ^ ( threadId >>> 32 ) ) * 0x9E3779B9;
+		return ( hash ^ ( hash >>> 16 ) ) & stripeMask;
+	}
+
+	private GenerationState[] locateGenerationStates(String tenantIdentifier) {
+		return tenantIdentifier == null
+				? noTenantStates
+				: tenantSpecificStates.computeIfAbsent( tenantIdentifier, tenant -> newStates( stripeMask + 1 ) );
+	}
+
+	private Serializable makeValue(long value) {
+		final Class<?> returnClass = getReturnClass();
+		if ( returnClass == Long.class ) {
+			return value;
+		}
+		else if ( returnClass == Integer.class ) {
+			return (int) value;
+		}
+		else {
+			return IdentifierGeneratorHelper.getIntegralDataTypeHolder( returnClass ).initialize( value ).makeValue();
+		}
+	}
+
+	/**
+	 * A block of values {@code [next, upperLimit)} reserved from the database.
+	 */
+	private static final class Block {
+		private final AtomicLong next;
+		private final long upperLimit;
+		private final long prefetchMark;
+
+		private Block(long lo, long upperLimit) {
+			this.next = new AtomicLong( lo );
+			this.upperLimit = upperLimit;
+			this.prefetchMark = lo + ( upperLimit - lo ) / 2;
+		}
+	}
+
+	private final class GenerationState {
+		// only ever held while talking to the database
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private volatile Block current;
+		private volatile Block prefetched;
+
+		private long generate(AccessCallback callback) {
+			while ( true ) {
+				final Block block = current;
+				if ( block != null ) {
+					final long value = block.next.getAndIncrement();
+					if ( value < block.upperLimit ) {
+						if ( value == block.prefetchMark && incrementSize > 1 ) {
+							prefetch( callback );
+						}
+						return value;
+					}
+				}
+				advance( callback, block );
+			}
+		}
+
+		/**
+		 * Fetch the block following the current one, unless another thread
+		 * is already talking to the database for this stripe.
+		 */
+		private void prefetch(AccessCallback callback) {
+			if ( prefetched == null && lock.tryLock() ) {
+				try {
+					if ( prefetched == null ) {
+						prefetched = fetch( callback );
+					}
+				}
+				finally {
+					lock.unlock();
+				}
+			}
+		}
+
+		/**
+		 * Replace the exhausted block with the prefetched one, or with a
+		 * newly fetched one if it was not possible to fetch it ahead.
+		 */
+		private void advance(AccessCallback callback, Block exhausted) {
+			lock.lock();
+			try {
+				if ( current == exhausted ) {
+					final Block next = prefetched;
+					prefetched = null;
+					current = next == null ? fetch( callback ) : next;
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private Block fetch(AccessCallback callback) {
+			final IntegralDataTypeHolder sourceValue = callback.getNextValue();
+			lastSourceValue = sourceValue;
+			final long lo = sourceValue.makeValue().longValue();
+			// handle cases where initial-value is less that one (hsqldb for instance).
+			return new Block( Math.max( lo, 1L ), lo + incrementSize );
+		}
+	}
+
+	// for Hibernate testsuite use only
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		if ( lastSourceValue == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+}
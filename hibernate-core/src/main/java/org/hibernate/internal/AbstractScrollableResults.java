@@ -88,6 +88,12 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 		getJdbcValues().setFetchSize(fetchSize);
 	}
 
+	/**
+	 * Called when the results are closed, before the JDBC values are released.
+	 */
+	protected void beforeClose() {
+	}
+
 	@Override
 	public final void close() {
 		if ( this.closed ) {
@@ -95,6 +101,8 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 			return;
 		}
 
+		beforeClose();
+
 		rowReader.finishUp( rowProcessingState );
 		jdbcValues.finishUp( persistenceContext );
 
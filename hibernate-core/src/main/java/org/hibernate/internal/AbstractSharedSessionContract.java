@@ -47,6 +47,7 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.transaction.internal.TransactionImpl;
 import org.hibernate.engine.transaction.spi.TransactionImplementor;
 import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.graph.internal.RootGraphImpl;
 import org.hibernate.graph.spi.RootGraphImplementor;
@@ -75,9 +76,11 @@ import org.hibernate.query.criteria.CriteriaDefinition;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.query.criteria.JpaCriteriaInsert;
 import org.hibernate.query.criteria.JpaCriteriaInsertSelect;
+import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.hql.spi.SqmQueryImplementor;
 import org.hibernate.query.named.NamedResultSetMappingMemento;
 import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryImplementor;
 import org.hibernate.query.sql.internal.NativeQueryImpl;
 import org.hibernate.query.sql.spi.NamedNativeQueryMemento;
@@ -827,7 +830,33 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 	}
 
 	protected <R> HqlInterpretation<R> interpretHql(String hql, Class<R> resultType) {
-		return getFactory().getQueryEngine().interpretHql( hql, resultType );
+		final QueryEngine queryEngine = getFactory().getQueryEngine();
+		final EventManager eventManager = getEventManager();
+		final HibernateMonitoringEvent queryInterpretationEvent = eventManager.beginQueryInterpretationEvent();
+		if ( queryInterpretationEvent == null ) {
+			return queryEngine.interpretHql( hql, resultType );
+		}
+		else {
+			// the translator is only called when the interpretation was not cached,
+			// and so the event is only completed for cache misses
+			final HqlTranslator translator = queryEngine.getHqlTranslator();
+			return queryEngine.getInterpretationCache().resolveHqlInterpretation(
+					hql,
+					resultType,
+					new HqlTranslator() {
+						@Override
+						public <T> SqmStatement<T> translate(String queryString, Class<T> expectedResultType) {
+							final SqmStatement<T> statement = translator.translate( queryString, expectedResultType );
+							eventManager.completeQueryInterpretationEvent(
+									queryInterpretationEvent,
+									AbstractSharedSessionContract.this,
+									queryString
+							);
+							return statement;
+						}
+					}
+			);
+		}
 	}
 
 	protected static void checkSelectionQuery(String hql, HqlInterpretation<?> hqlInterpretation) {
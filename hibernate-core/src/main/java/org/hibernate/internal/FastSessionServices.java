@@ -17,6 +17,8 @@ import org.hibernate.TimeZoneStorageStrategy;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.internal.AdaptiveBatchFetchSizing;
+import org.hibernate.engine.internal.InsertActionSorter;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
@@ -176,6 +178,8 @@ public final class FastSessionServices {
 	public final BatchBuilder batchBuilder;
 	public final Dialect dialect;
 	public final ParameterMarkerStrategy parameterMarkerStrategy;
+	public final InsertActionSorter insertActionSorter;
+	public final AdaptiveBatchFetchSizing adaptiveBatchFetchSizing;
 
 	//Private fields:
 	private final CacheStoreMode defaultCacheStoreMode;
@@ -268,6 +272,10 @@ public final class FastSessionServices {
 		this.jsonFormatMapper = sessionFactoryOptions.getJsonFormatMapper();
 		this.xmlFormatMapper = sessionFactoryOptions.getXmlFormatMapper();
 		this.batchBuilder = serviceRegistry.getService( BatchBuilder.class );
+		this.insertActionSorter = new InsertActionSorter( sessionFactory );
+		this.adaptiveBatchFetchSizing = sessionFactoryOptions.isAdaptiveBatchFetchSizeEnabled()
+				? new AdaptiveBatchFetchSizing()
+				: null;
 		final Collection<EventManager> eventManagers = classLoaderService.loadJavaServices( EventManager.class );
 		this.eventManager = eventManagers.isEmpty()
 				? new EmptyEventManager()
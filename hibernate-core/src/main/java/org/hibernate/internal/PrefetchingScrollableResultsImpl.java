@@ -0,0 +1,349 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.spi.LoadContexts;
+import org.hibernate.sql.results.spi.RowReader;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Forward-only ScrollableResults implementation which reads and hydrates the
+ * rows in a background thread, one window of rows at a time, while the client
+ * processes the rows of the previous window. At most two hydrated windows are
+ * held in memory, in addition to the window being processed by the client.
+ * <p>
+ * The background thread is a virtual thread, when the JVM supports them.
+ * Since it uses the session, this implementation is only used for
+ * stateless sessions, and the session must not be used by the client until
+ * the results have been fully read or closed. The background thread gives up
+ * if the session is closed, or its transaction completes, while it waits for
+ * the client to take a window.
+ *
+ * @see org.hibernate.cfg.QuerySettings#SCROLL_PREFETCH
+ */
+public class PrefetchingScrollableResultsImpl<R> extends AbstractScrollableResults<R> {
+	private static final int DEFAULT_WINDOW_SIZE = 100;
+	private static final int BUFFERED_WINDOWS = 2;
+	private static final @Nullable Method START_VIRTUAL_THREAD = startVirtualThreadMethod();
+
+	private final int windowSize;
+	private final BlockingQueue<Window<R>> windows = new ArrayBlockingQueue<>( BUFFERED_WINDOWS );
+	private volatile boolean stopped;
+	private @Nullable Thread producer;
+	private boolean transactional;
+
+	private List<R> window = emptyList();
+	private boolean lastWindow;
+	private int index = -1;
+	private int position = -1;
+	private R currentRow;
+
+	public PrefetchingScrollableResultsImpl(
+			JdbcValues jdbcValues,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<R> rowReader,
+			SharedSessionContractImplementor persistenceContext) {
+		super(
+				jdbcValues,
+				processingOptions,
+				jdbcValuesSourceProcessingState,
+				rowProcessingState,
+				rowReader,
+				persistenceContext
+		);
+		this.windowSize = windowSize( rowProcessingState, persistenceContext );
+	}
+
+	private static int windowSize(
+			RowProcessingStateStandardImpl rowProcessingState,
+			SharedSessionContractImplementor session) {
+		final Integer fetchSize = rowProcessingState.getQueryOptions().getFetchSize();
+		if ( fetchSize != null && fetchSize > 0 ) {
+			return fetchSize;
+		}
+		final Integer jdbcFetchSize = session.getFactory().getSessionFactoryOptions().getJdbcFetchSize();
+		if ( jdbcFetchSize != null && jdbcFetchSize > 0 ) {
+			return jdbcFetchSize;
+		}
+		return DEFAULT_WINDOW_SIZE;
+	}
+
+	@Override
+	protected R getCurrentRow() {
+		return currentRow;
+	}
+
+	@Override
+	public boolean next() {
+		if ( hasNextRow() ) {
+			index++;
+			position++;
+			currentRow = window.get( index );
+			return true;
+		}
+		else {
+			position = -1;
+			currentRow = null;
+			return false;
+		}
+	}
+
+	/**
+	 * Make the window following the current row available, waiting for the
+	 * background thread if necessary.
+	 *
+	 * @return {@code true} if there is a row after the current row
+	 */
+	private boolean hasNextRow() {
+		if ( isClosed() ) {
+			return false;
+		}
+		while ( index + 1 >= window.size() && !lastWindow ) {
+			if ( producer == null ) {
+				transactional = getPersistenceContext().isTransactionInProgress();
+				producer = startProducer( this::produce );
+			}
+			final Window<R> next = takeWindow();
+			window = next.rows();
+			lastWindow = next.last();
+			index = -1;
+			if ( next.failure() != null ) {
+				throw rethrow( next.failure() );
+			}
+		}
+		return index + 1 < window.size();
+	}
+
+	private Window<R> takeWindow() {
+		try {
+			Window<R> next = windows.poll( 10, MILLISECONDS );
+			while ( next == null ) {
+				if ( stopped ) {
+					// the background thread gave up
+					throw new HibernateException(
+							"Prefetched results can no longer be read since the session or transaction is over" );
+				}
+				next = windows.poll( 10, MILLISECONDS );
+			}
+			return next;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while waiting for prefetched results", e );
+		}
+	}
+
+	private static RuntimeException rethrow(Throwable failure) {
+		if ( failure instanceof RuntimeException runtimeException ) {
+			return runtimeException;
+		}
+		else if ( failure instanceof Error error ) {
+			throw error;
+		}
+		else {
+			return new HibernateException( "Unable to prefetch results", failure );
+		}
+	}
+
+	private void produce() {
+		try {
+			boolean last = false;
+			while ( !last && !stopped ) {
+				final List<R> rows = new ArrayList<>( windowSize );
+				while ( rows.size() < windowSize && !stopped ) {
+					if ( getRowProcessingState().next() ) {
+						rows.add( readCurrentRow() );
+					}
+					else {
+						last = true;
+						break;
+					}
+				}
+				putWindow( new Window<>( rows, last, null ) );
+			}
+		}
+		catch (Throwable t) {
+			putWindow( new Window<>( emptyList(), true, t ) );
+		}
+	}
+
+	private void putWindow(Window<R> window) {
+		try {
+			// give up if the results are closed while the buffer is full,
+			// or if they can no longer be read because the session or the
+			// transaction the rows were read in is over
+			boolean offered = false;
+			while ( !offered && !stopped ) {
+				offered = windows.offer( window, 10, MILLISECONDS );
+				if ( !offered && !isSessionActive() ) {
+					stopped = true;
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private boolean isSessionActive() {
+		final SharedSessionContractImplementor session = getPersistenceContext();
+		return !session.isClosed() && ( !transactional || session.isTransactionInProgress() );
+	}
+
+	private R readCurrentRow() {
+		final PersistenceContext persistenceContext = getPersistenceContext().getPersistenceContext();
+		final LoadContexts loadContexts = persistenceContext.getLoadContexts();
+		loadContexts.register( getJdbcValuesSourceProcessingState() );
+		persistenceContext.beforeLoad();
+		final R row;
+		try {
+			try {
+				row = getRowReader().readRow( getRowProcessingState() );
+
+				getRowProcessingState().finishRowProcessing( true );
+				getJdbcValuesSourceProcessingState().finishUp( false );
+			}
+			finally {
+				persistenceContext.afterLoad();
+			}
+			persistenceContext.initializeNonLazyCollections();
+		}
+		finally {
+			loadContexts.deregister( getJdbcValuesSourceProcessingState() );
+		}
+
+		afterScrollOperation();
+		return row;
+	}
+
+	@Override
+	protected void beforeClose() {
+		stopped = true;
+		if ( producer != null ) {
+			// wait for the background thread to finish the current row,
+			// so that the JDBC values may be released by this thread
+			boolean interrupted = false;
+			while ( producer.isAlive() ) {
+				try {
+					producer.join();
+				}
+				catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if ( interrupted ) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		windows.clear();
+	}
+
+	@Override
+	public boolean isFirst() {
+		return position == 0;
+	}
+
+	@Override
+	public boolean isLast() {
+		return position >= 0 && !hasNextRow();
+	}
+
+	@Override
+	public int getRowNumber() throws HibernateException {
+		return position;
+	}
+
+	@Override
+	public boolean previous() {
+		throw forwardOnly();
+	}
+
+	@Override
+	public boolean scroll(int positions) {
+		throw forwardOnly();
+	}
+
+	@Override
+	public boolean position(int position) {
+		throw forwardOnly();
+	}
+
+	@Override
+	public boolean first() {
+		throw forwardOnly();
+	}
+
+	@Override
+	public boolean last() {
+		throw forwardOnly();
+	}
+
+	@Override
+	public void afterLast() {
+		throw forwardOnly();
+	}
+
+	@Override
+	public void beforeFirst() {
+		throw forwardOnly();
+	}
+
+	@Override
+	public boolean setRowNumber(int rowNumber) throws HibernateException {
+		throw forwardOnly();
+	}
+
+	private static UnsupportedOperationException forwardOnly() {
+		return new UnsupportedOperationException( "Prefetched results may only be scrolled forward using next()" );
+	}
+
+	private static Thread startProducer(Runnable task) {
+		if ( START_VIRTUAL_THREAD != null ) {
+			try {
+				return (Thread) START_VIRTUAL_THREAD.invoke( null, task );
+			}
+			catch (ReflectiveOperationException e) {
+				// virtual threads are a preview feature of this JVM,
+				// and preview features are not enabled
+			}
+		}
+		final Thread thread = new Thread( task, "hibernate-scroll-prefetch" );
+		thread.setDaemon( true );
+		thread.start();
+		return thread;
+	}
+
+	private static @Nullable Method startVirtualThreadMethod() {
+		try {
+			return Thread.class.getMethod( "startVirtualThread", Runnable.class );
+		}
+		catch (NoSuchMethodException e) {
+			// virtual threads were introduced in JDK 19
+			return null;
+		}
+	}
+
+	private record Window<R>(List<R> rows, boolean last, @Nullable Throwable failure) {
+	}
+}
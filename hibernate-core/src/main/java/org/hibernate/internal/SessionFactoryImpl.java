@@ -1323,6 +1323,7 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 	public static class StatelessSessionBuilderImpl implements StatelessSessionBuilder, SessionCreationOptions {
 		private final SessionFactoryImpl sessionFactory;
 		private StatementInspector statementInspector;
+		private Interceptor interceptor;
 		private Connection connection;
 		private Object tenantIdentifier;
 
@@ -1365,6 +1366,12 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 			return this;
 		}
 
+		@Override
+		public StatelessSessionBuilder interceptor(Interceptor interceptor) {
+			this.interceptor = interceptor;
+			return this;
+		}
+
 		@Override
 		public boolean shouldAutoJoinTransactions() {
 			return true;
@@ -1402,8 +1409,9 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 
 		@Override
 		public Interceptor getInterceptor() {
-			return configuredInterceptor( EmptyInterceptor.INSTANCE, false, sessionFactory.getSessionFactoryOptions() );
-
+			return interceptor == null
+					? configuredInterceptor( EmptyInterceptor.INSTANCE, false, sessionFactory.getSessionFactoryOptions() )
+					: interceptor;
 		}
 
 		@Override
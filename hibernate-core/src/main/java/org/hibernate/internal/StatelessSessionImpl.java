@@ -5,9 +5,12 @@
 package org.hibernate.internal;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -66,6 +69,7 @@ import org.hibernate.tuple.entity.EntityMetamodel;
 import jakarta.persistence.EntityGraph;
 import jakarta.transaction.SystemException;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.Versioning.incrementVersion;
@@ -95,6 +99,12 @@ import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 public class StatelessSessionImpl extends AbstractSharedSessionContract implements StatelessSession {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( StatelessSessionImpl.class );
 
+	/**
+	 * The JDBC batch size used by the bulk operations when batching is
+	 * not enabled for the session.
+	 */
+	private static final int MAX_MULTIPLE_OPERATIONS_BATCH_SIZE = 100;
+
 	private final LoadQueryInfluencers influencers;
 	private final PersistenceContext temporaryPersistenceContext;
 	private final boolean connectionProvided;
@@ -323,6 +333,111 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return id;
 	}
 
+	// bulk operations ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void insertMultiple(List<?> entities) {
+		checkOpen();
+		final List<?> ordered = getFactory().getSessionFactoryOptions().isOrderInsertsEnabled()
+				? groupedByEntityType( entities )
+				: entities;
+		executeBatched( ordered, entity -> insert( null, entity ) );
+	}
+
+	@Override
+	public void updateMultiple(List<?> entities) {
+		checkOpen();
+		final List<?> ordered = getFactory().getSessionFactoryOptions().isOrderUpdatesEnabled()
+				? groupedByEntityType( entities )
+				: entities;
+		executeBatched( ordered, entity -> update( null, entity ) );
+	}
+
+	@Override
+	public void deleteMultiple(List<?> entities) {
+		checkOpen();
+		executeBatched( entities, entity -> delete( null, entity ) );
+	}
+
+	@Override
+	public void upsertMultiple(List<?> entities) {
+		checkOpen();
+		executeBatched( entities, entity -> upsert( null, entity ) );
+	}
+
+	/**
+	 * Apply the given operation to each entity with JDBC batching enabled,
+	 * executing whatever is left in the batch before the session-level batch
+	 * size is restored, so that no statement outlives the bulk operation.
+	 */
+	private void executeBatched(List<?> entities, Consumer<Object> operation) {
+		final Integer jdbcBatchSize = enableBatching( entities.size() );
+		try {
+			for ( Object entity : entities ) {
+				operation.accept( entity );
+			}
+			getJdbcCoordinator().executeBatch();
+		}
+		catch (RuntimeException e) {
+			getJdbcCoordinator().abortBatch();
+			throw e;
+		}
+		finally {
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
+	/**
+	 * Make sure that the mutation coordinators add their statements to a
+	 * JDBC batch for the duration of a bulk operation.  If batching is
+	 * already enabled we keep the configured batch size, otherwise the
+	 * statements are sent in batches of at most
+	 * {@value #MAX_MULTIPLE_OPERATIONS_BATCH_SIZE}.
+	 *
+	 * @return the session-level batch size to restore afterwards
+	 */
+	private Integer enableBatching(int numberOfEntities) {
+		final Integer jdbcBatchSize = getJdbcBatchSize();
+		final Integer configuredJdbcBatchSize = getConfiguredJdbcBatchSize();
+		if ( numberOfEntities > 1 && ( configuredJdbcBatchSize == null || configuredJdbcBatchSize < 2 ) ) {
+			setJdbcBatchSize( Math.min( numberOfEntities, MAX_MULTIPLE_OPERATIONS_BATCH_SIZE ) );
+		}
+		return jdbcBatchSize;
+	}
+
+	/**
+	 * Stable grouping of the given entities by entity type, so that the
+	 * rows of a given table are sent in a single batch instead of the
+	 * batch being executed each time the entity type (and therefore the
+	 * batch key) changes. The groups are ordered so that each type comes
+	 * after the types it has a foreign key to, as determined by the
+	 * {@link org.hibernate.engine.internal.InsertActionSorter}, and the
+	 * given order is kept when the types depend on each other.
+	 */
+	private List<?> groupedByEntityType(List<?> entities) {
+		if ( entities.size() < 2 ) {
+			return entities;
+		}
+		final Map<EntityPersister, List<Object>> entitiesByType = new LinkedHashMap<>();
+		for ( Object entity : entities ) {
+			entitiesByType.computeIfAbsent( getEntityPersister( null, entity ), type -> new ArrayList<>() )
+					.add( entity );
+		}
+		if ( entitiesByType.size() == 1 ) {
+			return entities;
+		}
+		final List<EntityPersister> sortedTypes =
+				fastSessionServices.insertActionSorter.sortEntityTypes( new ArrayList<>( entitiesByType.keySet() ) );
+		if ( sortedTypes == null ) {
+			return entities;
+		}
+		final List<Object> grouped = new ArrayList<>( entities.size() );
+		for ( EntityPersister type : sortedTypes ) {
+			grouped.addAll( entitiesByType.get( type ) );
+		}
+		return grouped;
+	}
+
 	// event processing ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	private boolean firePreInsert(Object entity, Object id, Object[] state, EntityPersister persister) {
@@ -610,14 +725,19 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 				LOG.tracev( "Initializing collection {0}",
 						collectionInfoString( loadedPersister, collection, loadedKey, this ) );
 			}
+			final StatisticsImplementor statistics = getFactory().getStatistics();
+			final boolean stats = statistics.isStatisticsEnabled();
+			final long startTime = stats ? System.nanoTime() : 0;
 			loadedPersister.initialize( loadedKey, this );
 			handlePotentiallyEmptyCollection( collection, persistenceContext, loadedKey, loadedPersister );
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Collection initialized" );
 			}
-			final StatisticsImplementor statistics = getFactory().getStatistics();
-			if ( statistics.isStatisticsEnabled() ) {
-				statistics.fetchCollection( loadedPersister.getRole() );
+			if ( stats ) {
+				statistics.fetchCollection(
+						loadedPersister.getRole(),
+						NANOSECONDS.toMicros( System.nanoTime() - startTime )
+				);
 			}
 		}
 	}
@@ -777,12 +897,17 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 				persistenceContext.addUninitializedCollection( collectionDescriptor, persistentCollection, key );
 				persistentCollection.setCurrentSession( this );
 				try {
+					final StatisticsImplementor statistics = getFactory().getStatistics();
+					final boolean stats = statistics.isStatisticsEnabled();
+					final long startTime = stats ? System.nanoTime() : 0;
 					collectionDescriptor.initialize( key, this );
 					handlePotentiallyEmptyCollection( persistentCollection, getPersistenceContextInternal(), key,
 							collectionDescriptor );
-					final StatisticsImplementor statistics = getFactory().getStatistics();
-					if ( statistics.isStatisticsEnabled() ) {
-						statistics.fetchCollection( collectionDescriptor.getRole() );
+					if ( stats ) {
+						statistics.fetchCollection(
+								collectionDescriptor.getRole(),
+								NANOSECONDS.toMicros( System.nanoTime() - startTime )
+						);
 					}
 				}
 				finally {
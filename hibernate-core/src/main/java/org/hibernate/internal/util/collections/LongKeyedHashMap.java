@@ -0,0 +1,232 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A hash map keyed by primitive {@code long} values, using open addressing with
+ * linear probing, so that neither lookups nor insertions allocate: there are no
+ * boxed keys and no entry objects.
+ * <p>
+ * This is an internal data structure designed for very specific needs, and it is
+ * not a general purpose {@link java.util.Map}:
+ * <ul>
+ * <li>{@code null} values are not supported, as {@code null} marks free slots,
+ * <li>it is not thread-safe, and
+ * <li>the {@linkplain #values() iterator} is not fail-fast, so the map must not
+ *     be modified while iterating.
+ * </ul>
+ *
+ * @param <V> the type of the values
+ */
+public final class LongKeyedHashMap<V> {
+	private static final int DEFAULT_CAPACITY = 16;
+	private static final float LOAD_FACTOR = 0.6f;
+
+	private long[] keys;
+	private Object[] values;
+	private int mask;
+	private int resizeThreshold;
+	private int size;
+
+	public LongKeyedHashMap() {
+		this( DEFAULT_CAPACITY );
+	}
+
+	public LongKeyedHashMap(int expectedSize) {
+		allocate( tableSizeFor( (int) Math.ceil( expectedSize / LOAD_FACTOR ) ) );
+	}
+
+	private static int tableSizeFor(int capacity) {
+		final int size = Math.max( 2, Integer.highestOneBit( Math.max( capacity, 1 ) - 1 ) << 1 );
+		return size < 0 ? 1 << 30 : size;
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new Object[capacity];
+		mask = capacity - 1;
+		resizeThreshold = (int) ( capacity * LOAD_FACTOR );
+	}
+
+	private static int hash(long key) {
+		// murmur3 finalizer, since identifiers are usually sequential
+		long h = key;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		return (int) h;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public @Nullable V get(long key) {
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		int index = hash( key ) & mask;
+		while ( true ) {
+			final Object value = values[index];
+			if ( value == null ) {
+				return null;
+			}
+			else if ( keys[index] == key ) {
+				//noinspection unchecked
+				return (V) value;
+			}
+			index = ( index + 1 ) & mask;
+		}
+	}
+
+	public boolean containsKey(long key) {
+		return get( key ) != null;
+	}
+
+	/**
+	 * Associate the given non-null value with the given key.
+	 *
+	 * @return the value previously associated with the key, if any
+	 */
+	public @Nullable V put(long key, V value) {
+		if ( value == null ) {
+			throw new IllegalArgumentException( "Null values are not supported" );
+		}
+		int index = hash( key ) & mask;
+		while ( true ) {
+			final Object existing = values[index];
+			if ( existing == null ) {
+				keys[index] = key;
+				values[index] = value;
+				if ( ++size > resizeThreshold ) {
+					resize();
+				}
+				return null;
+			}
+			else if ( keys[index] == key ) {
+				values[index] = value;
+				//noinspection unchecked
+				return (V) existing;
+			}
+			index = ( index + 1 ) & mask;
+		}
+	}
+
+	public @Nullable V remove(long key) {
+		int index = hash( key ) & mask;
+		while ( true ) {
+			final Object existing = values[index];
+			if ( existing == null ) {
+				return null;
+			}
+			else if ( keys[index] == key ) {
+				deleteSlot( index );
+				size--;
+				//noinspection unchecked
+				return (V) existing;
+			}
+			index = ( index + 1 ) & mask;
+		}
+	}
+
+	/**
+	 * Backward-shift deletion: move the following entries of the probe
+	 * sequence back, so that no tombstones are needed.
+	 */
+	private void deleteSlot(int slot) {
+		int free = slot;
+		int index = ( slot + 1 ) & mask;
+		while ( values[index] != null ) {
+			final int home = hash( keys[index] ) & mask;
+			// can the entry at 'index' be moved to 'free' without
+			// ending up before its home slot (cyclically)?
+			if ( ( ( index - home ) & mask ) >= ( ( index - free ) & mask ) ) {
+				keys[free] = keys[index];
+				values[free] = values[index];
+				free = index;
+			}
+			index = ( index + 1 ) & mask;
+		}
+		values[free] = null;
+		keys[free] = 0L;
+	}
+
+	private void resize() {
+		final long[] oldKeys = keys;
+		final Object[] oldValues = values;
+		allocate( oldKeys.length << 1 );
+		for ( int i = 0; i < oldValues.length; i++ ) {
+			final Object value = oldValues[i];
+			if ( value != null ) {
+				int index = hash( oldKeys[i] ) & mask;
+				while ( values[index] != null ) {
+					index = ( index + 1 ) & mask;
+				}
+				keys[index] = oldKeys[i];
+				values[index] = value;
+			}
+		}
+	}
+
+	public void clear() {
+		if ( size > 0 ) {
+			Arrays.fill( values, null );
+			size = 0;
+		}
+	}
+
+	public void forEachValue(Consumer<? super V> action) {
+		for ( Object value : values ) {
+			if ( value != null ) {
+				//noinspection unchecked
+				action.accept( (V) value );
+			}
+		}
+	}
+
+	/**
+	 * An iterator over the values, in no particular order.
+	 */
+	public Iterator<V> values() {
+		return new Iterator<>() {
+			private final Object[] table = values;
+			private int index = advance( 0 );
+
+			private int advance(int from) {
+				int i = from;
+				while ( i < table.length && table[i] == null ) {
+					i++;
+				}
+				return i;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return index < table.length;
+			}
+
+			@Override
+			public V next() {
+				if ( index >= table.length ) {
+					throw new NoSuchElementException();
+				}
+				//noinspection unchecked
+				final V value = (V) table[index];
+				index = advance( index + 1 );
+				return value;
+			}
+		};
+	}
+}
@@ -0,0 +1,651 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A bounded {@link ConcurrentMap} which evicts entries according to the
+ * <em>W-TinyLFU</em> policy.
+ * <p>
+ * New entries enter a small LRU <em>admission window</em>. An entry
+ * evicted from the window is only admitted to the <em>main</em> region,
+ * a segmented LRU made of a <em>probation</em> and a <em>protected</em>
+ * segment, if it has been used more frequently than the entry it would
+ * replace. Frequencies are estimated by a compact count-min sketch which
+ * is periodically aged, so that entries which were popular in the past
+ * are eventually forgotten. This makes the map resistant to scans of
+ * entries which are used only once, which would flush the frequently used
+ * entries from a plain LRU map.
+ * <p>
+ * Retrievals never block: they read the backing {@link ConcurrentHashMap}
+ * directly, and record the access in a lossy buffer which is replayed
+ * against the eviction policy by the next thread which acquires the
+ * eviction lock. Updates acquire the eviction lock after modifying the
+ * backing map.
+ * <p>
+ * The iterators of the views of this map are weakly consistent, and
+ * do not count as accesses to the entries. Null keys and values are
+ * not supported.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ *
+ * @since 7.0
+ */
+public final class WindowTinyLfuMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+	private static final int READ_BUFFER_SIZE = 64;
+	private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data;
+	private final @Nullable BiConsumer<K, V> evictionListener;
+
+	private final int windowMaximum;
+	private final int mainMaximum;
+	private final int protectedMaximum;
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final FrequencySketch sketch;
+	private final AccessOrderQueue<K, V> window = new AccessOrderQueue<>();
+	private final AccessOrderQueue<K, V> probation = new AccessOrderQueue<>();
+	private final AccessOrderQueue<K, V> protectedSegment = new AccessOrderQueue<>();
+	private int windowSize;
+	private int probationSize;
+	private int protectedSize;
+
+	private final AtomicReferenceArray<Node<K, V>> readBuffer = new AtomicReferenceArray<>( READ_BUFFER_SIZE );
+	private final AtomicInteger readBufferWrites = new AtomicInteger();
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	private @Nullable Set<Entry<K, V>> entrySet;
+
+	/**
+	 * Creates a map holding at most the given number of entries.
+	 *
+	 * @param maximumSize the maximum number of entries
+	 */
+	public WindowTinyLfuMap(int maximumSize) {
+		this( maximumSize, null );
+	}
+
+	/**
+	 * Creates a map holding at most the given number of entries.
+	 *
+	 * @param maximumSize the maximum number of entries
+	 * @param evictionListener called with the key and value of each entry
+	 * evicted to respect the maximum size, while holding the eviction lock
+	 */
+	public WindowTinyLfuMap(int maximumSize, @Nullable BiConsumer<K, V> evictionListener) {
+		if ( maximumSize <= 0 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive" );
+		}
+		this.data = new ConcurrentHashMap<>( Math.min( maximumSize, 1024 ) );
+		this.evictionListener = evictionListener;
+		this.windowMaximum = Math.max( 1, maximumSize / 100 );
+		this.mainMaximum = maximumSize - windowMaximum;
+		this.protectedMaximum = mainMaximum * 4 / 5;
+		this.sketch = new FrequencySketch( maximumSize );
+	}
+
+	/**
+	 * The number of retrievals which found an entry.
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * The number of retrievals which did not find an entry.
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * The number of entries evicted to respect the maximum size.
+	 */
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	@Override
+	public int size() {
+		return data.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return data.isEmpty();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return data.containsKey( key );
+	}
+
+	@Override
+	public @Nullable V get(Object key) {
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			missCount.increment();
+			return null;
+		}
+		else {
+			hitCount.increment();
+			afterRead( node );
+			return node.value;
+		}
+	}
+
+	@Override
+	public @Nullable V put(K key, V value) {
+		Objects.requireNonNull( value );
+		final Object[] previous = new Object[1];
+		final Node<K, V> node = data.compute( key, (k, existing) -> {
+			if ( existing == null ) {
+				return new Node<>( k, value );
+			}
+			else {
+				previous[0] = existing.value;
+				existing.value = value;
+				return existing;
+			}
+		} );
+		if ( previous[0] == null ) {
+			afterAdd( node );
+			return null;
+		}
+		else {
+			afterRead( node );
+			//noinspection unchecked
+			return (V) previous[0];
+		}
+	}
+
+	@Override
+	public @Nullable V putIfAbsent(K key, V value) {
+		Objects.requireNonNull( value );
+		final Node<K, V> node = new Node<>( key, value );
+		final Node<K, V> existing = data.putIfAbsent( key, node );
+		if ( existing == null ) {
+			afterAdd( node );
+			return null;
+		}
+		else {
+			afterRead( existing );
+			return existing.value;
+		}
+	}
+
+	@Override
+	public @Nullable V remove(Object key) {
+		final Node<K, V> node = data.remove( key );
+		if ( node == null ) {
+			return null;
+		}
+		else {
+			afterRemove( node );
+			return node.value;
+		}
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		final Object[] removed = new Object[1];
+		//noinspection unchecked
+		data.computeIfPresent( (K) key, (k, existing) -> {
+			if ( existing.value.equals( value ) ) {
+				removed[0] = existing;
+				return null;
+			}
+			else {
+				return existing;
+			}
+		} );
+		if ( removed[0] == null ) {
+			return false;
+		}
+		else {
+			//noinspection unchecked
+			afterRemove( (Node<K, V>) removed[0] );
+			return true;
+		}
+	}
+
+	@Override
+	public @Nullable V replace(K key, V value) {
+		Objects.requireNonNull( value );
+		final Object[] previous = new Object[1];
+		final Node<K, V> node = data.computeIfPresent( key, (k, existing) -> {
+			previous[0] = existing.value;
+			existing.value = value;
+			return existing;
+		} );
+		if ( node == null ) {
+			return null;
+		}
+		else {
+			afterRead( node );
+			//noinspection unchecked
+			return (V) previous[0];
+		}
+	}
+
+	@Override
+	public boolean replace(K key, V oldValue, V newValue) {
+		Objects.requireNonNull( newValue );
+		final boolean[] replaced = new boolean[1];
+		final Node<K, V> node = data.computeIfPresent( key, (k, existing) -> {
+			if ( existing.value.equals( oldValue ) ) {
+				existing.value = newValue;
+				replaced[0] = true;
+			}
+			return existing;
+		} );
+		if ( replaced[0] ) {
+			afterRead( node );
+		}
+		return replaced[0];
+	}
+
+	@Override
+	public void clear() {
+		evictionLock.lock();
+		try {
+			for ( Node<K, V> node : data.values() ) {
+				if ( data.remove( node.key, node ) ) {
+					unlink( node );
+				}
+			}
+			for ( int i = 0; i < READ_BUFFER_SIZE; i++ ) {
+				readBuffer.lazySet( i, null );
+			}
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	// Policy maintenance ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	private void afterRead(Node<K, V> node) {
+		final int index = readBufferWrites.getAndIncrement() & READ_BUFFER_MASK;
+		readBuffer.lazySet( index, node );
+		if ( index == READ_BUFFER_MASK && evictionLock.tryLock() ) {
+			try {
+				drainReadBuffer();
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private void afterAdd(Node<K, V> node) {
+		evictionLock.lock();
+		try {
+			drainReadBuffer();
+			sketch.increment( node.key );
+			// the entry might already have been removed again
+			if ( node.queue == Queue.NONE && data.get( node.key ) == node ) {
+				node.queue = Queue.WINDOW;
+				window.addLast( node );
+				windowSize++;
+				evictFromWindow();
+			}
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void afterRemove(Node<K, V> node) {
+		evictionLock.lock();
+		try {
+			unlink( node );
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void drainReadBuffer() {
+		for ( int i = 0; i < READ_BUFFER_SIZE; i++ ) {
+			final Node<K, V> node = readBuffer.getAndSet( i, null );
+			if ( node != null ) {
+				onAccess( node );
+			}
+		}
+	}
+
+	private void onAccess(Node<K, V> node) {
+		sketch.increment( node.key );
+		switch ( node.queue ) {
+			case WINDOW -> window.moveToBack( node );
+			case PROBATION -> promote( node );
+			case PROTECTED -> protectedSegment.moveToBack( node );
+			case NONE -> {
+				// not yet added, or already removed
+			}
+		}
+	}
+
+	/**
+	 * Move an entry of the probation segment which was used again to the
+	 * protected segment, demoting the least recently used entries of the
+	 * protected segment if it is full.
+	 */
+	private void promote(Node<K, V> node) {
+		probation.remove( node );
+		probationSize--;
+		node.queue = Queue.PROTECTED;
+		protectedSegment.addLast( node );
+		protectedSize++;
+		while ( protectedSize > protectedMaximum ) {
+			final Node<K, V> demoted = protectedSegment.pollFirst();
+			protectedSize--;
+			demoted.queue = Queue.PROBATION;
+			probation.addLast( demoted );
+			probationSize++;
+		}
+	}
+
+	/**
+	 * Offer the entries overflowing the admission window to the main region,
+	 * where each is admitted only if it is more frequently used than the
+	 * entry it would replace.
+	 */
+	private void evictFromWindow() {
+		while ( windowSize > windowMaximum ) {
+			final Node<K, V> candidate = window.pollFirst();
+			windowSize--;
+			candidate.queue = Queue.NONE;
+			if ( probationSize + protectedSize < mainMaximum ) {
+				admit( candidate );
+			}
+			else {
+				final Node<K, V> victim = probation.isEmpty()
+						? protectedSegment.peekFirst()
+						: probation.peekFirst();
+				if ( victim != null && sketch.frequency( candidate.key ) > sketch.frequency( victim.key ) ) {
+					unlink( victim );
+					evict( victim );
+					admit( candidate );
+				}
+				else {
+					evict( candidate );
+				}
+			}
+		}
+	}
+
+	private void admit(Node<K, V> node) {
+		node.queue = Queue.PROBATION;
+		probation.addLast( node );
+		probationSize++;
+	}
+
+	private void evict(Node<K, V> node) {
+		if ( data.remove( node.key, node ) ) {
+			evictionCount.increment();
+			if ( evictionListener != null ) {
+				evictionListener.accept( node.key, node.value );
+			}
+		}
+	}
+
+	private void unlink(Node<K, V> node) {
+		switch ( node.queue ) {
+			case WINDOW -> {
+				window.remove( node );
+				windowSize--;
+			}
+			case PROBATION -> {
+				probation.remove( node );
+				probationSize--;
+			}
+			case PROTECTED -> {
+				protectedSegment.remove( node );
+				protectedSize--;
+			}
+			case NONE -> {
+				// not yet added, or already removed
+			}
+		}
+		node.queue = Queue.NONE;
+	}
+
+	private enum Queue {
+		NONE,
+		WINDOW,
+		PROBATION,
+		PROTECTED
+	}
+
+	private static final class Node<K, V> {
+		private final K key;
+		private volatile V value;
+
+		// guarded by the eviction lock
+		private Queue queue = Queue.NONE;
+		private @Nullable Node<K, V> previous;
+		private @Nullable Node<K, V> next;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * A doubly-linked list of nodes in access order, from the least
+	 * recently used to the most recently used.
+	 */
+	private static final class AccessOrderQueue<K, V> {
+		private @Nullable Node<K, V> first;
+		private @Nullable Node<K, V> last;
+
+		boolean isEmpty() {
+			return first == null;
+		}
+
+		@Nullable Node<K, V> peekFirst() {
+			return first;
+		}
+
+		Node<K, V> pollFirst() {
+			final Node<K, V> node = first;
+			assert node != null;
+			remove( node );
+			return node;
+		}
+
+		void addLast(Node<K, V> node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+		}
+
+		void remove(Node<K, V> node) {
+			if ( node.previous == null ) {
+				first = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				last = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+		}
+
+		void moveToBack(Node<K, V> node) {
+			if ( node != last ) {
+				remove( node );
+				addLast( node );
+			}
+		}
+	}
+
+	/**
+	 * A count-min sketch of the frequencies of use of the keys, with four
+	 * 4-bit counters per key. Once the number of recorded uses reaches ten
+	 * times the maximum size of the map, all counters are halved.
+	 */
+	private static final class FrequencySketch {
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L,
+				0xb492b66fbe98f273L,
+				0x9ae16a3b2f90404fL,
+				0xcbf29ce484222325L
+		};
+		private static final long RESET_MASK = 0x7777777777777777L;
+		private static final long ONE_MASK = 0x1111111111111111L;
+
+		private final long[] table;
+		private final int tableMask;
+		private final int sampleSize;
+		private int size;
+
+		private FrequencySketch(int maximumSize) {
+			final int length = Integer.highestOneBit( Math.max( 8, Math.min( maximumSize, 1 << 24 ) ) - 1 ) << 1;
+			this.table = new long[length];
+			this.tableMask = length - 1;
+			this.sampleSize = 10 * Math.min( maximumSize, Integer.MAX_VALUE / 10 );
+		}
+
+		int frequency(Object key) {
+			final int hash = spread( key.hashCode() );
+			final int start = ( hash & 3 ) << 2;
+			int frequency = Integer.MAX_VALUE;
+			for ( int i = 0; i < 4; i++ ) {
+				final int index = indexOf( hash, i );
+				final int count = (int) ( ( table[index] >>> ( ( start + i ) << 2 ) ) & 0xfL );
+				frequency = Math.min( frequency, count );
+			}
+			return frequency;
+		}
+
+		void increment(Object key) {
+			final int hash = spread( key.hashCode() );
+			final int start = ( hash & 3 ) << 2;
+			boolean added = false;
+			for ( int i = 0; i < 4; i++ ) {
+				added |= incrementAt( indexOf( hash, i ), start + i );
+			}
+			if ( added && ++size == sampleSize ) {
+				reset();
+			}
+		}
+
+		private boolean incrementAt(int index, int counter) {
+			final int offset = counter << 2;
+			final long mask = 0xfL << offset;
+			if ( ( table[index] & mask ) != mask ) {
+				table[index] += 1L << offset;
+				return true;
+			}
+			else {
+				return false;
+			}
+		}
+
+		private void reset() {
+			int odd = 0;
+			for ( int i = 0; i < table.length; i++ ) {
+				odd += Long.bitCount( table[i] & ONE_MASK );
+				table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+			}
+			size = ( size >>> 1 ) - ( odd >>> 2 );
+		}
+
+		private int indexOf(int hash, int i) {
+			long h = ( hash + SEEDS[i] ) * SEEDS[i];
+			h += h >>> 32;
+			return (int) h & tableMask;
+		}
+
+		private static int spread(int x) {
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			return ( x >>> 16 ) ^ x;
+		}
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<K, V>> {
+		@Override
+		public int size() {
+			return data.size();
+		}
+
+		@Override
+		public void clear() {
+			WindowTinyLfuMap.this.clear();
+		}
+
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			final Iterator<Node<K, V>> nodes = data.values().iterator();
+			return new Iterator<>() {
+				private @Nullable Node<K, V> current;
+
+				@Override
+				public boolean hasNext() {
+					return nodes.hasNext();
+				}
+
+				@Override
+				public Entry<K, V> next() {
+					final Node<K, V> node = nodes.next();
+					current = node;
+					return new SimpleImmutableEntry<>( node.key, node.value );
+				}
+
+				@Override
+				public void remove() {
+					if ( current == null ) {
+						throw new IllegalStateException();
+					}
+					WindowTinyLfuMap.this.remove( current.key, current.value );
+					current = null;
+				}
+			};
+		}
+	}
+}
@@ -203,12 +203,14 @@ public interface HibernateHints {
 	/**
 	 * Hint to enable or disable the query plan caching.
 	 * <p>
-	 * By default, query plan caching is enabled for HQL queries
-	 * and immutable criteria queries i.e. created with {@link org.hibernate.cfg.AvailableSettings#CRITERIA_COPY_TREE}.
+	 * By default, query plan caching is enabled for HQL queries and immutable criteria queries
+	 * i.e. created with {@link org.hibernate.cfg.AvailableSettings#CRITERIA_COPY_TREE}. Immutable
+	 * criteria queries made up of nodes whose structure can be compared share a query plan with
+	 * the other immutable criteria queries of the same structure.
 	 * Query plan caching can be disabled for any query by setting this property to {@code false}.
-	 * Query plan caching can be enabled for mutable criteria queries by setting this property to {@code true}.
+	 * Query plan caching can be enabled for other mutable criteria queries by setting this property to {@code true}.
 	 * <p>
-	 * Setting this property to {@code true} for mutable criteria queries can lead to cache trashing,
+	 * Setting this property to {@code true} for such mutable criteria queries can lead to cache trashing,
 	 * because the query plan is cached based on a copy of the criteria query.
 	 * This is mostly useful when the same {@link org.hibernate.query.Query} should be executed multiple times,
 	 * but with different parameter values to avoid re-translation of the criteria query.
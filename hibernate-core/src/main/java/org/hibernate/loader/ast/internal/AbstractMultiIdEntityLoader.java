@@ -4,14 +4,22 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.loader.ast.spi.MultiIdEntityLoader;
 import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.persister.entity.EntityPersister;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
 
 /**
  * Base support for {@link MultiIdEntityLoader} implementations.
@@ -57,6 +65,41 @@ public abstract class AbstractMultiIdEntityLoader<T> implements MultiIdEntityLoa
 		}
 	}
 
+	/**
+	 * Retrieve the second-level cache data of the entities with the given ids
+	 * which are not already associated with the session, using a single bulk
+	 * lookup, if checking the second-level cache is enabled.
+	 *
+	 * @return The data found in the second-level cache, keyed by entity key
+	 *
+	 * @see CacheEntityLoaderHelper#loadFromSecondLevelCache(org.hibernate.event.spi.LoadEvent, EntityPersister, EntityKey, Map)
+	 */
+	protected <K> Map<EntityKey, Object> getFromSecondLevelCache(
+			K[] ids,
+			MultiIdLoadOptions loadOptions,
+			LockOptions lockOptions,
+			EventSource session) {
+		if ( !loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			return emptyMap();
+		}
+
+		final boolean coerce = !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+		final EntityPersister persister = getLoadable().getEntityPersister();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final List<EntityKey> entityKeys = new ArrayList<>( ids.length );
+		for ( K id : ids ) {
+			final Object coercedId = coerce
+					? getLoadable().getIdentifierMapping().getJavaType().coerce( id, session )
+					: id;
+			final EntityKey entityKey = new EntityKey( coercedId, persister );
+			if ( !loadOptions.isSessionCheckingEnabled() || persistenceContext.getEntity( entityKey ) == null ) {
+				entityKeys.add( entityKey );
+			}
+		}
+		return CacheEntityLoaderHelper.INSTANCE
+				.getFromSecondLevelCache( session, lockOptions.getLockMode(), persister, entityKeys );
+	}
+
 	protected abstract <K> List<T> performOrderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, EventSource session);
 
 	protected abstract <K> List<T> performUnorderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, EventSource session);
@@ -4,6 +4,9 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
 import org.hibernate.LockMode;
@@ -29,6 +32,7 @@ import org.hibernate.event.spi.LoadEventListener;
 import org.hibernate.event.spi.PostLoadEvent;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.sql.results.LoadingLogger;
@@ -37,7 +41,10 @@ import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
+import static java.util.Collections.emptyMap;
+import static org.hibernate.engine.internal.CacheHelper.allFromSharedCache;
 import static org.hibernate.engine.internal.CacheHelper.fromSharedCache;
+import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isManagedEntity;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
@@ -149,9 +156,52 @@ public class CacheEntityLoaderHelper {
 			final LoadEventListener.LoadType options) throws HibernateException {
 		final SessionImplementor session = event.getSession();
 		final Object old = session.getEntityUsingInterceptor( keyToLoad );
+		return sessionCacheEntry(
+				event,
+				old,
+				event.getFactory().getMappingMetamodel().getEntityDescriptor( keyToLoad.getEntityName() ),
+				options
+		);
+	}
+
+	/**
+	 * Attempts to locate the entity with the identifier of the given
+	 * {@link LoadEvent} in the session-level cache, like
+	 * {@link #loadFromSessionCache(LoadEvent, EntityKey, LoadEventListener.LoadType)},
+	 * but without allocating an {@link EntityKey} unless the entity is not
+	 * managed by the persistence context and the interceptor has to be asked.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 * @param options The load options.
+	 *
+	 * @return The entity from the session-level cache, or null.
+	 *
+	 * @throws HibernateException Generally indicates problems applying a lock-mode.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	public PersistenceContextEntry loadFromSessionCache(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final LoadEventListener.LoadType options) throws HibernateException {
+		final EventSource session = event.getSession();
+		final Object managed = session.getPersistenceContextInternal().getEntity( event.getEntityId(), persister );
+		final Object old = managed == null
+				? session.getEntityUsingInterceptor( session.generateEntityKey( event.getEntityId(), persister ) )
+				: managed;
+		return sessionCacheEntry( event, old, persister, options );
+	}
+
+	private static PersistenceContextEntry sessionCacheEntry(
+			LoadEvent event,
+			Object old,
+			EntityPersister persister,
+			LoadEventListener.LoadType options) {
 		if ( old != null ) {
 			// this object was already loaded
-			final EntityEntry oldEntry = session.getPersistenceContext().getEntry( old );
+			final EntityEntry oldEntry = event.getSession().getPersistenceContext().getEntry( old );
 			if ( options.isCheckDeleted() ) {
 				if ( oldEntry.getStatus().isDeletedOrGone() ) {
 					LoadingLogger.LOGGER.debug(
@@ -160,9 +210,6 @@ public class CacheEntityLoaderHelper {
 				}
 			}
 			if ( options.isAllowNulls() ) {
-				final EntityPersister persister =
-						event.getFactory().getMappingMetamodel()
-								.getEntityDescriptor( keyToLoad.getEntityName() );
 				if ( !persister.isInstance( old ) ) {
 					LOG.debug(
 							"Load request found matching entity in context, but the matched entity was of an inconsistent return type; returning null"
@@ -196,19 +243,114 @@ public class CacheEntityLoaderHelper {
 				entityKey
 		);
 		if ( entity != null ) {
-			//PostLoad is needed for EJB3
-			final PostLoadEvent postLoadEvent =
-					event.getPostLoadEvent()
-							.setEntity( entity )
-							.setId( event.getEntityId() )
-							.setPersister( persister );
-			event.getFactory()
-					.getFastSessionServices()
-					.firePostLoadEvent( postLoadEvent );
+			firePostLoadEvent( event, persister, entity );
 		}
 		return entity;
 	}
 
+	/**
+	 * Attempts to load the entity from second-level cache data previously
+	 * retrieved by {@link #getFromSecondLevelCache}.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 * @param cachedEntries The second-level cache data, keyed by entity key
+	 *
+	 * @return The entity from the second-level cache, or null.
+	 */
+	@Incubating
+	public Object loadFromSecondLevelCache(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final EntityKey entityKey,
+			final Map<EntityKey, Object> cachedEntries) {
+		final Object ce = cachedEntries.get( entityKey );
+		if ( ce == null ) {
+			return null;
+		}
+		else {
+			final Object entity =
+					processCachedEntry( event.getInstanceToLoad(), persister, ce, event.getSession(), entityKey );
+			if ( entity != null ) {
+				firePostLoadEvent( event, persister, entity );
+			}
+			return entity;
+		}
+	}
+
+	private static void firePostLoadEvent(LoadEvent event, EntityPersister persister, Object entity) {
+		//PostLoad is needed for EJB3
+		final PostLoadEvent postLoadEvent =
+				event.getPostLoadEvent()
+						.setEntity( entity )
+						.setId( event.getEntityId() )
+						.setPersister( persister );
+		event.getFactory()
+				.getFastSessionServices()
+				.firePostLoadEvent( postLoadEvent );
+	}
+
+	/**
+	 * Retrieves the second-level cache data of several entities with a single
+	 * bulk lookup, so that the entities may then be loaded by
+	 * {@link #loadFromSecondLevelCache(LoadEvent, EntityPersister, EntityKey, Map)}
+	 * without further round trips to the cache.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityKeys The entity keys
+	 *
+	 * @return The data found in the second-level cache, keyed by entity key
+	 */
+	@Incubating
+	public Map<EntityKey, Object> getFromSecondLevelCache(
+			final EventSource source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final Collection<EntityKey> entityKeys) {
+		final boolean useCache =
+				!entityKeys.isEmpty()
+						&& persister.canReadFromCache()
+						&& source.getCacheMode().isGetEnabled()
+						&& lockMode.lessThan( LockMode.READ );
+		if ( !useCache ) {
+			return emptyMap();
+		}
+		else {
+			final EntityDataAccess cache = persister.getCacheAccessStrategy();
+			final SessionFactoryImplementor factory = source.getFactory();
+			final Map<Object, EntityKey> entityKeysByCacheKey = mapOfSize( entityKeys.size() );
+			for ( EntityKey entityKey : entityKeys ) {
+				final Object cacheKey = cache.generateCacheKey(
+						entityKey.getIdentifier(),
+						persister,
+						factory,
+						source.getTenantIdentifier()
+				);
+				entityKeysByCacheKey.put( cacheKey, entityKey );
+			}
+			final Map<Object, Object> cached =
+					allFromSharedCache( source, entityKeysByCacheKey.keySet(), persister, cache );
+			final Map<EntityKey, Object> cachedEntries = mapOfSize( cached.size() );
+			cached.forEach( (cacheKey, ce) -> cachedEntries.put( entityKeysByCacheKey.get( cacheKey ), ce ) );
+
+			final StatisticsImplementor statistics = factory.getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				final NavigableRole rootEntityRole = StatsHelper.getRootEntityRole( persister );
+				final String regionName = cache.getRegion().getName();
+				for ( int i = 0; i < cachedEntries.size(); i++ ) {
+					statistics.entityCacheHit( rootEntityRole, regionName );
+				}
+				for ( int i = cachedEntries.size(); i < entityKeysByCacheKey.size(); i++ ) {
+					statistics.entityCacheMiss( rootEntityRole, regionName );
+				}
+			}
+			return cachedEntries;
+		}
+	}
+
 	/**
 	 * Attempts to load the entity from the second-level cache.
 	 *
@@ -281,7 +423,11 @@ public class CacheEntityLoaderHelper {
 			final EntityKey entityKey) {
 		final CacheEntry entry = (CacheEntry)
 				persister.getCacheEntryStructure().destructure( ce, source.getFactory() );
-		if ( entry.isReferenceEntry() ) {
+		if ( entry == null ) {
+			// the entry was written for a different version of the mapping
+			return null;
+		}
+		else if ( entry.isReferenceEntry() ) {
 			if ( instanceToLoad != null ) {
 				throw new HibernateException(
 						"Attempt to load entity from cache using provided object instance, but cache " +
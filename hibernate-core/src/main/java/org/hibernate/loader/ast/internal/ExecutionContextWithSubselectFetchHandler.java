@@ -14,6 +14,7 @@ class ExecutionContextWithSubselectFetchHandler extends BaseExecutionContext {
 
 	private final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler;
 	private final boolean readOnly;
+	private final boolean bulkEntityCachePut;
 
 	public ExecutionContextWithSubselectFetchHandler(
 			SharedSessionContractImplementor session,
@@ -25,9 +26,18 @@ class ExecutionContextWithSubselectFetchHandler extends BaseExecutionContext {
 			SharedSessionContractImplementor session,
 			SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler,
 			boolean readOnly) {
+		this( session, subSelectFetchableKeysHandler, readOnly, false );
+	}
+
+	public ExecutionContextWithSubselectFetchHandler(
+			SharedSessionContractImplementor session,
+			SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler,
+			boolean readOnly,
+			boolean bulkEntityCachePut) {
 		super( session );
 		this.subSelectFetchableKeysHandler = subSelectFetchableKeysHandler;
 		this.readOnly = readOnly;
+		this.bulkEntityCachePut = bulkEntityCachePut;
 	}
 
 	@Override
@@ -41,4 +51,9 @@ class ExecutionContextWithSubselectFetchHandler extends BaseExecutionContext {
 	public QueryOptions getQueryOptions() {
 		return readOnly ? QueryOptions.READ_ONLY : super.getQueryOptions();
 	}
+
+	@Override
+	public boolean isBulkEntityCachePutEnabled() {
+		return bulkEntityCachePut;
+	}
 }
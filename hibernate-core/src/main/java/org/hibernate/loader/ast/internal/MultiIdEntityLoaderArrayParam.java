@@ -7,6 +7,7 @@ package org.hibernate.loader.ast.internal;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -82,6 +83,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 				? new LockOptions( LockMode.NONE )
 				: loadOptions.getLockOptions();
 
+		final Map<EntityKey, Object> cachedEntries = getFromSecondLevelCache( ids, loadOptions, lockOptions, session );
 		final List<Object> result = CollectionHelper.arrayList( ids.length );
 		List<Object> idsToLoadFromDatabase = null;
 		List<Integer> idsToLoadFromDatabaseResultIndexes = null;
@@ -131,7 +133,8 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							getLoadable().getEntityPersister(),
-							entityKey
+							entityKey,
+							cachedEntries
 					);
 				}
 
@@ -194,7 +197,8 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 				jdbcParameterBindings,
 				new ExecutionContextWithSubselectFetchHandler( session,
 						subSelectFetchableKeysHandler,
-						TRUE.equals( loadOptions.getReadOnly(session) ) ),
+						TRUE.equals( loadOptions.getReadOnly(session) ),
+						true ),
 				RowTransformerStandardImpl.instance(),
 				null,
 				idsToLoadFromDatabase.size(),
@@ -319,6 +323,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 		}
 
 		final boolean coerce = !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+		final Map<EntityKey, Object> cachedEntries = getFromSecondLevelCache( ids, loadOptions, lockOptions, session );
 
 		boolean foundAnyResolvedEntities = false;
 		List<K> nonResolvedIds = null;
@@ -366,7 +371,8 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 				resolvedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 						loadEvent,
 						getLoadable().getEntityPersister(),
-						entityKey
+						entityKey,
+						cachedEntries
 				);
 			}
 
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -96,6 +97,7 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
 
 		final boolean coerce = !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+		final Map<EntityKey, Object> cachedEntries = getFromSecondLevelCache( ids, loadOptions, lockOptions, session );
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id;
 			if ( coerce ) {
@@ -141,7 +143,8 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							getLoadable().getEntityPersister(),
-							entityKey
+							entityKey,
+							cachedEntries
 					);
 				}
 
@@ -271,7 +274,8 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 				jdbcParameterBindings,
 				new ExecutionContextWithSubselectFetchHandler( session,
 						subSelectFetchableKeysHandler,
-						TRUE.equals( loadOptions.getReadOnly(session) ) ),
+						TRUE.equals( loadOptions.getReadOnly(session) ),
+						true ),
 				RowTransformerStandardImpl.instance(),
 				null,
 				ListResultsConsumer.UniqueSemantic.FILTER,
@@ -313,6 +317,7 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 			final List<Object> nonManagedIds = new ArrayList<>();
 
 			final boolean coerce = !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+			final Map<EntityKey, Object> cachedEntries = getFromSecondLevelCache( ids, loadOptions, lockOptions, session );
 			for ( int i = 0; i < ids.length; i++ ) {
 				final Object id;
 				if ( coerce ) {
@@ -356,7 +361,8 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							getLoadable().getEntityPersister(),
-							entityKey
+							entityKey,
+							cachedEntries
 					);
 				}
 
@@ -54,11 +54,14 @@ import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeDescriptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributesMetadata;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.DirtyChecker;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
@@ -448,6 +451,7 @@ public abstract class AbstractEntityPersister
 	private BeforeExecutionGenerator versionGenerator;
 
 	protected ReflectionOptimizer.AccessOptimizer accessOptimizer;
+	private DirtyChecker dirtyChecker;
 
 	protected final String[] fullDiscriminatorSQLValues;
 	private final Object[] fullDiscriminatorValues;
@@ -1129,9 +1133,15 @@ public abstract class AbstractEntityPersister
 			return new ReferenceCacheEntryHelper( this );
 		}
 		else {
-			return options.isStructuredCacheEntriesEnabled()
-					? new StructuredCacheEntryHelper( this )
-					: new StandardCacheEntryHelper( this );
+			if ( options.isStructuredCacheEntriesEnabled() ) {
+				return new StructuredCacheEntryHelper( this );
+			}
+			else if ( options.isCompactCacheEntriesEnabled() ) {
+				return new CompactCacheEntryHelper( this );
+			}
+			else {
+				return new StandardCacheEntryHelper( this );
+			}
 		}
 	}
 
@@ -1509,7 +1519,9 @@ public abstract class AbstractEntityPersister
 			final Object ce = CacheHelper.fromSharedCache( session, cacheKey, this, cacheAccess );
 			if ( ce != null ) {
 				final CacheEntry cacheEntry = (CacheEntry) getCacheEntryStructure().destructure( ce, factory );
-				final Object initializedValue = initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
+				final Object initializedValue = cacheEntry == null
+						? LazyPropertyInitializer.UNFETCHED_PROPERTY
+						: initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
 				if (initializedValue != LazyPropertyInitializer.UNFETCHED_PROPERTY) {
 					// The following should be redundant, since the setter should have set this already.
 					// interceptor.attributeInitialized(fieldName);
@@ -3638,6 +3650,23 @@ public abstract class AbstractEntityPersister
 		return false;
 	}
 
+	private DirtyChecker resolveDirtyChecker(RuntimeModelCreationContext creationContext) {
+		if ( creationContext.getSessionFactoryOptions().isDirtyCheckingOptimizerEnabled()
+				&& representationStrategy.getMode() == POJO
+				&& !getBytecodeEnhancementMetadata().isEnhancedForLazyLoading()
+				&& !PersistentAttributeInterceptable.class.isAssignableFrom( getMappedClass() ) ) {
+			return creationContext.getServiceRegistry().requireService( BytecodeProvider.class )
+					.getDirtyChecker(
+							getMappedClass(),
+							entityMetamodel.getDirtyCheckablePropertyTypes(),
+							propertyColumnUpdateable
+					);
+		}
+		else {
+			return null;
+		}
+	}
+
 	/**
 	 * Locate the property-indices of all properties considered to be dirty.
 	 *
@@ -3652,13 +3681,15 @@ public abstract class AbstractEntityPersister
 	@Override
 	public int[] findDirty(Object[] currentState, Object[] previousState, Object entity, SharedSessionContractImplementor session)
 			throws HibernateException {
-		int[] props = DirtyHelper.findDirty(
-				entityMetamodel.getDirtyCheckablePropertyTypes(),
-				currentState,
-				previousState,
-				propertyColumnUpdateable,
-				session
-		);
+		int[] props = dirtyChecker != null
+				? DirtyHelper.toIndexes( dirtyChecker.findDirty( currentState, previousState, session ) )
+				: DirtyHelper.findDirty(
+						entityMetamodel.getDirtyCheckablePropertyTypes(),
+						currentState,
+						previousState,
+						propertyColumnUpdateable,
+						session
+				);
 		if ( props == null ) {
 			return null;
 		}
@@ -3893,7 +3924,7 @@ public abstract class AbstractEntityPersister
 						// check if we're currently loading this entity instance, the version
 						// will be null but the entity cannot be considered transient
 						final EntityHolder holder =
-								persistenceContext.getEntityHolder( new EntityKey( id, this ) );
+								persistenceContext.getEntityHolder( id, this );
 						if ( holder != null && holder.isEventuallyInitialized() && holder.getEntity() == entity ) {
 							return false;
 						}
@@ -4685,6 +4716,26 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private static class CompactCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+		private final CompactCacheEntry structure;
+
+		private CompactCacheEntryHelper(EntityPersister persister) {
+			this.persister = persister;
+			this.structure = new CompactCacheEntry( persister );
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return structure;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
+			return new StandardCacheEntryImpl( state, persister, version, session, entity );
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
@@ -4788,6 +4839,7 @@ public abstract class AbstractEntityPersister
 
 		final ReflectionOptimizer reflectionOptimizer = representationStrategy.getReflectionOptimizer();
 		accessOptimizer = reflectionOptimizer != null ? reflectionOptimizer.getAccessOptimizer() : null;
+		dirtyChecker = resolveDirtyChecker( creationContext );
 
 		// register a callback for after all `#prepareMappingModel` calls have finished.  here we want to delay the
 		// generation of `staticFetchableList` because we need to wait until after all subclasses have had their
@@ -129,6 +129,26 @@ class DirtyHelper {
 		}
 	}
 
+	/**
+	 * Convert the bitmask returned by a {@link org.hibernate.bytecode.spi.DirtyChecker}
+	 * to an array containing the indices of the dirty fields.
+	 *
+	 * @return Array containing indices of the dirty properties, or null if no properties considered dirty.
+	 */
+	public static int @Nullable [] toIndexes(long dirty) {
+		if ( dirty == 0L ) {
+			return null;
+		}
+		final int[] results = new int[Long.bitCount( dirty )];
+		long remaining = dirty;
+		for ( int i = 0; i < results.length; i++ ) {
+			results[i] = Long.numberOfTrailingZeros( remaining );
+			// clear the lowest set bit
+			remaining &= remaining - 1;
+		}
+		return results;
+	}
+
 	/**
 	 * Determine if any of the given field values are modified, returning an array containing
 	 * indices of the modified fields.
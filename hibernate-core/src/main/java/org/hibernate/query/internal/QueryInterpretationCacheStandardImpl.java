@@ -5,10 +5,11 @@
 package org.hibernate.query.internal;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.WindowTinyLfuMap;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.spi.HqlInterpretation;
@@ -37,20 +38,20 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final WindowTinyLfuMap<Key, QueryPlan> queryPlanCache;
 
 	private final ServiceRegistry serviceRegistry;
-	private final BoundedConcurrentHashMap<Object, HqlInterpretation<?>> hqlInterpretationCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final WindowTinyLfuMap<Object, HqlInterpretation<?>> hqlInterpretationCache;
+	private final WindowTinyLfuMap<String, ParameterInterpretation> nativeQueryParamCache;
 
 	private StatisticsImplementor statistics;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, ServiceRegistry serviceRegistry) {
 		log.debugf( "Starting QueryInterpretationCache(%s)", maxQueryPlanCount );
 
-		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+		this.queryPlanCache = new WindowTinyLfuMap<>( maxQueryPlanCount, this::planEvicted );
+		this.hqlInterpretationCache = new WindowTinyLfuMap<>( maxQueryPlanCount );
+		this.nativeQueryParamCache = new WindowTinyLfuMap<>( maxQueryPlanCount );
 		this.serviceRegistry = serviceRegistry;
 	}
 
@@ -64,6 +65,24 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		return queryPlanCache.size();
 	}
 
+	/**
+	 * Visit the query string and expected result type of every cached
+	 * {@link HqlInterpretation}, for example, in order to record the
+	 * queries for a warm-up of the cache at the next start.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_WARM_UP_FILE
+	 */
+	public void visitCachedHqlQueries(BiConsumer<String, Class<?>> action) {
+		for ( Object cacheKey : hqlInterpretationCache.keySet() ) {
+			if ( cacheKey instanceof HqlInterpretationCacheKey key ) {
+				action.accept( key.queryString, key.expectedResultType );
+			}
+			else {
+				action.accept( (String) cacheKey, null );
+			}
+		}
+	}
+
 	private StatisticsImplementor getStatistics() {
 		if ( statistics == null ) {
 			statistics = serviceRegistry.requireService( StatisticsImplementor.class );
@@ -71,6 +90,14 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		return statistics;
 	}
 
+	private void planEvicted(Key key, QueryPlan plan) {
+		log.tracef( "Evicted query plan (%s)", key );
+		final StatisticsImplementor statistics = getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheEviction();
+		}
+	}
+
 	@Override
 	public <R> SelectQueryPlan<R> resolveSelectQueryPlan(
 			Key key,
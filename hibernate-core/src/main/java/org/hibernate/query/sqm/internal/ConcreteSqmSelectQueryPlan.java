@@ -18,6 +18,8 @@ import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.internal.EmptyScrollableResults;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.Query;
@@ -470,6 +472,8 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent queryTranslationEvent = eventManager.beginQueryTranslationEvent();
 
 		final SqmTranslation<SelectStatement> sqmInterpretation =
 				sessionFactory.getQueryEngine().getSqmTranslatorFactory()
@@ -506,9 +510,13 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				session
 		);
 
+		final JdbcOperationQuerySelect jdbcSelect =
+				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		eventManager.completeQueryTranslationEvent( queryTranslationEvent, session, jdbcSelect.getSqlString() );
+
 		return new CacheableSqmInterpretation(
 				sqmInterpretation.getSqlAst(),
-				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() ),
+				jdbcSelect,
 				tableGroupAccess,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
@@ -123,6 +123,7 @@ public class QuerySqmImpl<R>
 
 	private final String hql;
 	private SqmStatement<R> sqm;
+	private boolean sqmStatementExposed;
 
 	private final ParameterMetadataImplementor parameterMetadata;
 	private final DomainParameterXref domainParameterXref;
@@ -152,7 +153,8 @@ public class QuerySqmImpl<R>
 			NamedCriteriaQueryMementoImpl<?> memento,
 			Class<R> resultType,
 			SharedSessionContractImplementor session) {
-		this( (SqmStatement<R>) memento.getSqmStatement(), resultType, session );
+		// the statement of a memento is never exposed to client code, so there's no need to copy it
+		this( (SqmStatement<R>) memento.getSqmStatement(), false, resultType, session );
 
 		applyOptions( memento );
 	}
@@ -196,9 +198,18 @@ public class QuerySqmImpl<R>
 			SqmStatement<R> criteria,
 			Class<R> expectedResultType,
 			SharedSessionContractImplementor producer) {
+		this( criteria, producer.isCriteriaCopyTreeEnabled(), expectedResultType, producer );
+		sqmStatementExposed = !producer.isCriteriaCopyTreeEnabled();
+	}
+
+	private QuerySqmImpl(
+			SqmStatement<R> criteria,
+			boolean copyTree,
+			Class<R> expectedResultType,
+			SharedSessionContractImplementor producer) {
 		super( producer );
 		hql = CRITERIA_HQL_STRING;
-		if ( producer.isCriteriaCopyTreeEnabled() ) {
+		if ( copyTree ) {
 			sqm = criteria.copy( SqmCopyContext.simpleContext() );
 		}
 		else {
@@ -274,6 +285,8 @@ public class QuerySqmImpl<R>
 	@Override
 	protected void setSqmStatement(SqmSelectStatement<R> sqm) {
 		this.sqm = sqm;
+		// the statement is always a copy
+		this.sqmStatementExposed = false;
 	}
 
 	@Override
@@ -311,6 +324,11 @@ public class QuerySqmImpl<R>
 		return getSession().getLoadQueryInfluencers();
 	}
 
+	@Override
+	public boolean isSqmStatementExposed() {
+		return sqmStatementExposed;
+	}
+
 	@Override
 	protected boolean resolveJdbcParameterTypeIfNecessary() {
 		// No need to resolve JDBC parameter types as we know them from the SQM model
@@ -454,19 +472,13 @@ public class QuerySqmImpl<R>
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Select query plan
 
-	@Override
-	public boolean isQueryPlanCacheable() {
-		return CRITERIA_HQL_STRING.equals( hql )
-				// For criteria queries, query plan caching requires an explicit opt-in
-				? getQueryOptions().getQueryPlanCachingEnabled() == Boolean.TRUE
-				: super.isQueryPlanCacheable();
-	}
-
 	private SelectQueryPlan<R> resolveSelectQueryPlan() {
-		final QueryInterpretationCache.Key cacheKey = createInterpretationsKey( this );
+		final SqmInterpretationsKey cacheKey = createInterpretationsKey( this );
 		if ( cacheKey != null ) {
-			return getSession().getFactory().getQueryEngine().getInterpretationCache()
-					.resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan );
+			return cacheKey.resolveSelectQueryPlan(
+					getSession().getFactory().getQueryEngine().getInterpretationCache(),
+					this::buildSelectQueryPlan
+			);
 		}
 		else {
 			return buildSelectQueryPlan();
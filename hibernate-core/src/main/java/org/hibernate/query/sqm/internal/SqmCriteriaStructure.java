@@ -0,0 +1,651 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.query.spi.SelectQueryPlan;
+import org.hibernate.query.sqm.function.SelfRenderingSqmAggregateFunction;
+import org.hibernate.query.sqm.function.SelfRenderingSqmFunction;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.SqmTypedNode;
+import org.hibernate.query.sqm.tree.domain.SqmBasicValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmEmbeddedValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmEntityValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.domain.SqmPluralValuedSimplePath;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.expression.SqmBinaryArithmetic;
+import org.hibernate.query.sqm.tree.expression.SqmEnumLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmJpaCriteriaParameterWrapper;
+import org.hibernate.query.sqm.tree.expression.SqmLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmLiteralNull;
+import org.hibernate.query.sqm.tree.expression.SqmUnaryOperation;
+import org.hibernate.query.sqm.tree.from.SqmAttributeJoin;
+import org.hibernate.query.sqm.tree.from.SqmFrom;
+import org.hibernate.query.sqm.tree.from.SqmFromClause;
+import org.hibernate.query.sqm.tree.from.SqmJoin;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.predicate.SqmBetweenPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmBooleanExpressionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmComparisonPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmEmptinessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInListPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmJunctionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmLikePredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNegatedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNullnessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiation;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiationArgument;
+import org.hibernate.query.sqm.tree.select.SqmJpaCompoundSelection;
+import org.hibernate.query.sqm.tree.select.SqmOrderByClause;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectClause;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelectableNode;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.query.sqm.tree.select.SqmSortSpecification;
+import org.hibernate.sql.results.spi.ResultsConsumer;
+
+import jakarta.persistence.Tuple;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The structure of a criteria query, used in place of the criteria query
+ * itself in the {@link SqmInterpretationsKey}, so that criteria queries which
+ * are built separately, but have the same structure, share a query plan.
+ * <p>
+ * Two criteria queries have the same structure if they have the same nodes,
+ * in the same order, referring to the same entities, attributes and functions,
+ * and with the same literal values. The values of the parameters, including
+ * the parameters created for the values passed to the criteria builder, are
+ * not part of the structure. The places at which the same parameter occurs are.
+ * <p>
+ * Since the query parameters of the query plan belong to the criteria query
+ * from which the plan was built, the plan is {@linkplain #adapt adapted} when
+ * it's used by a query with the same structure, so that the parameters of the
+ * plan are bound to the values bound to the corresponding parameters of the
+ * query.
+ * <p>
+ * Only the kinds of nodes which typically occur in dynamically built queries
+ * are supported. The structure of a query containing any other kind of node,
+ * for example, a subquery, a treat or a CTE, is not determined.
+ */
+final class SqmCriteriaStructure {
+
+	private final List<Object> nodes;
+	private final List<JpaCriteriaParameter<?>> parameters;
+	private final int hashCode;
+
+	private SqmCriteriaStructure(List<Object> nodes, List<JpaCriteriaParameter<?>> parameters) {
+		this.nodes = nodes;
+		this.parameters = parameters;
+		this.hashCode = nodes.hashCode();
+	}
+
+	/**
+	 * Determine the structure of the given criteria query.
+	 *
+	 * @return the structure, or {@code null} if the query contains a node
+	 *         which is not supported
+	 */
+	static @Nullable SqmCriteriaStructure determine(SqmStatement<?> statement, Class<?> resultType) {
+		// a Tuple refers to the selections of the query from which the plan was built
+		if ( statement instanceof SqmSelectStatement<?> selectStatement && resultType != Tuple.class ) {
+			final StructureCollector collector = new StructureCollector();
+			return collector.selectStatement( selectStatement )
+					? new SqmCriteriaStructure( collector.nodes, collector.parameters )
+					: null;
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Wrap a plan which was built for the query with this structure before
+	 * it's stored in the query plan cache.
+	 */
+	<R> SelectQueryPlan<R> wrap(SelectQueryPlan<R> plan) {
+		return new StructuralSelectQueryPlan<>( plan, parameters );
+	}
+
+	/**
+	 * Adapt a plan obtained from the query plan cache to the parameters of
+	 * the query with this structure.
+	 */
+	<R> SelectQueryPlan<R> adapt(SelectQueryPlan<R> plan) {
+		if ( plan instanceof StructuralSelectQueryPlan<R> structuralPlan
+				&& !isSame( structuralPlan.parameters, parameters ) ) {
+			final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping =
+					new IdentityHashMap<>( parameters.size() );
+			for ( int i = 0; i < parameters.size(); i++ ) {
+				parameterMapping.put( structuralPlan.parameters.get( i ), parameters.get( i ) );
+			}
+			return new ParameterMappingSelectQueryPlan<>( structuralPlan.delegate, parameterMapping );
+		}
+		else {
+			return plan;
+		}
+	}
+
+	private static boolean isSame(List<JpaCriteriaParameter<?>> parameters, List<JpaCriteriaParameter<?>> others) {
+		for ( int i = 0; i < parameters.size(); i++ ) {
+			if ( parameters.get( i ) != others.get( i ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if ( this == object ) {
+			return true;
+		}
+		else if ( !( object instanceof SqmCriteriaStructure that ) ) {
+			return false;
+		}
+		else {
+			return hashCode == that.hashCode
+				&& nodes.equals( that.nodes );
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return "SqmCriteriaStructure(" + nodes.size() + " nodes, " + parameters.size() + " parameters)";
+	}
+
+	/**
+	 * Walks a criteria query, collecting the features of each node, and
+	 * the parameters in the order of their first occurrence.
+	 */
+	private static class StructureCollector {
+		private final List<Object> nodes = new ArrayList<>();
+		private final List<JpaCriteriaParameter<?>> parameters = new ArrayList<>();
+		private final Map<SqmFrom<?, ?>, Integer> fromIndexes = new IdentityHashMap<>();
+		private final Map<JpaCriteriaParameter<?>, Integer> parameterIndexes = new IdentityHashMap<>();
+
+		private boolean selectStatement(SqmSelectStatement<?> statement) {
+			if ( !statement.getCteStatements().isEmpty()
+					|| !( statement.getQueryPart() instanceof SqmQuerySpec<?> querySpec ) ) {
+				return false;
+			}
+			nodes.add( statement.getResultType() );
+			return querySpec( querySpec );
+		}
+
+		private boolean querySpec(SqmQuerySpec<?> querySpec) {
+			final SqmFromClause fromClause = querySpec.getFromClause();
+			if ( fromClause == null ) {
+				return false;
+			}
+			nodes.add( fromClause.getNumberOfRoots() );
+			for ( SqmRoot<?> root : fromClause.getRoots() ) {
+				// other kinds of roots, correlations, and entity or cross joins
+				// (which are kept as ordered joins) are not supported
+				if ( root.getClass() != SqmRoot.class || root.isCorrelated() || root.getOrderedJoins() != null ) {
+					return false;
+				}
+				nodes.add( root.getModel() );
+				if ( !from( root ) ) {
+					return false;
+				}
+			}
+
+			final SqmSelectClause selectClause = querySpec.getSelectClause();
+			nodes.add( selectClause.isDistinct() );
+			nodes.add( selectClause.getSelections().size() );
+			for ( SqmSelection<?> selection : selectClause.getSelections() ) {
+				nodes.add( selection.getAlias() );
+				if ( !selectable( selection.getSelectableNode() ) ) {
+					return false;
+				}
+			}
+
+			if ( !nullablePredicate( querySpec.getRestriction() ) ) {
+				return false;
+			}
+
+			nodes.add( querySpec.getGroupByClauseExpressions().size() );
+			for ( SqmExpression<?> expression : querySpec.getGroupByClauseExpressions() ) {
+				if ( !expression( expression ) ) {
+					return false;
+				}
+			}
+			if ( !nullablePredicate( querySpec.getHavingClausePredicate() ) ) {
+				return false;
+			}
+
+			final SqmOrderByClause orderByClause = querySpec.getOrderByClause();
+			if ( orderByClause == null ) {
+				nodes.add( 0 );
+			}
+			else {
+				nodes.add( orderByClause.getSortSpecifications().size() );
+				for ( SqmSortSpecification sortSpecification : orderByClause.getSortSpecifications() ) {
+					nodes.add( sortSpecification.getSortDirection() );
+					nodes.add( sortSpecification.getNullPrecedence() );
+					nodes.add( sortSpecification.isIgnoreCase() );
+					if ( !expression( sortSpecification.getSortExpression() ) ) {
+						return false;
+					}
+				}
+			}
+
+			nodes.add( querySpec.getFetchClauseType() );
+			return nullableExpression( querySpec.getOffsetExpression() )
+				&& nullableExpression( querySpec.getFetchExpression() );
+		}
+
+		private boolean from(SqmFrom<?, ?> from) {
+			if ( from.hasTreats() ) {
+				return false;
+			}
+			fromIndexes.put( from, fromIndexes.size() );
+			final List<? extends SqmJoin<?, ?>> joins = from.getSqmJoins();
+			nodes.add( joins.size() );
+			for ( SqmJoin<?, ?> join : joins ) {
+				if ( !( join instanceof SqmAttributeJoin<?, ?> attributeJoin ) ) {
+					return false;
+				}
+				nodes.add( join.getClass() );
+				nodes.add( attributeJoin.getReferencedPathSource() );
+				nodes.add( join.getSqmJoinType() );
+				nodes.add( attributeJoin.isFetched() );
+				if ( !from( join ) || !nullablePredicate( join.getJoinPredicate() ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private boolean selectable(SqmSelectableNode<?> selectable) {
+			nodes.add( selectable.getAlias() );
+			if ( selectable instanceof SqmDynamicInstantiation<?> instantiation ) {
+				nodes.add( SqmDynamicInstantiation.class );
+				nodes.add( instantiation.getInstantiationTarget().getNature() );
+				nodes.add( instantiation.getInstantiationTarget().getTargetTypeDescriptor().getJavaTypeClass() );
+				nodes.add( instantiation.getArguments().size() );
+				for ( SqmDynamicInstantiationArgument<?> argument : instantiation.getArguments() ) {
+					nodes.add( argument.getAlias() );
+					if ( !selectable( argument.getSelectableNode() ) ) {
+						return false;
+					}
+				}
+				return true;
+			}
+			else if ( selectable instanceof SqmJpaCompoundSelection<?> compoundSelection ) {
+				nodes.add( SqmJpaCompoundSelection.class );
+				nodes.add( compoundSelection.getJavaType() );
+				nodes.add( compoundSelection.getSelectionItems().size() );
+				for ( SqmSelectableNode<?> selectionItem : compoundSelection.getSelectionItems() ) {
+					if ( !selectable( selectionItem ) ) {
+						return false;
+					}
+				}
+				return true;
+			}
+			else {
+				return selectable instanceof SqmExpression<?> expression
+					&& expression( expression );
+			}
+		}
+
+		private boolean nullablePredicate(@Nullable SqmPredicate predicate) {
+			if ( predicate == null ) {
+				nodes.add( null );
+				return true;
+			}
+			else {
+				return predicate( predicate );
+			}
+		}
+
+		private boolean predicate(SqmPredicate predicate) {
+			nodes.add( predicate.getClass() );
+			nodes.add( predicate.isNegated() );
+			if ( predicate instanceof SqmComparisonPredicate comparison ) {
+				nodes.add( comparison.getSqmOperator() );
+				return expression( comparison.getLeftHandExpression() )
+					&& expression( comparison.getRightHandExpression() );
+			}
+			else if ( predicate instanceof SqmJunctionPredicate junction ) {
+				nodes.add( junction.getOperator() );
+				nodes.add( junction.getPredicates().size() );
+				for ( SqmPredicate subPredicate : junction.getPredicates() ) {
+					if ( !predicate( subPredicate ) ) {
+						return false;
+					}
+				}
+				return true;
+			}
+			else if ( predicate instanceof SqmNegatedPredicate negated ) {
+				return predicate( negated.getWrappedPredicate() );
+			}
+			else if ( predicate instanceof SqmNullnessPredicate nullness ) {
+				return expression( nullness.getExpression() );
+			}
+			else if ( predicate instanceof SqmLikePredicate like ) {
+				nodes.add( like.isCaseSensitive() );
+				return expression( like.getMatchExpression() )
+					&& expression( like.getPattern() )
+					&& nullableExpression( like.getEscapeCharacter() );
+			}
+			else if ( predicate instanceof SqmInListPredicate<?> inList ) {
+				nodes.add( inList.getListExpressions().size() );
+				for ( SqmExpression<?> listExpression : inList.getListExpressions() ) {
+					if ( !expression( listExpression ) ) {
+						return false;
+					}
+				}
+				return expression( inList.getTestExpression() );
+			}
+			else if ( predicate instanceof SqmBetweenPredicate between ) {
+				return expression( between.getExpression() )
+					&& expression( between.getLowerBound() )
+					&& expression( between.getUpperBound() );
+			}
+			else if ( predicate instanceof SqmBooleanExpressionPredicate booleanExpression ) {
+				return expression( booleanExpression.getBooleanExpression() );
+			}
+			else if ( predicate instanceof SqmEmptinessPredicate emptiness ) {
+				return expression( emptiness.getPluralPath() );
+			}
+			else {
+				return false;
+			}
+		}
+
+		private boolean nullableExpression(@Nullable SqmExpression<?> expression) {
+			if ( expression == null ) {
+				nodes.add( null );
+				return true;
+			}
+			else {
+				return expression( expression );
+			}
+		}
+
+		private boolean expression(SqmExpression<?> expression) {
+			if ( expression instanceof SqmJpaCriteriaParameterWrapper<?> wrapper ) {
+				return parameter( wrapper.getJpaCriteriaParameter() );
+			}
+			else if ( expression instanceof JpaCriteriaParameter<?> parameter ) {
+				return parameter( parameter );
+			}
+			else if ( expression instanceof SqmFrom<?, ?> from ) {
+				final Integer fromIndex = fromIndexes.get( from );
+				if ( fromIndex == null ) {
+					// a node from some other query
+					return false;
+				}
+				nodes.add( SqmFrom.class );
+				nodes.add( fromIndex );
+				return true;
+			}
+
+			nodes.add( expression.getClass() );
+			nodes.add( expression.getNodeType() );
+			if ( expression instanceof SqmPath<?> path ) {
+				// paths with additional state, for example treated paths, are not supported
+				return isSimplePath( path )
+					&& path.getLhs() != null
+					&& expression( path.getLhs() );
+			}
+			else if ( expression instanceof SqmLiteral<?> literal ) {
+				final Object value = literal.getLiteralValue();
+				nodes.add( value );
+				return isSimpleLiteral( literal ) && isImmutable( value );
+			}
+			else if ( expression instanceof SelfRenderingSqmFunction<?> function ) {
+				if ( !isSimpleFunction( function ) ) {
+					return false;
+				}
+				nodes.add( function.getFunctionDescriptor() );
+				nodes.add( function.getArguments().size() );
+				for ( SqmTypedNode<?> argument : function.getArguments() ) {
+					// special arguments, for example, distinct, star or a cast target, are not supported
+					if ( !( argument instanceof SqmExpression<?> argumentExpression )
+							|| !expression( argumentExpression ) ) {
+						return false;
+					}
+				}
+				return true;
+			}
+			else if ( expression instanceof SqmBinaryArithmetic<?> arithmetic ) {
+				nodes.add( arithmetic.getOperator() );
+				return expression( arithmetic.getLeftHandOperand() )
+					&& expression( arithmetic.getRightHandOperand() );
+			}
+			else if ( expression instanceof SqmUnaryOperation<?> operation ) {
+				nodes.add( operation.getOperation() );
+				return expression( operation.getOperand() );
+			}
+			else {
+				return false;
+			}
+		}
+
+		private boolean parameter(JpaCriteriaParameter<?> parameter) {
+			Integer parameterIndex = parameterIndexes.get( parameter );
+			if ( parameterIndex == null ) {
+				parameterIndex = parameters.size();
+				parameterIndexes.put( parameter, parameterIndex );
+				parameters.add( parameter );
+			}
+			nodes.add( JpaCriteriaParameter.class );
+			nodes.add( parameterIndex );
+			nodes.add( parameter.getNodeType() );
+			nodes.add( parameter.allowsMultiValuedBinding() );
+			return true;
+		}
+
+		private static boolean isSimplePath(SqmPath<?> path) {
+			final Class<?> pathClass = path.getClass();
+			return pathClass == SqmBasicValuedSimplePath.class
+				|| pathClass == SqmEmbeddedValuedSimplePath.class
+				|| pathClass == SqmEntityValuedSimplePath.class
+				|| pathClass == SqmPluralValuedSimplePath.class;
+		}
+
+		private static boolean isSimpleLiteral(SqmLiteral<?> literal) {
+			final Class<?> literalClass = literal.getClass();
+			return literalClass == SqmLiteral.class
+				|| literalClass == SqmLiteralNull.class
+				|| literalClass == SqmEnumLiteral.class;
+		}
+
+		private static boolean isSimpleFunction(SelfRenderingSqmFunction<?> function) {
+			if ( function.getClass() == SelfRenderingSqmFunction.class ) {
+				return true;
+			}
+			else {
+				return function.getClass() == SelfRenderingSqmAggregateFunction.class
+					&& ( (SelfRenderingSqmAggregateFunction<?>) function ).getFilter() == null;
+			}
+		}
+
+		private static boolean isImmutable(@Nullable Object value) {
+			// the value becomes part of the key of the cached plan
+			return value == null
+				|| value instanceof String
+				|| value instanceof Boolean
+				|| value instanceof Character
+				|| value instanceof Integer
+				|| value instanceof Long
+				|| value instanceof Short
+				|| value instanceof Byte
+				|| value instanceof Double
+				|| value instanceof Float
+				|| value instanceof BigInteger
+				|| value instanceof BigDecimal
+				|| value instanceof Enum<?>
+				|| value instanceof TemporalAccessor && value.getClass().getName().startsWith( "java.time." );
+		}
+	}
+
+	/**
+	 * A plan in the query plan cache, which remembers the parameters of the
+	 * criteria query it was built for.
+	 */
+	private static class StructuralSelectQueryPlan<R> implements SelectQueryPlan<R> {
+		private final SelectQueryPlan<R> delegate;
+		private final List<JpaCriteriaParameter<?>> parameters;
+
+		private StructuralSelectQueryPlan(SelectQueryPlan<R> delegate, List<JpaCriteriaParameter<?>> parameters) {
+			this.delegate = delegate;
+			this.parameters = parameters;
+		}
+
+		@Override
+		public <T> T executeQuery(DomainQueryExecutionContext executionContext, ResultsConsumer<T, R> resultsConsumer) {
+			return delegate.executeQuery( executionContext, resultsConsumer );
+		}
+
+		@Override
+		public List<R> performList(DomainQueryExecutionContext executionContext) {
+			return delegate.performList( executionContext );
+		}
+
+		@Override
+		public ScrollableResultsImplementor<R> performScroll(
+				ScrollMode scrollMode,
+				DomainQueryExecutionContext executionContext) {
+			return delegate.performScroll( scrollMode, executionContext );
+		}
+	}
+
+	/**
+	 * A cached plan used by a criteria query with the same structure as the
+	 * query the plan was built for.
+	 */
+	private static class ParameterMappingSelectQueryPlan<R> implements SelectQueryPlan<R> {
+		private final SelectQueryPlan<R> delegate;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping;
+
+		private ParameterMappingSelectQueryPlan(
+				SelectQueryPlan<R> delegate,
+				Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping) {
+			this.delegate = delegate;
+			this.parameterMapping = parameterMapping;
+		}
+
+		@Override
+		public <T> T executeQuery(DomainQueryExecutionContext executionContext, ResultsConsumer<T, R> resultsConsumer) {
+			return delegate.executeQuery( mapParameters( executionContext ), resultsConsumer );
+		}
+
+		@Override
+		public List<R> performList(DomainQueryExecutionContext executionContext) {
+			return delegate.performList( mapParameters( executionContext ) );
+		}
+
+		@Override
+		public ScrollableResultsImplementor<R> performScroll(
+				ScrollMode scrollMode,
+				DomainQueryExecutionContext executionContext) {
+			return delegate.performScroll( scrollMode, mapParameters( executionContext ) );
+		}
+
+		private DomainQueryExecutionContext mapParameters(DomainQueryExecutionContext executionContext) {
+			final QueryParameterBindings parameterBindings =
+					new ParameterMappingBindings( executionContext.getQueryParameterBindings(), parameterMapping );
+			return new DelegatingDomainQueryExecutionContext( executionContext ) {
+				@Override
+				public QueryParameterBindings getQueryParameterBindings() {
+					return parameterBindings;
+				}
+			};
+		}
+	}
+
+	/**
+	 * Exposes the bindings of the parameters of a criteria query as bindings
+	 * of the corresponding parameters of the query a cached plan was built for.
+	 */
+	private static class ParameterMappingBindings implements QueryParameterBindings {
+		private final QueryParameterBindings delegate;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping;
+
+		private ParameterMappingBindings(
+				QueryParameterBindings delegate,
+				Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping) {
+			this.delegate = delegate;
+			this.parameterMapping = parameterMapping;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <P> QueryParameterImplementor<P> map(QueryParameterImplementor<P> parameter) {
+			final QueryParameterImplementor<?> mapped = parameterMapping.get( parameter );
+			return mapped == null ? parameter : (QueryParameterImplementor<P>) mapped;
+		}
+
+		@Override
+		public boolean isBound(QueryParameterImplementor<?> parameter) {
+			return delegate.isBound( map( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(QueryParameterImplementor<P> parameter) {
+			return delegate.getBinding( map( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(String name) {
+			return delegate.getBinding( name );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(int position) {
+			return delegate.getBinding( position );
+		}
+
+		@Override
+		public void validate() {
+			delegate.validate();
+		}
+
+		@Override
+		public boolean hasAnyMultiValuedBindings() {
+			return delegate.hasAnyMultiValuedBindings();
+		}
+
+		@Override
+		public QueryKey.ParameterBindingsMemento generateQueryKeyMemento(SharedSessionContractImplementor session) {
+			return delegate.generateQueryKeyMemento( session );
+		}
+
+		@Override
+		public void visitBindings(BiConsumer<QueryParameterImplementor<?>, QueryParameterBinding<?>> action) {
+			delegate.visitBindings( action );
+		}
+	}
+}
@@ -16,6 +16,7 @@ import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.sqm.tree.SqmStatement;
 
 import static java.lang.Boolean.TRUE;
@@ -36,13 +37,23 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 
 	public interface InterpretationsKeySource extends CacheabilityInfluencers {
 		Class<?> getResultType();
+
+		/**
+		 * Is the SQM statement of this criteria query the very tree built by the
+		 * client, which might still be changed after the query was created, rather
+		 * than a copy?
+		 */
+		boolean isSqmStatementExposed();
 	}
 
 	public static SqmInterpretationsKey createInterpretationsKey(InterpretationsKeySource keySource) {
 		if ( isCacheable ( keySource ) ) {
 			final Object query = CRITERIA_HQL_STRING.equals( keySource.getQueryString() )
-					? keySource.getSqmStatement()
+					? criteriaQuery( keySource )
 					: keySource.getQueryString();
+			if ( query == null ) {
+				return null;
+			}
 			return new SqmInterpretationsKey(
 					query,
 					query.hashCode(),
@@ -58,6 +69,24 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 		}
 	}
 
+	private static Object criteriaQuery(InterpretationsKeySource keySource) {
+		// A plan shared by structure keeps the tree of the first query it was
+		// built for, so it must not be a tree the client might still change
+		final SqmCriteriaStructure structure = keySource.isSqmStatementExposed()
+				? null
+				: SqmCriteriaStructure.determine( keySource.getSqmStatement(), keySource.getResultType() );
+		if ( structure != null ) {
+			return structure;
+		}
+		else {
+			// Without a structure, the plan can only be shared by executions
+			// of the same criteria query, so we need an explicit opt-in
+			return keySource.getQueryOptions().getQueryPlanCachingEnabled() == TRUE
+					? keySource.getSqmStatement()
+					: null;
+		}
+	}
+
 	private static Collection<String> memoryEfficientDefensiveSetCopy(final Set<String> set) {
 		if ( set == null ) {
 			return null;
@@ -80,9 +109,6 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 	private static boolean isCacheable(InterpretationsKeySource keySource) {
 		assert keySource.getQueryOptions().getAppliedGraph() != null;
 
-		// for now at least, skip caching Criteria-based plans
-		// - especially wrt parameters atm; this works with HQL because the
-		// parameters are part of the query string; with Criteria, they're not.
 		return keySource.isQueryPlanCacheable()
 				// At the moment we cannot cache query plan if there is filter enabled.
 			&& ! keySource.getLoadQueryInfluencers().hasEnabledFilters()
@@ -144,6 +170,26 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 		);
 	}
 
+	/**
+	 * Obtain the plan for this key from the given cache, building it with
+	 * the given creator if it's not cached.
+	 * <p>
+	 * For criteria queries, the plan might have been built for another
+	 * criteria query with the same structure.
+	 */
+	public <R> SelectQueryPlan<R> resolveSelectQueryPlan(
+			QueryInterpretationCache interpretationCache,
+			Supplier<SelectQueryPlan<R>> creator) {
+		if ( query instanceof SqmCriteriaStructure structure ) {
+			return structure.adapt(
+					interpretationCache.resolveSelectQueryPlan( this, () -> structure.wrap( creator.get() ) )
+			);
+		}
+		else {
+			return interpretationCache.resolveSelectQueryPlan( this, creator );
+		}
+	}
+
 	@Override
 	public String getQueryString() {
 		return query instanceof String ? (String) query : null;
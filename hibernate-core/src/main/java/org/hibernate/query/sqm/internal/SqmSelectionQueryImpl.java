@@ -43,7 +43,6 @@ import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.MutableQueryOptions;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
-import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBinding;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -88,6 +87,7 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 		implements SqmSelectionQueryImplementor<R>, InterpretationsKeySource {
 	private final String hql;
 	private SqmSelectStatement<R> sqm;
+	private boolean sqmStatementExposed;
 
 	private final ParameterMetadataImplementor parameterMetadata;
 	private final DomainParameterXref domainParameterXref;
@@ -139,8 +139,9 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 			NamedCriteriaQueryMementoImpl<?> memento,
 			Class<R> expectedResultType,
 			SharedSessionContractImplementor session) {
+		// the statement of a memento is never exposed to client code, so there's no need to copy it
 		//noinspection unchecked
-		this( (SqmSelectStatement<R>) memento.getSqmStatement(), expectedResultType, session );
+		this( (SqmSelectStatement<R>) memento.getSqmStatement(), false, expectedResultType, session );
 		applyOptions( memento );
 	}
 
@@ -148,9 +149,18 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 			SqmSelectStatement<R> criteria,
 			Class<R> expectedResultType,
 			SharedSessionContractImplementor session) {
+		this( criteria, session.isCriteriaCopyTreeEnabled(), expectedResultType, session );
+		sqmStatementExposed = !session.isCriteriaCopyTreeEnabled();
+	}
+
+	private SqmSelectionQueryImpl(
+			SqmSelectStatement<R> criteria,
+			boolean copyTree,
+			Class<R> expectedResultType,
+			SharedSessionContractImplementor session) {
 		super( session );
 		this.hql = CRITERIA_HQL_STRING;
-		if ( session.isCriteriaCopyTreeEnabled() ) {
+		if ( copyTree ) {
 			this.sqm = criteria.copy( SqmCopyContext.simpleContext() );
 		}
 		else {
@@ -324,6 +334,8 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 	@Override
 	protected void setSqmStatement(SqmSelectStatement<R> sqm) {
 		this.sqm = sqm;
+		// the statement is always a copy
+		this.sqmStatementExposed = false;
 	}
 
 	@Override
@@ -454,10 +466,12 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 	// Query plan
 
 	private SelectQueryPlan<R> resolveQueryPlan() {
-		final QueryInterpretationCache.Key cacheKey = createInterpretationsKey( this );
+		final SqmInterpretationsKey cacheKey = createInterpretationsKey( this );
 		if ( cacheKey != null ) {
-			return getSessionFactory().getQueryEngine().getInterpretationCache()
-					.resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan );
+			return cacheKey.resolveSelectQueryPlan(
+					getSessionFactory().getQueryEngine().getInterpretationCache(),
+					this::buildSelectQueryPlan
+			);
 		}
 		else {
 			return buildSelectQueryPlan();
@@ -473,6 +487,11 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 		return resultType;
 	}
 
+	@Override
+	public boolean isSqmStatementExposed() {
+		return sqmStatementExposed;
+	}
+
 	@Override
 	public LoadQueryInfluencers getLoadQueryInfluencers() {
 		return getSession().getLoadQueryInfluencers();
@@ -590,14 +609,6 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 		return this;
 	}
 
-	@Override
-	public boolean isQueryPlanCacheable() {
-		return CRITERIA_HQL_STRING.equals( hql )
-				// For criteria queries, query plan caching requires an explicit opt-in
-				? getQueryOptions().getQueryPlanCachingEnabled() == Boolean.TRUE
-				: super.isQueryPlanCacheable();
-	}
-
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// hints
 
@@ -228,6 +228,10 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 		try {
 			try {
 				getResourceRegistry().releaseResources();
+				if ( getResourceRegistry() instanceof ResourceRegistryStandardImpl resourceRegistry ) {
+					// cached statements belong to the connection being released
+					resourceRegistry.releaseCachedStatements();
+				}
 				if ( !localVariableConnection.isClosed() ) {
 					sqlExceptionHelper.logAndClearWarnings( localVariableConnection );
 				}
@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A least-recently-used cache of idle {@link PreparedStatement}s, which are
+ * reused by later executions of the same SQL, as long as the session holds
+ * the same JDBC connection.
+ * <p>
+ * A statement prepared for caching is {@linkplain #checkIn(Statement) reset
+ * and returned} to the cache by the {@link ResourceRegistryStandardImpl}
+ * instead of being closed, and every cached statement is {@linkplain #clear()
+ * closed} before the connection is released.
+ * This class is not threadsafe.
+ *
+ * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+ */
+public final class PreparedStatementCache {
+	private static final CoreMessageLogger log = CoreLogging.messageLogger( PreparedStatementCache.class );
+
+	private final @Nullable JdbcEventHandler jdbcEventHandler;
+	private final LinkedHashMap<Key, PreparedStatement> idle;
+	private final IdentityHashMap<Statement, Entry> tracked = new IdentityHashMap<>();
+
+	public PreparedStatementCache(int maxSize, @Nullable JdbcEventHandler jdbcEventHandler) {
+		this.jdbcEventHandler = jdbcEventHandler;
+		this.idle = new LinkedHashMap<>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, PreparedStatement> eldest) {
+				if ( size() > maxSize ) {
+					tracked.remove( eldest.getValue() );
+					close( eldest.getValue() );
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Take an idle statement for the given SQL from the cache.
+	 *
+	 * @return The statement, or {@code null} if there is no idle statement for the SQL
+	 */
+	public @Nullable PreparedStatement take(String sql, int resultSetType) {
+		final PreparedStatement statement = idle.remove( new Key( sql, resultSetType ) );
+		if ( jdbcEventHandler != null ) {
+			if ( statement == null ) {
+				jdbcEventHandler.jdbcPreparedStatementCacheMiss();
+			}
+			else {
+				jdbcEventHandler.jdbcPreparedStatementCacheHit();
+			}
+		}
+		return statement;
+	}
+
+	/**
+	 * Mark a newly prepared statement as one to be returned to the cache when released.
+	 */
+	public void track(PreparedStatement statement, String sql, int resultSetType) throws SQLException {
+		tracked.put( statement, new Entry( new Key( sql, resultSetType ), statement.getFetchSize() ) );
+	}
+
+	/**
+	 * Reset the released statement and keep it for reuse, if it was prepared for caching.
+	 *
+	 * @return {@code true} if the statement was kept, {@code false} if it must be closed
+	 */
+	public boolean checkIn(Statement statement) {
+		final Entry entry = tracked.get( statement );
+		if ( entry == null ) {
+			return false;
+		}
+		else if ( idle.containsKey( entry.key() ) || !reset( (PreparedStatement) statement, entry.fetchSize() ) ) {
+			tracked.remove( statement );
+			return false;
+		}
+		else {
+			log.tracef( "Caching prepared statement [%s]", statement );
+			idle.put( entry.key(), (PreparedStatement) statement );
+			return true;
+		}
+	}
+
+	/**
+	 * Close all idle statements, before the connection they belong to is released.
+	 */
+	public void clear() {
+		idle.forEach( (key, statement) -> close( statement ) );
+		idle.clear();
+		tracked.clear();
+	}
+
+	private static boolean reset(PreparedStatement statement, int fetchSize) {
+		try {
+			if ( statement.isClosed() ) {
+				return false;
+			}
+			statement.clearParameters();
+			statement.clearBatch();
+			statement.clearWarnings();
+			if ( statement.getMaxRows() != 0 ) {
+				statement.setMaxRows( 0 );
+			}
+			if ( statement.getQueryTimeout() != 0 ) {
+				statement.setQueryTimeout( 0 );
+			}
+			if ( statement.getFetchSize() != fetchSize ) {
+				statement.setFetchSize( fetchSize );
+			}
+			return true;
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to reset JDBC statement for reuse [%s]", e.getMessage() );
+			return false;
+		}
+	}
+
+	private static void close(PreparedStatement statement) {
+		log.tracef( "Closing cached prepared statement [%s]", statement );
+		try {
+			statement.close();
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to release JDBC statement [%s]", e.getMessage() );
+		}
+	}
+
+	private record Key(String sql, int resultSetType) {
+	}
+
+	private record Entry(Key key, int fetchSize) {
+	}
+}
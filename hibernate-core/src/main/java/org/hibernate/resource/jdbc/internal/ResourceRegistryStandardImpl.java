@@ -20,6 +20,8 @@ import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * Helps to track statements and resultsets which need being closed.
  * This class is not threadsafe.
@@ -48,6 +50,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private static final HashMap<ResultSet,Object> EMPTY = new HashMap<>( 1, 0.2f );
 
 	private final JdbcEventHandler jdbcEventHandler;
+	private final @Nullable PreparedStatementCache statementCache;
 
 	private final HashMap<Statement, HashMap<ResultSet,Object>> xref = new HashMap<>();
 	private HashMap<ResultSet,Object> unassociatedResultSets;
@@ -63,7 +66,20 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	}
 
 	public ResourceRegistryStandardImpl(JdbcEventHandler jdbcEventHandler) {
+		this( jdbcEventHandler, null );
+	}
+
+	/**
+	 * @param statementCache The cache to which prepared statements are returned
+	 * instead of being closed, if any
+	 *
+	 * @since 7.0
+	 */
+	public ResourceRegistryStandardImpl(
+			JdbcEventHandler jdbcEventHandler,
+			@Nullable PreparedStatementCache statementCache) {
 		this.jdbcEventHandler = jdbcEventHandler;
+		this.statementCache = statementCache;
 	}
 
 	@Override
@@ -103,7 +119,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		closeOrCache( statement );
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
@@ -158,9 +174,27 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		resultSets.clear();
 	}
 
-	private static void releaseXref(final Statement s, final HashMap<ResultSet, Object> r) {
+	private void releaseXref(final Statement s, final HashMap<ResultSet, Object> r) {
 		closeAll( r );
-		close( s );
+		closeOrCache( s );
+	}
+
+	private void closeOrCache(Statement statement) {
+		if ( statementCache == null || !statementCache.checkIn( statement ) ) {
+			close( statement );
+		}
+	}
+
+	/**
+	 * Close the idle statements held by the statement cache, if any,
+	 * before the physical connection is released.
+	 *
+	 * @since 7.0
+	 */
+	public void releaseCachedStatements() {
+		if ( statementCache != null ) {
+			statementCache.clear();
+		}
 	}
 
 	private static void close(final ResultSet resultSet) {
@@ -329,7 +363,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			jdbcEventHandler.jdbcReleaseRegistryResourcesStart();
 		}
 
-		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
+		xref.forEach( this::releaseXref );
 		xref.clear();
 
 		closeAll( unassociatedResultSets );
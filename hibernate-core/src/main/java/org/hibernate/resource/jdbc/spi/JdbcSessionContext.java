@@ -30,6 +30,15 @@ public interface JdbcSessionContext {
 	 */
 	Integer getFetchSizeOrNull();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 7.0
+	 */
+	default int getStatementCacheSize() {
+		return 0;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.AvailableSettings#CONNECTION_PROVIDER_DISABLES_AUTOCOMMIT
 	 */
@@ -14,6 +14,8 @@ import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.sql.exec.SqlExecLogger;
@@ -219,6 +221,9 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				jdbcValues
 		);
 
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent resultHydrationEvent = eventManager.beginResultHydrationEvent();
+
 		final T result = resultsConsumer.consume(
 				jdbcValues,
 				session,
@@ -228,13 +233,23 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				rowReader
 		);
 
+		eventManager.completeResultHydrationEvent(
+				resultHydrationEvent,
+				session,
+				jdbcSelect.getSqlString(),
+				rowProcessingState.getProcessedRowCount(),
+				valuesProcessingState.getLoadingEntityCount(),
+				valuesProcessingState.getLoadingCollectionCount()
+		);
+
 		if ( stats ) {
 			final long endTime = System.nanoTime();
 			final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
 			statistics.queryExecuted(
 					executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
 					getResultSize( result ),
-					milliseconds
+					milliseconds,
+					TimeUnit.MICROSECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS )
 			);
 		}
 
@@ -103,4 +103,15 @@ public interface ExecutionContext {
 		return false;
 	}
 
+	/**
+	 * Should the entities loaded by this execution be put into the
+	 * second-level cache in bulk, once all rows are processed, rather
+	 * than one at a time?
+	 *
+	 * @since 7.0
+	 */
+	default boolean isBulkEntityCachePutEnabled() {
+		return false;
+	}
+
 }
@@ -173,7 +173,7 @@ public interface JdbcSelectExecutor {
 				null,
 				resultCountEstimate,
 				StandardStatementCreator.getStatementCreator( scrollMode ),
-				ScrollableResultsConsumer.instance()
+				ScrollableResultsConsumer.instance( scrollMode )
 		);
 	}
 
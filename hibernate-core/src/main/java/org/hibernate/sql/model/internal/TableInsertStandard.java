@@ -7,19 +7,25 @@ package org.hibernate.sql.model.internal;
 import java.util.List;
 import java.util.function.BiConsumer;
 
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jdbc.Expectation;
 import org.hibernate.sql.ast.SqlAstWalker;
 import org.hibernate.sql.ast.tree.expression.ColumnReference;
 import org.hibernate.sql.model.MutationTarget;
+import org.hibernate.sql.model.ValuesAnalysis;
 import org.hibernate.sql.model.ast.AbstractTableInsert;
 import org.hibernate.sql.model.ast.ColumnValueBinding;
 import org.hibernate.sql.model.ast.ColumnValueParameter;
 import org.hibernate.sql.model.ast.MutatingTableReference;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
 /**
  * @author Steve Ebersole
  */
 public class TableInsertStandard extends AbstractTableInsert {
 	private final List<ColumnReference> returningColumns;
+	private final int rowCount;
 
 	public TableInsertStandard(
 			MutatingTableReference mutatingTable,
@@ -27,8 +33,28 @@ public class TableInsertStandard extends AbstractTableInsert {
 			List<ColumnValueBinding> valueBindings,
 			List<ColumnReference> returningColumns,
 			List<ColumnValueParameter> parameters) {
+		this( mutatingTable, mutationTarget, valueBindings, returningColumns, parameters, 1 );
+	}
+
+	private TableInsertStandard(
+			MutatingTableReference mutatingTable,
+			MutationTarget<?> mutationTarget,
+			List<ColumnValueBinding> valueBindings,
+			List<ColumnReference> returningColumns,
+			List<ColumnValueParameter> parameters,
+			int rowCount) {
 		super( mutatingTable, mutationTarget, parameters, valueBindings );
 		this.returningColumns = returningColumns;
+		this.rowCount = rowCount;
+	}
+
+	/**
+	 * The number of rows inserted, each with the same value bindings.
+	 *
+	 * @since 7.0
+	 */
+	public int getRowCount() {
+		return rowCount;
 	}
 
 	@Override
@@ -46,6 +72,43 @@ public class TableInsertStandard extends AbstractTableInsert {
 		forEachThing( returningColumns, consumer );
 	}
 
+	@Override
+	public JdbcInsertMutation createMutationOperation(ValuesAnalysis valuesAnalysis, SessionFactoryImplementor factory) {
+		final JdbcInsertMutation operation = super.createMutationOperation( valuesAnalysis, factory );
+		if ( isMultiRowInsertSupported( factory ) ) {
+			return new JdbcInsertMutation(
+					operation.getTableDetails(),
+					operation.getMutationTarget(),
+					operation.getSqlString(),
+					operation.isCallable(),
+					operation.getExpectation(),
+					operation.getParameterBinders(),
+					rows -> new TableInsertStandard(
+							getMutatingTable(),
+							getMutationTarget(),
+							getValueBindings(),
+							returningColumns,
+							getParameters(),
+							rows
+					).createMutationOperation( valuesAnalysis, factory ).getSqlString()
+			);
+		}
+		else {
+			return operation;
+		}
+	}
+
+	private boolean isMultiRowInsertSupported(SessionFactoryImplementor factory) {
+		final SessionFactoryOptions options = factory.getSessionFactoryOptions();
+		return rowCount == 1
+			&& options.isMultiRowInsertEnabled()
+			&& factory.getJdbcServices().getDialect().supportsMultiRowInsert()
+			&& getNumberOfValueBindings() > 0
+			&& getNumberOfReturningColumns() == 0
+			// the row count of the statement is verified as a whole
+			&& getExpectation().getClass() == Expectation.RowCount.class;
+	}
+
 	@Override
 	public boolean isCallable() {
 		return false;
@@ -5,7 +5,10 @@
 package org.hibernate.sql.model.jdbc;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
 
+import org.hibernate.Incubating;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.model.MutationTarget;
@@ -18,6 +21,9 @@ import org.hibernate.sql.model.TableMapping;
  * @author Steve Ebersole
  */
 public class JdbcInsertMutation extends AbstractJdbcMutation {
+	private final IntFunction<String> multiRowSqlRenderer;
+	private final ConcurrentHashMap<Integer, String> multiRowSqlStrings;
+
 	public JdbcInsertMutation(
 			TableMapping tableDetails,
 			MutationTarget<?> mutationTarget,
@@ -25,7 +31,27 @@ public class JdbcInsertMutation extends AbstractJdbcMutation {
 			boolean callable,
 			Expectation expectation,
 			List<? extends JdbcParameterBinder> parameterBinders) {
+		this( tableDetails, mutationTarget, sql, callable, expectation, parameterBinders, null );
+	}
+
+	/**
+	 * @param multiRowSqlRenderer Renders the SQL inserting a given number of rows,
+	 * or {@code null} if the insert cannot be applied to multiple rows at once
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	public JdbcInsertMutation(
+			TableMapping tableDetails,
+			MutationTarget<?> mutationTarget,
+			String sql,
+			boolean callable,
+			Expectation expectation,
+			List<? extends JdbcParameterBinder> parameterBinders,
+			IntFunction<String> multiRowSqlRenderer) {
 		super( tableDetails, mutationTarget, sql, callable, expectation, parameterBinders );
+		this.multiRowSqlRenderer = multiRowSqlRenderer;
+		this.multiRowSqlStrings = multiRowSqlRenderer == null ? null : new ConcurrentHashMap<>();
 	}
 
 	@Override
@@ -33,6 +59,40 @@ public class JdbcInsertMutation extends AbstractJdbcMutation {
 		return MutationType.INSERT;
 	}
 
+	/**
+	 * Whether several rows may be inserted by a single statement.
+	 *
+	 * @see #getMultiRowSqlString(int)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	public boolean isMultiRowInsertSupported() {
+		return multiRowSqlRenderer != null;
+	}
+
+	/**
+	 * The SQL inserting the given number of rows at once. The parameters of
+	 * each row are the {@linkplain #getParameterBinders() parameters} of this
+	 * insert, and occur in the same order, one row after the other.
+	 * <p>
+	 * The SQL is rendered once for each distinct number of rows, and cached.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	public String getMultiRowSqlString(int rowCount) {
+		if ( rowCount == 1 ) {
+			return getSqlString();
+		}
+		else if ( multiRowSqlRenderer == null ) {
+			throw new UnsupportedOperationException( "Multi-row insert is not supported: " + getSqlString() );
+		}
+		else {
+			return multiRowSqlStrings.computeIfAbsent( rowCount, multiRowSqlRenderer::apply );
+		}
+	}
+
 	@Override
 	public String toString() {
 		return "JdbcInsertMutation(" + getTableDetails().getTableName() + ")";
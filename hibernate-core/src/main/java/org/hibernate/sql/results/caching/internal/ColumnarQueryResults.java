@@ -0,0 +1,397 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.caching.internal;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesMetadata;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The data put into the query results cache by {@link QueryCachePutManagerEnabledImpl},
+ * stored column by column rather than as one {@code Object[]} per row, when
+ * {@value org.hibernate.cfg.CacheSettings#QUERY_CACHE_COLUMNAR} is enabled.
+ * <p>
+ * Columns of {@code Long}, {@code Integer}, {@code Double} and {@code Boolean}
+ * values are stored in primitive arrays, and columns of {@code String}s with few
+ * distinct values are dictionary-encoded. Other values are stored as they are.
+ * <p>
+ * This is an immutable view with the same elements as the list of rows it was
+ * {@linkplain #encode created from}, so that it can be used in place of that
+ * list, but {@link org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit}
+ * reads the values directly from the columns.
+ */
+public final class ColumnarQueryResults extends AbstractList<Object> implements RandomAccess, Serializable {
+	private final @Nullable CachedJdbcValuesMetadata metadata;
+	private final int rowCount;
+	// whether the rows were Object[]s, or single values
+	private final boolean arrayRows;
+	private final Column[] columns;
+	private final int resultCount;
+
+	private ColumnarQueryResults(
+			@Nullable CachedJdbcValuesMetadata metadata,
+			int rowCount,
+			boolean arrayRows,
+			Column[] columns,
+			int resultCount) {
+		this.metadata = metadata;
+		this.rowCount = rowCount;
+		this.arrayRows = arrayRows;
+		this.columns = columns;
+		this.resultCount = resultCount;
+	}
+
+	/**
+	 * Encode the data collected by {@link QueryCachePutManagerEnabledImpl}: the
+	 * optional {@link CachedJdbcValuesMetadata}, the rows, and the result count.
+	 *
+	 * @return the columnar representation, or the given list if the rows
+	 * do not all have the same shape
+	 */
+	public static List<?> encode(List<Object> dataToCache) {
+		final int offset = !dataToCache.isEmpty() && dataToCache.get( 0 ) instanceof CachedJdbcValuesMetadata ? 1 : 0;
+		final int rowCount = dataToCache.size() - offset - 1;
+		if ( rowCount <= 0 || !( dataToCache.get( dataToCache.size() - 1 ) instanceof Integer resultCount ) ) {
+			return dataToCache;
+		}
+
+		final List<Object> rows = dataToCache.subList( offset, offset + rowCount );
+		final boolean arrayRows = rows.get( 0 ) != null && rows.get( 0 ).getClass() == Object[].class;
+		final int columnCount = arrayRows ? ( (Object[]) rows.get( 0 ) ).length : 1;
+		for ( Object row : rows ) {
+			final boolean isArray = row != null && row.getClass() == Object[].class;
+			if ( isArray != arrayRows || isArray && ( (Object[]) row ).length != columnCount ) {
+				return dataToCache;
+			}
+		}
+
+		final Column[] columns = new Column[columnCount];
+		final Object[] columnValues = new Object[rowCount];
+		for ( int column = 0; column < columnCount; column++ ) {
+			for ( int row = 0; row < rowCount; row++ ) {
+				columnValues[row] = arrayRows ? ( (Object[]) rows.get( row ) )[column] : rows.get( row );
+			}
+			columns[column] = Column.encode( columnValues );
+		}
+
+		return new ColumnarQueryResults(
+				offset == 0 ? null : (CachedJdbcValuesMetadata) dataToCache.get( 0 ),
+				rowCount,
+				arrayRows,
+				columns,
+				resultCount
+		);
+	}
+
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * Whether the rows are {@code Object[]}s, or single values which
+	 * are all stored in the column {@code 0}.
+	 */
+	public boolean hasArrayRows() {
+		return arrayRows;
+	}
+
+	public @Nullable Object getValue(int row, int column) {
+		return columns[column].get( row );
+	}
+
+	public boolean isNull(int row, int column) {
+		return columns[column].isNull( row );
+	}
+
+	/**
+	 * @return the value as a {@code long}, or {@code 0} if it is {@code null}
+	 */
+	public long getLong(int row, int column) {
+		return columns[column].getLong( row );
+	}
+
+	/**
+	 * @return the value as an {@code int}, or {@code 0} if it is {@code null}
+	 */
+	public int getInt(int row, int column) {
+		return columns[column].getInt( row );
+	}
+
+	/**
+	 * @return the value as a {@code double}, or {@code 0} if it is {@code null}
+	 */
+	public double getDouble(int row, int column) {
+		return columns[column].getDouble( row );
+	}
+
+	@Override
+	public int size() {
+		return ( metadata == null ? 0 : 1 ) + rowCount + 1;
+	}
+
+	@Override
+	public @Nullable Object get(int index) {
+		final int row = metadata == null ? index : index - 1;
+		if ( index < 0 || row > rowCount ) {
+			throw new IndexOutOfBoundsException( index );
+		}
+		else if ( row < 0 ) {
+			return metadata;
+		}
+		else if ( row == rowCount ) {
+			return resultCount;
+		}
+		else if ( arrayRows ) {
+			final Object[] values = new Object[columns.length];
+			for ( int column = 0; column < columns.length; column++ ) {
+				values[column] = columns[column].get( row );
+			}
+			return values;
+		}
+		else {
+			return columns[0].get( row );
+		}
+	}
+
+	private abstract static class Column implements Serializable {
+		// the rows with a null value, or null if there are none
+		private final @Nullable BitSet nulls;
+
+		private Column(@Nullable BitSet nulls) {
+			this.nulls = nulls;
+		}
+
+		private static Column encode(Object[] values) {
+			Class<?> type = null;
+			BitSet nulls = null;
+			for ( int row = 0; row < values.length; row++ ) {
+				final Object value = values[row];
+				if ( value == null ) {
+					if ( nulls == null ) {
+						nulls = new BitSet( values.length );
+					}
+					nulls.set( row );
+				}
+				else if ( type == null ) {
+					type = value.getClass();
+				}
+				else if ( type != value.getClass() ) {
+					return new ObjectColumn( values );
+				}
+			}
+
+			if ( type == Long.class ) {
+				return new LongColumn( values, nulls );
+			}
+			else if ( type == Integer.class ) {
+				return new IntColumn( values, nulls );
+			}
+			else if ( type == Double.class ) {
+				return new DoubleColumn( values, nulls );
+			}
+			else if ( type == Boolean.class ) {
+				return new BooleanColumn( values, nulls );
+			}
+			else if ( type == String.class ) {
+				final Column dictionaryColumn = DictionaryColumn.encode( values, nulls );
+				return dictionaryColumn == null ? new ObjectColumn( values ) : dictionaryColumn;
+			}
+			else {
+				return new ObjectColumn( values );
+			}
+		}
+
+		boolean isNull(int row) {
+			return nulls != null && nulls.get( row );
+		}
+
+		@Nullable Object get(int row) {
+			return isNull( row ) ? null : getNonNull( row );
+		}
+
+		abstract Object getNonNull(int row);
+
+		long getLong(int row) {
+			final Object value = get( row );
+			return value == null ? 0L : ( (Number) value ).longValue();
+		}
+
+		int getInt(int row) {
+			final Object value = get( row );
+			return value == null ? 0 : ( (Number) value ).intValue();
+		}
+
+		double getDouble(int row) {
+			final Object value = get( row );
+			return value == null ? 0d : ( (Number) value ).doubleValue();
+		}
+	}
+
+	private static final class ObjectColumn extends Column {
+		private final Object[] values;
+
+		private ObjectColumn(Object[] values) {
+			super( null );
+			this.values = values.clone();
+		}
+
+		@Override
+		boolean isNull(int row) {
+			return values[row] == null;
+		}
+
+		@Override
+		@Nullable Object get(int row) {
+			return values[row];
+		}
+
+		@Override
+		Object getNonNull(int row) {
+			return values[row];
+		}
+	}
+
+	private static final class LongColumn extends Column {
+		private final long[] values;
+
+		private LongColumn(Object[] values, @Nullable BitSet nulls) {
+			super( nulls );
+			this.values = new long[values.length];
+			for ( int row = 0; row < values.length; row++ ) {
+				if ( values[row] != null ) {
+					this.values[row] = (Long) values[row];
+				}
+			}
+		}
+
+		@Override
+		Object getNonNull(int row) {
+			return values[row];
+		}
+
+		@Override
+		long getLong(int row) {
+			return values[row];
+		}
+	}
+
+	private static final class IntColumn extends Column {
+		private final int[] values;
+
+		private IntColumn(Object[] values, @Nullable BitSet nulls) {
+			super( nulls );
+			this.values = new int[values.length];
+			for ( int row = 0; row < values.length; row++ ) {
+				if ( values[row] != null ) {
+					this.values[row] = (Integer) values[row];
+				}
+			}
+		}
+
+		@Override
+		Object getNonNull(int row) {
+			return values[row];
+		}
+
+		@Override
+		int getInt(int row) {
+			return values[row];
+		}
+
+		@Override
+		long getLong(int row) {
+			return values[row];
+		}
+	}
+
+	private static final class DoubleColumn extends Column {
+		private final double[] values;
+
+		private DoubleColumn(Object[] values, @Nullable BitSet nulls) {
+			super( nulls );
+			this.values = new double[values.length];
+			for ( int row = 0; row < values.length; row++ ) {
+				if ( values[row] != null ) {
+					this.values[row] = (Double) values[row];
+				}
+			}
+		}
+
+		@Override
+		Object getNonNull(int row) {
+			return values[row];
+		}
+
+		@Override
+		double getDouble(int row) {
+			return values[row];
+		}
+	}
+
+	private static final class BooleanColumn extends Column {
+		private final BitSet values;
+
+		private BooleanColumn(Object[] values, @Nullable BitSet nulls) {
+			super( nulls );
+			this.values = new BitSet( values.length );
+			for ( int row = 0; row < values.length; row++ ) {
+				if ( values[row] == Boolean.TRUE ) {
+					this.values.set( row );
+				}
+			}
+		}
+
+		@Override
+		Object getNonNull(int row) {
+			return values.get( row );
+		}
+	}
+
+	private static final class DictionaryColumn extends Column {
+		private final String[] dictionary;
+		private final int[] codes;
+
+		private DictionaryColumn(String[] dictionary, int[] codes, @Nullable BitSet nulls) {
+			super( nulls );
+			this.dictionary = dictionary;
+			this.codes = codes;
+		}
+
+		/**
+		 * @return the dictionary-encoded column, or {@code null} if there
+		 * are too many distinct values for the encoding to pay off
+		 */
+		private static @Nullable DictionaryColumn encode(Object[] values, @Nullable BitSet nulls) {
+			final int maxDictionarySize = values.length / 2;
+			final Map<String, Integer> codesByValue = new HashMap<>();
+			final int[] codes = new int[values.length];
+			for ( int row = 0; row < values.length; row++ ) {
+				if ( values[row] != null ) {
+					final Integer code = codesByValue.computeIfAbsent( (String) values[row], v -> codesByValue.size() );
+					if ( code >= maxDictionarySize ) {
+						return null;
+					}
+					codes[row] = code;
+				}
+			}
+			final String[] dictionary = new String[codesByValue.size()];
+			codesByValue.forEach( (value, code) -> dictionary[code] = value );
+			return new DictionaryColumn( dictionary, codes, nulls );
+		}
+
+		@Override
+		Object getNonNull(int row) {
+			return dictionary[codes[row]];
+		}
+	}
+}
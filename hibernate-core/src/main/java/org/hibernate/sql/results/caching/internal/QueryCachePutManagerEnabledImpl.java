@@ -25,6 +25,7 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 	private final StatisticsImplementor statistics;
 	private final QueryKey queryKey;
 	private final String queryIdentifier;
+	private final boolean columnar;
 	private final List<Object> dataToCache = new ArrayList<>();
 
 	public QueryCachePutManagerEnabledImpl(
@@ -33,10 +34,24 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 			QueryKey queryKey,
 			String queryIdentifier,
 			CachedJdbcValuesMetadata metadataForCache) {
+		this( queryCache, statistics, queryKey, queryIdentifier, metadataForCache, false );
+	}
+
+	/**
+	 * @param columnar whether to put the results into the cache as {@link ColumnarQueryResults}
+	 */
+	public QueryCachePutManagerEnabledImpl(
+			QueryResultsCache queryCache,
+			StatisticsImplementor statistics,
+			QueryKey queryKey,
+			String queryIdentifier,
+			CachedJdbcValuesMetadata metadataForCache,
+			boolean columnar) {
 		this.queryCache = queryCache;
 		this.statistics = statistics;
 		this.queryKey = queryKey;
 		this.queryIdentifier = queryIdentifier;
+		this.columnar = columnar;
 		if ( metadataForCache != null ) {
 			dataToCache.add( metadataForCache );
 		}
@@ -59,7 +74,7 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 		}
 		final boolean put = queryCache.put(
 				queryKey,
-				dataToCache,
+				columnar ? ColumnarQueryResults.encode( dataToCache ) : dataToCache,
 				session
 		);
 		if ( put && statistics.isStatisticsEnabled() ) {
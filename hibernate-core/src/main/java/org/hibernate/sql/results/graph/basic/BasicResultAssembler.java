@@ -52,6 +52,57 @@ public class BasicResultAssembler<J> implements DomainResultAssembler<J> {
 		return rowProcessingState.getJdbcValue( valuesArrayPosition );
 	}
 
+	/**
+	 * Whether the raw value is {@code null}, for use along with
+	 * {@link #extractRawLongValue}, {@link #extractRawIntValue} and
+	 * {@link #extractRawDoubleValue}.
+	 */
+	public boolean isRawValueNull(RowProcessingState rowProcessingState) {
+		if ( unwrapRowProcessingState ) {
+			rowProcessingState = rowProcessingState.unwrap();
+		}
+		return rowProcessingState.isJdbcValueNull( valuesArrayPosition );
+	}
+
+	/**
+	 * Access to the raw value as a {@code long}, without boxing it, if the
+	 * underlying {@link org.hibernate.sql.results.jdbc.spi.JdbcValues} allow.
+	 *
+	 * @return the value, or {@code 0} if it is {@code null}
+	 */
+	public long extractRawLongValue(RowProcessingState rowProcessingState) {
+		if ( unwrapRowProcessingState ) {
+			rowProcessingState = rowProcessingState.unwrap();
+		}
+		return rowProcessingState.getJdbcLongValue( valuesArrayPosition );
+	}
+
+	/**
+	 * Access to the raw value as an {@code int}, without boxing it, if the
+	 * underlying {@link org.hibernate.sql.results.jdbc.spi.JdbcValues} allow.
+	 *
+	 * @return the value, or {@code 0} if it is {@code null}
+	 */
+	public int extractRawIntValue(RowProcessingState rowProcessingState) {
+		if ( unwrapRowProcessingState ) {
+			rowProcessingState = rowProcessingState.unwrap();
+		}
+		return rowProcessingState.getJdbcIntValue( valuesArrayPosition );
+	}
+
+	/**
+	 * Access to the raw value as a {@code double}, without boxing it, if the
+	 * underlying {@link org.hibernate.sql.results.jdbc.spi.JdbcValues} allow.
+	 *
+	 * @return the value, or {@code 0} if it is {@code null}
+	 */
+	public double extractRawDoubleValue(RowProcessingState rowProcessingState) {
+		if ( unwrapRowProcessingState ) {
+			rowProcessingState = rowProcessingState.unwrap();
+		}
+		return rowProcessingState.getJdbcDoubleValue( valuesArrayPosition );
+	}
+
 	@Override
 	public J assemble(
 			RowProcessingState rowProcessingState) {
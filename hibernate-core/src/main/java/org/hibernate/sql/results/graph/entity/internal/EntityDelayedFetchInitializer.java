@@ -10,7 +10,6 @@ import org.hibernate.FetchNotFoundException;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.engine.internal.ManagedTypeHelper;
 import org.hibernate.engine.spi.EntityHolder;
-import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.EntityUniqueKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -228,8 +227,7 @@ public class EntityDelayedFetchInitializer
 				data.setInstance( instance );
 			}
 			else {
-				final EntityKey entityKey = new EntityKey( data.entityIdentifier, concreteDescriptor );
-				final EntityHolder holder = persistenceContext.getEntityHolder( entityKey );
+				final EntityHolder holder = persistenceContext.getEntityHolder( data.entityIdentifier, concreteDescriptor );
 				final Object instance;
 				if ( holder != null && holder.getEntity() != null ) {
 					instance = persistenceContext.proxyFor( holder, concreteDescriptor );
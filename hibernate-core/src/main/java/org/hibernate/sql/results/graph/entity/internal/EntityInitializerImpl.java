@@ -23,6 +23,7 @@ import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLaziness
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.engine.internal.EntityCachePuts;
 import org.hibernate.engine.internal.ForeignKeys;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityHolder;
@@ -1541,6 +1542,19 @@ public class EntityInitializerImpl extends AbstractInitializer<EntityInitializer
 			}
 		}
 		else {
+			final EntityCachePuts entityCachePuts =
+					data.getRowProcessingState().getJdbcValuesSourceProcessingState().getEntityCachePuts();
+			if ( entityCachePuts != null ) {
+				// put along with the other entities loaded by the execution
+				entityCachePuts.add(
+						cacheAccess,
+						rootEntityDescriptor,
+						cacheKey,
+						data.concreteDescriptor.getCacheEntryStructure().structure( cacheEntry ),
+						version
+				);
+				return;
+			}
 			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 			boolean put = false;
 			final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
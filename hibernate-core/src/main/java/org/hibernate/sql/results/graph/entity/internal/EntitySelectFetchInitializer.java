@@ -204,10 +204,8 @@ public class EntitySelectFetchInitializer<Data extends EntitySelectFetchInitiali
 	protected void initialize(EntitySelectFetchInitializerData data) {
 		final RowProcessingState rowProcessingState = data.getRowProcessingState();
 		final SharedSessionContractImplementor session = rowProcessingState.getSession();
-		final EntityKey entityKey = new EntityKey( data.entityIdentifier, concreteDescriptor );
-
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-		final EntityHolder holder = persistenceContext.getEntityHolder( entityKey );
+		final EntityHolder holder = persistenceContext.getEntityHolder( data.entityIdentifier, concreteDescriptor );
 		if ( holder != null ) {
 			data.setInstance( persistenceContext.proxyFor( holder, concreteDescriptor ) );
 			if ( holder.getEntityInitializer() == null ) {
@@ -32,6 +32,10 @@ public class ArgumentReader<A> implements DomainResultAssembler<A> {
 		return alias;
 	}
 
+	DomainResultAssembler<A> getDelegateAssembler() {
+		return delegateAssembler;
+	}
+
 	@Override
 	public @Nullable A assemble(RowProcessingState rowProcessingState) {
 		return delegateAssembler.assemble( rowProcessingState );
@@ -4,6 +4,9 @@
  */
 package org.hibernate.sql.results.graph.instantiation.internal;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
@@ -12,16 +15,25 @@ import java.util.function.BiConsumer;
 import org.hibernate.query.sqm.sql.internal.InstantiationException;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.type.descriptor.java.JavaType;
 
+import static java.lang.invoke.MethodType.methodType;
+
 /**
  * @author Steve Ebersole
  */
 public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainResultAssembler<R> {
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
 	private final Constructor<R> targetConstructor;
 	private final JavaType<R> resultType;
 	private final List<ArgumentReader<?>> argumentReaders;
+	// when the constructor has parameters of primitive numeric type, a handle
+	// of type (RowProcessingState)Object which reads the arguments and invokes
+	// the constructor, without boxing the values of those parameters
+	private final MethodHandle instantiator;
 
 	public DynamicInstantiationAssemblerConstructorImpl(
 			Constructor<R> targetConstructor,
@@ -30,6 +42,7 @@ public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainRe
 		this.targetConstructor = targetConstructor;
 		this.resultType = resultType;
 		this.argumentReaders = argumentReaders;
+		this.instantiator = createInstantiator( targetConstructor, argumentReaders );
 	}
 
 	@Override
@@ -39,6 +52,10 @@ public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainRe
 
 	@Override
 	public R assemble(RowProcessingState rowProcessingState) {
+		if ( instantiator != null ) {
+			return instantiate( rowProcessingState );
+		}
+
 		final int numberOfArgs = argumentReaders.size();
 		Object[] args = new Object[ numberOfArgs ];
 		for ( int i = 0; i < numberOfArgs; i++ ) {
@@ -58,6 +75,21 @@ public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainRe
 		}
 	}
 
+	private R instantiate(RowProcessingState rowProcessingState) {
+		try {
+			//noinspection unchecked
+			return (R) (Object) instantiator.invokeExact( rowProcessingState );
+		}
+		catch (ArgumentFailure e) {
+			// failures reading the arguments are not instantiation failures
+			throw e.rethrow();
+		}
+		catch (Throwable e) {
+			throw new InstantiationException( "Error instantiating class '"
+					+ targetConstructor.getDeclaringClass().getName() + "'", e );
+		}
+	}
+
 	@Override
 	public void resolveState(RowProcessingState rowProcessingState) {
 		for ( ArgumentReader<?> argumentReader : argumentReaders ) {
@@ -71,4 +103,163 @@ public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainRe
 			argumentReader.forEachResultAssembler( consumer, arg );
 		}
 	}
+
+	/**
+	 * Combine the argument readers with the constructor into a single handle,
+	 * if there is at least one argument which can be passed without boxing it.
+	 *
+	 * @return the handle, or {@code null} if reflection should be used
+	 */
+	private static MethodHandle createInstantiator(
+			Constructor<?> targetConstructor,
+			List<ArgumentReader<?>> argumentReaders) {
+		final Class<?>[] parameterTypes = targetConstructor.getParameterTypes();
+		if ( parameterTypes.length != argumentReaders.size() ) {
+			return null;
+		}
+		boolean hasPrimitiveArguments = false;
+		final MethodHandle[] argumentHandles = new MethodHandle[parameterTypes.length];
+		try {
+			for ( int i = 0; i < parameterTypes.length; i++ ) {
+				final MethodHandle primitiveHandle =
+						primitiveArgumentHandle( parameterTypes[i], argumentReaders.get( i ) );
+				if ( primitiveHandle != null ) {
+					argumentHandles[i] = primitiveHandle;
+					hasPrimitiveArguments = true;
+				}
+				else {
+					argumentHandles[i] = READ_ARGUMENT.bindTo( argumentReaders.get( i ) )
+							.asType( methodType( parameterTypes[i], RowProcessingState.class ) );
+				}
+			}
+			if ( !hasPrimitiveArguments ) {
+				return null;
+			}
+			final MethodHandle constructor = LOOKUP.unreflectConstructor( targetConstructor )
+					.asType( methodType( Object.class, parameterTypes ) );
+			// every argument handle takes the same RowProcessingState
+			return MethodHandles.permuteArguments(
+					MethodHandles.filterArguments( constructor, 0, argumentHandles ),
+					methodType( Object.class, RowProcessingState.class ),
+					new int[parameterTypes.length]
+			);
+		}
+		catch (IllegalAccessException | RuntimeException e) {
+			// not accessible via a method handle, use reflection
+			return null;
+		}
+	}
+
+	private static MethodHandle primitiveArgumentHandle(Class<?> parameterType, ArgumentReader<?> argumentReader) {
+		if ( argumentReader.getDelegateAssembler() instanceof BasicResultAssembler<?> assembler
+				// subclasses may transform the value
+				&& assembler.getClass() == BasicResultAssembler.class
+				&& assembler.getValueConverter() == null ) {
+			final Class<?> javaTypeClass = assembler.getAssembledJavaType().getJavaTypeClass();
+			if ( parameterType == long.class && javaTypeClass == Long.class ) {
+				return READ_LONG_ARGUMENT.bindTo( assembler );
+			}
+			else if ( parameterType == int.class && javaTypeClass == Integer.class ) {
+				return READ_INT_ARGUMENT.bindTo( assembler );
+			}
+			else if ( parameterType == double.class && javaTypeClass == Double.class ) {
+				return READ_DOUBLE_ARGUMENT.bindTo( assembler );
+			}
+		}
+		return null;
+	}
+
+	private static final MethodHandle READ_ARGUMENT;
+	private static final MethodHandle READ_LONG_ARGUMENT;
+	private static final MethodHandle READ_INT_ARGUMENT;
+	private static final MethodHandle READ_DOUBLE_ARGUMENT;
+
+	static {
+		try {
+			final Class<?> type = DynamicInstantiationAssemblerConstructorImpl.class;
+			READ_ARGUMENT = LOOKUP.findStatic( type, "readArgument",
+					methodType( Object.class, ArgumentReader.class, RowProcessingState.class ) );
+			READ_LONG_ARGUMENT = LOOKUP.findStatic( type, "readLongArgument",
+					methodType( long.class, BasicResultAssembler.class, RowProcessingState.class ) );
+			READ_INT_ARGUMENT = LOOKUP.findStatic( type, "readIntArgument",
+					methodType( int.class, BasicResultAssembler.class, RowProcessingState.class ) );
+			READ_DOUBLE_ARGUMENT = LOOKUP.findStatic( type, "readDoubleArgument",
+					methodType( double.class, BasicResultAssembler.class, RowProcessingState.class ) );
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new ExceptionInInitializerError( e );
+		}
+	}
+
+	private static Object readArgument(ArgumentReader<?> argumentReader, RowProcessingState rowProcessingState) {
+		try {
+			return argumentReader.assemble( rowProcessingState );
+		}
+		catch (RuntimeException | Error e) {
+			throw new ArgumentFailure( e );
+		}
+	}
+
+	private static long readLongArgument(BasicResultAssembler<?> assembler, RowProcessingState rowProcessingState) {
+		final long value;
+		try {
+			value = assembler.extractRawLongValue( rowProcessingState );
+		}
+		catch (RuntimeException | Error e) {
+			throw new ArgumentFailure( e );
+		}
+		if ( value == 0L && assembler.isRawValueNull( rowProcessingState ) ) {
+			throw nullPrimitiveArgument();
+		}
+		return value;
+	}
+
+	private static int readIntArgument(BasicResultAssembler<?> assembler, RowProcessingState rowProcessingState) {
+		final int value;
+		try {
+			value = assembler.extractRawIntValue( rowProcessingState );
+		}
+		catch (RuntimeException | Error e) {
+			throw new ArgumentFailure( e );
+		}
+		if ( value == 0 && assembler.isRawValueNull( rowProcessingState ) ) {
+			throw nullPrimitiveArgument();
+		}
+		return value;
+	}
+
+	private static double readDoubleArgument(BasicResultAssembler<?> assembler, RowProcessingState rowProcessingState) {
+		final double value;
+		try {
+			value = assembler.extractRawDoubleValue( rowProcessingState );
+		}
+		catch (RuntimeException | Error e) {
+			throw new ArgumentFailure( e );
+		}
+		if ( value == 0d && assembler.isRawValueNull( rowProcessingState ) ) {
+			throw nullPrimitiveArgument();
+		}
+		return value;
+	}
+
+	private static IllegalArgumentException nullPrimitiveArgument() {
+		// reported as an instantiation failure, as when using reflection
+		return new IllegalArgumentException( "Null value for constructor parameter of primitive type" );
+	}
+
+	/**
+	 * Carries a failure to read an argument through the method handle chain.
+	 */
+	private static final class ArgumentFailure extends RuntimeException {
+		private ArgumentFailure(Throwable cause) {
+			super( cause.getMessage(), cause, false, false );
+		}
+
+		private RuntimeException rethrow() {
+			if ( getCause() instanceof Error error ) {
+				throw error;
+			}
+			return (RuntimeException) getCause();
+		}
+	}
 }
@@ -7,6 +7,7 @@ package org.hibernate.sql.results.jdbc.internal;
 import java.util.List;
 
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.caching.internal.ColumnarQueryResults;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 
@@ -17,6 +18,8 @@ import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
  */
 public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	private List<?> cachedResults;
+	// not null if the results were cached column by column
+	private ColumnarQueryResults columnarResults;
 	private final int numberOfRows;
 	private final JdbcValuesMapping resolvedMapping;
 	private final int[] valueIndexesToCacheIndexes;
@@ -27,6 +30,7 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	public JdbcValuesCacheHit(List<?> cachedResults, JdbcValuesMapping resolvedMapping) {
 		// See QueryCachePutManagerEnabledImpl for what is being put into the cached results
 		this.cachedResults = cachedResults;
+		this.columnarResults = cachedResults instanceof ColumnarQueryResults columnar ? columnar : null;
 		this.offset = !cachedResults.isEmpty() && cachedResults.get( 0 ) instanceof CachedJdbcValuesMetadata ? 1 : 0;
 		this.numberOfRows = cachedResults.size() - offset - 1;
 		this.resultCount = cachedResults.isEmpty() ? 0 : (int) cachedResults.get( cachedResults.size() - 1 );
@@ -170,6 +174,9 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		if ( position >= numberOfRows ) {
 			return null;
 		}
+		else if ( columnarResults != null ) {
+			return columnarResults.getValue( position, columnIndex( valueIndex ) );
+		}
 		final Object row = cachedResults.get( position + offset );
 		if ( valueIndexesToCacheIndexes == null ) {
 			return ( (Object[]) row )[valueIndex];
@@ -183,9 +190,58 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		}
 	}
 
+	@Override
+	public boolean isCurrentRowValueNull(int valueIndex) {
+		if ( columnarResults != null && position < numberOfRows ) {
+			return columnarResults.isNull( position, columnIndex( valueIndex ) );
+		}
+		return getCurrentRowValue( valueIndex ) == null;
+	}
+
+	@Override
+	public long getCurrentRowLongValue(int valueIndex) {
+		if ( columnarResults != null && position < numberOfRows ) {
+			return columnarResults.getLong( position, columnIndex( valueIndex ) );
+		}
+		final Object value = getCurrentRowValue( valueIndex );
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
+	@Override
+	public int getCurrentRowIntValue(int valueIndex) {
+		if ( columnarResults != null && position < numberOfRows ) {
+			return columnarResults.getInt( position, columnIndex( valueIndex ) );
+		}
+		final Object value = getCurrentRowValue( valueIndex );
+		return value == null ? 0 : ( (Number) value ).intValue();
+	}
+
+	@Override
+	public double getCurrentRowDoubleValue(int valueIndex) {
+		if ( columnarResults != null && position < numberOfRows ) {
+			return columnarResults.getDouble( position, columnIndex( valueIndex ) );
+		}
+		final Object value = getCurrentRowValue( valueIndex );
+		return value == null ? 0d : ( (Number) value ).doubleValue();
+	}
+
+	private int columnIndex(int valueIndex) {
+		if ( valueIndexesToCacheIndexes == null ) {
+			return valueIndex;
+		}
+		else if ( columnarResults.hasArrayRows() ) {
+			return valueIndexesToCacheIndexes[valueIndex];
+		}
+		else {
+			assert valueIndexesToCacheIndexes[valueIndex] == 0;
+			return 0;
+		}
+	}
+
 	@Override
 	public void finishUp(SharedSessionContractImplementor session) {
 		cachedResults = null;
+		columnarResults = null;
 	}
 
 	@Override
@@ -17,6 +17,8 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.exception.DataException;
 import org.hibernate.exception.LockTimeoutException;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
 import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.spi.SqlSelection;
@@ -26,6 +28,13 @@ import org.hibernate.sql.results.caching.QueryCachePutManager;
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.JdbcExtractingLogging;
+import org.hibernate.type.descriptor.jdbc.BigIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.DoubleJdbcType;
+import org.hibernate.type.descriptor.jdbc.IntegerJdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * {@link AbstractJdbcValues} implementation for a JDBC {@link ResultSet} as the source
@@ -33,6 +42,11 @@ import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
  * @author Steve Ebersole
  */
 public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
+	// the kinds of columns which can be read without boxing their values
+	private static final byte BOXED = 0;
+	private static final byte LONG = 1;
+	private static final byte INT = 2;
+	private static final byte DOUBLE = 3;
 
 	private final QueryCachePutManager queryCachePutManager;
 	private final ResultSet resultSet;
@@ -45,6 +59,11 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final SqlSelection[] sqlSelections;
 	private final BitSet initializedIndexes;
 	private final Object[] currentRowJdbcValues;
+	// for the columns read via ResultSet#getLong, #getInt or #getDouble,
+	// the value (or its raw bits) of the current row, until it gets boxed
+	private final byte @Nullable [] primitiveKinds;
+	private final long @Nullable [] currentRowPrimitiveValues;
+	private final BitSet primitiveIndexes;
 	private final int[] valueIndexesToCacheIndexes;
 	// Is only meaningful if valueIndexesToCacheIndexes is not null
 	// Contains the size of the row to cache, or if the value is negative,
@@ -82,6 +101,10 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		}
 		this.initializedIndexes = new BitSet( rowSize );
 		this.currentRowJdbcValues = new Object[rowSize];
+		// the query cache needs the boxed values anyway
+		this.primitiveKinds = queryCachePutManager == null ? determinePrimitiveKinds( sqlSelections ) : null;
+		this.currentRowPrimitiveValues = primitiveKinds == null ? null : new long[rowSize];
+		this.primitiveIndexes = new BitSet( primitiveKinds == null ? 0 : rowSize );
 		if ( queryCachePutManager == null ) {
 			this.valueIndexesToCacheIndexes = null;
 			this.rowToCacheSize = -1;
@@ -104,6 +127,50 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		}
 	}
 
+	private static byte @Nullable [] determinePrimitiveKinds(SqlSelection[] sqlSelections) {
+		byte[] kinds = null;
+		for ( int i = 0; i < sqlSelections.length; i++ ) {
+			final byte kind = sqlSelections[i] == null ? BOXED : determinePrimitiveKind( sqlSelections[i] );
+			if ( kind != BOXED ) {
+				if ( kinds == null ) {
+					kinds = new byte[sqlSelections.length];
+				}
+				kinds[i] = kind;
+			}
+		}
+		return kinds;
+	}
+
+	/**
+	 * Only columns whose value would be extracted by one of the standard numeric
+	 * {@link JdbcType}s into the corresponding wrapper type, without conversion,
+	 * are read via the primitive accessors of the {@link ResultSet}.
+	 */
+	private static byte determinePrimitiveKind(SqlSelection sqlSelection) {
+		final JdbcMappingContainer expressionType = sqlSelection.getExpressionType();
+		if ( expressionType == null || expressionType.getJdbcTypeCount() != 1 ) {
+			return BOXED;
+		}
+		final JdbcMapping jdbcMapping = expressionType.getSingleJdbcMapping();
+		if ( jdbcMapping.getValueConverter() != null ) {
+			return BOXED;
+		}
+		final JdbcType jdbcType = jdbcMapping.getJdbcType();
+		final Class<?> javaTypeClass = jdbcMapping.getJdbcJavaType().getJavaTypeClass();
+		if ( jdbcType.getClass() == BigIntJdbcType.class && javaTypeClass == Long.class ) {
+			return LONG;
+		}
+		else if ( jdbcType.getClass() == IntegerJdbcType.class && javaTypeClass == Integer.class ) {
+			return INT;
+		}
+		else if ( jdbcType.getClass() == DoubleJdbcType.class && javaTypeClass == Double.class ) {
+			return DOUBLE;
+		}
+		else {
+			return BOXED;
+		}
+	}
+
 	private int determineResultCountEstimate(
 			ResultSetAccess resultSetAccess,
 			QueryOptions queryOptions,
@@ -135,7 +202,8 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 					factory.getStatistics(),
 					queryCacheKey,
 					queryIdentifier,
-					metadataForCache
+					metadataForCache,
+					factory.getSessionFactoryOptions().isQueryCacheColumnarEnabled()
 			);
 		}
 		else {
@@ -325,6 +393,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	public void readCurrentRowValues() {
 		initializedIndexes.clear();
+		primitiveIndexes.clear();
 	}
 
 	@Override
@@ -389,16 +458,126 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 				);
 			}
 			catch ( SQLException e ) {
-				// do not want to wrap in ExecutionException here
-				throw executionContext.getSession().getJdbcServices().getSqlExceptionHelper().convert(
-						e,
-						"Could not extract column [" + sqlSelection.getJdbcResultSetIndex() + "] from JDBC ResultSet"
-				);
+				throw convertExtractionException( e, sqlSelection );
 			}
 		}
+		else if ( primitiveIndexes.get( valueIndex ) ) {
+			// the value was read as a primitive, and now needs to be boxed
+			primitiveIndexes.clear( valueIndex );
+			currentRowJdbcValues[valueIndex] = boxPrimitiveValue( valueIndex );
+		}
 		return currentRowJdbcValues[valueIndex];
 	}
 
+	@Override
+	public boolean isCurrentRowValueNull(int valueIndex) {
+		return !readPrimitiveValue( valueIndex, BOXED )
+			&& getCurrentRowValue( valueIndex ) == null;
+	}
+
+	@Override
+	public long getCurrentRowLongValue(int valueIndex) {
+		if ( readPrimitiveValue( valueIndex, LONG ) ) {
+			return currentRowPrimitiveValues[valueIndex];
+		}
+		final Object value = getCurrentRowValue( valueIndex );
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
+	@Override
+	public int getCurrentRowIntValue(int valueIndex) {
+		if ( readPrimitiveValue( valueIndex, INT ) ) {
+			return (int) currentRowPrimitiveValues[valueIndex];
+		}
+		final Object value = getCurrentRowValue( valueIndex );
+		return value == null ? 0 : ( (Number) value ).intValue();
+	}
+
+	@Override
+	public double getCurrentRowDoubleValue(int valueIndex) {
+		if ( readPrimitiveValue( valueIndex, DOUBLE ) ) {
+			return Double.longBitsToDouble( currentRowPrimitiveValues[valueIndex] );
+		}
+		final Object value = getCurrentRowValue( valueIndex );
+		return value == null ? 0d : ( (Number) value ).doubleValue();
+	}
+
+	/**
+	 * Make sure the value at the given index is read, via the primitive accessor
+	 * of the {@link ResultSet} if the column supports it.
+	 *
+	 * @param expectedKind the kind of primitive value the caller wants, or
+	 * {@link #BOXED} if any kind will do
+	 *
+	 * @return {@code true} if a non-null primitive value of the expected kind
+	 * is available in {@link #currentRowPrimitiveValues}
+	 */
+	private boolean readPrimitiveValue(int valueIndex, byte expectedKind) {
+		if ( primitiveKinds == null ) {
+			return false;
+		}
+		final byte kind = primitiveKinds[valueIndex];
+		if ( kind == BOXED || expectedKind != BOXED && kind != expectedKind ) {
+			return false;
+		}
+		else if ( initializedIndexes.get( valueIndex ) ) {
+			return primitiveIndexes.get( valueIndex );
+		}
+		initializedIndexes.set( valueIndex );
+		final SqlSelection sqlSelection = sqlSelections[valueIndex];
+		final int position = sqlSelection.getJdbcResultSetIndex();
+		try {
+			final long value = switch ( kind ) {
+				case LONG -> resultSet.getLong( position );
+				case INT -> resultSet.getInt( position );
+				default -> Double.doubleToRawLongBits( resultSet.getDouble( position ) );
+			};
+			if ( resultSet.wasNull() ) {
+				if ( JdbcExtractingLogging.LOGGER.isTraceEnabled() ) {
+					JdbcExtractingLogging.logNullExtracted( position, sqlTypeCode( sqlSelection ) );
+				}
+				currentRowJdbcValues[valueIndex] = null;
+				return false;
+			}
+			else {
+				currentRowPrimitiveValues[valueIndex] = value;
+				primitiveIndexes.set( valueIndex );
+				if ( JdbcExtractingLogging.LOGGER.isTraceEnabled() ) {
+					JdbcExtractingLogging.logExtracted(
+							position,
+							sqlTypeCode( sqlSelection ),
+							boxPrimitiveValue( valueIndex )
+					);
+				}
+				return true;
+			}
+		}
+		catch ( SQLException e ) {
+			throw convertExtractionException( e, sqlSelection );
+		}
+	}
+
+	private static int sqlTypeCode(SqlSelection sqlSelection) {
+		return sqlSelection.getExpressionType().getSingleJdbcMapping().getJdbcType().getDefaultSqlTypeCode();
+	}
+
+	private Object boxPrimitiveValue(int valueIndex) {
+		final long value = currentRowPrimitiveValues[valueIndex];
+		return switch ( primitiveKinds[valueIndex] ) {
+			case LONG -> value;
+			case INT -> (int) value;
+			default -> Double.longBitsToDouble( value );
+		};
+	}
+
+	private JDBCException convertExtractionException(SQLException e, SqlSelection sqlSelection) {
+		// do not want to wrap in ExecutionException here
+		return executionContext.getSession().getJdbcServices().getSqlExceptionHelper().convert(
+				e,
+				"Could not extract column [" + sqlSelection.getJdbcResultSetIndex() + "] from JDBC ResultSet"
+		);
+	}
+
 	@Override
 	public void setFetchSize(int fetchSize) {
 		try {
@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.engine.internal.EntityCachePuts;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -32,9 +33,12 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 	private List<EntityHolder> loadingEntityHolders;
 	private List<EntityHolder> reloadedEntityHolders;
 	private Map<CollectionKey, LoadingCollectionEntry> loadingCollectionMap;
+	private int loadingEntityCount;
+	private int loadingCollectionCount;
 
 	private final PreLoadEvent preLoadEvent;
 	private final PostLoadEvent postLoadEvent;
+	private final EntityCachePuts entityCachePuts;
 
 	public JdbcValuesSourceProcessingStateStandardImpl(
 			ExecutionContext executionContext,
@@ -51,6 +55,7 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 			preLoadEvent = null;
 			postLoadEvent = null;
 		}
+		entityCachePuts = executionContext.isBulkEntityCachePutEnabled() ? new EntityCachePuts() : null;
 	}
 
 	@Override
@@ -84,6 +89,7 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 			loadingEntityHolders = new ArrayList<>();
 		}
 		loadingEntityHolders.add( holder );
+		loadingEntityCount++;
 	}
 
 	@Override
@@ -116,6 +122,21 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 		}
 
 		loadingCollectionMap.put( key, loadingCollectionEntry );
+		loadingCollectionCount++;
+	}
+
+	/**
+	 * The number of entity instances initialized from the results.
+	 */
+	public int getLoadingEntityCount() {
+		return loadingEntityCount;
+	}
+
+	/**
+	 * The number of collections initialized from the results.
+	 */
+	public int getLoadingCollectionCount() {
+		return loadingCollectionCount;
 	}
 
 	@Override
@@ -123,8 +144,17 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 		return executionContext.getSession();
 	}
 
+	@Override
+	public EntityCachePuts getEntityCachePuts() {
+		return entityCachePuts;
+	}
+
 	@Override
 	public void finishUp(boolean registerSubselects) {
+		if ( entityCachePuts != null ) {
+			entityCachePuts.execute( getSession() );
+		}
+
 		// now we can finalize loading collections
 		finishLoadingCollections();
 
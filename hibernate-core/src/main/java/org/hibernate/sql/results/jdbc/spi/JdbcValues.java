@@ -4,6 +4,7 @@
  */
 package org.hibernate.sql.results.jdbc.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -74,6 +75,59 @@ public interface JdbcValues {
 	 */
 	Object getCurrentRowValue(int valueIndex);
 
+	/**
+	 * Whether the JDBC value at the given index for the current row is {@code null}.
+	 * <p>
+	 * Along with {@link #getCurrentRowLongValue}, {@link #getCurrentRowIntValue} and
+	 * {@link #getCurrentRowDoubleValue}, this allows reading numeric values without
+	 * boxing them, when the source supports it.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isCurrentRowValueNull(int valueIndex) {
+		return getCurrentRowValue( valueIndex ) == null;
+	}
+
+	/**
+	 * Get the JDBC value at the given index for the current row as a {@code long},
+	 * or {@code 0} if the value is {@code null}.
+	 *
+	 * @see #isCurrentRowValueNull(int)
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getCurrentRowLongValue(int valueIndex) {
+		final Object value = getCurrentRowValue( valueIndex );
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
+	/**
+	 * Get the JDBC value at the given index for the current row as an {@code int},
+	 * or {@code 0} if the value is {@code null}.
+	 *
+	 * @see #isCurrentRowValueNull(int)
+	 * @since 7.0
+	 */
+	@Incubating
+	default int getCurrentRowIntValue(int valueIndex) {
+		final Object value = getCurrentRowValue( valueIndex );
+		return value == null ? 0 : ( (Number) value ).intValue();
+	}
+
+	/**
+	 * Get the JDBC value at the given index for the current row as a {@code double},
+	 * or {@code 0} if the value is {@code null}.
+	 *
+	 * @see #isCurrentRowValueNull(int)
+	 * @since 7.0
+	 */
+	@Incubating
+	default double getCurrentRowDoubleValue(int valueIndex) {
+		final Object value = getCurrentRowValue( valueIndex );
+		return value == null ? 0d : ( (Number) value ).doubleValue();
+	}
+
 	void finishRowProcessing(RowProcessingState rowProcessingState, boolean wasAdded);
 
 	/**
@@ -6,6 +6,7 @@ package org.hibernate.sql.results.jdbc.spi;
 
 import java.util.List;
 
+import org.hibernate.engine.internal.EntityCachePuts;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -60,5 +61,16 @@ public interface JdbcValuesSourceProcessingState {
 			CollectionKey collectionKey,
 			LoadingCollectionEntry loadingCollectionEntry);
 
+	/**
+	 * The second-level cache puts of the loaded entities, if the execution
+	 * {@linkplain ExecutionContext#isBulkEntityCachePutEnabled() puts them in bulk}
+	 * when the processing is finished, or {@code null} otherwise.
+	 *
+	 * @since 7.0
+	 */
+	default EntityCachePuts getEntityCachePuts() {
+		return null;
+	}
+
 	void finishUp(boolean registerSubselects);
 }
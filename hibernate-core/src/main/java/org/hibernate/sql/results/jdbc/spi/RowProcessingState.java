@@ -4,6 +4,7 @@
  */
 package org.hibernate.sql.results.jdbc.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.LockMode;
 import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.exec.spi.ExecutionContext;
@@ -56,6 +57,57 @@ public interface RowProcessingState extends ExecutionContext {
 	 */
 	Object getJdbcValue(int position);
 
+	/**
+	 * Whether the value corresponding to the given index in the "current JDBC row"
+	 * is {@code null}.
+	 *
+	 * @see JdbcValues#isCurrentRowValueNull(int)
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isJdbcValueNull(int position) {
+		return getJdbcValue( position ) == null;
+	}
+
+	/**
+	 * Retrieve the value corresponding to the given index in the "current JDBC row"
+	 * as a {@code long}, without boxing it if possible.
+	 *
+	 * @see JdbcValues#getCurrentRowLongValue(int)
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getJdbcLongValue(int position) {
+		final Object value = getJdbcValue( position );
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
+	/**
+	 * Retrieve the value corresponding to the given index in the "current JDBC row"
+	 * as an {@code int}, without boxing it if possible.
+	 *
+	 * @see JdbcValues#getCurrentRowIntValue(int)
+	 * @since 7.0
+	 */
+	@Incubating
+	default int getJdbcIntValue(int position) {
+		final Object value = getJdbcValue( position );
+		return value == null ? 0 : ( (Number) value ).intValue();
+	}
+
+	/**
+	 * Retrieve the value corresponding to the given index in the "current JDBC row"
+	 * as a {@code double}, without boxing it if possible.
+	 *
+	 * @see JdbcValues#getCurrentRowDoubleValue(int)
+	 * @since 7.0
+	 */
+	@Incubating
+	default double getJdbcDoubleValue(int position) {
+		final Object value = getJdbcValue( position );
+		return value == null ? 0d : ( (Number) value ).doubleValue();
+	}
+
 	void registerNonExists(EntityFetch fetch);
 
 	boolean isQueryCacheHit();
@@ -6,8 +6,10 @@ package org.hibernate.sql.results.spi;
 
 import java.util.List;
 
+import org.hibernate.ScrollMode;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.FetchingScrollableResultsImpl;
+import org.hibernate.internal.PrefetchingScrollableResultsImpl;
 import org.hibernate.internal.ScrollableResultsImpl;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.graph.entity.EntityResult;
@@ -18,6 +20,8 @@ import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * @author Steve Ebersole
  */
@@ -31,11 +35,37 @@ public class ScrollableResultsConsumer<R> implements ResultsConsumer<ScrollableR
 	@Deprecated( forRemoval = true )
 	public static final ScrollableResultsConsumer INSTANCE = new ScrollableResultsConsumer();
 
+	@SuppressWarnings( "rawtypes" )
+	private static final ScrollableResultsConsumer FORWARD_ONLY_INSTANCE = new ScrollableResultsConsumer( true );
+
+	private final boolean forwardOnly;
+
+	public ScrollableResultsConsumer() {
+		this( false );
+	}
+
+	private ScrollableResultsConsumer(boolean forwardOnly) {
+		this.forwardOnly = forwardOnly;
+	}
+
 	@SuppressWarnings("unchecked")
 	public static <R> ScrollableResultsConsumer<R> instance() {
 		return INSTANCE;
 	}
 
+	/**
+	 * Access to the scrollable-results consumer for the given scroll mode.
+	 * The results of a {@linkplain ScrollMode#FORWARD_ONLY forward-only}
+	 * scroll may be {@linkplain org.hibernate.cfg.QuerySettings#SCROLL_PREFETCH
+	 * prefetched}.
+	 *
+	 * @since 7.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <R> ScrollableResultsConsumer<R> instance(@Nullable ScrollMode scrollMode) {
+		return scrollMode == ScrollMode.FORWARD_ONLY ? FORWARD_ONLY_INSTANCE : INSTANCE;
+	}
+
 	@Override
 	public ScrollableResultsImplementor<R> consume(
 			JdbcValues jdbcValues,
@@ -55,6 +85,16 @@ public class ScrollableResultsConsumer<R> implements ResultsConsumer<ScrollableR
 					session
 			);
 		}
+		else if ( forwardOnly && isPrefetchEnabled( session ) ) {
+			return new PrefetchingScrollableResultsImpl<>(
+					jdbcValues,
+					processingOptions,
+					jdbcValuesSourceProcessingState,
+					rowProcessingState,
+					rowReader,
+					session
+			);
+		}
 		else {
 			return new ScrollableResultsImpl<>(
 					jdbcValues,
@@ -72,6 +112,13 @@ public class ScrollableResultsConsumer<R> implements ResultsConsumer<ScrollableR
 		return false;
 	}
 
+	private static boolean isPrefetchEnabled(SharedSessionContractImplementor session) {
+		// the background thread hydrates the results using the session,
+		// which is only safe when it does not manage the hydrated entities
+		return session.isStatelessSession()
+				&& session.getFactory().getSessionFactoryOptions().isScrollPrefetchEnabled();
+	}
+
 	private boolean containsCollectionFetches(JdbcValuesMapping valuesMapping) {
 		final List<DomainResult<?>> domainResults = valuesMapping.getDomainResults();
 		for ( DomainResult<?> domainResult : domainResults ) {
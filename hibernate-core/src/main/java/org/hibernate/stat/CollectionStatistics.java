@@ -25,6 +25,21 @@ public interface CollectionStatistics extends CacheableDataStatistics, Serializa
 	 */
 	long getFetchCount();
 
+	/**
+	 * An estimate of the time below which the given percentage of the
+	 * fetches of this collection completed, in milliseconds.
+	 *
+	 * @param percentile The percentile, between 0 and 100
+	 *
+	 * @see #getFetchCount()
+	 *
+	 * @since 7.0
+	 */
+	default double getFetchTimePercentile(double percentile) {
+		//For backward compatibility
+		return 0;
+	}
+
 	/**
 	 * Number of times (since last Statistics clearing) this collection
 	 * has been recreated (rows potentially deleted and then rows (re-)inserted)
@@ -42,4 +57,21 @@ public interface CollectionStatistics extends CacheableDataStatistics, Serializa
 	 * has been updated
 	 */
 	long getUpdateCount();
+
+	/**
+	 * Number of times (since last Statistics clearing) the key of this collection
+	 * was queued for batch fetching
+	 *
+	 * @since 7.0
+	 */
+	long getBatchFetchQueuedCount();
+
+	/**
+	 * Number of times (since last Statistics clearing) the key of this collection
+	 * was queued for batch fetching, and the collection was then initialized,
+	 * whether by a batch fetch or otherwise
+	 *
+	 * @since 7.0
+	 */
+	long getBatchFetchInitializedCount();
 }
@@ -43,9 +43,41 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 */
 	long getFetchCount();
 
+	/**
+	 * An estimate of the time below which the given percentage of the
+	 * fetches of this entity completed, in milliseconds.
+	 *
+	 * @param percentile The percentile, between 0 and 100
+	 *
+	 * @see #getFetchCount()
+	 *
+	 * @since 7.0
+	 */
+	default double getFetchTimePercentile(double percentile) {
+		//For backward compatibility
+		return 0;
+	}
+
 	/**
 	 * Number of times (since last Statistics clearing) this entity
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * Number of times (since last Statistics clearing) the key of this entity
+	 * was queued for batch fetching
+	 *
+	 * @since 7.0
+	 */
+	long getBatchFetchQueuedCount();
+
+	/**
+	 * Number of times (since last Statistics clearing) the key of this entity
+	 * was queued for batch fetching, and the entity was then initialized,
+	 * whether by a batch fetch or otherwise
+	 *
+	 * @since 7.0
+	 */
+	long getBatchFetchInitializedCount();
 }
@@ -51,6 +51,22 @@ public interface QueryStatistics extends Serializable {
 
 	double getExecutionAvgTimeAsDouble();
 
+	/**
+	 * An estimate of the time below which the given percentage of the
+	 * executions of this query completed, in milliseconds. For example,
+	 * {@code getExecutionTimePercentile(99)} is the 99th percentile.
+	 *
+	 * @param percentile The percentile, between 0 and 100
+	 *
+	 * @implNote The estimate has a relative error of at most 12.5%.
+	 *
+	 * @since 7.0
+	 */
+	default double getExecutionTimePercentile(double percentile) {
+		//For backward compatibility
+		return 0;
+	}
+
 	/**
 	 * The number of cache hits for this query.
 	 *
@@ -378,6 +378,24 @@ public interface Statistics {
 	 */
 	long getCloseStatementCount();
 
+	/**
+	 * The number of prepared statements which were reused from the
+	 * {@linkplain org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 * statement cache} instead of being prepared.
+	 *
+	 * @since 7.0
+	 */
+	long getPreparedStatementCacheHitCount();
+
+	/**
+	 * The number of prepared statements which were not found in the
+	 * {@linkplain org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 * statement cache} and had to be prepared.
+	 *
+	 * @since 7.0
+	 */
+	long getPreparedStatementCacheMissCount();
+
 	/**
 	 * The number of Hibernate {@code StaleObjectStateException}s or JPA
 	 * {@code OptimisticLockException}s that have occurred.
@@ -393,4 +411,13 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of query plans evicted from cache to respect
+	 * its {@linkplain org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_MAX_SIZE
+	 * maximum size}.
+	 *
+	 * @since 7.0
+	 */
+	long getQueryPlanCacheEvictionCount();
 }
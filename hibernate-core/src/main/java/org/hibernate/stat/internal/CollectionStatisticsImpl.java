@@ -20,9 +20,12 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 	private final String collectionRole;
 	private final LongAdder loadCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
+	private final LatencyHistogram fetchTimes = new LatencyHistogram();
 	private final LongAdder updateCount = new LongAdder();
 	private final LongAdder removeCount = new LongAdder();
 	private final LongAdder recreateCount = new LongAdder();
+	private final LongAdder batchFetchQueuedCount = new LongAdder();
+	private final LongAdder batchFetchInitializedCount = new LongAdder();
 
 	CollectionStatisticsImpl(CollectionPersister persister) {
 		super(
@@ -42,6 +45,10 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 		return fetchCount.sum();
 	}
 
+	public double getFetchTimePercentile(double percentile) {
+		return fetchTimes.getPercentile( percentile ) / 1000;
+	}
+
 	public long getRecreateCount() {
 		return recreateCount.sum();
 	}
@@ -54,6 +61,14 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 		return updateCount.sum();
 	}
 
+	public long getBatchFetchQueuedCount() {
+		return batchFetchQueuedCount.sum();
+	}
+
+	public long getBatchFetchInitializedCount() {
+		return batchFetchInitializedCount.sum();
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
@@ -62,6 +77,10 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 		fetchCount.increment();
 	}
 
+	void recordFetchTime(long microseconds) {
+		fetchTimes.record( microseconds );
+	}
+
 	void incrementUpdateCount() {
 		updateCount.increment();
 	}
@@ -74,6 +93,11 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 		removeCount.increment();
 	}
 
+	void addBatchFetchCounts(int queuedCount, int initializedCount) {
+		batchFetchQueuedCount.add( queuedCount );
+		batchFetchInitializedCount.add( initializedCount );
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "CollectionStatistics" )
@@ -82,7 +106,9 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 				.append( ",fetchCount=" ).append( this.fetchCount )
 				.append( ",recreateCount=" ).append( this.recreateCount )
 				.append( ",removeCount=" ).append( this.removeCount )
-				.append( ",updateCount=" ).append( this.updateCount );
+				.append( ",updateCount=" ).append( this.updateCount )
+				.append( ",batchFetchQueuedCount=" ).append( this.batchFetchQueuedCount )
+				.append( ",batchFetchInitializedCount=" ).append( this.batchFetchInitializedCount );
 		appendCacheStats( buffer );
 		return buffer.append(']').toString();
 	}
@@ -23,7 +23,10 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder insertCount = new LongAdder();
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
+	private final LatencyHistogram fetchTimes = new LatencyHistogram();
 	private final LongAdder optimisticFailureCount = new LongAdder();
+	private final LongAdder batchFetchQueuedCount = new LongAdder();
+	private final LongAdder batchFetchInitializedCount = new LongAdder();
 
 	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
 		super(
@@ -54,10 +57,22 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		return fetchCount.sum();
 	}
 
+	public double getFetchTimePercentile(double percentile) {
+		return fetchTimes.getPercentile( percentile ) / 1000;
+	}
+
 	public long getOptimisticFailureCount() {
 		return optimisticFailureCount.sum();
 	}
 
+	public long getBatchFetchQueuedCount() {
+		return batchFetchQueuedCount.sum();
+	}
+
+	public long getBatchFetchInitializedCount() {
+		return batchFetchInitializedCount.sum();
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
@@ -66,6 +81,10 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		fetchCount.increment();
 	}
 
+	void recordFetchTime(long microseconds) {
+		fetchTimes.record( microseconds );
+	}
+
 	void incrementUpdateCount() {
 		updateCount.increment();
 	}
@@ -82,6 +101,11 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		optimisticFailureCount.increment();
 	}
 
+	void addBatchFetchCounts(int queuedCount, int initializedCount) {
+		batchFetchQueuedCount.add( queuedCount );
+		batchFetchInitializedCount.add( initializedCount );
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "EntityStatistics" )
@@ -91,7 +115,9 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 				.append( ",insertCount=" ).append( this.insertCount )
 				.append( ",deleteCount=" ).append( this.deleteCount )
 				.append( ",fetchCount=" ).append( this.fetchCount )
-				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount );
+				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount )
+				.append( ",batchFetchQueuedCount=" ).append( this.batchFetchQueuedCount )
+				.append( ",batchFetchInitializedCount=" ).append( this.batchFetchInitializedCount );
 		appendCacheStats( buffer );
 		return buffer.append( ']' ).toString();
 	}
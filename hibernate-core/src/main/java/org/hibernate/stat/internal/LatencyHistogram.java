@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations, in microseconds, from which percentiles
+ * may be estimated.
+ * <p>
+ * The buckets are log-linear, as in HDR histograms: each power of two range is
+ * split into {@value #SUB_BUCKET_COUNT} buckets of equal width, so that the
+ * relative error of an estimated percentile is at most 1/{@value #SUB_BUCKET_COUNT}.
+ * Durations longer than {@code 2^37} microseconds, about 38 hours, are recorded
+ * as {@code 2^37} microseconds.
+ * <p>
+ * Recording a duration is a single atomic increment, and never allocates.
+ */
+final class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final long MAX_VALUE = ( 1L << 37 ) - 1;
+	private static final int BUCKET_COUNT = bucketIndex( MAX_VALUE ) + 1;
+
+	private final AtomicLongArray counts = new AtomicLongArray( BUCKET_COUNT );
+
+	/**
+	 * Record a duration.
+	 *
+	 * @param microseconds The duration in microseconds
+	 */
+	void record(long microseconds) {
+		counts.incrementAndGet( bucketIndex( Math.max( 0, Math.min( microseconds, MAX_VALUE ) ) ) );
+	}
+
+	/**
+	 * Estimate the duration below which the given percentage of the recorded
+	 * durations fall.
+	 *
+	 * @param percentile The percentile, between 0 and 100, for example,
+	 *                   {@code 99.9}
+	 *
+	 * @return The duration in microseconds, or 0 if nothing was recorded
+	 */
+	double getPercentile(double percentile) {
+		final long[] snapshot = new long[BUCKET_COUNT];
+		long total = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			snapshot[i] = counts.get( i );
+			total += snapshot[i];
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+		final double fraction = Math.max( 0, Math.min( percentile, 100 ) ) / 100;
+		final long rank = Math.max( 1, (long) Math.ceil( fraction * total ) );
+		long cumulative = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			cumulative += snapshot[i];
+			if ( cumulative >= rank ) {
+				return bucketMidpoint( i );
+			}
+		}
+		return bucketMidpoint( BUCKET_COUNT - 1 );
+	}
+
+	private static int bucketIndex(long value) {
+		if ( value < SUB_BUCKET_COUNT ) {
+			return (int) value;
+		}
+		else {
+			final int exponent = 63 - Long.numberOfLeadingZeros( value );
+			final int subBucket = (int) ( value >>> ( exponent - SUB_BUCKET_BITS ) ) & ( SUB_BUCKET_COUNT - 1 );
+			return ( exponent - SUB_BUCKET_BITS + 1 ) * SUB_BUCKET_COUNT + subBucket;
+		}
+	}
+
+	private static double bucketMidpoint(int index) {
+		if ( index < SUB_BUCKET_COUNT ) {
+			return index;
+		}
+		else {
+			final int shift = index / SUB_BUCKET_COUNT - 1;
+			final long lowerBound = (long) ( SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT ) << shift;
+			final long width = 1L << shift;
+			return lowerBound + ( width - 1 ) / 2.0;
+		}
+	}
+}
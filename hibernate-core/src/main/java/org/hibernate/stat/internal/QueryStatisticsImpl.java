@@ -31,6 +31,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final AtomicLong executionMaxTime = new AtomicLong();
 	private final AtomicLong executionMinTime = new AtomicLong(Long.MAX_VALUE);
 	private final AtomicLong totalExecutionTime = new AtomicLong();
+	private final LatencyHistogram executionTimes = new LatencyHistogram();
 
 	private final LongAdder planCacheHitCount = new LongAdder();
 	private final LongAdder planCacheMissCount = new LongAdder();
@@ -110,6 +111,13 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		}
 	}
 
+	/**
+	 * percentile of the time in ms taken by the execution of this query onto the DB
+	 */
+	public double getExecutionTimePercentile(double percentile) {
+		return executionTimes.getPercentile( percentile ) / 1000;
+	}
+
 	/**
 	 * max time in ms taken by the execution of this query onto the DB
 	 */
@@ -175,6 +183,15 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		}
 	}
 
+	/**
+	 * add the precise time taken by an execution of a DB query to the distribution
+	 *
+	 * @param microseconds time taken
+	 */
+	void recordExecutionTime(long microseconds) {
+		executionTimes.record( microseconds );
+	}
+
 	/**
 	 * add plan statistics report of a DB query
 	 *
@@ -63,6 +63,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder prepareStatementCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
+	private final LongAdder preparedStatementCacheHitCount = new LongAdder();
+	private final LongAdder preparedStatementCacheMissCount = new LongAdder();
 
 	private final LongAdder entityLoadCount = new LongAdder();
 	private final LongAdder entityUpdateCount = new LongAdder();
@@ -96,6 +98,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -128,10 +131,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
 		SessionFactoryOptions sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
-		this.queryStatsMap = new StatsNamedContainer<>(
-				sessionFactoryOptions.getQueryStatisticsMaxSize(),
-				20
-		);
+		this.queryStatsMap = new StatsNamedContainer<>( sessionFactoryOptions.getQueryStatisticsMaxSize() );
 		resetStart();
 		metamodel = sessionFactory.getRuntimeMetamodels().getMappingMetamodel();
 		cache = sessionFactory.getCache();
@@ -170,6 +170,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		prepareStatementCount.reset();
 		closeStatementCount.reset();
+		preparedStatementCacheHitCount.reset();
+		preparedStatementCacheMissCount.reset();
 
 		entityDeleteCount.reset();
 		entityInsertCount.reset();
@@ -207,6 +209,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
 
 		resetStart();
 	}
@@ -297,6 +300,14 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getEntityStatistics( entityName ).incrementFetchCount();
 	}
 
+	@Override
+	public void fetchEntity(String entityName, long microseconds) {
+		entityFetchCount.increment();
+		final EntityStatisticsImpl entityStatistics = getEntityStatistics( entityName );
+		entityStatistics.incrementFetchCount();
+		entityStatistics.recordFetchTime( microseconds );
+	}
+
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
@@ -321,6 +332,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getEntityStatistics( entityName ).incrementOptimisticFailureCount();
 	}
 
+	@Override
+	public void entityBatchFetchQueueCleared(String entityName, int queuedCount, int initializedCount) {
+		getEntityStatistics( entityName ).addBatchFetchCounts( queuedCount, initializedCount );
+	}
+
 	@Override
 	public void entityCachePut(NavigableRole entityName, String regionName) {
 		secondLevelCachePutCount.increment();
@@ -398,6 +414,19 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getCollectionStatistics( role ).incrementFetchCount();
 	}
 
+	@Override
+	public void fetchCollection(String role, long microseconds) {
+		collectionFetchCount.increment();
+		final CollectionStatisticsImpl collectionStatistics = getCollectionStatistics( role );
+		collectionStatistics.incrementFetchCount();
+		collectionStatistics.recordFetchTime( microseconds );
+	}
+
+	@Override
+	public void collectionBatchFetchQueueCleared(String role, int queuedCount, int initializedCount) {
+		getCollectionStatistics( role ).addBatchFetchCounts( queuedCount, initializedCount );
+	}
+
 	@Override
 	public void updateCollection(String role) {
 		collectionUpdateCount.increment();
@@ -722,6 +751,14 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryExecuted(String hql, int rows, long time, long microseconds) {
+		queryExecuted( hql, rows, time );
+		if ( hql != null ) {
+			getQueryStatistics( hql ).recordExecutionTime( microseconds );
+		}
+	}
+
 	@Override
 	public void queryCacheHit(String hql, String regionName) {
 		LOG.tracef( "Statistics#queryCacheHit( `%s`, `%s` )", hql, regionName );
@@ -771,6 +808,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -798,6 +840,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryPlanCacheEviction() {
+		queryPlanCacheEvictionCount.increment();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return NullnessUtil.castNonNull(
 					l2CacheStatsMap.getOrCompute(
@@ -850,6 +897,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return prepareStatementCount.sum();
 	}
 
+	@Override
+	public long getPreparedStatementCacheHitCount() {
+		return preparedStatementCacheHitCount.sum();
+	}
+
+	@Override
+	public long getPreparedStatementCacheMissCount() {
+		return preparedStatementCacheMissCount.sum();
+	}
+
 	@Override
 	public void openSession() {
 		sessionOpenCount.increment();
@@ -880,6 +937,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		closeStatementCount.increment();
 	}
 
+	@Override
+	public void preparedStatementCacheHit() {
+		preparedStatementCacheHitCount.increment();
+	}
+
+	@Override
+	public void preparedStatementCacheMiss() {
+		preparedStatementCacheMissCount.increment();
+	}
+
 	@Override
 	public void endTransaction(boolean success) {
 		transactionCount.increment();
@@ -944,6 +1011,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",connections obtained=" + connectCount +
 				",statements prepared=" + prepareStatementCount +
 				",statements closed=" + closeStatementCount +
+				",statement cache hits=" + preparedStatementCacheHitCount +
+				",statement cache misses=" + preparedStatementCacheMissCount +
 				",second level cache puts=" + secondLevelCachePutCount +
 				",second level cache hits=" + secondLevelCacheHitCount +
 				",second level cache misses=" + secondLevelCacheMissCount +
@@ -972,6 +1041,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",query plan cache evictions=" + queryPlanCacheEvictionCount +
 				']';
 	}
 
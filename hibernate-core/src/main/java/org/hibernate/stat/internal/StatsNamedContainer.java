@@ -8,12 +8,10 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.WindowTinyLfuMap;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import static org.hibernate.internal.util.collections.BoundedConcurrentHashMap.Eviction.LRU;
-
 /**
  * Decorates a ConcurrentHashMap implementation to make sure the methods are being
  * used correctly for the purpose of Hibernate's statistics. In particular, we do
@@ -30,10 +28,21 @@ public final class StatsNamedContainer<V> {
 	private final static Object NULL_TOKEN = new Object();
 
 	/**
-	 * Creates a bounded container - based on BoundedConcurrentHashMap
+	 * Creates a bounded container - based on WindowTinyLfuMap
+	 */
+	public StatsNamedContainer(int capacity) {
+		this.map = new WindowTinyLfuMap<>( capacity );
+	}
+
+	/**
+	 * Creates a bounded container - based on WindowTinyLfuMap
+	 *
+	 * @deprecated the concurrency level is no longer used,
+	 * use {@link #StatsNamedContainer(int)}
 	 */
+	@Deprecated(since = "7.0", forRemoval = true)
 	public StatsNamedContainer(int capacity, int concurrencyLevel) {
-		this.map = new BoundedConcurrentHashMap<>( capacity, concurrencyLevel, LRU );
+		this( capacity );
 	}
 
 	/**
@@ -48,6 +48,24 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void closeStatement();
 
+	/**
+	 * Callback about a prepared statement being reused from the statement cache.
+	 *
+	 * @since 7.0
+	 */
+	default void preparedStatementCacheHit() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about a prepared statement not being found in the statement cache.
+	 *
+	 * @since 7.0
+	 */
+	default void preparedStatementCacheMiss() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about a transaction completing.
 	 *
@@ -71,6 +89,19 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void fetchEntity(String entityName);
 
+	/**
+	 * Callback about an entity being fetched, with the time the fetch took.
+	 *
+	 * @param entityName The name of the entity fetched.
+	 * @param microseconds The time taken by the fetch
+	 *
+	 * @since 7.0
+	 */
+	default void fetchEntity(String entityName, long microseconds) {
+		//For backward compatibility
+		fetchEntity( entityName );
+	}
+
 	/**
 	 * Callback about an entity being updated.
 	 *
@@ -115,6 +146,19 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void fetchCollection(String role);
 
+	/**
+	 * Callback to indicate a collection being fetched, with the time the fetch took.
+	 *
+	 * @param role The collection role.
+	 * @param microseconds The time taken by the fetch
+	 *
+	 * @since 7.0
+	 */
+	default void fetchCollection(String role, long microseconds) {
+		//For backward compatibility
+		fetchCollection( role );
+	}
+
 	/**
 	 * Callback indicating a collection was updated.
 	 *
@@ -234,6 +278,22 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void queryExecuted(String hql, int rows, long time);
 
+	/**
+	 * Callback indicating execution of a sql/hql query, with the precise
+	 * execution time, as recorded in the distribution of execution times.
+	 *
+	 * @param hql The query
+	 * @param rows Number of rows returned
+	 * @param time execution time in milliseconds
+	 * @param microseconds execution time in microseconds
+	 *
+	 * @since 7.0
+	 */
+	default void queryExecuted(String hql, int rows, long time, long microseconds) {
+		//For backward compatibility
+		queryExecuted( hql, rows, time );
+	}
+
 	/**
 	 * Callback indicating a hit to the timestamp cache
 	 */
@@ -267,6 +327,15 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating that a query plan was evicted from the query plan cache.
+	 *
+	 * @since 7.0
+	 */
+	default void queryPlanCacheEviction() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -277,6 +346,32 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating that the batch fetch queue of a session was cleared.
+	 *
+	 * @param entityName The name of the entity
+	 * @param queuedCount The number of keys which were queued for batch fetching
+	 * @param initializedCount The number of them which were initialized
+	 *
+	 * @since 7.0
+	 */
+	default void entityBatchFetchQueueCleared(String entityName, int queuedCount, int initializedCount) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that the batch fetch queue of a session was cleared.
+	 *
+	 * @param role The collection role
+	 * @param queuedCount The number of keys which were queued for batch fetching
+	 * @param initializedCount The number of them which were initialized
+	 *
+	 * @since 7.0
+	 */
+	default void collectionBatchFetchQueueCleared(String role, int queuedCount, int initializedCount) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Register the execution of a slow SQL query.
 	 */
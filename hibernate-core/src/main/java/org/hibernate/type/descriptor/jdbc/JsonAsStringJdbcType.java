@@ -4,12 +4,23 @@
  */
 package org.hibernate.type.descriptor.jdbc;
 
+import java.io.CharArrayReader;
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.NClob;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
+import org.hibernate.HibernateException;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.LobCreator;
+import org.hibernate.engine.jdbc.env.internal.BlobAndClobCreator;
+import org.hibernate.engine.jdbc.env.internal.StandardLobCreator;
 import org.hibernate.metamodel.mapping.EmbeddableMappingType;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
 import org.hibernate.type.SqlTypes;
@@ -34,12 +45,18 @@ public class JsonAsStringJdbcType extends JsonJdbcType implements AdjustableJdbc
 	public static final JsonAsStringJdbcType NCLOB_INSTANCE = new JsonAsStringJdbcType( SqlTypes.NCLOB, null );
 
 	private final boolean nationalized;
+	private final boolean streamed;
 	private final int ddlTypeCode;
 	protected JsonAsStringJdbcType(int ddlTypeCode, EmbeddableMappingType embeddableMappingType) {
 		super( embeddableMappingType );
 		this.ddlTypeCode = ddlTypeCode;
 		this.nationalized = ddlTypeCode == SqlTypes.LONG32NVARCHAR
 				|| ddlTypeCode == SqlTypes.NCLOB;
+		// Documents stored in LOBs may be large, so stream them from and to the format mapper,
+		// instead of materializing them as strings. Aggregates are still handled as strings,
+		// since that's what the JsonHelper works with
+		this.streamed = embeddableMappingType == null
+				&& ( ddlTypeCode == SqlTypes.CLOB || ddlTypeCode == SqlTypes.NCLOB );
 	}
 
 	@Override
@@ -112,7 +129,60 @@ public class JsonAsStringJdbcType extends JsonJdbcType implements AdjustableJdbc
 
 	@Override
 	public <X> ValueBinder<X> getBinder(JavaType<X> javaType) {
-		if ( nationalized ) {
+		if ( streamed ) {
+			return new BasicBinder<>( javaType, this ) {
+				@Override
+				protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
+						throws SQLException {
+					final JsonAsStringJdbcType jdbcType = (JsonAsStringJdbcType) getJdbcType();
+					final boolean nclob = nationalized && options.getDialect().supportsNationalizedMethods();
+					final Clob lob = jdbcType.writeToLob( value, getJavaType(), nclob, options );
+					if ( lob != null ) {
+						if ( nclob ) {
+							st.setNClob( index, (NClob) lob );
+						}
+						else {
+							st.setClob( index, lob );
+						}
+					}
+					else {
+						final JsonBuffer json = jdbcType.write( value, getJavaType(), options );
+						if ( nclob ) {
+							st.setNCharacterStream( index, json.toReader(), json.size() );
+						}
+						else {
+							st.setCharacterStream( index, json.toReader(), json.size() );
+						}
+					}
+				}
+
+				@Override
+				protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
+						throws SQLException {
+					final JsonAsStringJdbcType jdbcType = (JsonAsStringJdbcType) getJdbcType();
+					final boolean nclob = nationalized && options.getDialect().supportsNationalizedMethods();
+					final Clob lob = jdbcType.writeToLob( value, getJavaType(), nclob, options );
+					if ( lob != null ) {
+						if ( nclob ) {
+							st.setNClob( name, (NClob) lob );
+						}
+						else {
+							st.setClob( name, lob );
+						}
+					}
+					else {
+						final JsonBuffer json = jdbcType.write( value, getJavaType(), options );
+						if ( nclob ) {
+							st.setNCharacterStream( name, json.toReader(), json.size() );
+						}
+						else {
+							st.setCharacterStream( name, json.toReader(), json.size() );
+						}
+					}
+				}
+			};
+		}
+		else if ( nationalized ) {
 			return new BasicBinder<>( javaType, this ) {
 				@Override
 				protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
@@ -146,7 +216,42 @@ public class JsonAsStringJdbcType extends JsonJdbcType implements AdjustableJdbc
 
 	@Override
 	public <X> ValueExtractor<X> getExtractor(JavaType<X> javaType) {
-		if ( nationalized ) {
+		if ( streamed ) {
+			return new BasicExtractor<>( javaType, this ) {
+				@Override
+				protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+					if ( nationalized && options.getDialect().supportsNationalizedMethods() ) {
+						return fromReader( rs.getNCharacterStream( paramIndex ), getJavaType(), options );
+					}
+					else {
+						return fromReader( rs.getCharacterStream( paramIndex ), getJavaType(), options );
+					}
+				}
+
+				@Override
+				protected X doExtract(CallableStatement statement, int index, WrapperOptions options)
+						throws SQLException {
+					if ( nationalized && options.getDialect().supportsNationalizedMethods() ) {
+						return fromReader( statement.getNCharacterStream( index ), getJavaType(), options );
+					}
+					else {
+						return fromReader( statement.getCharacterStream( index ), getJavaType(), options );
+					}
+				}
+
+				@Override
+				protected X doExtract(CallableStatement statement, String name, WrapperOptions options)
+						throws SQLException {
+					if ( nationalized && options.getDialect().supportsNationalizedMethods() ) {
+						return fromReader( statement.getNCharacterStream( name ), getJavaType(), options );
+					}
+					else {
+						return fromReader( statement.getCharacterStream( name ), getJavaType(), options );
+					}
+				}
+			};
+		}
+		else if ( nationalized ) {
 			return new BasicExtractor<>( javaType, this ) {
 				@Override
 				protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
@@ -186,4 +291,54 @@ public class JsonAsStringJdbcType extends JsonJdbcType implements AdjustableJdbc
 			return super.getExtractor( javaType );
 		}
 	}
+
+	/**
+	 * Writes the JSON document directly into a LOB created by the driver, so that it
+	 * is never held in memory as a whole, or returns {@code null} if the driver can't
+	 * create LOBs.
+	 */
+	private <X> Clob writeToLob(X value, JavaType<X> javaType, boolean nclob, WrapperOptions options)
+			throws SQLException {
+		final LobCreator lobCreator = options.getLobCreator();
+		final Clob lob;
+		if ( nclob ) {
+			if ( !( lobCreator instanceof StandardLobCreator standardLobCreator ) ) {
+				return null;
+			}
+			lob = standardLobCreator.createNClob();
+		}
+		else {
+			if ( !( lobCreator instanceof BlobAndClobCreator blobAndClobCreator ) ) {
+				return null;
+			}
+			lob = blobAndClobCreator.createClob();
+		}
+		options.getSession().getJdbcCoordinator().getLogicalConnection().getResourceRegistry().register( lob );
+		try ( Writer writer = lob.setCharacterStream( 1 ) ) {
+			toWriter( value, javaType, writer, options );
+		}
+		catch (IOException e) {
+			throw new HibernateException( "Unable to write JSON to LOB", e );
+		}
+		return lob;
+	}
+
+	/**
+	 * Buffers the JSON document when the driver can't create LOBs to stream it into.
+	 */
+	private <X> JsonBuffer write(X value, JavaType<X> javaType, WrapperOptions options) {
+		final JsonBuffer buffer = new JsonBuffer();
+		toWriter( value, javaType, buffer, options );
+		return buffer;
+	}
+
+	/**
+	 * A buffer which the JSON document is written to, and which is bound
+	 * as a character stream without copying it to a string.
+	 */
+	private static final class JsonBuffer extends CharArrayWriter {
+		private Reader toReader() {
+			return new CharArrayReader( buf, 0, count );
+		}
+	}
 }
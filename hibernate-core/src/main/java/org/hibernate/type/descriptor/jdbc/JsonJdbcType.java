@@ -4,11 +4,15 @@
  */
 package org.hibernate.type.descriptor.jdbc;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
+import org.hibernate.HibernateException;
 import org.hibernate.dialect.JsonHelper;
 import org.hibernate.metamodel.mapping.EmbeddableMappingType;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
@@ -111,6 +115,50 @@ public class JsonJdbcType implements AggregateJdbcType {
 		);
 	}
 
+	/**
+	 * Deserializes the JSON document read from the character stream,
+	 * without first reading the whole document into a string.
+	 *
+	 * @since 7.0
+	 */
+	protected <X> X fromReader(Reader reader, JavaType<X> javaType, WrapperOptions options) throws SQLException {
+		if ( reader == null ) {
+			return null;
+		}
+		assert embeddableMappingType == null;
+		try ( reader ) {
+			return options.getSessionFactory().getFastSessionServices().getJsonFormatMapper().readFromReader(
+					reader,
+					javaType,
+					options
+			);
+		}
+		catch (IOException e) {
+			throw new HibernateException( "Unable to read JSON from character stream", e );
+		}
+	}
+
+	/**
+	 * Serializes the value as a JSON document to the character stream,
+	 * without first writing the whole document to a string.
+	 *
+	 * @since 7.0
+	 */
+	protected <X> void toWriter(X value, JavaType<X> javaType, Writer writer, WrapperOptions options) {
+		assert embeddableMappingType == null;
+		try {
+			options.getSessionFactory().getFastSessionServices().getJsonFormatMapper().writeToWriter(
+					value,
+					javaType,
+					writer,
+					options
+			);
+		}
+		catch (IOException e) {
+			throw new HibernateException( "Unable to write JSON to character stream", e );
+		}
+	}
+
 	@Override
 	public <X> ValueBinder<X> getBinder(JavaType<X> javaType) {
 		return new BasicBinder<>( javaType, this ) {
@@ -7,6 +7,9 @@ package org.hibernate.type.format;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.JavaType;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.lang.reflect.Type;
 
 /**
@@ -33,7 +36,56 @@ public abstract class AbstractJsonFormatMapper implements FormatMapper {
 		return toString( value, type );
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public final <T> T readFromReader(Reader reader, JavaType<T> javaType, WrapperOptions wrapperOptions)
+			throws IOException {
+		final Type type = javaType.getJavaType();
+		if ( type == String.class || type == Object.class ) {
+			return (T) FormatMapper.super.readFromReader( reader, javaType, wrapperOptions );
+		}
+		return fromReader( reader, type );
+	}
+
+	@Override
+	public final <T> void writeToWriter(T value, JavaType<T> javaType, Writer writer, WrapperOptions wrapperOptions)
+			throws IOException {
+		final Type type = javaType.getJavaType();
+		if ( type == String.class || type == Object.class ) {
+			writer.write( (String) value );
+		}
+		else {
+			toWriter( value, type, writer );
+		}
+	}
+
 	protected abstract <T> T fromString(CharSequence charSequence, Type type);
 
 	protected abstract <T> String toString(T value, Type type);
+
+	/**
+	 * Deserializes an object from the character stream. Subclasses should
+	 * override this method to avoid reading the whole stream into a string.
+	 *
+	 * @since 7.0
+	 */
+	protected <T> T fromReader(Reader reader, Type type) throws IOException {
+		final StringBuilder sb = new StringBuilder();
+		final char[] buffer = new char[8192];
+		int read;
+		while ( ( read = reader.read( buffer ) ) != -1 ) {
+			sb.append( buffer, 0, read );
+		}
+		return fromString( sb, type );
+	}
+
+	/**
+	 * Serializes the object to the character stream. Subclasses should
+	 * override this method to avoid writing the whole document to a string.
+	 *
+	 * @since 7.0
+	 */
+	protected <T> void toWriter(T value, Type type, Writer writer) throws IOException {
+		writer.write( this.<T>toString( value, type ) );
+	}
 }
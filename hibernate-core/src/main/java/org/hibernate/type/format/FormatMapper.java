@@ -4,6 +4,10 @@
  */
 package org.hibernate.type.format;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
 import org.hibernate.Incubating;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.JavaType;
@@ -41,4 +45,34 @@ public interface FormatMapper {
 	 * Serializes the object to a string.
 	 */
 	<T> String toString(T value, JavaType<T> javaType, WrapperOptions wrapperOptions);
+
+	/**
+	 * Deserializes an object from the character stream. Implementations
+	 * should read the stream incrementally, instead of first reading the
+	 * whole document into a string.
+	 *
+	 * @since 7.0
+	 */
+	default <T> T readFromReader(Reader reader, JavaType<T> javaType, WrapperOptions wrapperOptions)
+			throws IOException {
+		final StringBuilder sb = new StringBuilder();
+		final char[] buffer = new char[8192];
+		int read;
+		while ( ( read = reader.read( buffer ) ) != -1 ) {
+			sb.append( buffer, 0, read );
+		}
+		return fromString( sb, javaType, wrapperOptions );
+	}
+
+	/**
+	 * Serializes the object to the character stream. Implementations
+	 * should write to the stream incrementally, instead of first writing
+	 * the whole document to a string.
+	 *
+	 * @since 7.0
+	 */
+	default <T> void writeToWriter(T value, JavaType<T> javaType, Writer writer, WrapperOptions wrapperOptions)
+			throws IOException {
+		writer.write( toString( value, javaType, wrapperOptions ) );
+	}
 }
@@ -6,9 +6,13 @@ package org.hibernate.type.format.jackson;
 
 import org.hibernate.type.format.AbstractJsonFormatMapper;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.lang.reflect.Type;
 
 /**
@@ -48,4 +52,26 @@ public final class JacksonJsonFormatMapper extends AbstractJsonFormatMapper {
 			throw new IllegalArgumentException( "Could not serialize object of java type: " + type, e );
 		}
 	}
+
+	@Override
+	protected <T> T fromReader(Reader reader, Type type) throws IOException {
+		try {
+			return objectMapper.readValue( reader, objectMapper.constructType( type ) );
+		}
+		catch (JsonProcessingException e) {
+			throw new IllegalArgumentException( "Could not deserialize string to java type: " + type, e );
+		}
+	}
+
+	@Override
+	protected <T> void toWriter(T value, Type type, Writer writer) throws IOException {
+		try {
+			objectMapper.writerFor( objectMapper.constructType( type ) )
+					.without( JsonGenerator.Feature.AUTO_CLOSE_TARGET )
+					.writeValue( writer, value );
+		}
+		catch (JsonProcessingException e) {
+			throw new IllegalArgumentException( "Could not serialize object of java type: " + type, e );
+		}
+	}
 }
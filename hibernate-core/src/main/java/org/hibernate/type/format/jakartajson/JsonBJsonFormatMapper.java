@@ -10,6 +10,8 @@ import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
 import jakarta.json.bind.JsonbException;
 
+import java.io.Reader;
+import java.io.Writer;
 import java.lang.reflect.Type;
 
 /**
@@ -49,4 +51,24 @@ public final class JsonBJsonFormatMapper extends AbstractJsonFormatMapper {
 			throw new IllegalArgumentException( "Could not serialize object of java type: " + type, e );
 		}
 	}
+
+	@Override
+	protected <T> T fromReader(Reader reader, Type type) {
+		try {
+			return jsonb.fromJson( reader, type );
+		}
+		catch (JsonbException e) {
+			throw new IllegalArgumentException( "Could not deserialize string to java type: " + type, e );
+		}
+	}
+
+	@Override
+	protected <T> void toWriter(T value, Type type, Writer writer) {
+		try {
+			jsonb.toJson( value, type, writer );
+		}
+		catch (JsonbException e) {
+			throw new IllegalArgumentException( "Could not serialize object of java type: " + type, e );
+		}
+	}
 }
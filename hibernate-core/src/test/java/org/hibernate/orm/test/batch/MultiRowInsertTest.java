@@ -0,0 +1,196 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.Session;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SecondaryTable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.MULTI_ROW_INSERTS;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+
+@ServiceRegistry( settings = {
+		@Setting( name = STATEMENT_BATCH_SIZE, value = "10" ),
+		@Setting( name = MULTI_ROW_INSERTS, value = "true" )
+} )
+@DomainModel( annotatedClasses = {
+		MultiRowInsertTest.Book.class,
+		MultiRowInsertTest.Publication.class,
+		MultiRowInsertTest.Magazine.class
+} )
+@SessionFactory( useCollectingStatementInspector = true )
+@RequiresDialectFeature( feature = DialectFeatureChecks.SupportsMultiRowInsert.class )
+public class MultiRowInsertTest {
+
+	@Test
+	public void testMultiRowInsert(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			Book previous = null;
+			for ( int i = 1; i <= 7; i++ ) {
+				final Book book = new Book( i, "Book " + i, previous );
+				session.persist( book );
+				previous = book;
+			}
+		} );
+
+		// 7 rows are inserted by statements of 4, 2, and 1 rows
+		final List<String> inserts = statementInspector.getSqlQueries();
+		assertThat( inserts ).hasSize( 3 );
+		assertThat( inserts ).allMatch( sql -> sql.startsWith( "insert into Book " ) );
+		assertThat( inserts.get( 0 ) ).containsPattern( "values (\\([^)]*\\),){3}\\([^)]*\\)$" );
+		assertThat( inserts.get( 1 ) ).containsPattern( "values \\([^)]*\\),\\([^)]*\\)$" );
+		assertThat( inserts.get( 2 ) ).containsPattern( "values \\([^)]*\\)$" );
+
+		scope.inTransaction( session -> {
+			final List<Book> books = session.createSelectionQuery( "from Book order by id", Book.class ).list();
+			assertThat( books ).hasSize( 7 );
+			for ( int i = 0; i < books.size(); i++ ) {
+				final Book book = books.get( i );
+				assertThat( book.id ).isEqualTo( i + 1 );
+				assertThat( book.title ).isEqualTo( "Book " + ( i + 1 ) );
+				assertThat( book.prequel ).isSameAs( i == 0 ? null : books.get( i - 1 ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testBatchExecutionEvents(SessionFactoryScope scope) {
+		final BatchExecutionCounter counter = new BatchExecutionCounter();
+		try ( Session session = scope.getSessionFactory().withOptions().eventListeners( counter ).openSession() ) {
+			session.getTransaction().begin();
+			for ( int i = 1; i <= 7; i++ ) {
+				session.persist( new Book( i, "Book " + i, null ) );
+			}
+			session.getTransaction().commit();
+		}
+		// one for each of the statements of 4, 2, and 1 rows
+		assertThat( counter.batchExecutions ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testMultiRowInsertIntoSecondaryAndJoinedTables(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Magazine( i, "Magazine " + i, "Summary " + i, 100 + i ) );
+			}
+		} );
+
+		// 5 rows are inserted into each table by statements of 4 and 1 rows
+		final List<String> inserts = statementInspector.getSqlQueries();
+		assertThat( inserts ).hasSize( 6 );
+		assertThat( inserts ).filteredOn( sql -> sql.startsWith( "insert into Publication " ) ).hasSize( 2 );
+		assertThat( inserts ).filteredOn( sql -> sql.startsWith( "insert into PublicationDetails " ) ).hasSize( 2 );
+		assertThat( inserts ).filteredOn( sql -> sql.startsWith( "insert into Magazine " ) ).hasSize( 2 );
+
+		scope.inTransaction( session -> {
+			final List<Magazine> magazines =
+					session.createSelectionQuery( "from Magazine order by id", Magazine.class ).list();
+			assertThat( magazines ).hasSize( 5 );
+			for ( int i = 0; i < magazines.size(); i++ ) {
+				final Magazine magazine = magazines.get( i );
+				assertThat( magazine.id ).isEqualTo( i + 1 );
+				assertThat( magazine.title ).isEqualTo( "Magazine " + ( i + 1 ) );
+				assertThat( magazine.summary ).isEqualTo( "Summary " + ( i + 1 ) );
+				assertThat( magazine.issue ).isEqualTo( 101 + i );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	private static class BatchExecutionCounter extends BaseSessionEventListener {
+		private int batchExecutions;
+
+		@Override
+		public void jdbcExecuteBatchStart() {
+			batchExecutions++;
+		}
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@ManyToOne
+		private Book prequel;
+
+		Book() {
+		}
+
+		Book(Integer id, String title, Book prequel) {
+			this.id = id;
+			this.title = title;
+			this.prequel = prequel;
+		}
+	}
+
+	@Entity( name = "Publication" )
+	@Inheritance( strategy = InheritanceType.JOINED )
+	@SecondaryTable( name = "PublicationDetails" )
+	public static class Publication {
+		@Id
+		Integer id;
+
+		String title;
+
+		@Column( table = "PublicationDetails" )
+		String summary;
+
+		Publication() {
+		}
+
+		Publication(Integer id, String title, String summary) {
+			this.id = id;
+			this.title = title;
+			this.summary = summary;
+		}
+	}
+
+	@Entity( name = "Magazine" )
+	public static class Magazine extends Publication {
+		Integer issue;
+
+		Magazine() {
+		}
+
+		Magazine(Integer id, String title, String summary, Integer issue) {
+			super( id, title, summary );
+			this.issue = issue;
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = { AdaptiveBatchFetchSizeTest.Book.class, AdaptiveBatchFetchSizeTest.Author.class })
+@SessionFactory
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.ADAPTIVE_BATCH_FETCH_SIZE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+public class AdaptiveBatchFetchSizeTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 20; id++ ) {
+				final Author author = new Author( id, "Author " + id );
+				session.persist( author );
+				session.persist( new Book( id, "Book " + id, author ) );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testBatchSizeShrinks(SessionFactoryScope scope) {
+		// nothing observed yet, so the configured batch size is used
+		assertThat( initializedAuthorsAfterAccessingFirst( scope ) ).isEqualTo( 10 );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final EntityStatistics authorStatistics = statistics.getEntityStatistics( Author.class.getName() );
+		assertThat( authorStatistics.getBatchFetchQueuedCount() ).isEqualTo( 20 );
+		assertThat( authorStatistics.getBatchFetchInitializedCount() ).isEqualTo( 10 );
+
+		// only the first author was used, so the next batches are smaller
+		assertThat( initializedAuthorsAfterAccessingFirst( scope ) ).isLessThan( 10 );
+	}
+
+	private static long initializedAuthorsAfterAccessingFirst(SessionFactoryScope scope) {
+		return scope.fromTransaction( session -> {
+			final List<Book> books = session.createSelectionQuery( "from Book order by id", Book.class )
+					.getResultList();
+			assertThat( books.get( 0 ).author.getName() ).isEqualTo( "Author 1" );
+			return books.stream().filter( book -> Hibernate.isInitialized( book.author ) ).count();
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
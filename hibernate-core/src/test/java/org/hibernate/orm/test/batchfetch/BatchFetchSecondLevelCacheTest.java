@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that batch fetching skips the queued keys which can be read from the
+ * second-level cache, but not those whose cache entry is locked.
+ */
+@DomainModel(annotatedClasses = BatchFetchSecondLevelCacheTest.Item.class)
+@SessionFactory
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+public class BatchFetchSecondLevelCacheTest {
+	private static final int ITEMS = 5;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int id = 1; id <= ITEMS; id++ ) {
+				session.persist( new Item( id, "item " + id ) );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testCachedKeysAreNotBatchFetched(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictEntityData( Item.class, 3 );
+
+		initializeAllStartingWith( scope, 3 );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( ITEMS - 1 );
+	}
+
+	@Test
+	public void testLockedKeysAreBatchFetched(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getCache().evictEntityData( Item.class, 3 );
+		final EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Item.class );
+		final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+		final Object cacheKey = cacheAccess.generateCacheKey( 2, persister, sessionFactory, null );
+		// as if another transaction was updating the item
+		final SoftLock lock = scope.fromSession( session -> cacheAccess.lockItem( session, cacheKey, null ) );
+		assertThat( lock ).isNotNull();
+
+		initializeAllStartingWith( scope, 3 );
+
+		final Statistics statistics = sessionFactory.getStatistics();
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 2 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( ITEMS - 2 );
+	}
+
+	private static void initializeAllStartingWith(SessionFactoryScope scope, int firstId) {
+		scope.inTransaction( session -> {
+			final List<Item> items = new ArrayList<>();
+			for ( int id = 1; id <= ITEMS; id++ ) {
+				items.add( session.getReference( Item.class, id ) );
+			}
+			Hibernate.initialize( items.get( firstId - 1 ) );
+			for ( Item item : items ) {
+				Hibernate.initialize( item );
+				assertThat( item.getName() ).isEqualTo( "item " + item.getId() );
+			}
+		} );
+	}
+
+	@Entity(name = "Item")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	@BatchSize(size = 10)
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
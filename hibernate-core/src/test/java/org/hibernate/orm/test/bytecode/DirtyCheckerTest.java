@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bytecode;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import org.hibernate.cfg.BytecodeSettings;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = DirtyCheckerTest.Sample.class)
+@ServiceRegistry(settings = @Setting(name = BytecodeSettings.DIRTY_CHECKING_OPTIMIZER, value = "true"))
+@SessionFactory
+public class DirtyCheckerTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Sample sample = new Sample();
+			sample.id = 1L;
+			sample.primitiveLong = 1L;
+			sample.wrapperInteger = 1000;
+			sample.primitiveBoolean = true;
+			sample.primitiveChar = 'a';
+			sample.primitiveDouble = 1.5;
+			sample.string = "hello";
+			sample.date = LocalDate.of( 2024, 1, 1 );
+			sample.notUpdatable = "fixed";
+			session.persist( sample );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testNothingDirty(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			assertDirty( session, sample -> {
+				// equal, but different instances
+				sample.wrapperInteger = Integer.valueOf( 1000 );
+				sample.string = new String( "hello" );
+				sample.date = LocalDate.of( 2024, 1, 1 );
+			} );
+		} );
+	}
+
+	@Test
+	public void testPrimitivesDirty(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			assertDirty( session, sample -> {
+				sample.primitiveLong = 2L;
+				sample.primitiveBoolean = false;
+				sample.primitiveChar = 'b';
+				sample.primitiveDouble = 2.5;
+			}, "primitiveBoolean", "primitiveChar", "primitiveDouble", "primitiveLong" );
+		} );
+	}
+
+	@Test
+	public void testNullsDirty(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			assertDirty( session, sample -> {
+				sample.wrapperInteger = null;
+				sample.string = null;
+				sample.date = null;
+			}, "date", "string", "wrapperInteger" );
+		} );
+		scope.inTransaction( session -> {
+			assertDirty( session, sample -> {
+				sample.wrapperInteger = 5;
+				sample.string = "world";
+			}, "string", "wrapperInteger" );
+		} );
+	}
+
+	@Test
+	public void testNotUpdatableNeverDirty(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			assertDirty( session, sample -> {
+				sample.notUpdatable = "changed";
+				sample.date = LocalDate.of( 2025, 1, 1 );
+			}, "date" );
+		} );
+	}
+
+	private static void assertDirty(SessionImplementor session, Consumer<Sample> modification, String... expected) {
+		final Sample sample = session.find( Sample.class, 1L );
+		final EntityEntry entry = session.getPersistenceContextInternal().getEntry( sample );
+		final EntityPersister persister = entry.getPersister();
+		modification.accept( sample );
+
+		final int[] dirty = persister.findDirty( persister.getValues( sample ), entry.getLoadedState(), sample, session );
+		final Set<String> dirtyNames = new TreeSet<>();
+		if ( dirty != null ) {
+			for ( int index : dirty ) {
+				dirtyNames.add( persister.getAttributeMapping( index ).getAttributeName() );
+			}
+		}
+		assertThat( dirtyNames ).containsExactlyElementsOf( new TreeSet<>( Arrays.asList( expected ) ) );
+	}
+
+	@Entity(name = "Sample")
+	public static class Sample {
+		@Id
+		private Long id;
+		private long primitiveLong;
+		private Integer wrapperInteger;
+		private boolean primitiveBoolean;
+		private char primitiveChar;
+		private double primitiveDouble;
+		private String string;
+		private LocalDate date;
+		@Column(updatable = false)
+		private String notUpdatable;
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		CompactCacheEntryTest.Publisher.class,
+		CompactCacheEntryTest.Publication.class,
+		CompactCacheEntryTest.Book.class
+})
+@SessionFactory
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.USE_COMPACT_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+public class CompactCacheEntryTest {
+	private static final UUID ISBN = UUID.randomUUID();
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Publisher publisher = new Publisher( 1L, "Manning" );
+			session.persist( publisher );
+			final Book book = new Book();
+			book.id = 1L;
+			book.title = "Java Persistence with Hibernate";
+			book.published = LocalDate.of( 2015, 10, 15 );
+			book.price = new BigDecimal( "49.99" );
+			book.pages = 608;
+			book.format = Format.PAPERBACK;
+			book.isbn = ISBN;
+			book.dimensions = new Dimensions( 18.7, 23.5 );
+			book.publisher = publisher;
+			session.persist( book );
+			final Publication publication = new Publication();
+			publication.id = 2L;
+			publication.title = "Untitled";
+			session.persist( publication );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testEntryIsCompact(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor( Book.class );
+		final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+		final Object cacheKey = cacheAccess.generateCacheKey( 1L, persister, factory, null );
+		scope.inSession( session -> assertThat( cacheAccess.get( session, cacheKey ) ).isInstanceOf( byte[].class ) );
+	}
+
+	@Test
+	public void testLoadFromCache(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final Publication publication = session.find( Publication.class, 1L );
+			assertThat( publication ).isInstanceOf( Book.class );
+			final Book book = (Book) publication;
+			assertThat( book.title ).isEqualTo( "Java Persistence with Hibernate" );
+			assertThat( book.published ).isEqualTo( LocalDate.of( 2015, 10, 15 ) );
+			assertThat( book.price ).isEqualTo( new BigDecimal( "49.99" ) );
+			assertThat( book.pages ).isEqualTo( 608 );
+			assertThat( book.format ).isEqualTo( Format.PAPERBACK );
+			assertThat( book.isbn ).isEqualTo( ISBN );
+			assertThat( book.dimensions.width ).isEqualTo( 18.7 );
+			assertThat( book.dimensions.height ).isEqualTo( 23.5 );
+			assertThat( book.version ).isZero();
+			assertThat( book.publisher.name ).isEqualTo( "Manning" );
+
+			final Publication untitled = session.find( Publication.class, 2L );
+			assertThat( untitled ).isNotInstanceOf( Book.class );
+			assertThat( untitled.title ).isEqualTo( "Untitled" );
+		} );
+		assertThat( statistics.getEntityLoadCount() ).isZero();
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 3 );
+	}
+
+	@Entity(name = "Publisher")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Publisher {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Publisher() {
+		}
+
+		public Publisher(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Publication")
+	@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Publication {
+		@Id
+		Long id;
+
+		@Version
+		Integer version;
+
+		String title;
+	}
+
+	@Entity(name = "Book")
+	public static class Book extends Publication {
+		LocalDate published;
+
+		BigDecimal price;
+
+		Integer pages;
+
+		@Enumerated(EnumType.STRING)
+		Format format;
+
+		UUID isbn;
+
+		@Embedded
+		Dimensions dimensions;
+
+		@ManyToOne
+		Publisher publisher;
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		Double width;
+
+		Double height;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(Double width, Double height) {
+			this.width = width;
+			this.height = height;
+		}
+	}
+
+	public enum Format {
+		HARDCOVER,
+		PAPERBACK,
+		EBOOK
+	}
+}
@@ -0,0 +1,316 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cache.spi.support.DomainDataRegionImpl;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.EntityReadWriteAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that the locks of the read-write cache access, which are striped by
+ * cache key, only make operations on keys of the same stripe wait for each other.
+ */
+@DomainModel(annotatedClasses = ReadWriteAccessLockStripingTest.Item.class)
+@SessionFactory
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		settingProviders = @SettingProvider(
+				provider = ReadWriteAccessLockStripingTest.RegionFactorySettingProvider.class,
+				settingName = AvailableSettings.CACHE_REGION_FACTORY
+		)
+)
+public class ReadWriteAccessLockStripingTest {
+	// the access uses at least 16 stripes, so keys whose
+	// spread hashes differ in the low 4 bits never share one
+	private static final int MIN_STRIPE_MASK = 15;
+	private static final long TIMEOUT_SECONDS = 10;
+
+	private ExecutorService executor;
+
+	@BeforeEach
+	public void setUp() {
+		executor = Executors.newFixedThreadPool( 8 );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		executor.shutdownNow();
+		access( scope ).getBlockingStorageAccess().unblock();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testDifferentStripesProceedWhileKeyIsSoftLocked(SessionFactoryScope scope) throws Exception {
+		final TestReadWriteAccess access = access( scope );
+		final Object lockedKey = cacheKey( scope, 1 );
+		final Object otherKey = keyOfOtherStripe( scope, lockedKey );
+
+		final SoftLock softLock = scope.fromSession( session -> access.lockItem( session, lockedKey, null ) );
+		assertThat( softLock ).isNotNull();
+
+		// a put of the locked key holds the write lock of its stripe while it reads the cache
+		final CountDownLatch blocked = access.getBlockingStorageAccess().block( lockedKey );
+		final Future<Boolean> lockedKeyPut = executor.submit(
+				() -> scope.fromSession( session -> access.putFromLoad( session, lockedKey, "locked", null ) )
+		);
+		assertThat( blocked.await( TIMEOUT_SECONDS, TimeUnit.SECONDS ) ).isTrue();
+
+		final Future<Boolean> otherKeyPut = executor.submit(
+				() -> scope.fromSession( session -> access.putFromLoad( session, otherKey, "other", null ) )
+		);
+		assertThat( otherKeyPut.get( TIMEOUT_SECONDS, TimeUnit.SECONDS ) ).isTrue();
+		final Future<Object> otherKeyGet = executor.submit(
+				() -> scope.fromSession( session -> access.get( session, otherKey ) )
+		);
+		assertThat( otherKeyGet.get( TIMEOUT_SECONDS, TimeUnit.SECONDS ) ).isEqualTo( "other" );
+		assertThat( lockedKeyPut.isDone() ).isFalse();
+
+		access.getBlockingStorageAccess().unblock();
+		assertThat( lockedKeyPut.get( TIMEOUT_SECONDS, TimeUnit.SECONDS ) ).isFalse();
+		assertThat( (Object) scope.fromSession( session -> access.get( session, lockedKey ) ) ).isNull();
+		assertThat( access.getBlockingStorageAccess().getFromData( lockedKey ) ).isInstanceOf( SoftLock.class );
+
+		scope.inSession( session -> access.unlockItem( session, lockedKey, softLock ) );
+	}
+
+	@Test
+	public void testAllStripeLocksExcludeSingleKeyWriters(SessionFactoryScope scope) throws Exception {
+		final TestReadWriteAccess access = access( scope );
+		final Object key = cacheKey( scope, 1 );
+
+		final Lock readLock = access.allKeysReadLock();
+		readLock.lock();
+		final Future<Boolean> put;
+		try {
+			put = executor.submit(
+					() -> scope.fromSession( session -> access.putFromLoad( session, key, "value", null ) )
+			);
+			assertThatThrownBy( () -> put.get( 200, TimeUnit.MILLISECONDS ) ).isInstanceOf( TimeoutException.class );
+		}
+		finally {
+			readLock.unlock();
+		}
+		assertThat( put.get( TIMEOUT_SECONDS, TimeUnit.SECONDS ) ).isTrue();
+
+		final Lock writeLock = access.allKeysWriteLock();
+		writeLock.lock();
+		final Future<SoftLock> lockItem;
+		try {
+			lockItem = executor.submit(
+					() -> scope.fromSession( session -> access.lockItem( session, key, null ) )
+			);
+			assertThatThrownBy( () -> lockItem.get( 200, TimeUnit.MILLISECONDS ) ).isInstanceOf( TimeoutException.class );
+		}
+		finally {
+			writeLock.unlock();
+		}
+		final SoftLock softLock = lockItem.get( TIMEOUT_SECONDS, TimeUnit.SECONDS );
+		assertThat( softLock ).isNotNull();
+		scope.inSession( session -> access.unlockItem( session, key, softLock ) );
+	}
+
+	@Test
+	public void testBulkOperationsDoNotDeadlockWithLockItem(SessionFactoryScope scope) throws Exception {
+		final TestReadWriteAccess access = access( scope );
+		final List<Object> keys = new ArrayList<>();
+		for ( int id = 1; id <= 64; id++ ) {
+			keys.add( cacheKey( scope, id ) );
+		}
+
+		final List<Future<?>> futures = new ArrayList<>();
+		for ( int thread = 0; thread < 4; thread++ ) {
+			final Random random = new Random( thread );
+			futures.add( executor.submit( () -> scope.inSession( session -> {
+				for ( int i = 0; i < 500; i++ ) {
+					// keys in a different order every time, mixing all stripes
+					final List<Object> shuffled = new ArrayList<>( keys );
+					Collections.shuffle( shuffled, random );
+					access.getAll( session, shuffled );
+					access.putAllFromLoad( session, shuffled.toArray(), shuffled.toArray(), new Object[shuffled.size()] );
+				}
+			} ) ) );
+			futures.add( executor.submit( () -> scope.inSession( session -> {
+				for ( int i = 0; i < 500; i++ ) {
+					final Object key = keys.get( random.nextInt( keys.size() ) );
+					final SoftLock softLock = access.lockItem( session, key, null );
+					access.unlockItem( session, key, softLock );
+				}
+			} ) ) );
+		}
+		for ( Future<?> future : futures ) {
+			future.get( TIMEOUT_SECONDS * 6, TimeUnit.SECONDS );
+		}
+	}
+
+	private static TestReadWriteAccess access(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Item.class );
+		return (TestReadWriteAccess) persister.getCacheAccessStrategy();
+	}
+
+	private static Object cacheKey(SessionFactoryScope scope, int id) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Item.class );
+		return access( scope ).generateCacheKey( id, persister, sessionFactory, null );
+	}
+
+	private static Object keyOfOtherStripe(SessionFactoryScope scope, Object key) {
+		for ( int id = 2; ; id++ ) {
+			final Object other = cacheKey( scope, id );
+			if ( stripeBits( other ) != stripeBits( key ) ) {
+				return other;
+			}
+		}
+	}
+
+	private static int stripeBits(Object key) {
+		final int hash = key.hashCode();
+		return ( hash ^ ( hash >>> 16 ) ) & MIN_STRIPE_MASK;
+	}
+
+	public static class RegionFactorySettingProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return BlockingRegionFactory.class.getName();
+		}
+	}
+
+	public static class BlockingRegionFactory extends CachingRegionFactory {
+		public BlockingRegionFactory() {
+			super( DefaultCacheKeysFactory.INSTANCE );
+		}
+
+		@Override
+		public DomainDataRegion buildDomainDataRegion(
+				DomainDataRegionConfig regionConfig,
+				DomainDataRegionBuildingContext buildingContext) {
+			return new DomainDataRegionImpl(
+					regionConfig,
+					this,
+					new BlockingStorageAccess(),
+					DefaultCacheKeysFactory.INSTANCE,
+					buildingContext
+			) {
+				@Override
+				protected EntityDataAccess generateReadWriteEntityAccess(EntityDataCachingConfig accessConfig) {
+					return new TestReadWriteAccess( this, getCacheStorageAccess(), accessConfig );
+				}
+			};
+		}
+	}
+
+	public static class TestReadWriteAccess extends EntityReadWriteAccess {
+		public TestReadWriteAccess(
+				DomainDataRegion region,
+				DomainDataStorageAccess storageAccess,
+				EntityDataCachingConfig accessConfig) {
+			super( region, DefaultCacheKeysFactory.INSTANCE, storageAccess, accessConfig );
+		}
+
+		BlockingStorageAccess getBlockingStorageAccess() {
+			return (BlockingStorageAccess) getStorageAccess();
+		}
+
+		@SuppressWarnings("deprecation")
+		Lock allKeysReadLock() {
+			return readLock();
+		}
+
+		@SuppressWarnings("deprecation")
+		Lock allKeysWriteLock() {
+			return writeLock();
+		}
+	}
+
+	/**
+	 * Makes reads of one key wait until it is unblocked, so that the
+	 * thread reading it holds the stripe lock of the key meanwhile.
+	 */
+	public static class BlockingStorageAccess extends MapStorageAccessImpl {
+		private volatile Object blockedKey;
+		private volatile CountDownLatch blocked;
+		private volatile CountDownLatch released = new CountDownLatch( 0 );
+
+		CountDownLatch block(Object key) {
+			blocked = new CountDownLatch( 1 );
+			released = new CountDownLatch( 1 );
+			blockedKey = key;
+			return blocked;
+		}
+
+		void unblock() {
+			blockedKey = null;
+			released.countDown();
+		}
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			if ( key.equals( blockedKey ) ) {
+				blocked.countDown();
+				try {
+					released.await( TIMEOUT_SECONDS, TimeUnit.SECONDS );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return super.getFromCache( key, session );
+		}
+	}
+
+	@Entity(name = "Item")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+	}
+}
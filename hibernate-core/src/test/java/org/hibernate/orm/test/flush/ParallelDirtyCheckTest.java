@@ -0,0 +1,190 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Transient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		ParallelDirtyCheckTest.Owner.class,
+		ParallelDirtyCheckTest.Item.class,
+		ParallelDirtyCheckTest.Tracker.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.PARALLEL_DIRTY_CHECKING_THRESHOLD, value = "10"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class ParallelDirtyCheckTest {
+	private static final int ITEMS = 500;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Owner first = new Owner( 1L, "first" );
+			final Owner second = new Owner( 2L, "second" );
+			session.persist( first );
+			session.persist( second );
+			for ( int i = 0; i < ITEMS; i++ ) {
+				session.persist( new Item( (long) i, "item " + i, new Dimensions( i, i ), first ) );
+			}
+			session.persist( new Tracker( 1L, "tracker" ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testNothingDirty(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Item join fetch owner", Item.class ).getResultList();
+			statistics.clear();
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isZero();
+		} );
+	}
+
+	@Test
+	public void testDirtyEntities(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final List<Item> items =
+					session.createSelectionQuery( "from Item join fetch owner order by id", Item.class ).getResultList();
+			final Owner second = session.find( Owner.class, 2L );
+			// basic attribute
+			items.get( 1 ).name = "changed";
+			// embedded attribute
+			items.get( 2 ).dimensions.width = -1;
+			// association, compared on the flushing thread
+			items.get( 3 ).owner = second;
+			// set to an equal value, not dirty
+			items.get( 4 ).name = new String( "item 4" );
+			statistics.clear();
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 3 );
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Item.class, 1L ).name ).isEqualTo( "changed" );
+			assertThat( session.find( Item.class, 2L ).dimensions.width ).isEqualTo( -1 );
+			assertThat( session.find( Item.class, 3L ).owner.id ).isEqualTo( 2L );
+			assertThat( session.find( Item.class, 4L ).name ).isEqualTo( "item 4" );
+		} );
+	}
+
+	@Test
+	public void testPreUpdateCallbackModifyingOtherEntity(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			// the tracker is flushed before the items
+			final Tracker tracker = session.find( Tracker.class, 1L );
+			final List<Item> items =
+					session.createSelectionQuery( "from Item join fetch owner order by id", Item.class ).getResultList();
+			tracker.name = "changed";
+			tracker.target = items.get( 5 );
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Tracker.class, 1L ).name ).isEqualTo( "changed" );
+			assertThat( session.find( Item.class, 5L ).name ).isEqualTo( "tracked by changed" );
+		} );
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		private Long id;
+		private String name;
+
+		public Owner() {
+		}
+
+		public Owner(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		private int width;
+		private int height;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(int width, int height) {
+			this.width = width;
+			this.height = height;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+		private String name;
+		@Embedded
+		private Dimensions dimensions;
+		@ManyToOne
+		private Owner owner;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name, Dimensions dimensions, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.dimensions = dimensions;
+			this.owner = owner;
+		}
+	}
+
+	@Entity(name = "Tracker")
+	public static class Tracker {
+		@Id
+		private Long id;
+		private String name;
+		@Transient
+		private Item target;
+
+		public Tracker() {
+		}
+
+		public Tracker(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@PreUpdate
+		void preUpdate() {
+			if ( target != null ) {
+				target.name = "tracked by " + name;
+			}
+		}
+	}
+}
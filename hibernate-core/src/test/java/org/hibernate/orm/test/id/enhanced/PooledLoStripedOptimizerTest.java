@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.id.enhanced;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.OptimizerFactory;
+import org.hibernate.id.enhanced.PooledLoStripedOptimizer;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@BaseUnitTest
+public class PooledLoStripedOptimizerTest {
+
+	@Test
+	public void testDescriptor() {
+		final Optimizer optimizer = OptimizerFactory.buildOptimizer(
+				StandardOptimizerDescriptor.fromExternalName( "pooled-lo-striped" ),
+				Long.class,
+				50,
+				1
+		);
+		assertInstanceOf( PooledLoStripedOptimizer.class, optimizer );
+	}
+
+	@Test
+	public void testSingleStripeUsage() {
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final Optimizer optimizer = new PooledLoStripedOptimizer( Long.class, 10, 1 );
+
+		assertEquals( 0, sequence.getTimesCalled() );
+
+		for ( int i = 1; i <= 5; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		}
+		assertEquals( 1, sequence.getTimesCalled() );
+		assertEquals( 1, sequence.getCurrentValue() );
+
+		// crossing the middle of the block fetches the next block ahead of time
+		assertEquals( 6, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 11, sequence.getCurrentValue() );
+
+		for ( int i = 7; i <= 15; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		}
+		assertEquals( 2, sequence.getTimesCalled() );
+
+		assertEquals( 16, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 21, optimizer.getLastSourceValue().makeValue().intValue() );
+	}
+
+	@Test
+	public void testConcurrentUsage() throws Exception {
+		final int threads = 16;
+		final int idsPerThread = 10_000;
+		final SourceMock sequence = new SourceMock( 1, 50 );
+		final Optimizer optimizer = new PooledLoStripedOptimizer( Long.class, 50, threads );
+		final Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add( executor.submit( () -> {
+					for ( int j = 0; j < idsPerThread; j++ ) {
+						assertTrue( ids.add( (Long) optimizer.generate( sequence ) ) );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		assertEquals( threads * idsPerThread, ids.size() );
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.insertordering;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The entity types depend on each other, but the instances
+ * inserted by the flush do not.
+ */
+public class InsertOrderingWithCircularTypeDependency extends BaseInsertOrderingTest {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Department.class, Employee.class, Badge.class };
+	}
+
+	@Test
+	public void testBatching() {
+		sessionFactoryScope().inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				Department department = new Department();
+				session.persist( department );
+
+				Employee employee = new Employee();
+				employee.department = department;
+				session.persist( employee );
+
+				Badge badge = new Badge();
+				badge.owner = employee;
+				session.persist( badge );
+			}
+
+			clearBatches();
+		} );
+
+		verifyContainsBatches(
+				new Batch( "insert into Department (head_id,name,id) values (?,?,?)", 3 ),
+				new Batch( "insert into Employee (department_id,name,id) values (?,?,?)", 3 ),
+				new Batch( "insert into Badge (code,owner_id,id) values (?,?,?)", 3 )
+		);
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		@GeneratedValue
+		private Long id;
+
+		private String name;
+
+		@ManyToOne
+		private Employee head;
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		@GeneratedValue
+		private Long id;
+
+		private String name;
+
+		@ManyToOne
+		private Department department;
+	}
+
+	@Entity(name = "Badge")
+	public static class Badge {
+		@Id
+		@GeneratedValue
+		private Long id;
+
+		private String code;
+
+		@ManyToOne
+		private Employee owner;
+	}
+}
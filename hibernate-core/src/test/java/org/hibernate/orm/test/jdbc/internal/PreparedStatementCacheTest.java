@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = PreparedStatementCacheTest.Item.class)
+@SessionFactory
+@ServiceRegistry(settings = {
+		@Setting(name = JdbcSettings.STATEMENT_CACHE_SIZE, value = "10"),
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true")
+})
+public class PreparedStatementCacheTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Item( 1L, "first" ) );
+			session.persist( new Item( 2L, "second" ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testStatementReusedWithinSession(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			assertThat( nameOf( session, 1L ) ).isEqualTo( "first" );
+			assertThat( nameOf( session, 2L ) ).isEqualTo( "second" );
+		} );
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testStatementNotReusedAcrossSessions(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> assertThat( nameOf( session, 1L ) ).isEqualTo( "first" ) );
+		scope.inTransaction( session -> assertThat( nameOf( session, 2L ) ).isEqualTo( "second" ) );
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	private static String nameOf(Session session, long id) {
+		return session.createSelectionQuery( "select name from Item where id = :id", String.class )
+				.setParameter( "id", id )
+				.getSingleResult();
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.List;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that multi-loads resolve entities from the second-level cache
+ * with a single bulk lookup, and put the entities they load from the
+ * database into the cache with a single bulk put.
+ */
+@DomainModel(annotatedClasses = MultiLoadSecondLevelCacheBulkLookupTest.Item.class)
+@SessionFactory
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+public class MultiLoadSecondLevelCacheBulkLookupTest {
+	private static final Integer[] IDS = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( Integer id : IDS ) {
+				session.persist( new Item( id, "item " + id ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testOrderedMultiLoad(SessionFactoryScope scope) {
+		verifyBulkLookup( scope, true );
+	}
+
+	@Test
+	public void testUnorderedMultiLoad(SessionFactoryScope scope) {
+		verifyBulkLookup( scope, false );
+	}
+
+	@Test
+	public void testMultiLoadPutsInBulk(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictEntityData( Item.class );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final CacheGetCounter counter = new CacheGetCounter();
+		try ( Session session = scope.getSessionFactory().withOptions().eventListeners( counter ).openSession() ) {
+			final List<Item> items = session.byMultipleIds( Item.class ).multiLoad( IDS );
+			assertThat( items ).hasSize( IDS.length ).doesNotContainNull();
+		}
+		assertThat( counter.cachePuts ).isEqualTo( 1 );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( IDS.length );
+		assertThat( statistics.getSecondLevelCachePutCount() ).isEqualTo( IDS.length );
+
+		// and they are found in the cache afterwards
+		statistics.clear();
+		verifyBulkLookup( scope, true );
+	}
+
+	private static void verifyBulkLookup(SessionFactoryScope scope, boolean ordered) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final CacheGetCounter counter = new CacheGetCounter();
+		try ( Session session = scope.getSessionFactory().withOptions().eventListeners( counter ).openSession() ) {
+			// one of the entities is already associated with the session
+			assertThat( session.find( Item.class, 1 ) ).isNotNull();
+			counter.cacheGets = 0;
+
+			final List<Item> items = session.byMultipleIds( Item.class )
+					.enableSessionCheck( true )
+					.enableOrderedReturn( ordered )
+					.multiLoad( IDS );
+			assertThat( items ).hasSize( IDS.length ).doesNotContainNull();
+			assertThat( items ).extracting( item -> item.name )
+					.containsExactlyInAnyOrder(
+							"item 1", "item 2", "item 3", "item 4", "item 5",
+							"item 6", "item 7", "item 8", "item 9", "item 10"
+					);
+		}
+		assertThat( counter.cacheGets ).isEqualTo( 1 );
+		assertThat( statistics.getEntityLoadCount() ).isZero();
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( IDS.length );
+	}
+
+	private static class CacheGetCounter extends BaseSessionEventListener {
+		private int cacheGets;
+		private int cachePuts;
+
+		@Override
+		public void cacheGetStart() {
+			cacheGets++;
+		}
+
+		@Override
+		public void cachePutStart() {
+			cachePuts++;
+		}
+	}
+
+	@Entity(name = "Item")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.mapping.basic;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.Length;
+import org.hibernate.annotations.JdbcType;
+import org.hibernate.metamodel.mapping.internal.BasicAttributeMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.jdbc.JsonAsStringJdbcType;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that a JSON document stored as a string in a {@code CLOB} column, which is
+ * streamed to and from the format mapper, round-trips.
+ */
+@DomainModel(annotatedClasses = JsonClobMappingTests.EntityWithJsonClob.class)
+@SessionFactory
+public class JsonClobMappingTests {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void verifyMapping(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( EntityWithJsonClob.class );
+		final BasicAttributeMapping attributeMapping =
+				(BasicAttributeMapping) persister.findAttributeMapping( "payload" );
+		assertThat( attributeMapping.getJdbcMapping().getJdbcType() ).isInstanceOf( JsonAsStringJdbcType.class );
+		assertThat( attributeMapping.getJdbcMapping().getJdbcType().getDdlTypeCode() )
+				.isIn( SqlTypes.CLOB, SqlTypes.NCLOB );
+	}
+
+	@Test
+	public void verifyLargeDocumentRoundTrips(SessionFactoryScope scope) {
+		final Map<String, String> payload = new HashMap<>();
+		for ( int i = 0; i < 1000; i++ ) {
+			payload.put( "key" + i, "value " + i + " ".repeat( 100 ) + "é\"\\" );
+		}
+		scope.inTransaction( session -> session.persist( new EntityWithJsonClob( 1, payload ) ) );
+
+		scope.inTransaction( session -> {
+			final EntityWithJsonClob entity = session.find( EntityWithJsonClob.class, 1 );
+			assertThat( entity.payload ).isEqualTo( payload );
+		} );
+	}
+
+	@Test
+	public void verifyNullDocument(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new EntityWithJsonClob( 1, null ) ) );
+
+		scope.inTransaction( session -> {
+			final EntityWithJsonClob entity = session.find( EntityWithJsonClob.class, 1 );
+			assertThat( entity.payload ).isNull();
+		} );
+	}
+
+	/**
+	 * Stores JSON as a string even on databases with a native JSON type.
+	 */
+	public static class ClobJsonJdbcType extends JsonAsStringJdbcType {
+		public ClobJsonJdbcType() {
+			super( SqlTypes.CLOB, null );
+		}
+	}
+
+	@Entity(name = "EntityWithJsonClob")
+	public static class EntityWithJsonClob {
+		@Id
+		private Integer id;
+
+		@JdbcType(ClobJsonJdbcType.class)
+		@Column(length = Length.LONG32)
+		private Map<String, String> payload;
+
+		public EntityWithJsonClob() {
+		}
+
+		public EntityWithJsonClob(Integer id, Map<String, String> payload) {
+			this.id = id;
+			this.payload = payload;
+		}
+	}
+}
@@ -0,0 +1,243 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.pc;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DomainModel(annotatedClasses = {
+		PrimitiveKeyedPersistenceContextTest.LongEntity.class,
+		PrimitiveKeyedPersistenceContextTest.IntEntity.class,
+		PrimitiveKeyedPersistenceContextTest.CompositeEntity.class,
+		PrimitiveKeyedPersistenceContextTest.ChildEntity.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.PERSISTENCE_CONTEXT_PRIMITIVE_KEYS, value = "true"))
+@SessionFactory
+public class PrimitiveKeyedPersistenceContextTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testLookups(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 100; i++ ) {
+				session.persist( new LongEntity( (long) i, "long " + i ) );
+				session.persist( new IntEntity( i, "int " + i ) );
+			}
+			session.persist( new CompositeEntity( new CompositeId( 1, "a" ), "composite" ) );
+		} );
+
+		scope.inTransaction( session -> {
+			final List<LongEntity> longs = session.createQuery( "from LongEntity", LongEntity.class ).getResultList();
+			final List<IntEntity> ints = session.createQuery( "from IntEntity", IntEntity.class ).getResultList();
+			assertEquals( 100, longs.size() );
+			assertEquals( 100, ints.size() );
+			final CompositeEntity composite = session.find( CompositeEntity.class, new CompositeId( 1, "a" ) );
+			assertNotNull( composite );
+
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			assertEquals( 201, persistenceContext.getNumberOfManagedEntities() );
+
+			final EntityPersister longPersister = session.getEntityPersister( LongEntity.class.getName(), longs.get( 0 ) );
+			final EntityPersister intPersister = session.getEntityPersister( IntEntity.class.getName(), ints.get( 0 ) );
+			final EntityPersister compositePersister = session.getEntityPersister( CompositeEntity.class.getName(), composite );
+			for ( LongEntity entity : longs ) {
+				assertSame( entity, persistenceContext.getEntity( entity.id, longPersister ) );
+				assertSame( entity, persistenceContext.getEntity( new EntityKey( entity.id, longPersister ) ) );
+				assertSame( entity, session.find( LongEntity.class, entity.id ) );
+			}
+			for ( IntEntity entity : ints ) {
+				assertSame( entity, persistenceContext.getEntity( entity.id, intPersister ) );
+				assertSame( entity, session.find( IntEntity.class, entity.id ) );
+			}
+			assertSame( composite, persistenceContext.getEntity( new CompositeId( 1, "a" ), compositePersister ) );
+			assertNull( persistenceContext.getEntity( new CompositeId( 2, "a" ), compositePersister ) );
+			assertNull( persistenceContext.getEntity( 101L, longPersister ) );
+
+			session.detach( longs.get( 0 ) );
+			assertNull( persistenceContext.getEntity( longs.get( 0 ).id, longPersister ) );
+			assertFalse( session.contains( longs.get( 0 ) ) );
+			assertTrue( session.contains( longs.get( 1 ) ) );
+			assertEquals( 200, persistenceContext.getNumberOfManagedEntities() );
+
+			session.clear();
+			assertEquals( 0, persistenceContext.getNumberOfManagedEntities() );
+			assertNull( persistenceContext.getEntity( 2L, longPersister ) );
+		} );
+	}
+
+	@Test
+	public void testLoadPaths(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final LongEntity parent = new LongEntity( (long) i, "long " + i );
+				final IntEntity other = new IntEntity( i, "int " + i );
+				session.persist( parent );
+				session.persist( other );
+				session.persist( new ChildEntity( (long) i, parent, other ) );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			// find() of a managed entity, and of an entity which is not managed
+			final LongEntity first = session.find( LongEntity.class, 1L );
+			assertSame( first, session.find( LongEntity.class, 1L ) );
+			assertNull( session.find( LongEntity.class, 4L ) );
+
+			// getReference() then find() narrows the existing proxy
+			final LongEntity reference = session.getReference( LongEntity.class, 2L );
+			assertFalse( Hibernate.isInitialized( reference ) );
+			assertSame( reference, session.getReference( LongEntity.class, 2L ) );
+			assertSame( reference, session.find( LongEntity.class, 2L ) );
+			assertTrue( Hibernate.isInitialized( reference ) );
+
+			// find() of a removed entity
+			session.remove( session.find( ChildEntity.class, 3L ) );
+			session.remove( session.find( LongEntity.class, 3L ) );
+			assertNull( session.find( LongEntity.class, 3L ) );
+		} );
+
+		scope.inTransaction( session -> {
+			// the lazy and the select-fetched associations resolve to the managed instances
+			final LongEntity parent = session.find( LongEntity.class, 1L );
+			final IntEntity other = session.find( IntEntity.class, 1 );
+			final ChildEntity child = session.find( ChildEntity.class, 1L );
+			assertSame( parent, child.parent );
+			assertSame( other, child.other );
+
+			// and to new instances otherwise
+			final ChildEntity otherChild = session.find( ChildEntity.class, 2L );
+			assertFalse( Hibernate.isInitialized( otherChild.parent ) );
+			assertSame( otherChild.parent, session.getReference( LongEntity.class, 2L ) );
+			assertSame( otherChild.other, session.find( IntEntity.class, 2 ) );
+			assertEquals( "int 2", otherChild.other.name );
+		} );
+	}
+
+	@Entity(name = "LongEntity")
+	public static class LongEntity {
+		@Id
+		private Long id;
+		private String name;
+
+		public LongEntity() {
+		}
+
+		public LongEntity(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "IntEntity")
+	public static class IntEntity {
+		@Id
+		private int id;
+		private String name;
+
+		public IntEntity() {
+		}
+
+		public IntEntity(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Embeddable
+	public static class CompositeId implements Serializable {
+		private int number;
+		private String code;
+
+		public CompositeId() {
+		}
+
+		public CompositeId(int number, String code) {
+			this.number = number;
+			this.code = code;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof CompositeId other
+				&& number == other.number
+				&& Objects.equals( code, other.code );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( number, code );
+		}
+	}
+
+	@Entity(name = "CompositeEntity")
+	public static class CompositeEntity {
+		@EmbeddedId
+		private CompositeId id;
+		private String name;
+
+		public CompositeEntity() {
+		}
+
+		public CompositeEntity(CompositeId id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "ChildEntity")
+	public static class ChildEntity {
+		@Id
+		private Long id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private LongEntity parent;
+		@ManyToOne
+		@Fetch(FetchMode.SELECT)
+		private IntEntity other;
+
+		public ChildEntity() {
+		}
+
+		public ChildEntity(Long id, LongEntity parent, IntEntity other) {
+			this.id = id;
+			this.parent = parent;
+			this.other = other;
+		}
+	}
+}
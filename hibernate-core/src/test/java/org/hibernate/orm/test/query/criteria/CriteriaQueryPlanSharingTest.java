@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.criteria;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaParameterExpression;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = CriteriaQueryPlanSharingTest.Book.class)
+@SessionFactory
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.CRITERIA_COPY_TREE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+public class CriteriaQueryPlanSharingTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1L, "Hibernate in Action", 400 ) );
+			session.persist( new Book( 2L, "Java Persistence with Hibernate", 600 ) );
+			session.persist( new Book( 3L, "High-Performance Java Persistence", 500 ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+		scope.getSessionFactory().getQueryEngine().getInterpretationCache().close();
+	}
+
+	@Test
+	public void testQueriesWithSameStructureSharePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			assertThat( titlesWithMorePagesThan( session.getCriteriaBuilder(), session, 450 ) )
+					.containsExactly( "High-Performance Java Persistence", "Java Persistence with Hibernate" );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+
+			// built separately, with another value, but the same structure
+			assertThat( titlesWithMorePagesThan( session.getCriteriaBuilder(), session, 550 ) )
+					.containsExactly( "Java Persistence with Hibernate" );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testQueriesWithSameStructureShareParameterizedPlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 3; id++ ) {
+				final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+				final JpaCriteriaQuery<Book> query = cb.createQuery( Book.class );
+				final JpaRoot<Book> book = query.from( Book.class );
+				final JpaParameterExpression<Long> idParameter = cb.parameter( Long.class );
+				query.where( cb.equal( book.<Long>get( "id" ), idParameter ) );
+				assertThat( session.createQuery( query ).setParameter( idParameter, id ).getSingleResult().id )
+						.isEqualTo( id );
+			}
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+		} );
+	}
+
+	@Test
+	public void testQueriesWithDifferentStructureDoNotSharePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+			titlesWithMorePagesThan( cb, session, 450 );
+
+			final JpaCriteriaQuery<String> query = cb.createQuery( String.class );
+			final JpaRoot<Book> book = query.from( Book.class );
+			query.select( book.<String>get( "title" ) )
+					.where( cb.lessThan( book.<Integer>get( "pages" ), 450 ) )
+					.orderBy( cb.asc( book.get( "title" ) ) );
+			assertThat( session.createQuery( query ).getResultList() )
+					.containsExactly( "Hibernate in Action" );
+
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testChangedQueryWithoutCopyTreeDoesNotAffectOtherQueries(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			session.setProperty( AvailableSettings.CRITERIA_COPY_TREE, false );
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+
+			final JpaCriteriaQuery<String> query = cb.createQuery( String.class );
+			final JpaRoot<Book> book = query.from( Book.class );
+			query.select( book.<String>get( "title" ) )
+					.where( cb.greaterThan( book.<Integer>get( "pages" ), 450 ) )
+					.orderBy( cb.asc( book.get( "title" ) ) );
+			assertThat( session.createQuery( query ).getResultList() )
+					.containsExactly( "High-Performance Java Persistence", "Java Persistence with Hibernate" );
+
+			// the tree was not copied, so the client may still change it
+			query.where( cb.lessThan( book.<Integer>get( "pages" ), 450 ) );
+
+			// a query with the original structure is not affected by the change
+			assertThat( titlesWithMorePagesThan( cb, session, 550 ) )
+					.containsExactly( "Java Persistence with Hibernate" );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+		} );
+	}
+
+	private static List<String> titlesWithMorePagesThan(
+			HibernateCriteriaBuilder cb,
+			Session session,
+			int pages) {
+		final JpaCriteriaQuery<String> query = cb.createQuery( String.class );
+		final JpaRoot<Book> book = query.from( Book.class );
+		query.select( book.<String>get( "title" ) )
+				.where( cb.greaterThan( book.<Integer>get( "pages" ), pages ) )
+				.orderBy( cb.asc( book.get( "title" ) ) );
+		return session.createQuery( query ).getResultList();
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		private int pages;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, int pages) {
+			this.id = id;
+			this.title = title;
+			this.pages = pages;
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryPlanCacheWarmUpTest {
+	private static final String NAMED_QUERY = "from Book where title = :title";
+	private static final String AD_HOC_QUERY = "select b from Book b\nwhere b.title like :pattern\torder by b.id";
+	private static final String LITERAL_QUERY = "from Book where title = 'secret'";
+
+	@Test
+	public void testWarmUp(@TempDir Path directory) throws Exception {
+		final Path file = directory.resolve( "hql.txt" );
+
+		withSessionFactory( file, true, sessionFactory -> {
+			// the named query was interpreted at startup
+			assertThat( sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedHqlInterpretations() )
+					.isEqualTo( 1 );
+			try ( var session = sessionFactory.openSession() ) {
+				session.createQuery( AD_HOC_QUERY, Book.class );
+				session.createQuery( LITERAL_QUERY, Book.class );
+				session.createQuery( "from Book where title = ?1 and", Book.class );
+			}
+			catch (IllegalArgumentException expected) {
+				// invalid queries are not recorded
+			}
+			// the named query at startup, and the ad-hoc queries
+			assertThat( sessionFactory.getStatistics().getQueryPlanCacheMissCount() ).isEqualTo( 3 );
+		} );
+
+		// queries with literal values are not recorded
+		assertThat( Files.readAllLines( file ) )
+				.contains( "\t" + NAMED_QUERY )
+				.contains( Book.class.getName() + "\tselect b from Book b\\nwhere b.title like :pattern\\torder by b.id" )
+				.noneMatch( line -> line.contains( "secret" ) );
+
+		withSessionFactory( file, true, sessionFactory -> {
+			final Statistics statistics = sessionFactory.getStatistics();
+			statistics.clear();
+			try ( var session = sessionFactory.openSession() ) {
+				session.createQuery( AD_HOC_QUERY, Book.class );
+				session.createNamedQuery( "titled", Book.class );
+			}
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testNoFileWrittenWhenDisabled(@TempDir Path directory) {
+		final Path file = directory.resolve( "hql.txt" );
+
+		withSessionFactory( file, false, sessionFactory -> {
+			try ( var session = sessionFactory.openSession() ) {
+				session.createQuery( AD_HOC_QUERY, Book.class );
+			}
+		} );
+
+		assertThat( file ).doesNotExist();
+	}
+
+	private static void withSessionFactory(Path file, boolean warmUp, Consumer<SessionFactoryImplementor> action) {
+		final StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.QUERY_PLAN_CACHE_WARM_UP, warmUp )
+				.applySetting( AvailableSettings.QUERY_PLAN_CACHE_WARM_UP_FILE, file.toString() )
+				.applySetting( AvailableSettings.QUERY_STARTUP_CHECKING, false )
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, true )
+				.build();
+		try ( var sessionFactory = (SessionFactoryImplementor) new MetadataSources( registry )
+				.addAnnotatedClass( Book.class )
+				.buildMetadata()
+				.buildSessionFactory() ) {
+			action.accept( sessionFactory );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( registry );
+		}
+	}
+
+	@Entity( name = "Book" )
+	@NamedQuery( name = "titled", query = NAMED_QUERY )
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.hql.instantiation;
+
+import java.util.List;
+
+import org.hibernate.annotations.Imported;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Constructors with parameters of primitive numeric type receive
+ * their arguments without boxing.
+ */
+@DomainModel( annotatedClasses = {
+		InstantiationWithPrimitiveArgumentsTest.Measurement.class,
+		InstantiationWithPrimitiveArgumentsTest.MeasurementDto.class,
+} )
+@SessionFactory
+public class InstantiationWithPrimitiveArgumentsTest {
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Measurement( 1L, Long.MAX_VALUE, Integer.MIN_VALUE, 0.5d, "first" ) );
+			session.persist( new Measurement( 2L, 0L, 0, 0d, "second" ) );
+			session.persist( new Measurement( 3L, null, 3, 3d, "third" ) );
+		} );
+	}
+
+	@Test
+	public void testPrimitiveArguments(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<MeasurementDto> results = session.createQuery(
+					"select new MeasurementDto(m.id, m.amount, m.grade, m.reading, m.label) from Measurement m where m.id < 3 order by m.id",
+					MeasurementDto.class
+			).getResultList();
+			assertThat( results ).hasSize( 2 );
+
+			assertThat( results.get( 0 ).id ).isEqualTo( 1L );
+			assertThat( results.get( 0 ).amount ).isEqualTo( Long.MAX_VALUE );
+			assertThat( results.get( 0 ).grade ).isEqualTo( Integer.MIN_VALUE );
+			assertThat( results.get( 0 ).reading ).isEqualTo( 0.5d );
+			assertThat( results.get( 0 ).label ).isEqualTo( "first" );
+
+			assertThat( results.get( 1 ).id ).isEqualTo( 2L );
+			assertThat( results.get( 1 ).amount ).isEqualTo( 0L );
+			assertThat( results.get( 1 ).grade ).isEqualTo( 0 );
+			assertThat( results.get( 1 ).reading ).isEqualTo( 0d );
+			assertThat( results.get( 1 ).label ).isEqualTo( "second" );
+		} );
+	}
+
+	@Test
+	public void testSameColumnAsPrimitiveAndObject(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Object[] result = session.createQuery(
+					"select new MeasurementDto(m.id, m.amount, m.grade, m.reading, m.label), m.amount from Measurement m where m.id = 1",
+					Object[].class
+			).getSingleResult();
+			assertThat( ( (MeasurementDto) result[0] ).amount ).isEqualTo( Long.MAX_VALUE );
+			assertThat( result[1] ).isEqualTo( Long.MAX_VALUE );
+		} );
+	}
+
+	@Test
+	public void testNullPrimitiveArgument(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThatThrownBy(
+				() -> session.createQuery(
+						"select new MeasurementDto(m.id, m.amount, m.grade, m.reading, m.label) from Measurement m where m.id = 3",
+						MeasurementDto.class
+				).getSingleResult()
+		).hasRootCauseInstanceOf( IllegalArgumentException.class ) );
+	}
+
+	@Entity( name = "Measurement" )
+	public static class Measurement {
+		@Id
+		private Long id;
+
+		private Long amount;
+
+		private Integer grade;
+
+		private Double reading;
+
+		private String label;
+
+		public Measurement() {
+		}
+
+		public Measurement(Long id, Long amount, Integer grade, Double reading, String label) {
+			this.id = id;
+			this.amount = amount;
+			this.grade = grade;
+			this.reading = reading;
+			this.label = label;
+		}
+	}
+
+	@Imported
+	public static class MeasurementDto {
+		private final long id;
+		private final long amount;
+		private final int grade;
+		private final double reading;
+		private final String label;
+
+		public MeasurementDto(long id, long amount, int grade, double reading, String label) {
+			this.id = id;
+			this.amount = amount;
+			this.grade = grade;
+			this.reading = reading;
+			this.label = label;
+		}
+	}
+}
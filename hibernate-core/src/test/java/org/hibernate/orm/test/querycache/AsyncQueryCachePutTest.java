@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = BasicEntity.class )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.QUERY_CACHE_ASYNC_PUT_LIMIT, value = "10" )
+} )
+public class AsyncQueryCachePutTest {
+	private static final String QUERY = "select data from BasicEntity order by id";
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new BasicEntity( 1, "first" ) );
+			session.persist( new BasicEntity( 2, "second" ) );
+		} );
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testCachedResultsAreReused(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( executeQuery( scope ) ).containsExactly( "first", "second" );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+
+		// whether or not the put already happened
+		assertThat( executeQuery( scope ) ).containsExactly( "first", "second" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testStaleResultsAreNotReturned(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( executeQuery( scope ) ).containsExactly( "first", "second" );
+
+		scope.inTransaction( session -> session.find( BasicEntity.class, 2 ).setData( "changed" ) );
+
+		assertThat( executeQuery( scope ) ).containsExactly( "first", "changed" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testEvictionCancelsPendingPuts(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( executeQuery( scope ) ).containsExactly( "first", "second" );
+
+		scope.getSessionFactory().getCache().evictQueryRegions();
+
+		assertThat( executeQuery( scope ) ).containsExactly( "first", "second" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testRegionEvictionCancelsPendingPuts(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( executeQuery( scope ) ).containsExactly( "first", "second" );
+
+		final CacheImplementor cache = scope.getSessionFactory().getCache();
+		cache.evictRegion( cache.getDefaultQueryResultsCache().getRegion().getName() );
+
+		assertThat( executeQuery( scope ) ).containsExactly( "first", "second" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 2 );
+	}
+
+	private static List<String> executeQuery(SessionFactoryScope scope) {
+		return scope.fromTransaction( session -> session.createQuery( QUERY, String.class )
+				.setCacheable( true )
+				.getResultList() );
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.annotations.Imported;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.sql.results.caching.internal.ColumnarQueryResults;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = {
+		ColumnarQueryCacheTest.Reading.class,
+		ColumnarQueryCacheTest.ReadingDto.class
+} )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.QUERY_CACHE_COLUMNAR, value = "true" )
+} )
+public class ColumnarQueryCacheTest {
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Reading( 1L, "north", 10, 1.5d, true ) );
+			session.persist( new Reading( 2L, "north", null, 2.5d, false ) );
+			session.persist( new Reading( 3L, "south", 30, null, null ) );
+			session.persist( new Reading( 4L, null, 40, 4.5d, true ) );
+			session.persist( new Reading( 5L, "north", 50, 5.5d, true ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testScalarResults(SessionFactoryScope scope) {
+		final List<List<Object[]>> results = executeTwice(
+				scope,
+				"select r.id, r.sensor, r.amount, r.temperature, r.active from Reading r order by r.id",
+				Object[].class
+		);
+		assertThat( results.get( 1 ) ).hasSize( 5 );
+		assertThat( results.get( 1 ).get( 1 ) ).containsExactly( 2L, "north", null, 2.5d, false );
+		assertThat( results.get( 1 ).get( 2 ) ).containsExactly( 3L, "south", 30, null, null );
+		assertThat( results.get( 1 ).get( 3 ) ).containsExactly( 4L, null, 40, 4.5d, true );
+		for ( int i = 0; i < 5; i++ ) {
+			assertThat( results.get( 1 ).get( i ) ).containsExactly( results.get( 0 ).get( i ) );
+		}
+	}
+
+	@Test
+	public void testSingleValueResults(SessionFactoryScope scope) {
+		final List<List<String>> results = executeTwice(
+				scope,
+				"select r.sensor from Reading r order by r.id",
+				String.class
+		);
+		assertThat( results.get( 1 ) ).containsExactly( "north", "north", "south", null, "north" );
+		assertThat( results.get( 1 ) ).isEqualTo( results.get( 0 ) );
+	}
+
+	@Test
+	public void testEntityResults(SessionFactoryScope scope) {
+		final List<List<Reading>> results = executeTwice(
+				scope,
+				"from Reading r order by r.id",
+				Reading.class
+		);
+		assertThat( results.get( 1 ) ).extracting( r -> r.id ).containsExactly( 1L, 2L, 3L, 4L, 5L );
+		assertThat( results.get( 1 ) ).extracting( r -> r.amount ).containsExactly( 10, null, 30, 40, 50 );
+	}
+
+	@Test
+	public void testPrimitiveArgumentResults(SessionFactoryScope scope) {
+		final List<List<ReadingDto>> results = executeTwice(
+				scope,
+				"select new ReadingDto(r.id, r.amount) from Reading r where r.amount is not null order by r.id",
+				ReadingDto.class
+		);
+		assertThat( results.get( 1 ) ).extracting( r -> r.id ).containsExactly( 1L, 3L, 4L, 5L );
+		assertThat( results.get( 1 ) ).extracting( r -> r.amount ).containsExactly( 10, 30, 40, 50 );
+	}
+
+	@Test
+	public void testEncoding() {
+		final List<Object> dataToCache = new ArrayList<>();
+		dataToCache.add( new Object[] { 1L, "a", 1, 1d, true, new byte[] { 1 } } );
+		dataToCache.add( new Object[] { null, "a", null, null, null, null } );
+		dataToCache.add( new Object[] { 3L, null, 3, 3d, false, new byte[] { 3 } } );
+		dataToCache.add( new Object[] { 4L, "a", 4, 4d, true, new byte[] { 4 } } );
+		dataToCache.add( 3 );
+
+		final List<?> encoded = ColumnarQueryResults.encode( dataToCache );
+		assertThat( encoded ).isInstanceOf( ColumnarQueryResults.class );
+		assertThat( encoded.toArray() ).isEqualTo( dataToCache.toArray() );
+
+		final ColumnarQueryResults columnar = (ColumnarQueryResults) encoded;
+		assertThat( columnar.getRowCount() ).isEqualTo( 4 );
+		assertThat( columnar.getLong( 2, 0 ) ).isEqualTo( 3L );
+		assertThat( columnar.isNull( 1, 0 ) ).isTrue();
+		assertThat( columnar.getInt( 3, 2 ) ).isEqualTo( 4 );
+		assertThat( columnar.getDouble( 0, 3 ) ).isEqualTo( 1d );
+
+		final List<?> deserialized = (List<?>) SerializationHelper.clone( columnar );
+		assertThat( deserialized.toArray() ).isEqualTo( dataToCache.toArray() );
+
+		// rows of different shapes are left as they are
+		final List<Object> mixed = List.of( new Object[] { 1L }, new Object[] { 1L, 2L }, 2 );
+		assertThat( ColumnarQueryResults.encode( mixed ) ).isSameAs( mixed );
+	}
+
+	private static <T> List<List<T>> executeTwice(SessionFactoryScope scope, String hql, Class<T> resultType) {
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		final List<List<T>> results = new ArrayList<>();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				results.add( session.createQuery( hql, resultType ).setCacheable( true ).getResultList() );
+				session.clear();
+			} );
+		}
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		return results;
+	}
+
+	@Entity( name = "Reading" )
+	public static class Reading {
+		@Id
+		private Long id;
+
+		private String sensor;
+
+		private Integer amount;
+
+		private Double temperature;
+
+		private Boolean active;
+
+		public Reading() {
+		}
+
+		public Reading(Long id, String sensor, Integer amount, Double temperature, Boolean active) {
+			this.id = id;
+			this.sensor = sensor;
+			this.amount = amount;
+			this.temperature = temperature;
+			this.active = active;
+		}
+	}
+
+	@Imported
+	public static class ReadingDto {
+		private final long id;
+		private final int amount;
+
+		public ReadingDto(long id, int amount) {
+			this.id = id;
+			this.amount = amount;
+		}
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DomainModel
+@SessionFactory
+public class QueryExecutionTimePercentileTest {
+	private static final String QUERY = "from Book";
+
+	@Test
+	public void testPercentiles(SessionFactoryScope scope) {
+		final StatisticsImpl statistics = new StatisticsImpl( scope.getSessionFactory() );
+		final QueryStatistics queryStatistics = statistics.getQueryStatistics( QUERY );
+		assertThat( queryStatistics.getExecutionTimePercentile( 99 ) ).isEqualTo( 0 );
+
+		// 990 executions of 2ms, and 10 of 100ms
+		for ( int i = 0; i < 990; i++ ) {
+			statistics.queryExecuted( QUERY, 1, 2, 2_000 );
+		}
+		for ( int i = 0; i < 10; i++ ) {
+			statistics.queryExecuted( QUERY, 1, 100, 100_000 );
+		}
+
+		assertThat( queryStatistics.getExecutionCount() ).isEqualTo( 1000 );
+		assertThat( queryStatistics.getExecutionTimePercentile( 50 ) ).isCloseTo( 2, within( 0.25 ) );
+		assertThat( queryStatistics.getExecutionTimePercentile( 99 ) ).isCloseTo( 2, within( 0.25 ) );
+		assertThat( queryStatistics.getExecutionTimePercentile( 99.9 ) ).isCloseTo( 100, within( 12.5 ) );
+		assertThat( queryStatistics.getExecutionTimePercentile( 100 ) ).isCloseTo( 100, within( 12.5 ) );
+	}
+}
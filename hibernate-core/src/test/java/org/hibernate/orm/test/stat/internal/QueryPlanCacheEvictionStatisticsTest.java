@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that only the evictions of query plans, and not those of HQL
+ * interpretations, are counted as query plan cache evictions.
+ */
+@DomainModel(annotatedClasses = QueryPlanCacheEvictionStatisticsTest.Employee.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, value = "2")
+})
+@SessionFactory
+public class QueryPlanCacheEvictionStatisticsTest {
+	private static final int QUERIES = 6;
+
+	@BeforeEach
+	public void cleanup(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+		sessionFactory.getStatistics().clear();
+	}
+
+	@Test
+	public void testHqlInterpretationEvictionsAreNotCounted(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			for ( int i = 0; i < QUERIES; i++ ) {
+				session.createQuery( "select e from Employee e where e.id > " + i, Employee.class );
+			}
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( scope.getSessionFactory().getQueryEngine().getInterpretationCache()
+				.getNumberOfCachedHqlInterpretations() ).isLessThanOrEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheEvictionCount() ).isZero();
+	}
+
+	@Test
+	public void testQueryPlanEvictionsAreCounted(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			for ( int i = 0; i < QUERIES; i++ ) {
+				session.createQuery( "select e from Employee e where e.id > " + i, Employee.class )
+						.getResultList();
+			}
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final int cachedPlans = scope.getSessionFactory().getQueryEngine().getInterpretationCache()
+				.getNumberOfCachedQueryPlans();
+		assertThat( cachedPlans ).isLessThanOrEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheEvictionCount() ).isEqualTo( QUERIES - cachedPlans );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Long id;
+
+		private String name;
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProviderSettingProvider;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SessionFactory
+@DomainModel(annotatedClasses = { MultipleOperationsTest.Parent.class, MultipleOperationsTest.Child.class })
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.ORDER_INSERTS, value = "true"),
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.CONNECTION_PROVIDER,
+				provider = PreparedStatementSpyConnectionProviderSettingProvider.class
+		)
+)
+public class MultipleOperationsTest {
+	private PreparedStatementSpyConnectionProvider connectionProvider;
+
+	@BeforeAll
+	void init(SessionFactoryScope scope) {
+		connectionProvider = (PreparedStatementSpyConnectionProvider) scope.getSessionFactory()
+				.getProperties()
+				.get( AvailableSettings.CONNECTION_PROVIDER );
+	}
+
+	@AfterEach
+	void cleanUp(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		connectionProvider.clear();
+	}
+
+	@Test
+	void testInsertUpdateDeleteMultiple(SessionFactoryScope scope) {
+		final List<Object> entities = new ArrayList<>();
+		for ( long i = 0; i < 10; i++ ) {
+			final Parent parent = new Parent( i, "parent " + i );
+			entities.add( parent );
+			entities.add( new Child( i, parent ) );
+		}
+		connectionProvider.clear();
+		scope.inStatelessTransaction( s -> {
+			s.insertMultiple( entities );
+			// one batch per table, already executed when insertMultiple() returns
+			assertEquals( 2, connectionProvider.getPreparedStatements().size() );
+			for ( PreparedStatement statement : connectionProvider.getPreparedStatements() ) {
+				assertEquals( 10, countCalls( "addBatch", statement ) );
+				assertEquals( 1, countCalls( "executeBatch", statement ) );
+			}
+		} );
+
+		scope.inStatelessTransaction( s -> {
+			final List<Parent> parents = s.createSelectionQuery( "from Parent order by id", Parent.class ).getResultList();
+			assertEquals( 10, parents.size() );
+			assertEquals( 10L, s.createSelectionQuery( "select count(*) from Child", Long.class ).getSingleResult() );
+			for ( Parent parent : parents ) {
+				parent.name = parent.name.toUpperCase();
+			}
+			connectionProvider.clear();
+			s.updateMultiple( parents );
+			assertEquals( 1, connectionProvider.getPreparedStatements().size() );
+			final PreparedStatement update = connectionProvider.getPreparedStatements().get( 0 );
+			assertEquals( 10, countCalls( "addBatch", update ) );
+			assertEquals( 1, countCalls( "executeBatch", update ) );
+		} );
+
+		scope.inStatelessTransaction( s -> {
+			assertEquals( "PARENT 3", s.get( Parent.class, 3L ).name );
+			s.deleteMultiple( s.createSelectionQuery( "from Child", Child.class ).getResultList() );
+			s.deleteMultiple( s.createSelectionQuery( "from Parent", Parent.class ).getResultList() );
+		} );
+
+		scope.inStatelessTransaction( s -> assertNull( s.get( Parent.class, 3L ) ) );
+	}
+
+	@Test
+	void testGroupingRespectsForeignKeys(SessionFactoryScope scope) {
+		final Parent parent = new Parent( 1L, "parent" );
+		// grouping by order of first appearance would insert the second child before its parent
+		final List<Object> entities = List.of( new Child( 1L, null ), parent, new Child( 2L, parent ) );
+		connectionProvider.clear();
+		scope.inStatelessTransaction( s -> {
+			s.insertMultiple( entities );
+			assertEquals( 2, connectionProvider.getPreparedStatements().size() );
+		} );
+		scope.inStatelessTransaction( s -> {
+			assertNull( s.get( Child.class, 1L ).parent );
+			assertEquals( 1L, s.get( Child.class, 2L ).parent.id );
+		} );
+	}
+
+	@Test
+	void testBatchSizeIsCapped(SessionFactoryScope scope) {
+		final List<Parent> parents = new ArrayList<>();
+		for ( long i = 0; i < 250; i++ ) {
+			parents.add( new Parent( i, "parent " + i ) );
+		}
+		connectionProvider.clear();
+		scope.inStatelessTransaction( s -> {
+			s.insertMultiple( parents );
+			assertEquals( 1, connectionProvider.getPreparedStatements().size() );
+			final PreparedStatement insert = connectionProvider.getPreparedStatements().get( 0 );
+			assertEquals( 250, countCalls( "addBatch", insert ) );
+			assertEquals( 3, countCalls( "executeBatch", insert ) );
+		} );
+		scope.inStatelessTransaction( s -> assertEquals(
+				250L,
+				s.createSelectionQuery( "select count(*) from Parent", Long.class ).getSingleResult()
+		) );
+	}
+
+	@Test
+	void testUpsertMultiple(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( s -> s.upsertMultiple( List.of( new Parent( 1L, "one" ), new Parent( 2L, "two" ) ) ) );
+		scope.inStatelessTransaction( s -> s.upsertMultiple( List.of( new Parent( 2L, "deux" ), new Parent( 3L, "trois" ) ) ) );
+		scope.inStatelessTransaction( s -> {
+			assertEquals( "one", s.get( Parent.class, 1L ).name );
+			assertEquals( "deux", s.get( Parent.class, 2L ).name );
+			assertEquals( "trois", s.get( Parent.class, 3L ).name );
+		} );
+	}
+
+	private int countCalls(String methodName, PreparedStatement statement) {
+		try {
+			return connectionProvider.spyContext.getCalls( PreparedStatement.class.getMethod( methodName ), statement )
+					.size();
+		}
+		catch (NoSuchMethodException e) {
+			throw new RuntimeException( e );
+		}
+	}
+
+	@Entity(name = "Parent")
+	static class Parent {
+		@Id
+		Long id;
+		String name;
+
+		Parent(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Parent() {
+		}
+	}
+
+	@Entity(name = "Child")
+	static class Child {
+		@Id
+		Long id;
+		@ManyToOne
+		Parent parent;
+
+		Child(Long id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+
+		Child() {
+		}
+	}
+}
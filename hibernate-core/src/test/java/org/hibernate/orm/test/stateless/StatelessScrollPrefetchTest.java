@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.stream.Stream;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.internal.PrefetchingScrollableResultsImpl;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.util.ReflectionUtil;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DomainModel(annotatedClasses = StatelessScrollPrefetchTest.Record.class)
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = QuerySettings.SCROLL_PREFETCH, value = "true"))
+public class StatelessScrollPrefetchTest {
+	private static final int COUNT = 25;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			for ( long id = 1; id <= COUNT; id++ ) {
+				session.insert( new Record( id, "record " + id ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testStream(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			try ( Stream<Record> stream = session.createSelectionQuery( "from Record order by id", Record.class )
+					.setFetchSize( 4 )
+					.getResultStream() ) {
+				final List<Long> ids = stream.map( record -> record.id ).toList();
+				assertThat( ids ).hasSize( COUNT );
+				for ( int i = 0; i < COUNT; i++ ) {
+					assertThat( ids.get( i ) ).isEqualTo( i + 1L );
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void testScroll(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			try ( ScrollableResults<Record> results = session.createSelectionQuery( "from Record order by id", Record.class )
+					.setFetchSize( 5 )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				assertThat( results ).isInstanceOf( PrefetchingScrollableResultsImpl.class );
+				int count = 0;
+				while ( results.next() ) {
+					assertThat( results.getRowNumber() ).isEqualTo( count );
+					assertThat( results.isFirst() ).isEqualTo( count == 0 );
+					assertThat( results.isLast() ).isEqualTo( count == COUNT - 1 );
+					assertThat( results.get().message ).isEqualTo( "record " + ( count + 1 ) );
+					count++;
+				}
+				assertThat( count ).isEqualTo( COUNT );
+				assertThrows( UnsupportedOperationException.class, results::previous );
+			}
+		} );
+	}
+
+	@Test
+	public void testCloseBeforeEnd(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			try ( ScrollableResults<Record> results = session.createSelectionQuery( "from Record order by id", Record.class )
+					.setFetchSize( 2 )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				assertThat( results.next() ).isTrue();
+				assertThat( results.get().id ).isEqualTo( 1L );
+			}
+			// the session may be used again once the results are closed
+			assertThat( session.get( Record.class, 2L ).message ).isEqualTo( "record 2" );
+		} );
+	}
+
+	@Test
+	public void testTransactionCompletesBeforeClose(SessionFactoryScope scope) {
+		scope.inStatelessSession( session -> {
+			session.beginTransaction();
+			try ( ScrollableResults<Record> results = session.createSelectionQuery( "from Record order by id", Record.class )
+					.setFetchSize( 2 )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				assertThat( results.next() ).isTrue();
+
+				// wait for the background thread to fill the buffer
+				final Thread producer = ReflectionUtil.getFieldValue( results, "producer" );
+				final BlockingQueue<?> windows = ReflectionUtil.getFieldValue( results, "windows" );
+				while ( windows.remainingCapacity() > 0 || producer.getState() != Thread.State.TIMED_WAITING ) {
+					Thread.onSpinWait();
+				}
+
+				// the background thread gives up once the transaction completes
+				session.getTransaction().commit();
+				try {
+					producer.join( 10_000 );
+				}
+				catch (InterruptedException e) {
+					throw new RuntimeException( e );
+				}
+				assertThat( producer.isAlive() ).isFalse();
+			}
+		} );
+	}
+
+	@Entity(name = "Record")
+	static class Record {
+		@Id
+		Long id;
+		String message;
+
+		Record(Long id, String message) {
+			this.id = id;
+			this.message = message;
+		}
+
+		Record() {
+		}
+	}
+}
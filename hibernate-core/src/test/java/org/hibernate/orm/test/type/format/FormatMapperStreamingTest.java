@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.type.format;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.spi.JavaTypeBasicAdaptor;
+import org.hibernate.type.format.FormatMapper;
+import org.hibernate.type.format.jackson.JacksonJsonFormatMapper;
+import org.hibernate.type.format.jakartajson.JsonBJsonFormatMapper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FormatMapperStreamingTest {
+
+	private static final JavaType<Payload> PAYLOAD_TYPE = new JavaTypeBasicAdaptor<>( Payload.class );
+	private static final JavaType<String> STRING_TYPE = new JavaTypeBasicAdaptor<>( String.class );
+
+	@Test
+	public void testJackson() throws IOException {
+		verifyRoundTrip( new JacksonJsonFormatMapper() );
+	}
+
+	@Test
+	public void testJsonB() throws IOException {
+		verifyRoundTrip( new JsonBJsonFormatMapper() );
+	}
+
+	private static void verifyRoundTrip(FormatMapper formatMapper) throws IOException {
+		final Payload payload = new Payload();
+		payload.name = "large";
+		payload.tags = new ArrayList<>();
+		for ( int i = 0; i < 100_000; i++ ) {
+			payload.tags.add( "tag-" + i );
+		}
+
+		final StringWriter writer = new StringWriter();
+		formatMapper.writeToWriter( payload, PAYLOAD_TYPE, writer, null );
+		final String json = writer.toString();
+		assertThat( json ).isEqualTo( formatMapper.toString( payload, PAYLOAD_TYPE, null ) );
+
+		final Payload read = formatMapper.readFromReader( new StringReader( json ), PAYLOAD_TYPE, null );
+		assertThat( read.name ).isEqualTo( "large" );
+		assertThat( read.tags ).isEqualTo( payload.tags );
+
+		// strings are passed through as they are
+		assertThat( formatMapper.readFromReader( new StringReader( json ), STRING_TYPE, null ) )
+				.isEqualTo( json );
+	}
+
+	public static class Payload {
+		public String name;
+		public List<String> tags;
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.hibernate.internal.util.collections.LongKeyedHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongKeyedHashMapTest {
+	@Test
+	public void testPutGetRemove() {
+		final LongKeyedHashMap<String> map = new LongKeyedHashMap<>();
+		assertTrue( map.isEmpty() );
+		assertNull( map.put( 1L, "one" ) );
+		assertNull( map.put( -1L, "minus one" ) );
+		assertNull( map.put( 0L, "zero" ) );
+		assertEquals( "one", map.put( 1L, "uno" ) );
+		assertEquals( 3, map.size() );
+		assertEquals( "uno", map.get( 1L ) );
+		assertEquals( "zero", map.get( 0L ) );
+		assertEquals( "minus one", map.get( -1L ) );
+		assertNull( map.get( 2L ) );
+		assertEquals( "zero", map.remove( 0L ) );
+		assertNull( map.remove( 0L ) );
+		assertNull( map.get( 0L ) );
+		assertEquals( 2, map.size() );
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertNull( map.get( 1L ) );
+		assertThrows( IllegalArgumentException.class, () -> map.put( 1L, null ) );
+	}
+
+	@Test
+	public void testAgainstHashMap() {
+		final Random random = new Random( 42 );
+		final LongKeyedHashMap<Long> map = new LongKeyedHashMap<>( 4 );
+		final Map<Long, Long> reference = new HashMap<>();
+		for ( int i = 0; i < 200_000; i++ ) {
+			// small key range, so that removals hit existing keys and probe sequences collide
+			final long key = random.nextInt( 5_000 ) - 2_500;
+			if ( random.nextInt( 3 ) == 0 ) {
+				assertEquals( reference.remove( key ), map.remove( key ) );
+			}
+			else {
+				assertEquals( reference.put( key, (long) i ), map.put( key, (long) i ) );
+			}
+		}
+		assertEquals( reference.size(), map.size() );
+		for ( Map.Entry<Long, Long> entry : reference.entrySet() ) {
+			assertEquals( entry.getValue(), map.get( entry.getKey() ) );
+		}
+
+		final Set<Long> values = new HashSet<>();
+		final Iterator<Long> iterator = map.values();
+		while ( iterator.hasNext() ) {
+			values.add( iterator.next() );
+		}
+		assertEquals( new HashSet<>( reference.values() ), values );
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.internal.util.collections.WindowTinyLfuMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WindowTinyLfuMapTest {
+	@Test
+	public void testPutGetRemove() {
+		final WindowTinyLfuMap<String, String> map = new WindowTinyLfuMap<>( 10 );
+		assertTrue( map.isEmpty() );
+		assertNull( map.put( "1", "one" ) );
+		assertNull( map.putIfAbsent( "2", "two" ) );
+		assertEquals( "two", map.putIfAbsent( "2", "deux" ) );
+		assertEquals( "one", map.put( "1", "uno" ) );
+		assertEquals( 2, map.size() );
+		assertEquals( "uno", map.get( "1" ) );
+		assertNull( map.get( "3" ) );
+		assertFalse( map.remove( "2", "deux" ) );
+		assertTrue( map.remove( "2", "two" ) );
+		assertEquals( "uno", map.remove( "1" ) );
+		assertTrue( map.isEmpty() );
+		assertEquals( 2, map.getHitCount() );
+		assertEquals( 1, map.getMissCount() );
+		assertEquals( 0, map.getEvictionCount() );
+	}
+
+	@Test
+	public void testBounded() {
+		final List<Integer> evicted = new ArrayList<>();
+		final WindowTinyLfuMap<Integer, Integer> map = new WindowTinyLfuMap<>( 50, (key, value) -> evicted.add( key ) );
+		for ( int i = 0; i < 1000; i++ ) {
+			map.put( i, i );
+		}
+		assertEquals( 50, map.size() );
+		assertEquals( 950, map.getEvictionCount() );
+		assertEquals( 950, evicted.size() );
+		map.clear();
+		assertTrue( map.isEmpty() );
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() {
+		final WindowTinyLfuMap<Integer, Integer> map = new WindowTinyLfuMap<>( 100 );
+		for ( int round = 0; round < 20; round++ ) {
+			for ( int i = 0; i < 50; i++ ) {
+				if ( map.get( i ) == null ) {
+					map.put( i, i );
+				}
+			}
+		}
+		// a scan of keys which are used only once
+		for ( int i = 1000; i < 10_000; i++ ) {
+			if ( map.get( i ) == null ) {
+				map.put( i, i );
+			}
+		}
+		int retained = 0;
+		for ( int i = 0; i < 50; i++ ) {
+			if ( map.containsKey( i ) ) {
+				retained++;
+			}
+		}
+		assertTrue( retained >= 45, "Only " + retained + " frequently used entries retained" );
+		assertEquals( 100, map.size() );
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		final WindowTinyLfuMap<Integer, Integer> map = new WindowTinyLfuMap<>( 100 );
+		final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int t = 0; t < 4; t++ ) {
+				final Random random = new Random( t );
+				futures.add( executor.submit( () -> {
+					for ( int i = 0; i < 50_000; i++ ) {
+						final int key = random.nextInt( 500 );
+						final Integer value = map.get( key );
+						if ( value == null ) {
+							map.putIfAbsent( key, key );
+						}
+						else {
+							assertEquals( key, value.intValue() );
+						}
+						if ( i % 101 == 0 ) {
+							map.remove( key );
+						}
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		assertTrue( map.size() <= 100 );
+	}
+}
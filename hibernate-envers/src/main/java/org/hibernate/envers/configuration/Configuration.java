@@ -87,7 +87,9 @@ public class Configuration {
 	private final boolean revisionEndTimestampEnabled;
 	private final boolean revisionEndTimestampNumeric;
 	private final boolean revisionEndTimestampUseLegacyPlacement;
+	private final boolean revisionEndUpdatesBatched;
 	private final boolean revisionSequenceNoCache;
+	private final boolean batchedAuditWritesEnabled;
 
 	private final Map<String, String> customAuditTableNames = new HashMap<>();
 
@@ -168,6 +170,11 @@ public class Configuration {
 			revisionEndTimestampUseLegacyPlacement = true;
 		}
 
+		revisionEndUpdatesBatched = configProps.getBoolean(
+				EnversSettings.AUDIT_STRATEGY_VALIDITY_BATCH_END_REVISION_UPDATES,
+				false
+		);
+
 		embeddableSetOrdinalPropertyName = configProps.getString(
 				EnversSettings.EMBEDDABLE_SET_ORDINAL_FIELD_NAME,
 				DEFAULT_SETORDINAL_FIELD
@@ -176,6 +183,10 @@ public class Configuration {
 				EnversSettings.REVISION_SEQUENCE_NOCACHE,
 				false
 		);
+		// other strategies do more than persisting the audit data
+		batchedAuditWritesEnabled = configProps.getBoolean( EnversSettings.USE_BATCHED_AUDIT_WRITES, false )
+				&& ( auditStrategy.getClass() == DefaultAuditStrategy.class
+					|| auditStrategy.getClass() == org.hibernate.envers.strategy.internal.DefaultAuditStrategy.class );
 
 		revisionPropertyBasePath = originalIdPropertyName + "." + revisionFieldName + ".";
 		revisionNumberPath = revisionPropertyBasePath + "id";
@@ -243,10 +254,18 @@ public class Configuration {
 		return revisionEndTimestampUseLegacyPlacement;
 	}
 
+	public boolean isRevisionEndUpdatesBatched() {
+		return revisionEndUpdatesBatched;
+	}
+
 	public boolean isRevisionSequenceNoCache() {
 		return revisionSequenceNoCache;
 	}
 
+	public boolean isBatchedAuditWritesEnabled() {
+		return batchedAuditWritesEnabled;
+	}
+
 	public String getDefaultCatalogName() {
 		return defaultCatalogName;
 	}
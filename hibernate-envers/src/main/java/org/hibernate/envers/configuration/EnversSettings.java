@@ -128,6 +128,20 @@ public interface EnversSettings {
 	 */
 	String AUDIT_STRATEGY_VALIDITY_REVEND_TIMESTAMP_LEGACY_PLACEMENT = "org.hibernate.envers.audit_strategy_validity_revend_timestamp_legacy_placement";
 
+	/**
+	 * Whether the validity audit strategy collects the end revision updates of the previous audit rows
+	 * of a transaction, and applies them with one set-based {@code update} statement per audit table,
+	 * restricting the entity identifiers with an {@code in} list, instead of issuing one statement per
+	 * changed entity and audit table.
+	 * <p>
+	 * Only applies to the validity audit strategy.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 7.0
+	 */
+	String AUDIT_STRATEGY_VALIDITY_BATCH_END_REVISION_UPDATES = "org.hibernate.envers.audit_strategy_validity_batch_end_revision_updates";
+
 	/**
 	 * Name of column used for storing ordinal of the change in sets of embeddable elements. Defaults to {@literal SETORDINAL}.
 	 */
@@ -184,6 +198,21 @@ public interface EnversSettings {
 	 */
 	String GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG = "org.hibernate.envers.global_relation_not_found_legacy_flag";
 
+	/**
+	 * Whether the audit rows of a transaction are written with batched JDBC inserts through a
+	 * {@link org.hibernate.StatelessSession} sharing the connection of the audited session, grouped
+	 * by audit table, instead of being persisted as dynamic-map entities of the audited session.
+	 * This avoids the overhead of persisting and flushing the audit entities, which dominates the
+	 * cost of auditing transactions that change many rows.
+	 * <p>
+	 * Only applies to the default audit strategy, and is ignored for any other strategy.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 7.0
+	 */
+	String USE_BATCHED_AUDIT_WRITES = "org.hibernate.envers.use_batched_audit_writes";
+
 	/**
 	 * Whether to apply a nocache configuration for the revision sequence.
 	 * This is mostly interesting for testing.
@@ -35,11 +35,18 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private final Map<Pair<String, Object>, AuditWorkUnit> usedIds;
 	private final Map<Pair<String, Object>, Object[]> entityStateCache;
 	private final EntityChangeNotifier entityChangeNotifier;
+	private final AuditWriteBatch writeBatch;
 	private Object revisionData;
+	private Object auditStrategyState;
 
 	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor session) {
+		this( revisionInfoGenerator, session, false );
+	}
+
+	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor session, boolean batchedWrites) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
 		this.session = session;
+		this.writeBatch = batchedWrites ? new AuditWriteBatch() : null;
 
 		workUnits = new LinkedList<>();
 		undoQueue = new LinkedList<>();
@@ -120,11 +127,23 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 		}
 
 		while ( (vwu = workUnits.poll()) != null ) {
-			vwu.perform( session, revisionData );
+			if ( writeBatch == null ) {
+				vwu.perform( session, revisionData );
+			}
+			else {
+				vwu.perform( writeBatch, revisionData );
+			}
 			entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
 		}
 	}
 
+	private void writeBatch(Session session) {
+		// after the flush, so that the revision entity has been inserted
+		if ( writeBatch != null ) {
+			writeBatch.execute( (SessionImplementor) session );
+		}
+	}
+
 	public Object getCurrentRevisionData(Session session, boolean persist) {
 		// Generating the revision data if not yet generated
 		if ( revisionData == null ) {
@@ -139,6 +158,18 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 		return revisionData;
 	}
 
+	/**
+	 * Returns the state the audit strategy keeps for the transaction of this process, if any.
+	 * It is discarded along with the process when the transaction completes.
+	 */
+	public Object getAuditStrategyState() {
+		return auditStrategyState;
+	}
+
+	public void setAuditStrategyState(Object auditStrategyState) {
+		this.auditStrategyState = auditStrategyState;
+	}
+
 	@Override
 	public void doBeforeTransactionCompletion(SessionImplementor session) {
 		if ( workUnits.size() == 0 && undoQueue.size() == 0 ) {
@@ -162,6 +193,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 						.openSession();
 				executeInSession( temporarySession );
 				temporarySession.flush();
+				writeBatch( temporarySession );
 			}
 			finally {
 				if ( temporarySession != null ) {
@@ -174,6 +206,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 
 			// Explicitly flushing the session, as the auto-flush may have already happened.
 			session.flush();
+			writeBatch( session );
 		}
 	}
 }
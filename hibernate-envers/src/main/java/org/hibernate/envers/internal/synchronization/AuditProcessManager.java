@@ -21,11 +21,17 @@ import org.hibernate.event.spi.EventSource;
 public class AuditProcessManager {
 	private final Map<Transaction, AuditProcess> auditProcesses;
 	private final RevisionInfoGenerator revisionInfoGenerator;
+	private final boolean batchedWrites;
 
 	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator) {
+		this( revisionInfoGenerator, false );
+	}
+
+	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator, boolean batchedWrites) {
 		auditProcesses = new ConcurrentHashMap<>();
 
 		this.revisionInfoGenerator = revisionInfoGenerator;
+		this.batchedWrites = batchedWrites;
 	}
 
 	public AuditProcess get(EventSource session) {
@@ -34,7 +40,7 @@ public class AuditProcessManager {
 		AuditProcess auditProcess = auditProcesses.get( transaction );
 		if ( auditProcess == null ) {
 			// No worries about registering a transaction twice - a transaction is single thread
-			auditProcess = new AuditProcess( revisionInfoGenerator, session );
+			auditProcess = new AuditProcess( revisionInfoGenerator, session, batchedWrites );
 			auditProcesses.put( transaction, auditProcess );
 
 			session.getActionQueue().registerProcess(
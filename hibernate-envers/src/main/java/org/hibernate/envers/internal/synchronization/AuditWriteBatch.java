@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Collects the audit rows of a transaction, and writes them with batched JDBC inserts through
+ * a {@link StatelessSession} sharing the connection, tenant, interceptor and statement inspector
+ * of the audited session, one audit entity at a time, so that the rows of an audit table are
+ * sent in as few batches as possible.
+ *
+ * @see org.hibernate.envers.configuration.EnversSettings#USE_BATCHED_AUDIT_WRITES
+ */
+public class AuditWriteBatch {
+	private static final Logger log = Logger.getLogger( AuditWriteBatch.class );
+
+	/**
+	 * The JDBC batch size used when batching is not configured.
+	 */
+	private static final int MAX_BATCH_SIZE = 100;
+
+	private final Map<String, List<Object>> rowsByAuditEntityName = new LinkedHashMap<>();
+
+	/**
+	 * Adds a row to be inserted into the table of the given audit entity.
+	 *
+	 * @param auditEntityName The name of the audit entity.
+	 * @param data The audit data.
+	 */
+	public void insert(String auditEntityName, Object data) {
+		rowsByAuditEntityName.computeIfAbsent( auditEntityName, name -> new ArrayList<>() ).add( data );
+	}
+
+	/**
+	 * Inserts the collected rows, using the JDBC connection of the given session.
+	 *
+	 * @param session The audited session.
+	 */
+	public void execute(SessionImplementor session) {
+		if ( rowsByAuditEntityName.isEmpty() ) {
+			return;
+		}
+
+		final Connection connection = session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+		try ( StatelessSession statelessSession = session.getFactory()
+				.withStatelessOptions()
+				.connection( connection )
+				.tenantIdentifier( session.getTenantIdentifierValue() )
+				.interceptor( session.getInterceptor() )
+				.statementInspector( session.getJdbcSessionContext().getStatementInspector() )
+				.openStatelessSession() ) {
+			final Integer configuredBatchSize = statelessSession.getJdbcBatchSize();
+			for ( Map.Entry<String, List<Object>> entry : rowsByAuditEntityName.entrySet() ) {
+				final String auditEntityName = entry.getKey();
+				final List<Object> rows = entry.getValue();
+				log.debugf( "Inserting %s audit rows for entity %s", rows.size(), auditEntityName );
+				if ( rows.size() > 1 && ( configuredBatchSize == null || configuredBatchSize < 2 ) ) {
+					statelessSession.setJdbcBatchSize( Math.min( rows.size(), MAX_BATCH_SIZE ) );
+				}
+				for ( Object row : rows ) {
+					statelessSession.insert( auditEntityName, row );
+				}
+			}
+			( (SharedSessionContractImplementor) statelessSession ).getJdbcCoordinator().executeBatch();
+		}
+		finally {
+			rowsByAuditEntityName.clear();
+		}
+	}
+}
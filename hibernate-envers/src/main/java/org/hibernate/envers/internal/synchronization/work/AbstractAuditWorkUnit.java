@@ -13,6 +13,7 @@ import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
+import org.hibernate.envers.internal.synchronization.AuditWriteBatch;
 import org.hibernate.envers.strategy.AuditStrategy;
 
 /**
@@ -67,6 +68,15 @@ public abstract class AbstractAuditWorkUnit implements AuditWorkUnit {
 		setPerformed( data );
 	}
 
+	@Override
+	public void perform(AuditWriteBatch batch, Object revisionData) {
+		final Map<String, Object> data = generateData( revisionData );
+
+		batch.insert( enversService.getConfig().getAuditEntityName( getEntityName() ), data );
+
+		setPerformed( data );
+	}
+
 	@Override
 	public Object getEntityId() {
 		return id;
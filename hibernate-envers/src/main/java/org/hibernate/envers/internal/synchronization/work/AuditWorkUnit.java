@@ -8,6 +8,7 @@ import java.util.Map;
 
 import org.hibernate.Session;
 import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.internal.synchronization.AuditWriteBatch;
 
 /**
  * TODO: refactor constructors into factory methods
@@ -32,6 +33,15 @@ public interface AuditWorkUnit extends WorkUnitMergeVisitor, WorkUnitMergeDispat
 	 */
 	void perform(Session session, Object revisionData);
 
+	/**
+	 * Perform this work unit by adding the audit data to the given batch, instead of persisting it.
+	 *
+	 * @param batch The batch of audit rows of the transaction.
+	 * @param revisionData The current revision data, which will be used to populate the work unit with the correct
+	 * revision relation.
+	 */
+	void perform(AuditWriteBatch batch, Object revisionData);
+
 	void undo(Session session);
 
 	/**
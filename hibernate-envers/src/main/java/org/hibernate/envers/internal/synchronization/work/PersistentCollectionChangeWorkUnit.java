@@ -18,6 +18,7 @@ import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
+import org.hibernate.envers.internal.synchronization.AuditWriteBatch;
 
 /**
  * @author Adam Warski (adam at warski dot org)
@@ -94,6 +95,20 @@ public class PersistentCollectionChangeWorkUnit extends AbstractAuditWorkUnit im
 		}
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public void perform(AuditWriteBatch batch, Object revisionData) {
+		final Configuration configuration = enversService.getConfig();
+
+		for ( PersistentCollectionChangeData persistentCollectionChangeData : collectionChanges ) {
+			// Setting the revision number
+			( (Map<String, Object>) persistentCollectionChangeData.getData().get( configuration.getOriginalIdPropertyName() ) )
+					.put( configuration.getRevisionFieldName(), revisionData );
+
+			batch.insert( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
+		}
+	}
+
 	public String getReferencingPropertyName() {
 		return referencingPropertyName;
 	}
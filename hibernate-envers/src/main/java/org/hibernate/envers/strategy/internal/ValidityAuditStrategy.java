@@ -8,7 +8,9 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -31,6 +33,7 @@ import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeD
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
+import org.hibernate.envers.internal.synchronization.AuditProcess;
 import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
 import org.hibernate.envers.internal.tools.query.Parameters;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
@@ -45,6 +48,8 @@ import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.UnionSubclassEntityPersister;
 import org.hibernate.property.access.spi.Getter;
 import org.hibernate.sql.ComparisonRestriction;
+import org.hibernate.sql.Restriction;
+import org.hibernate.sql.RestrictionRenderingContext;
 import org.hibernate.sql.Update;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.CollectionType;
@@ -79,6 +84,8 @@ import static org.hibernate.envers.internal.entities.mapper.relation.query.Query
  * @author Chris Cranford
  */
 public class ValidityAuditStrategy implements AuditStrategy {
+	private static final int MAX_END_REVISION_UPDATE_BATCH_SIZE = 500;
+
 	/**
 	 * getter for the revision entity field annotated with @RevisionTimestamp
 	 */
@@ -171,7 +178,21 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		// reused, this guarantees correct strategy behavior: exactly one row with
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = configuration.isAllowIdentifierReuse();
-		if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
+		if ( configuration.isRevisionEndUpdatesBatched() ) {
+			final RevisionType revisionType = getRevisionType( configuration, data );
+			if ( reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
+				scheduleEndRevisionUpdate(
+						(EventSource) session,
+						entityName,
+						auditedEntityName,
+						configuration,
+						id,
+						revision,
+						reuseEntityIdentifier && revisionType == RevisionType.ADD
+				);
+			}
+		}
+		else if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
 			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
 			( (EventSource) session ).getActionQueue().registerProcess( sessionImplementor -> {
 				// Construct the update contexts
@@ -217,6 +238,110 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
 	}
 
+	/**
+	 * Adds the end revision update of the previous audit row of an entity to the updates pending
+	 * for the transaction of the given session, registering the transaction completion process
+	 * which executes them when the first update of the transaction is scheduled.
+	 * <p>
+	 * The pending updates are kept by the {@link AuditProcess} of the transaction, so that they
+	 * are discarded along with it whether or not the transaction completes successfully.
+	 */
+	private void scheduleEndRevisionUpdate(
+			EventSource session,
+			String entityName,
+			String auditedEntityName,
+			Configuration configuration,
+			Object id,
+			Object revision,
+			boolean optional) {
+		final AuditProcess auditProcess = configuration.getEnversService().getAuditProcessManager().get( session );
+		PendingEndRevisionUpdates pendingUpdates = (PendingEndRevisionUpdates) auditProcess.getAuditStrategyState();
+		if ( pendingUpdates == null ) {
+			final PendingEndRevisionUpdates newPendingUpdates = new PendingEndRevisionUpdates();
+			auditProcess.setAuditStrategyState( newPendingUpdates );
+			// Register transaction completion process to guarantee execution of UPDATE statements after INSERT.
+			session.getActionQueue().registerProcess(
+					sessionImplementor -> executeEndRevisionUpdates( sessionImplementor, configuration, newPendingUpdates )
+			);
+			pendingUpdates = newPendingUpdates;
+		}
+
+		final List<UpdateTarget> targets = getUpdateTargets( entityName, auditedEntityName, session, configuration );
+		if ( targets.isEmpty() ) {
+			throw new AuditException(
+					String.format(
+							Locale.ENGLISH,
+							"Failed to build update contexts for entity %s and id %s",
+							auditedEntityName,
+							id
+					)
+			);
+		}
+		for ( UpdateTarget target : targets ) {
+			pendingUpdates.add( getUpdateTableName( target, session ), target, id, revision, optional );
+		}
+	}
+
+	/**
+	 * Executes the pending end revision updates of a transaction, with one {@code update} statement
+	 * per audit table, or more when the number of identifiers exceeds what a single statement can bind.
+	 * The identifiers of added entities, which only have a previous audit row when they are reused,
+	 * are updated by separate statements, so that the others are checked to each have exactly one.
+	 */
+	private void executeEndRevisionUpdates(
+			SessionImplementor session,
+			Configuration configuration,
+			PendingEndRevisionUpdates pendingUpdates) {
+		for ( EndRevisionUpdateGroup group : pendingUpdates.groups.values() ) {
+			executeEndRevisionUpdates( session, configuration, group, group.requiredIds, true );
+			executeEndRevisionUpdates( session, configuration, group, group.optionalIds, false );
+		}
+	}
+
+	private void executeEndRevisionUpdates(
+			SessionImplementor session,
+			Configuration configuration,
+			EndRevisionUpdateGroup group,
+			List<Object> groupIds,
+			boolean required) {
+		final UpdateTarget target = group.target;
+		final int batchSize = getEndRevisionUpdateBatchSize( target, session );
+		for ( int start = 0; start < groupIds.size(); start += batchSize ) {
+			final List<Object> ids = groupIds.subList( start, Math.min( start + batchSize, groupIds.size() ) );
+			final UpdateContext context = target.root
+					? getUpdateContext( target.entityName, target.auditEntityName, session, configuration, ids, group.revision )
+					: getNonRootUpdateContext( target.entityName, target.auditEntityName, session, configuration, ids, group.revision );
+
+			final int rows = executeUpdate( session, context );
+			if ( required && rows != ids.size() ) {
+				throw new AuditException(
+						String.format(
+								Locale.ENGLISH,
+								"Cannot update previous revisions for entity %s and ids %s (%s rows modified).",
+								target.auditEntityName,
+								ids,
+								rows
+						)
+				);
+			}
+		}
+	}
+
+	private int getEndRevisionUpdateBatchSize(UpdateTarget target, SessionImplementor session) {
+		final int columnSpan = getEntityPersister( target.entityName, session ).getIdentifierColumnNames().length;
+		final int parameterCountLimit = session.getJdbcServices().getDialect().getParameterCountLimit();
+		int batchSize = MAX_END_REVISION_UPDATE_BATCH_SIZE;
+		if ( parameterCountLimit > 0 ) {
+			// leave room for the revision end, timestamp and revision parameters
+			batchSize = Math.min( batchSize, ( parameterCountLimit - 3 ) / columnSpan );
+		}
+		final int inExpressionCountLimit = session.getJdbcServices().getDialect().getInExpressionCountLimit();
+		if ( inExpressionCountLimit > 0 ) {
+			batchSize = Math.min( batchSize, inExpressionCountLimit );
+		}
+		return Math.max( batchSize, 1 );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public void performCollectionChange(
@@ -494,25 +619,56 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			Configuration configuration,
 			Object id,
 			Object revision) {
+		final List<Object> ids = Collections.singletonList( id );
+		final List<UpdateContext> contexts = new ArrayList<>( 0 );
+		for ( UpdateTarget target : getUpdateTargets( entityName, auditEntityName, session, configuration ) ) {
+			if ( target.root ) {
+				contexts.add(
+						getUpdateContext(
+								target.entityName,
+								target.auditEntityName,
+								session,
+								configuration,
+								ids,
+								revision
+						)
+				);
+			}
+			else {
+				contexts.add(
+						getNonRootUpdateContext(
+								target.entityName,
+								target.auditEntityName,
+								session,
+								configuration,
+								ids,
+								revision
+						)
+				);
+			}
+		}
+		return contexts;
+	}
+
+	/**
+	 * Determines the audit entities whose tables hold the end revision columns of the previous
+	 * audit row of an entity.
+	 */
+	private List<UpdateTarget> getUpdateTargets(
+			String entityName,
+			String auditEntityName,
+			SessionImplementor session,
+			Configuration configuration) {
 
 		EntityPersister entity = getEntityPersister( entityName, session );
-		final List<UpdateContext> contexts = new ArrayList<>( 0 );
+		final List<UpdateTarget> targets = new ArrayList<>( 1 );
 
 		// HHH-9062 - update inherited
 		if ( configuration.isRevisionEndTimestampEnabled() && !configuration.isRevisionEndTimestampUseLegacyPlacement() ) {
 			if ( entity instanceof JoinedSubclassEntityPersister ) {
 				// iterate subclasses, excluding root
 				while ( entity.getMappedSuperclass() != null ) {
-					contexts.add(
-							getNonRootUpdateContext(
-									entityName,
-									auditEntityName,
-									session,
-									configuration,
-									id,
-									revision
-							)
-					);
+					targets.add( new UpdateTarget( entityName, auditEntityName, false ) );
 					entityName = entity.getEntityMappingType().getSuperMappingType().getEntityName();
 					auditEntityName = configuration.getAuditEntityName( entityName );
 					entity = getEntityPersister( entityName, session );
@@ -521,18 +677,9 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		}
 
 		// add root
-		contexts.add(
-				getUpdateContext(
-						entityName,
-						auditEntityName,
-						session,
-						configuration,
-						id,
-						revision
-				)
-		);
+		targets.add( new UpdateTarget( entityName, auditEntityName, true ) );
 
-		return contexts;
+		return targets;
 	}
 
 	private UpdateContext getUpdateContext(
@@ -540,7 +687,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			String auditEntityName,
 			SessionImplementor session,
 			Configuration configuration,
-			Object id,
+			List<Object> ids,
 			Object revision) {
 
 		final EntityPersister entity = getEntityPersister( entityName, session );
@@ -553,6 +700,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 
 		// The expected SQL is an update statement as follows:
 		// UPDATE audited_entity SET REVEND = ? [, REVEND_TSTMP = ?] WHERE (entity_id) = ? AND REV <> ? AND REVEND is null
+		// or, when end revision updates are batched, WHERE (entity_id) in (?, ...)
 		final UpdateContext context = new UpdateContext( session.getFactory() );
 		context.setTableName( getUpdateTableName( rootEntity, rootAuditEntity, auditEntity ) );
 
@@ -574,8 +722,10 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		}
 
 		// Apply "WHERE (entity_id) = ?"
-		context.addRestriction( rootEntity.getIdentifierColumnNames() );
-		context.bind( id, rootEntity.getIdentifierMapping() );
+		context.addIdentifierRestriction( rootEntity.getIdentifierColumnNames(), ids.size() );
+		for ( Object id : ids ) {
+			context.bind( id, rootEntity.getIdentifierMapping() );
+		}
 
 		// Apply "AND REV <> ?"
 		// todo (PropertyMapping) : need to be able to handle paths
@@ -597,7 +747,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 	 * @param auditEntityName the audited entity name
 	 * @param session the session
 	 * @param configuration the configuration
-	 * @param id the entity identifier
+	 * @param ids the entity identifiers
 	 * @param revision the revision entity
 	 * @return the created update context instance, never {@code null}.
 	 */
@@ -606,7 +756,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			String auditEntityName,
 			SessionImplementor session,
 			Configuration configuration,
-			Object id,
+			List<Object> ids,
 			Object revision) {
 
 		final EntityPersister entity = getEntityPersister( entityName, session );
@@ -630,8 +780,10 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		final Number revisionNumber = getRevisionNumber( configuration, revision );
 
 		// Apply "WHERE (entity_id) = ?"
-		context.addRestriction( entity.getIdentifierColumnNames() );
-		context.bind( id, entity.getIdentifierType() );
+		context.addIdentifierRestriction( entity.getIdentifierColumnNames(), ids.size() );
+		for ( Object id : ids ) {
+			context.bind( id, entity.getIdentifierType() );
+		}
 
 		// Apply "AND REV <> ?"
 		// todo (PropertyMapping) : need to be able to handle paths
@@ -649,6 +801,19 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return reader.getRevisionNumber( revisionEntity );
 	}
 
+	private String getUpdateTableName(UpdateTarget target, SessionImplementor session) {
+		final EntityPersister entity = getEntityPersister( target.entityName, session );
+		final EntityPersister auditEntity = getEntityPersister( target.auditEntityName, session );
+		if ( target.root ) {
+			return getUpdateTableName(
+					getEntityPersister( entity.getRootEntityName(), session ),
+					getEntityPersister( auditEntity.getRootEntityName(), session ),
+					auditEntity
+			);
+		}
+		return getUpdateTableName( entity, auditEntity, auditEntity );
+	}
+
 	private String getUpdateTableName(EntityPersister rootEntity, EntityPersister rootAuditEntity, EntityPersister auditEntity) {
 		if ( rootEntity instanceof UnionSubclassEntityPersister ) {
 			// we need to specially handle union-subclass mappings
@@ -671,6 +836,19 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			return bindings;
 		}
 
+		/**
+		 * Restricts the identifier columns to the given number of identifier values,
+		 * using an {@code in} list when there is more than one.
+		 */
+		public void addIdentifierRestriction(String[] columnNames, int count) {
+			if ( count == 1 ) {
+				addRestriction( columnNames );
+			}
+			else {
+				restrictions.add( new IdentifierInRestriction( columnNames, count ) );
+			}
+		}
+
 		public void bind(Object value, Type type) {
 			bindings.add( new QueryParameterBindingType( value, type ) );
 		}
@@ -680,6 +858,99 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		}
 	}
 
+	/**
+	 * Renders {@code id in (?, ...)}, or {@code ((id1 = ? and id2 = ?) or ...)} for a composite identifier.
+	 */
+	private static class IdentifierInRestriction implements Restriction {
+		private final String[] columnNames;
+		private final int count;
+
+		public IdentifierInRestriction(String[] columnNames, int count) {
+			this.columnNames = columnNames;
+			this.count = count;
+		}
+
+		@Override
+		public void render(StringBuilder sqlBuffer, RestrictionRenderingContext context) {
+			if ( columnNames.length == 1 ) {
+				sqlBuffer.append( columnNames[0] ).append( " in (" );
+				for ( int i = 0; i < count; i++ ) {
+					if ( i > 0 ) {
+						sqlBuffer.append( ',' );
+					}
+					sqlBuffer.append( context.makeParameterMarker() );
+				}
+				sqlBuffer.append( ')' );
+			}
+			else {
+				sqlBuffer.append( '(' );
+				for ( int i = 0; i < count; i++ ) {
+					if ( i > 0 ) {
+						sqlBuffer.append( " or " );
+					}
+					sqlBuffer.append( '(' );
+					for ( int j = 0; j < columnNames.length; j++ ) {
+						if ( j > 0 ) {
+							sqlBuffer.append( " and " );
+						}
+						sqlBuffer.append( columnNames[j] ).append( '=' ).append( context.makeParameterMarker() );
+					}
+					sqlBuffer.append( ')' );
+				}
+				sqlBuffer.append( ')' );
+			}
+		}
+	}
+
+	/**
+	 * An audit entity whose table holds end revision columns to update.
+	 */
+	private static class UpdateTarget {
+		private final String entityName;
+		private final String auditEntityName;
+		private final boolean root;
+
+		public UpdateTarget(String entityName, String auditEntityName, boolean root) {
+			this.entityName = entityName;
+			this.auditEntityName = auditEntityName;
+			this.root = root;
+		}
+	}
+
+	/**
+	 * The end revision updates of a transaction, grouped by audit table.
+	 */
+	private static class PendingEndRevisionUpdates {
+		private final Map<String, EndRevisionUpdateGroup> groups = new LinkedHashMap<>();
+
+		public void add(String tableName, UpdateTarget target, Object id, Object revision, boolean optional) {
+			final EndRevisionUpdateGroup group =
+					groups.computeIfAbsent( tableName, name -> new EndRevisionUpdateGroup( target, revision ) );
+			if ( optional ) {
+				group.optionalIds.add( id );
+			}
+			else {
+				group.requiredIds.add( id );
+			}
+		}
+	}
+
+	/**
+	 * The identifiers of the entities whose previous audit rows in a table have to be updated,
+	 * split by whether they are allowed not to have a previous audit row.
+	 */
+	private static class EndRevisionUpdateGroup {
+		private final UpdateTarget target;
+		private final Object revision;
+		private final List<Object> requiredIds = new ArrayList<>();
+		private final List<Object> optionalIds = new ArrayList<>();
+
+		public EndRevisionUpdateGroup(UpdateTarget target, Object revision) {
+			this.target = target;
+			this.revision = revision;
+		}
+	}
+
 	private interface QueryParameterBinding {
 		int bind(int index, PreparedStatement statement, SessionImplementor session) throws SQLException;
 	}
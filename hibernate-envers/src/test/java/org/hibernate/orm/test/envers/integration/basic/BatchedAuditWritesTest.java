@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.basic;
+
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.collection.StringSetEntity;
+import org.hibernate.orm.test.envers.tools.TestTools;
+
+import org.hibernate.testing.AfterClassOnce;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests that audit rows written in batches through a stateless session are
+ * the same as the ones persisted through the audited session.
+ */
+public class BatchedAuditWritesTest extends BaseEnversJPAFunctionalTestCase {
+	private final PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider();
+
+	private Integer id1;
+	private Integer id2;
+	private Integer id3;
+	private Integer setId;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] {BasicTestEntity1.class, StringSetEntity.class};
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.USE_BATCHED_AUDIT_WRITES, "true" );
+		options.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		options.put( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@AfterClassOnce
+	public void releaseConnectionProvider() {
+		connectionProvider.stop();
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		BasicTestEntity1 bte1 = new BasicTestEntity1( "x", 1 );
+		BasicTestEntity1 bte2 = new BasicTestEntity1( "y", 20 );
+		StringSetEntity sse = new StringSetEntity();
+		sse.getStrings().add( "a" );
+		sse.getStrings().add( "b" );
+		em.persist( bte1 );
+		em.persist( bte2 );
+		em.persist( sse );
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		bte1 = em.find( BasicTestEntity1.class, bte1.getId() );
+		bte2 = em.find( BasicTestEntity1.class, bte2.getId() );
+		sse = em.find( StringSetEntity.class, sse.getId() );
+		BasicTestEntity1 bte3 = new BasicTestEntity1( "z", 300 );
+		bte1.setStr1( "x2" );
+		bte2.setLong1( 21 );
+		sse.getStrings().remove( "a" );
+		sse.getStrings().add( "c" );
+		em.persist( bte3 );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		bte2 = em.find( BasicTestEntity1.class, bte2.getId() );
+		em.remove( bte2 );
+		em.getTransaction().commit();
+
+		id1 = bte1.getId();
+		id2 = bte2.getId();
+		id3 = bte3.getId();
+		setId = sse.getId();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( BasicTestEntity1.class, id1 ) );
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( BasicTestEntity1.class, id2 ) );
+		assertEquals( Collections.singletonList( 2 ), getAuditReader().getRevisions( BasicTestEntity1.class, id3 ) );
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StringSetEntity.class, setId ) );
+	}
+
+	@Test
+	public void testHistory() {
+		assertEquals( new BasicTestEntity1( id1, "x", 1 ), getAuditReader().find( BasicTestEntity1.class, id1, 1 ) );
+		assertEquals( new BasicTestEntity1( id1, "x2", 1 ), getAuditReader().find( BasicTestEntity1.class, id1, 2 ) );
+		assertEquals( new BasicTestEntity1( id2, "y", 21 ), getAuditReader().find( BasicTestEntity1.class, id2, 2 ) );
+		assertNull( getAuditReader().find( BasicTestEntity1.class, id2, 3 ) );
+		assertEquals( new BasicTestEntity1( id3, "z", 300 ), getAuditReader().find( BasicTestEntity1.class, id3, 3 ) );
+	}
+
+	@Test
+	public void testCollectionHistory() {
+		assertEquals( TestTools.makeSet( "a", "b" ), getAuditReader().find( StringSetEntity.class, setId, 1 ).getStrings() );
+		assertEquals( TestTools.makeSet( "b", "c" ), getAuditReader().find( StringSetEntity.class, setId, 2 ).getStrings() );
+	}
+
+	@Test
+	public void testAuditRowsAreInsertedInOneBatch() throws Exception {
+		connectionProvider.clear();
+
+		EntityManager em = getEntityManager();
+		em.getTransaction().begin();
+		em.persist( new BasicTestEntity1( "a", 4 ) );
+		em.persist( new BasicTestEntity1( "b", 5 ) );
+		em.persist( new BasicTestEntity1( "c", 6 ) );
+		em.getTransaction().commit();
+
+		final List<PreparedStatement> auditInserts = connectionProvider.getPreparedStatementsAndSql()
+				.entrySet()
+				.stream()
+				.filter( entry -> entry.getValue().toLowerCase().startsWith( "insert into basictestentity1_aud" ) )
+				.map( Map.Entry::getKey )
+				.collect( Collectors.toList() );
+		assertEquals( 1, auditInserts.size() );
+		final PreparedStatement auditInsert = auditInserts.get( 0 );
+		assertEquals(
+				3,
+				connectionProvider.spyContext.getCalls( PreparedStatement.class.getMethod( "addBatch" ), auditInsert )
+						.size()
+		);
+		assertEquals(
+				1,
+				connectionProvider.spyContext.getCalls( PreparedStatement.class.getMethod( "executeBatch" ), auditInsert )
+						.size()
+		);
+	}
+}
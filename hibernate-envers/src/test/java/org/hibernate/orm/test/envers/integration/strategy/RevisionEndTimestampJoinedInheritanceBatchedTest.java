@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.Locale;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.integration.strategy.RevisionEndTimestampJoinedInheritanceTest.Contractor;
+import org.hibernate.orm.test.envers.integration.strategy.RevisionEndTimestampJoinedInheritanceTest.Employee;
+import org.hibernate.orm.test.envers.integration.strategy.RevisionEndTimestampJoinedInheritanceTest.FullTimeEmployee;
+
+import org.hibernate.testing.envers.RequiresAuditStrategy;
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the revision end timestamps of the tables of a joined inheritance hierarchy are set
+ * correctly when the end revisions are updated with one statement per audit table.
+ */
+@RequiresAuditStrategy( ValidityAuditStrategy.class )
+public class RevisionEndTimestampJoinedInheritanceBatchedTest extends AbstractRevisionEndTimestampTest {
+
+	private final SQLStatementInspector statementInspector = new SQLStatementInspector();
+
+	private Integer fullTimeEmployeeId1;
+	private Integer fullTimeEmployeeId2;
+	private Integer contractorId;
+
+	private long employeeAuditUpdates;
+	private long fullTimeEmployeeAuditUpdates;
+	private long contractorAuditUpdates;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Employee.class, FullTimeEmployee.class, Contractor.class };
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_STRATEGY_VALIDITY_BATCH_END_REVISION_UPDATES, "true" );
+		options.put( AvailableSettings.STATEMENT_INSPECTOR, statementInspector );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager entityManager = getEntityManager();
+		try {
+			FullTimeEmployee fullTimeEmployee1 = new FullTimeEmployee( "Employee1", 50000 );
+			FullTimeEmployee fullTimeEmployee2 = new FullTimeEmployee( "Employee2", 55000 );
+			Contractor contractor = new Contractor( "Contractor", 45 );
+
+			// Revision 1
+			entityManager.getTransaction().begin();
+			entityManager.persist( fullTimeEmployee1 );
+			entityManager.persist( fullTimeEmployee2 );
+			entityManager.persist( contractor );
+			entityManager.getTransaction().commit();
+
+			// Revision 2 - raises for everyone!
+			statementInspector.clear();
+			entityManager.getTransaction().begin();
+			fullTimeEmployee1.setSalary( 60000 );
+			fullTimeEmployee2.setSalary( 65000 );
+			contractor.setHourlyRate( 47 );
+			entityManager.getTransaction().commit();
+
+			employeeAuditUpdates = countAuditUpdates( "Employee_AUD" );
+			fullTimeEmployeeAuditUpdates = countAuditUpdates( "FullTimeEmployee_AUD" );
+			contractorAuditUpdates = countAuditUpdates( "Contractor_AUD" );
+
+			fullTimeEmployeeId1 = fullTimeEmployee1.getId();
+			fullTimeEmployeeId2 = fullTimeEmployee2.getId();
+			contractorId = contractor.getId();
+		}
+		catch ( Exception e ) {
+			if ( entityManager.getTransaction().isActive() ) {
+				entityManager.getTransaction().rollback();
+			}
+			throw e;
+		}
+		finally {
+			entityManager.close();
+		}
+	}
+
+	@Test
+	public void testOneUpdatePerAuditTable() {
+		assertEquals( 1L, employeeAuditUpdates );
+		assertEquals( 1L, fullTimeEmployeeAuditUpdates );
+		assertEquals( 1L, contractorAuditUpdates );
+	}
+
+	@Test
+	public void testRevisionEndTimestamps() {
+		verifyRevisionEndTimestampsInSubclass( FullTimeEmployee.class, fullTimeEmployeeId1 );
+		verifyRevisionEndTimestampsInSubclass( FullTimeEmployee.class, fullTimeEmployeeId2 );
+		verifyRevisionEndTimestampsInSubclass( Contractor.class, contractorId );
+	}
+
+	private long countAuditUpdates(String tableName) {
+		final String prefix = "update " + tableName.toLowerCase( Locale.ROOT ) + " ";
+		return statementInspector.getSqlQueries().stream()
+				.filter( sql -> sql.toLowerCase( Locale.ROOT ).startsWith( prefix ) )
+				.count();
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.ids.EmbId;
+import org.hibernate.orm.test.envers.entities.ids.EmbIdTestEntity;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that the end revisions of the {@link org.hibernate.envers.strategy.ValidityAuditStrategy}
+ * are set correctly when they are updated with one statement per audit table for entities with
+ * a composite identifier.
+ */
+public class ValidityAuditStrategyBatchedRevEndEmbIdTest extends BaseEnversJPAFunctionalTestCase {
+	private final EmbId id1 = new EmbId( 1, 2 );
+	private final EmbId id2 = new EmbId( 10, 20 );
+	private final EmbId id3 = new EmbId( 1, 20 );
+
+	private final SQLStatementInspector statementInspector = new SQLStatementInspector();
+	private List<String> rev2AuditUpdates;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] {EmbIdTestEntity.class};
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_STRATEGY, "org.hibernate.envers.strategy.ValidityAuditStrategy" );
+		options.put( EnversSettings.AUDIT_STRATEGY_VALIDITY_BATCH_END_REVISION_UPDATES, "true" );
+		options.put( AvailableSettings.STATEMENT_INSPECTOR, statementInspector );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		em.persist( new EmbIdTestEntity( id1, "x" ) );
+		em.persist( new EmbIdTestEntity( id2, "y" ) );
+		em.persist( new EmbIdTestEntity( id3, "z" ) );
+		em.getTransaction().commit();
+
+		// Revision 2
+		statementInspector.clear();
+		em.getTransaction().begin();
+		em.find( EmbIdTestEntity.class, id1 ).setStr1( "x2" );
+		em.find( EmbIdTestEntity.class, id2 ).setStr1( "y2" );
+		em.remove( em.find( EmbIdTestEntity.class, id3 ) );
+		em.getTransaction().commit();
+		rev2AuditUpdates = statementInspector.getSqlQueries().stream()
+				.filter( sql -> sql.toLowerCase( Locale.ROOT ).startsWith( "update embident_aud " ) )
+				.collect( Collectors.toList() );
+	}
+
+	@Test
+	public void testOneUpdatePerRevision() {
+		assertEquals( 1, rev2AuditUpdates.size() );
+		assertTrue( rev2AuditUpdates.get( 0 ).toLowerCase( Locale.ROOT ).contains( " or " ) );
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( EmbIdTestEntity.class, id1 ) );
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( EmbIdTestEntity.class, id2 ) );
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( EmbIdTestEntity.class, id3 ) );
+	}
+
+	@Test
+	public void testHistory() {
+		assertEquals( new EmbIdTestEntity( id1, "x" ), getAuditReader().find( EmbIdTestEntity.class, id1, 1 ) );
+		assertEquals( new EmbIdTestEntity( id1, "x2" ), getAuditReader().find( EmbIdTestEntity.class, id1, 2 ) );
+		assertEquals( new EmbIdTestEntity( id2, "y2" ), getAuditReader().find( EmbIdTestEntity.class, id2, 2 ) );
+		assertEquals( new EmbIdTestEntity( id3, "z" ), getAuditReader().find( EmbIdTestEntity.class, id3, 1 ) );
+		assertNull( getAuditReader().find( EmbIdTestEntity.class, id3, 2 ) );
+	}
+
+	@Test
+	public void testSingleOpenAuditRowPerEntity() {
+		assertEquals( 1L, countOpenAuditRows( id1 ) );
+		assertEquals( 1L, countOpenAuditRows( id2 ) );
+		assertEquals( 1L, countOpenAuditRows( id3 ) );
+	}
+
+	private long countOpenAuditRows(EmbId id) {
+		return getEntityManager().createQuery(
+						"select count(e) from " + EmbIdTestEntity.class.getName()
+								+ "_AUD e where e.originalId.x = :x and e.originalId.y = :y and e.REVEND is null",
+						Long.class
+				)
+				.setParameter( "x", id.getX() )
+				.setParameter( "y", id.getY() )
+				.getSingleResult();
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.integration.basic.BasicTestEntity1;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests that the end revisions of the {@link org.hibernate.envers.strategy.ValidityAuditStrategy}
+ * are set correctly when they are updated with one statement per audit table.
+ */
+public class ValidityAuditStrategyBatchedRevEndTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id1;
+	private Integer id2;
+	private Integer id3;
+
+	private final SQLStatementInspector statementInspector = new SQLStatementInspector();
+	private long rev2AuditUpdates;
+	private long rev3AuditUpdates;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] {BasicTestEntity1.class};
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_STRATEGY, "org.hibernate.envers.strategy.ValidityAuditStrategy" );
+		options.put( EnversSettings.AUDIT_STRATEGY_VALIDITY_BATCH_END_REVISION_UPDATES, "true" );
+		options.put( AvailableSettings.STATEMENT_INSPECTOR, statementInspector );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		BasicTestEntity1 bte1 = new BasicTestEntity1( "x", 1 );
+		BasicTestEntity1 bte2 = new BasicTestEntity1( "y", 2 );
+		BasicTestEntity1 bte3 = new BasicTestEntity1( "z", 3 );
+		em.persist( bte1 );
+		em.persist( bte2 );
+		em.persist( bte3 );
+		em.getTransaction().commit();
+
+		// Revision 2
+		statementInspector.clear();
+		em.getTransaction().begin();
+		bte1 = em.find( BasicTestEntity1.class, bte1.getId() );
+		bte2 = em.find( BasicTestEntity1.class, bte2.getId() );
+		bte3 = em.find( BasicTestEntity1.class, bte3.getId() );
+		bte1.setStr1( "x2" );
+		bte2.setStr1( "y2" );
+		bte3.setLong1( 30 );
+		em.getTransaction().commit();
+		rev2AuditUpdates = countAuditUpdates();
+
+		// Revision 3
+		statementInspector.clear();
+		em.getTransaction().begin();
+		bte1 = em.find( BasicTestEntity1.class, bte1.getId() );
+		bte2 = em.find( BasicTestEntity1.class, bte2.getId() );
+		bte1.setLong1( 10 );
+		em.remove( bte2 );
+		em.getTransaction().commit();
+		rev3AuditUpdates = countAuditUpdates();
+
+		id1 = bte1.getId();
+		id2 = bte2.getId();
+		id3 = bte3.getId();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( BasicTestEntity1.class, id1 ) );
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( BasicTestEntity1.class, id2 ) );
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( BasicTestEntity1.class, id3 ) );
+	}
+
+	@Test
+	public void testHistory() {
+		assertEquals( new BasicTestEntity1( id1, "x", 1 ), getAuditReader().find( BasicTestEntity1.class, id1, 1 ) );
+		assertEquals( new BasicTestEntity1( id1, "x2", 1 ), getAuditReader().find( BasicTestEntity1.class, id1, 2 ) );
+		assertEquals( new BasicTestEntity1( id1, "x2", 10 ), getAuditReader().find( BasicTestEntity1.class, id1, 3 ) );
+		assertEquals( new BasicTestEntity1( id2, "y2", 2 ), getAuditReader().find( BasicTestEntity1.class, id2, 2 ) );
+		assertNull( getAuditReader().find( BasicTestEntity1.class, id2, 3 ) );
+		assertEquals( new BasicTestEntity1( id3, "z", 30 ), getAuditReader().find( BasicTestEntity1.class, id3, 3 ) );
+	}
+
+	@Test
+	public void testOneUpdatePerRevision() {
+		assertEquals( 1L, rev2AuditUpdates );
+		assertEquals( 1L, rev3AuditUpdates );
+	}
+
+	@Test
+	public void testSingleOpenAuditRowPerEntity() {
+		assertEquals( 1L, countOpenAuditRows( id1 ) );
+		assertEquals( 1L, countOpenAuditRows( id2 ) );
+		assertEquals( 1L, countOpenAuditRows( id3 ) );
+	}
+
+	private long countAuditUpdates() {
+		return statementInspector.getSqlQueries().stream()
+				.filter( sql -> sql.toLowerCase( Locale.ROOT ).startsWith( "update basictestentity1_aud " ) )
+				.count();
+	}
+
+	private long countOpenAuditRows(Integer id) {
+		return getEntityManager().createQuery(
+						"select count(e) from " + BasicTestEntity1.class.getName()
+								+ "_AUD e where e.originalId.id = :id and e.REVEND is null",
+						Long.class
+				)
+				.setParameter( "id", id )
+				.getSingleResult();
+	}
+}
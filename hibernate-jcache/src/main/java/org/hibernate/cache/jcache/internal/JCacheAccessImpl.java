@@ -4,6 +4,11 @@
  */
 package org.hibernate.cache.jcache.internal;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
 import javax.cache.Cache;
 
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
@@ -41,6 +46,32 @@ public class JCacheAccessImpl implements DomainDataStorageAccess {
 		underlyingCache.put( key, value );
 	}
 
+	@Override
+	public boolean supportsPutWithoutSession() {
+		return true;
+	}
+
+	@Override
+	public void putIntoCacheWithoutSession(Object key, Object value) {
+		underlyingCache.put( key, value );
+	}
+
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		return underlyingCache.getAll( new HashSet<>( keys ) );
+	}
+
+	@Override
+	public void putAllIntoCache(Map<?, ?> items, SharedSessionContractImplementor session) {
+		underlyingCache.putAll( items );
+	}
+
+	@Override
+	public Set<Object> getContainedKeys(Collection<?> keys) {
+		// JCache has no bulk containsKey()
+		return underlyingCache.getAll( new HashSet<>( keys ) ).keySet();
+	}
+
 	@Override
 	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
 		underlyingCache.remove( key );
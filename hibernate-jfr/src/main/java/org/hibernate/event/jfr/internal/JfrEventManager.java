@@ -39,6 +39,9 @@ public class JfrEventManager implements EventManager {
 	private static final EventType partialFlushEventType = EventType.getEventType( PartialFlushEvent.class );
 	private static final EventType dirtyCalculationEventType = EventType.getEventType( DirtyCalculationEvent.class );
 	private static final EventType prePartialFlushEventType = EventType.getEventType( PrePartialFlushEvent.class );
+	private static final EventType queryInterpretationEventType = EventType.getEventType( QueryInterpretationEvent.class );
+	private static final EventType queryTranslationEventType = EventType.getEventType( QueryTranslationEvent.class );
+	private static final EventType resultHydrationEventType = EventType.getEventType( ResultHydrationEvent.class );
 
 	@Override
 	public SessionOpenEvent beginSessionOpenEvent() {
@@ -523,6 +526,96 @@ public class JfrEventManager implements EventManager {
 		}
 	}
 
+	@Override
+	public QueryInterpretationEvent beginQueryInterpretationEvent() {
+		if ( queryInterpretationEventType.isEnabled() ) {
+			final QueryInterpretationEvent queryInterpretationEvent = new QueryInterpretationEvent();
+			queryInterpretationEvent.begin();
+			return queryInterpretationEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeQueryInterpretationEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			String hql) {
+		if ( event != null ) {
+			final QueryInterpretationEvent queryInterpretationEvent = (QueryInterpretationEvent) event;
+			queryInterpretationEvent.end();
+			if ( queryInterpretationEvent.shouldCommit() ) {
+				queryInterpretationEvent.sessionIdentifier = getSessionIdentifier( session );
+				queryInterpretationEvent.hql = hql;
+				queryInterpretationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public QueryTranslationEvent beginQueryTranslationEvent() {
+		if ( queryTranslationEventType.isEnabled() ) {
+			final QueryTranslationEvent queryTranslationEvent = new QueryTranslationEvent();
+			queryTranslationEvent.begin();
+			return queryTranslationEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeQueryTranslationEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			String sql) {
+		if ( event != null ) {
+			final QueryTranslationEvent queryTranslationEvent = (QueryTranslationEvent) event;
+			queryTranslationEvent.end();
+			if ( queryTranslationEvent.shouldCommit() ) {
+				queryTranslationEvent.sessionIdentifier = getSessionIdentifier( session );
+				queryTranslationEvent.sql = sql;
+				queryTranslationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public ResultHydrationEvent beginResultHydrationEvent() {
+		if ( resultHydrationEventType.isEnabled() ) {
+			final ResultHydrationEvent resultHydrationEvent = new ResultHydrationEvent();
+			resultHydrationEvent.begin();
+			return resultHydrationEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeResultHydrationEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			String sql,
+			int rowCount,
+			int entityCount,
+			int collectionCount) {
+		if ( event != null ) {
+			final ResultHydrationEvent resultHydrationEvent = (ResultHydrationEvent) event;
+			resultHydrationEvent.end();
+			if ( resultHydrationEvent.shouldCommit() ) {
+				resultHydrationEvent.sessionIdentifier = getSessionIdentifier( session );
+				resultHydrationEvent.sql = sql;
+				resultHydrationEvent.rowCount = rowCount;
+				resultHydrationEvent.entityCount = entityCount;
+				resultHydrationEvent.collectionCount = collectionCount;
+				resultHydrationEvent.commit();
+			}
+		}
+	}
+
 	private String getSessionIdentifier(SharedSessionContractImplementor session) {
 		if ( session == null ) {
 			return null;
@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(QueryInterpretationEvent.NAME)
+@Label("Query Interpretation")
+@Category("Hibernate ORM")
+@Description("HQL query interpreted on a query interpretation cache miss")
+@StackTrace(false)
+@AllowNonPortable
+public class QueryInterpretationEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.QueryInterpretation";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("HQL")
+	public String hql;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(ResultHydrationEvent.NAME)
+@Label("Result Hydration")
+@Category("Hibernate ORM")
+@Description("Query results read and hydrated, including the execution of the query")
+@StackTrace(false)
+@AllowNonPortable
+public class ResultHydrationEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.ResultHydration";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("SQL")
+	public String sql;
+
+	@Label("Row Count")
+	public int rowCount;
+
+	@Label("Entity Count")
+	public int entityCount;
+
+	@Label("Collection Count")
+	public int collectionCount;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
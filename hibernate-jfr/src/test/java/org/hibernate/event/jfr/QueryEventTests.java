@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr;
+
+import java.util.List;
+
+import org.hibernate.event.jfr.internal.QueryInterpretationEvent;
+import org.hibernate.event.jfr.internal.QueryTranslationEvent;
+import org.hibernate.event.jfr.internal.ResultHydrationEvent;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = {
+		QueryEventTests.TestEntity.class,
+})
+@SessionFactory
+public class QueryEventTests {
+	private static final String HQL = "from TestEntity order by id";
+
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new TestEntity( 1, "name_1" ) );
+					session.persist( new TestEntity( 2, "name_2" ) );
+				}
+		);
+	}
+
+	@Test
+	@EnableEvent(QueryInterpretationEvent.NAME)
+	@EnableEvent(QueryTranslationEvent.NAME)
+	@EnableEvent(ResultHydrationEvent.NAME)
+	public void testQueryEvents(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		String sessionId = scope.fromTransaction(
+				session -> {
+					assertThat( session.createSelectionQuery( HQL, TestEntity.class ).getResultList() )
+							.hasSize( 2 );
+					// the second time, the interpretation and the translation are cached
+					assertThat( session.createSelectionQuery( HQL, TestEntity.class ).getResultList() )
+							.hasSize( 2 );
+					return session.getSessionIdentifier().toString();
+				}
+		);
+
+		List<RecordedEvent> interpretationEvents = events( QueryInterpretationEvent.NAME );
+		assertThat( interpretationEvents ).hasSize( 1 );
+		RecordedEvent interpretationEvent = interpretationEvents.get( 0 );
+		assertThat( interpretationEvent.getDuration() ).isPositive();
+		assertThat( interpretationEvent.getString( "sessionIdentifier" ) ).isEqualTo( sessionId );
+		assertThat( interpretationEvent.getString( "hql" ) ).isEqualTo( HQL );
+
+		List<RecordedEvent> translationEvents = events( QueryTranslationEvent.NAME );
+		assertThat( translationEvents ).hasSize( 1 );
+		RecordedEvent translationEvent = translationEvents.get( 0 );
+		assertThat( translationEvent.getDuration() ).isPositive();
+		assertThat( translationEvent.getString( "sessionIdentifier" ) ).isEqualTo( sessionId );
+		assertThat( translationEvent.getString( "sql" ) ).containsIgnoringCase( "TestEntity" );
+
+		List<RecordedEvent> hydrationEvents = events( ResultHydrationEvent.NAME );
+		assertThat( hydrationEvents ).hasSize( 2 );
+		RecordedEvent hydrationEvent = hydrationEvents.get( 0 );
+		assertThat( hydrationEvent.getDuration() ).isPositive();
+		assertThat( hydrationEvent.getString( "sessionIdentifier" ) ).isEqualTo( sessionId );
+		assertThat( hydrationEvent.getString( "sql" ) ).isEqualTo( translationEvent.getString( "sql" ) );
+		assertThat( hydrationEvent.getInt( "rowCount" ) ).isEqualTo( 2 );
+		assertThat( hydrationEvent.getInt( "entityCount" ) ).isEqualTo( 2 );
+		assertThat( hydrationEvent.getInt( "collectionCount" ) ).isEqualTo( 0 );
+		// the entities are already managed the second time
+		assertThat( hydrationEvents.get( 1 ).getInt( "entityCount" ) ).isEqualTo( 0 );
+	}
+
+	private List<RecordedEvent> events(String name) {
+		return jfrEvents.events()
+				.filter( recordedEvent -> recordedEvent.getEventType().getName().equals( name ) )
+				.toList();
+	}
+
+	@Entity(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public TestEntity() {
+		}
+
+		public TestEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+}
@@ -19,6 +19,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleBiFunction;
 import java.util.function.ToDoubleFunction;
 
 /**
@@ -31,11 +32,15 @@ public class HibernateMetrics implements MeterBinder {
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
 
+	private static final double[] PERCENTILES = { 0.5, 0.95, 0.99, 0.999 };
+
 	private final String cacheFactoryPrefix;
 	private final Iterable<Tag> tags;
 
 	private final @Nullable Statistics statistics;
 
+	private final boolean fetchTimePercentiles;
+
 	/**
 	 * Create {@code HibernateMetrics} and bind to the specified meter registry.
 	 *
@@ -76,6 +81,29 @@ public class HibernateMetrics implements MeterBinder {
 	 * @param tags additional tags
 	 */
 	public HibernateMetrics(SessionFactory sessionFactory, String sessionFactoryName, Iterable<Tag> tags) {
+		this( sessionFactory, sessionFactoryName, tags, false );
+	}
+
+	/**
+	 * Create a {@code HibernateMetrics}.
+	 * <p>
+	 * The fetch time percentiles are gauges registered per entity and per
+	 * collection role, so they multiply the number of meters by the size of
+	 * the domain model, and are only registered when explicitly enabled.
+	 *
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 * @param fetchTimePercentiles whether to register the fetch time percentiles of each entity and collection
+	 *
+	 * @since 7.0
+	 */
+	public HibernateMetrics(
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			Iterable<Tag> tags,
+			boolean fetchTimePercentiles) {
+		this.fetchTimePercentiles = fetchTimePercentiles;
 		this.tags = Tags.concat( tags, SESSION_FACTORY_TAG_NAME, sessionFactoryName );
 		this.cacheFactoryPrefix = sessionFactory.getSessionFactoryOptions().getCacheRegionPrefix();
 		Statistics statistics = sessionFactory.getStatistics();
@@ -99,6 +127,26 @@ public class HibernateMetrics implements MeterBinder {
 				.register( registry );
 	}
 
+	private void percentiles(
+			MeterRegistry registry,
+			String name,
+			String description,
+			ToDoubleBiFunction<Statistics, Double> f,
+			String... extraTags) {
+		if ( this.statistics == null ) {
+			return;
+		}
+
+		for ( double percentile : PERCENTILES ) {
+			TimeGauge.builder( name, statistics, TimeUnit.MILLISECONDS, stats -> f.applyAsDouble( stats, percentile * 100 ) )
+					.tags( tags )
+					.tags( extraTags )
+					.tags( "phi", Double.toString( percentile ) )
+					.description( description )
+					.register( registry );
+		}
+	}
+
 	@Override
 	public void bindTo(MeterRegistry registry) {
 		if ( this.statistics == null ) {
@@ -235,6 +283,28 @@ public class HibernateMetrics implements MeterBinder {
 				Statistics::getCollectionUpdateCount
 		);
 
+		// Fetch time distributions
+		if ( fetchTimePercentiles ) {
+			for ( String entityName : statistics.getEntityNames() ) {
+				percentiles(registry,
+						"hibernate.entities.fetches.percentile",
+						"The fetch time percentile of an entity",
+						(stats, percentile) -> stats.getEntityStatistics( entityName ).getFetchTimePercentile( percentile ),
+						"entity",
+						entityName
+				);
+			}
+			for ( String role : statistics.getCollectionRoleNames() ) {
+				percentiles(registry,
+						"hibernate.collections.fetches.percentile",
+						"The fetch time percentile of a collection",
+						(stats, percentile) -> stats.getCollectionStatistics( role ).getFetchTimePercentile( percentile ),
+						"collection",
+						role
+				);
+			}
+		}
+
 		// Natural Id cache
 		counter(registry,
 				"hibernate.cache.natural.id.requests",
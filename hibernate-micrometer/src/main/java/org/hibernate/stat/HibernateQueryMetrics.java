@@ -32,6 +32,8 @@ public class HibernateQueryMetrics implements MeterBinder {
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
 
+	private static final double[] PERCENTILES = { 0.5, 0.95, 0.99, 0.999 };
+
 	private final Iterable<Tag> tags;
 
 	private final SessionFactory sessionFactory;
@@ -170,6 +172,19 @@ public class HibernateQueryMetrics implements MeterBinder {
 						.description( "Query minimum execution time" )
 						.register( meterRegistry );
 
+				for ( double percentile : PERCENTILES ) {
+					TimeGauge.builder(
+							"hibernate.query.execution.percentile",
+							queryStatistics,
+							TimeUnit.MILLISECONDS,
+							stats -> stats.getExecutionTimePercentile( percentile * 100 )
+					)
+							.tags( tags )
+							.tags( "query", query, "phi", Double.toString( percentile ) )
+							.description( "Query execution time percentile" )
+							.register( meterRegistry );
+				}
+
 				FunctionCounter.builder(
 						"hibernate.query.execution.rows",
 						queryStatistics,
@@ -88,6 +88,9 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 		Assert.assertNotNull(registry.get("hibernate.collections.loads").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.collections.recreates").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.collections.updates").functionCounter());
+		// the per-entity and per-collection fetch time percentiles are opt-in
+		verifyMeterNotFoundException("hibernate.entities.fetches.percentile");
+		verifyMeterNotFoundException("hibernate.collections.fetches.percentile");
 
 		Assert.assertNotNull(registry.get("hibernate.cache.natural.id.requests").tags("result", "hit").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.natural.id.requests").tags("result", "miss").functionCounter());
@@ -134,6 +137,18 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 		Assert.assertEquals( 2, registry.get("hibernate.transactions").tags("result", "success").functionCounter().count(), 0 );
 	}
 
+	@Test
+	public void testFetchTimePercentiles() {
+		SimpleMeterRegistry percentilesRegistry = new SimpleMeterRegistry();
+		new HibernateMetrics( sessionFactory(), sessionFactory().getName(), Tags.empty(), true )
+				.bindTo( percentilesRegistry );
+
+		for ( String phi : new String[] { "0.5", "0.95", "0.99", "0.999" } ) {
+			Assert.assertNotNull(percentilesRegistry.get("hibernate.entities.fetches.percentile")
+										.tags("entity", Account.class.getName(), "phi", phi).timeGauge());
+		}
+	}
+
 	void verifyMeterNotFoundException(String name) {
 		try {
 			registry.get(name).meter();
@@ -43,6 +43,17 @@ public class MapStorageAccessImpl implements DomainDataStorageAccess {
 		getOrMakeDataMap().put( key, value );
 	}
 
+	@Override
+	public boolean supportsPutWithoutSession() {
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void putIntoCacheWithoutSession(Object key, Object value) {
+		getOrMakeDataMap().put( key, value );
+	}
+
 	protected ConcurrentMap getOrMakeDataMap() {
 		if ( data == null ) {
 			data = new ConcurrentHashMap();